@@ -0,0 +1,85 @@
+package org.example.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Para tutarları için kuruş (1/100) cinsinden long aritmetiği
+ *
+ * Tutarlar nesne olarak değil, kuruş sayısını tutan ham long değerler olarak taşınır; bu
+ * yüzden toplama ve çarpma hiç nesne ayırmaz. Tüm işlemler taşmayı kontrol eder ve taşmada
+ * ArithmeticException fırlatır, sessizce yanlış tutar üretmez. BigDecimal'e dönüşüm yalnızca
+ * API sınırlarında (girdi okunurken, sonuç gösterilirken) yapılmalıdır.
+ */
+public final class Money {
+    /** Kuruş basamağı sayısı */
+    public static final int SCALE = 2;
+
+    private Money() {
+    }
+
+    /**
+     * BigDecimal tutarı kuruşa çevirir
+     *
+     * @throws ArithmeticException tutar kuruştan daha hassassa (ör. 1.005) veya long'a sığmıyorsa
+     */
+    public static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Tutar null olamaz");
+        }
+        try {
+            return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Tutar kuruş cinsinden ifade edilemez: " + amount);
+        }
+    }
+
+    /**
+     * Tutar kuruşa kayıpsız çevrilebiliyorsa true
+     */
+    public static boolean isRepresentable(BigDecimal amount) {
+        if (amount == null) {
+            return false;
+        }
+        try {
+            toCents(amount);
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Kuruşu iki ondalık basamaklı BigDecimal'e çevirir
+     */
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static long add(long cents, long otherCents) {
+        try {
+            return Math.addExact(cents, otherCents);
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Tutar toplamı taştı: " + cents + " + " + otherCents);
+        }
+    }
+
+    public static long subtract(long cents, long otherCents) {
+        try {
+            return Math.subtractExact(cents, otherCents);
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Tutar farkı taştı: " + cents + " - " + otherCents);
+        }
+    }
+
+    /**
+     * Birim fiyatı adetle çarpar
+     */
+    public static long multiply(long cents, int quantity) {
+        try {
+            return Math.multiplyExact(cents, quantity);
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Tutar çarpımı taştı: " + cents + " x " + quantity);
+        }
+    }
+}
@@ -2,9 +2,13 @@ package org.example.model;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Sipariş bilgilerini temsil eden model sınıfı
@@ -12,23 +16,75 @@ import java.util.Objects;
 public class Order {
     private Long id;
     private Long userId;
-    private List<OrderItem> items;
+    // Satırlar paralel dizilerde durur (satır başına ~16 bayt); ürün adları ProductDictionary
+    // ID'si olarak tutulur ve OrderItem nesneleri yalnızca getItems üzerinden istendiğinde oluşur
+    private int lineCount;
+    private int[] productIds;
+    private long[] unitCents;
+    private int[] quantities;
+    // Sıkıştırılamayan satırlar (ölçeği 2 olmayan ya da kuruşa çevrilemeyen fiyat, null ad, dolu
+    // sözlüğe sığmayan ad) olduğu gibi saklanır; productIds'te LOOSE ile işaretlenir. Böyle satır
+    // yoksa dizi hiç ayrılmaz.
+    private OrderItem[] looseItems;
+    // Ad ID'lerinin çözüldüğü sözlük; varsayılan ortak sözlüktür, kopyalar aynı sözlüğü paylaşır
+    private final ProductDictionary products;
+    private ItemList itemView;
     private BigDecimal totalAmount;
-    private OrderStatus status;
+    private int itemCount;
+    // Kuruş cinsinden toplam; kuruşa çevrilemeyen satır varsa veya toplam taştıysa geçersizdir
+    private long totalCents;
+    private int inexactLines;
+    private boolean centsOverflowed;
+    // Durum geçişleri kilitsiz CAS ile uygulanır; her durumun ilk giriş zamanı ayrıca tutulur
+    private final AtomicReference<OrderStatus> status;
+    private final AtomicReferenceArray<LocalDateTime> statusChangedAt;
+    // Repository'de saklanan nesnenin durumu yerinde değişirse durum indeksi bayatlar; kopyaya taşınmaz
+    private volatile boolean statusFrozen;
     private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
-
+    private volatile LocalDateTime updatedAt;
+    private long version;
+
+    private static final int LOOSE = -1;
+    private static final int[] NO_INTS = new int[0];
+    private static final long[] NO_LONGS = new long[0];
+
+    /**
+     * Sipariş durumları ve aralarındaki geçerli geçişler
+     * PENDING → CONFIRMED → SHIPPED → DELIVERED; PENDING ve CONFIRMED ayrıca CANCELLED'a geçebilir.
+     * DELIVERED ve CANCELLED son durumlardır.
+     */
     public enum OrderStatus {
-        PENDING, CONFIRMED, SHIPPED, DELIVERED, CANCELLED
+        PENDING, CONFIRMED, SHIPPED, DELIVERED, CANCELLED;
+
+        public boolean canTransitionTo(OrderStatus target) {
+            if (target == null) {
+                return false;
+            }
+            return switch (this) {
+                case PENDING -> target == CONFIRMED || target == CANCELLED;
+                case CONFIRMED -> target == SHIPPED || target == CANCELLED;
+                case SHIPPED -> target == DELIVERED;
+                case DELIVERED, CANCELLED -> false;
+            };
+        }
+
+        public boolean isTerminal() {
+            return this == DELIVERED || this == CANCELLED;
+        }
     }
 
     // Varsayılan constructor
     public Order() {
-        this.items = new ArrayList<>();
+        this.products = ProductDictionary.shared();
+        this.productIds = NO_INTS;
+        this.unitCents = NO_LONGS;
+        this.quantities = NO_INTS;
         this.totalAmount = BigDecimal.ZERO;
-        this.status = OrderStatus.PENDING;
+        this.status = new AtomicReference<>(OrderStatus.PENDING);
+        this.statusChangedAt = new AtomicReferenceArray<>(OrderStatus.values().length);
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        this.statusChangedAt.set(OrderStatus.PENDING.ordinal(), createdAt);
     }
 
     // Parametreli constructor
@@ -37,6 +93,58 @@ public class Order {
         this.userId = userId;
     }
 
+    // Oluşturma zamanı bilinen sipariş (ör. olay günlüğünden yeniden kurulurken)
+    public Order(Long userId, LocalDateTime createdAt) {
+        this(userId, createdAt, ProductDictionary.shared());
+    }
+
+    /**
+     * Ürün adlarını verilen sözlükte saklayan sipariş
+     * Sözlük dolduğunda sözlükte olmayan adlar sıkıştırılmamış satır olarak tutulur.
+     */
+    public Order(Long userId, LocalDateTime createdAt, ProductDictionary products) {
+        if (products == null) {
+            throw new IllegalArgumentException("Ürün sözlüğü null olamaz");
+        }
+        this.products = products;
+        this.userId = userId;
+        this.productIds = NO_INTS;
+        this.unitCents = NO_LONGS;
+        this.quantities = NO_INTS;
+        this.totalAmount = BigDecimal.ZERO;
+        this.status = new AtomicReference<>(OrderStatus.PENDING);
+        this.statusChangedAt = new AtomicReferenceArray<>(OrderStatus.values().length);
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+        this.statusChangedAt.set(OrderStatus.PENDING.ordinal(), createdAt);
+    }
+
+    // Kopya constructor (güncellemeler saklanan nesne yerine kopya üzerinde yapılır)
+    public Order(Order other) {
+        this.id = other.id;
+        this.userId = other.userId;
+        this.products = other.products;
+        // Kopya tam satır sayısı kadar yer ayırır (saklanan siparişlerde boş kapasite kalmaz)
+        this.lineCount = other.lineCount;
+        this.productIds = Arrays.copyOf(other.productIds, other.lineCount);
+        this.unitCents = Arrays.copyOf(other.unitCents, other.lineCount);
+        this.quantities = Arrays.copyOf(other.quantities, other.lineCount);
+        this.looseItems = other.looseItems != null ? Arrays.copyOf(other.looseItems, other.lineCount) : null;
+        this.totalAmount = other.totalAmount;
+        this.itemCount = other.itemCount;
+        this.totalCents = other.totalCents;
+        this.inexactLines = other.inexactLines;
+        this.centsOverflowed = other.centsOverflowed;
+        this.status = new AtomicReference<>(other.status.get());
+        this.statusChangedAt = new AtomicReferenceArray<>(OrderStatus.values().length);
+        for (int i = 0; i < statusChangedAt.length(); i++) {
+            this.statusChangedAt.set(i, other.statusChangedAt.get(i));
+        }
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.version = other.version;
+    }
+
     // Getter ve Setter metodları
     public Long getId() {
         return id;
@@ -54,26 +162,205 @@ public class Order {
         this.userId = userId;
     }
 
+    /**
+     * Satırların değiştirilebilir görünümü; get her çağrıda yeni bir OrderItem oluşturur
+     * Liste doğrudan değiştirilirse toplamlar için calculateTotalAmount çağrılmalıdır.
+     * Sıcak döngülerde nesne ayırmamak için getLineProductName, getLineQuantity ve
+     * getLineTotalCents kullanılabilir.
+     */
     public List<OrderItem> getItems() {
-        return items;
+        if (itemView == null) {
+            itemView = new ItemList();
+        }
+        return itemView;
     }
 
+    /**
+     * Satırları verilen listeden kopyalar; sonradan listede yapılan değişiklikler siparişe yansımaz
+     */
     public void setItems(List<OrderItem> items) {
-        this.items = items;
+        OrderItem[] copy = items.toArray(new OrderItem[0]);
+        clearLines();
+        for (OrderItem item : copy) {
+            insertLine(lineCount, item);
+        }
+        if (itemView != null) {
+            itemView.changed();
+        }
         calculateTotalAmount();
     }
 
+    public ProductDictionary getProductDictionary() {
+        return products;
+    }
+
+    // Satır (OrderItem) sayısı; ürün adedi için getItemCount kullanılır
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Satırın ürün adı; nesne ayırmaz (sözlükteki String örneği döner)
+     */
+    public String getLineProductName(int index) {
+        Objects.checkIndex(index, lineCount);
+        return productIds[index] == LOOSE ? looseItems[index].getProductName() : products.name(productIds[index]);
+    }
+
+    public int getLineQuantity(int index) {
+        Objects.checkIndex(index, lineCount);
+        return productIds[index] == LOOSE ? looseItems[index].getQuantity() : quantities[index];
+    }
+
+    /**
+     * Satır toplamı kuruş cinsinden; nesne ayırmaz
+     *
+     * @throws ArithmeticException satırın tutarı kuruşa çevrilemiyorsa
+     */
+    public long getLineTotalCents(int index) {
+        Objects.checkIndex(index, lineCount);
+        return lineTotalCents(index);
+    }
+
+    /**
+     * Satırların değişmez, sıkıştırılmış anlık görüntüsü (satır başına ~16 bayt)
+     * OrderItem oluşturmadan önceki bir sürümle karşılaştırmak için kullanılır.
+     */
+    public LineSnapshot snapshotLines() {
+        if (lineCount == 0) {
+            return LineSnapshot.empty();
+        }
+        OrderItem[] loose = null;
+        if (looseItems != null) {
+            for (int i = 0; i < lineCount; i++) {
+                if (productIds[i] == LOOSE) {
+                    loose = Arrays.copyOf(looseItems, lineCount);
+                    break;
+                }
+            }
+        }
+        return new LineSnapshot(products, Arrays.copyOf(productIds, lineCount), Arrays.copyOf(unitCents, lineCount),
+                Arrays.copyOf(quantities, lineCount), loose);
+    }
+
     public BigDecimal getTotalAmount() {
         return totalAmount;
     }
 
+    /**
+     * Toplam tutarı kuruş cinsinden döndürür (bkz. Money); nesne ayırmaz
+     *
+     * @throws ArithmeticException bir satırın fiyatı kuruşa çevrilemiyorsa veya toplam long'a sığmıyorsa
+     */
+    public long getTotalCents() {
+        if (inexactLines > 0) {
+            throw new ArithmeticException("Siparişte kuruş cinsinden ifade edilemeyen fiyat var");
+        }
+        if (centsOverflowed) {
+            // Taşma ara toplamda kalmış olabilir (ör. büyük satır sonradan çıkarıldı); baştan denenir
+            long total = 0;
+            for (int i = 0; i < lineCount; i++) {
+                total = Money.add(total, lineTotalCents(i));
+            }
+            totalCents = total;
+            centsOverflowed = false;
+        }
+        return totalCents;
+    }
+
     public OrderStatus getStatus() {
-        return status;
+        return status.get();
     }
 
+    /**
+     * Durumu geçiş kurallarına bakmadan atar (ör. saklanan siparişi yüklerken)
+     * İş akışındaki değişiklikler için transitionTo veya cancel kullanılmalıdır
+     */
     public void setStatus(OrderStatus status) {
-        this.status = status;
-        this.updatedAt = LocalDateTime.now();
+        setStatus(status, LocalDateTime.now());
+    }
+
+    /**
+     * Durumu geçiş kurallarına bakmadan, verilen geçiş zamanıyla atar (ör. geçmiş yeniden oynatılırken)
+     */
+    public void setStatus(OrderStatus status, LocalDateTime changedAt) {
+        requireStatusMutable();
+        this.status.set(status);
+        recordStatusChange(status, changedAt);
+    }
+
+    /**
+     * Durumu geçiş kurallarına göre atomik olarak değiştirir
+     * Eşzamanlı geçişlerden yalnızca mevcut durumdan geçerli olanlar kazanır; kaybeden çağrı
+     * yeni durumu görür ve geçiş artık geçersizse exception alır
+     *
+     * @return geçişten önceki durum
+     * @throws IllegalStateException mevcut durumdan hedef duruma geçilemiyorsa
+     */
+    public OrderStatus transitionTo(OrderStatus target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Hedef durum null olamaz");
+        }
+        requireStatusMutable();
+        while (true) {
+            OrderStatus current = status.get();
+            if (!current.canTransitionTo(target)) {
+                throw new IllegalStateException("Geçersiz durum geçişi: " + current + " -> " + target);
+            }
+            if (status.compareAndSet(current, target)) {
+                recordStatusChange(target, LocalDateTime.now());
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Durum hâlâ beklenen durumsa ve geçiş geçerliyse hedefe geçer; aksi halde false döner
+     */
+    public boolean compareAndTransition(OrderStatus expected, OrderStatus target) {
+        if (expected == null || !expected.canTransitionTo(target)) {
+            return false;
+        }
+        requireStatusMutable();
+        if (status.compareAndSet(expected, target)) {
+            recordStatusChange(target, LocalDateTime.now());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Durumun bu nesne üzerinde değiştirilmesini kapatır (repository saklarken çağırır)
+     * Sonraki setStatus, transitionTo, compareAndTransition ve cancel çağrıları
+     * IllegalStateException fırlatır; durum repository üzerinden veya bir kopyada değiştirilmelidir.
+     * Kopya constructor'ı ile alınan kopyanın durumu yeniden değiştirilebilir.
+     */
+    public void freezeStatus() {
+        statusFrozen = true;
+    }
+
+    public boolean isStatusFrozen() {
+        return statusFrozen;
+    }
+
+    private void requireStatusMutable() {
+        if (statusFrozen) {
+            throw new IllegalStateException("Repository'de saklanan siparişin durumu yerinde değiştirilemez; "
+                    + "OrderRepository.transitionStatus veya kopya üzerinden updateOrder kullanılmalı");
+        }
+    }
+
+    /**
+     * Siparişin verilen duruma girdiği zaman; o duruma hiç girilmediyse null
+     */
+    public LocalDateTime getStatusChangedAt(OrderStatus status) {
+        return statusChangedAt.get(status.ordinal());
+    }
+
+    private void recordStatusChange(OrderStatus target, LocalDateTime at) {
+        // Durum grafiği döngüsüz olduğundan her slota transitionTo ile en fazla bir kez yazılır
+        statusChangedAt.compareAndSet(target.ordinal(), null, at);
+        this.updatedAt = at;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -92,42 +379,136 @@ public class Order {
         this.updatedAt = updatedAt;
     }
 
+    // Optimistic locking için sürüm numarası; her başarılı güncellemede artar
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     // İş mantığı metodları
+
+    /**
+     * Ürün ekler; toplam tutar ve adet tüm liste yeniden hesaplanmadan artırılır
+     */
     public void addItem(OrderItem item) {
-        this.items.add(item);
-        calculateTotalAmount();
+        insertLine(lineCount, item);
+        if (itemView != null) {
+            itemView.changed();
+        }
+        this.totalAmount = totalAmount.add(item.getTotalPrice());
+        this.itemCount += item.getQuantity();
+        addCents(item.isCentsExact(), item.totalCents);
     }
 
+    /**
+     * Ürünün ilk eşleşen kopyasını çıkarır; toplam tutar ve adet çıkarılan ürün kadar azaltılır
+     * Eşit ürünlerin tutarı da eşit olduğundan aynı üründen birden fazla varsa hangisinin
+     * çıkarıldığı toplamı değiştirmez. Liste boşalırsa toplam yeniden BigDecimal.ZERO olur.
+     */
     public void removeItem(OrderItem item) {
-        this.items.remove(item);
-        calculateTotalAmount();
+        int index = indexOfLine(item);
+        if (index < 0) {
+            return;
+        }
+        removeLine(index);
+        if (itemView != null) {
+            itemView.changed();
+        }
+        if (lineCount == 0) {
+            this.totalAmount = BigDecimal.ZERO;
+            this.itemCount = 0;
+            resetCents();
+        } else {
+            this.totalAmount = totalAmount.subtract(item.getTotalPrice());
+            this.itemCount -= item.getQuantity();
+            subtractCents(item.isCentsExact(), item.totalCents);
+        }
     }
 
+    /**
+     * Toplam tutarı ve ürün adedini satırlardan baştan hesaplar
+     * addItem ve removeItem toplamları kendileri günceller; bu metot yalnızca liste
+     * getItems üzerinden doğrudan değiştirildiğinde gerekir
+     */
     public void calculateTotalAmount() {
-        this.totalAmount = items.stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal total = BigDecimal.ZERO;
+        int count = 0;
+        resetCents();
+        for (int i = 0; i < lineCount; i++) {
+            if (productIds[i] == LOOSE) {
+                OrderItem item = looseItems[i];
+                total = total.add(item.getTotalPrice());
+                count += item.getQuantity();
+                addCents(item.isCentsExact(), item.totalCents);
+            } else {
+                // Sıkıştırılan satırların toplamı eklenirken kuruşa kayıpsız çevrildiği bilinir
+                long cents = unitCents[i] * quantities[i];
+                total = total.add(Money.toBigDecimal(cents));
+                count += quantities[i];
+                addCents(true, cents);
+            }
+        }
+        this.totalAmount = total;
+        this.itemCount = count;
+    }
+
+    private void addCents(boolean exact, long cents) {
+        if (!exact) {
+            inexactLines++;
+        } else if (!centsOverflowed) {
+            long next = totalCents + cents;
+            // İşaretleri aynı iki sayının toplamının işareti değiştiyse taşma vardır
+            if (((totalCents ^ next) & (cents ^ next)) < 0) {
+                centsOverflowed = true;
+            } else {
+                totalCents = next;
+            }
+        }
+    }
+
+    private void subtractCents(boolean exact, long cents) {
+        if (!exact) {
+            inexactLines--;
+        } else if (!centsOverflowed) {
+            totalCents -= cents;
+        }
+    }
+
+    private void resetCents() {
+        this.totalCents = 0;
+        this.inexactLines = 0;
+        this.centsOverflowed = false;
     }
 
     public boolean isEmpty() {
-        return items.isEmpty();
+        return lineCount == 0;
     }
 
     public int getItemCount() {
-        return items.stream()
-                .mapToInt(OrderItem::getQuantity)
-                .sum();
+        return itemCount;
     }
 
     public boolean canBeCancelled() {
-        return status == OrderStatus.PENDING || status == OrderStatus.CONFIRMED;
+        return status.get().canTransitionTo(OrderStatus.CANCELLED);
     }
 
+    /**
+     * Siparişi atomik olarak iptal eder; eşzamanlı bir kargolama ile yarışırsa yalnızca biri kazanır
+     */
     public void cancel() {
-        if (canBeCancelled()) {
-            setStatus(OrderStatus.CANCELLED);
-        } else {
-            throw new IllegalStateException("Bu sipariş iptal edilemez. Mevcut durum: " + status);
+        requireStatusMutable();
+        while (true) {
+            OrderStatus current = status.get();
+            if (!current.canTransitionTo(OrderStatus.CANCELLED)) {
+                throw new IllegalStateException("Bu sipariş iptal edilemez. Mevcut durum: " + current);
+            }
+            if (status.compareAndSet(current, OrderStatus.CANCELLED)) {
+                recordStatusChange(OrderStatus.CANCELLED, LocalDateTime.now());
+                return;
+            }
         }
     }
 
@@ -149,23 +530,288 @@ public class Order {
         return "Order{" +
                 "id=" + id +
                 ", userId=" + userId +
-                ", itemCount=" + items.size() +
+                ", itemCount=" + lineCount +
                 ", totalAmount=" + totalAmount +
-                ", status=" + status +
+                ", status=" + status.get() +
                 ", createdAt=" + createdAt +
+                ", version=" + version +
                 '}';
     }
 
+    // Satır saklama yardımcıları
+
+    /**
+     * Satır kuruş cinsinden kayıpsız ifade edilebiliyorsa, ölçeği 2 ise ve adı varsa sıkıştırılabilir
+     * Ölçek şartı, materialize edilen satırın BigDecimal.equals ile eklenen satıra eşit olması içindir.
+     */
+    private static boolean isCompact(OrderItem item) {
+        return item != null && item.productName != null && item.isCentsExact()
+                && item.price.scale() == Money.SCALE;
+    }
+
+    private OrderItem lineAt(int index) {
+        int productId = productIds[index];
+        if (productId == LOOSE) {
+            return looseItems[index];
+        }
+        return new OrderItem(products.name(productId), Money.toBigDecimal(unitCents[index]), quantities[index]);
+    }
+
+    private long lineTotalCents(int index) {
+        return productIds[index] == LOOSE ? looseItems[index].getTotalCents() : unitCents[index] * quantities[index];
+    }
+
+    private void storeLine(int index, OrderItem item) {
+        // Sözlük dolduysa yeni ad sıkıştırılmadan saklanır
+        int productId = isCompact(item) ? products.tryIntern(item.productName) : -1;
+        if (productId >= 0) {
+            productIds[index] = productId;
+            unitCents[index] = item.priceCents;
+            quantities[index] = item.quantity;
+            if (looseItems != null) {
+                looseItems[index] = null;
+            }
+        } else {
+            if (looseItems == null) {
+                looseItems = new OrderItem[productIds.length];
+            }
+            productIds[index] = LOOSE;
+            unitCents[index] = 0;
+            quantities[index] = 0;
+            looseItems[index] = item;
+        }
+    }
+
+    private void insertLine(int index, OrderItem item) {
+        if (lineCount == productIds.length) {
+            int capacity = Math.max(4, lineCount + (lineCount >> 1));
+            productIds = Arrays.copyOf(productIds, capacity);
+            unitCents = Arrays.copyOf(unitCents, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            if (looseItems != null) {
+                looseItems = Arrays.copyOf(looseItems, capacity);
+            }
+        }
+        int tail = lineCount - index;
+        if (tail > 0) {
+            System.arraycopy(productIds, index, productIds, index + 1, tail);
+            System.arraycopy(unitCents, index, unitCents, index + 1, tail);
+            System.arraycopy(quantities, index, quantities, index + 1, tail);
+            if (looseItems != null) {
+                System.arraycopy(looseItems, index, looseItems, index + 1, tail);
+            }
+        }
+        lineCount++;
+        storeLine(index, item);
+    }
+
+    private void removeLine(int index) {
+        int tail = lineCount - index - 1;
+        if (tail > 0) {
+            System.arraycopy(productIds, index + 1, productIds, index, tail);
+            System.arraycopy(unitCents, index + 1, unitCents, index, tail);
+            System.arraycopy(quantities, index + 1, quantities, index, tail);
+            if (looseItems != null) {
+                System.arraycopy(looseItems, index + 1, looseItems, index, tail);
+            }
+        }
+        lineCount--;
+        if (looseItems != null) {
+            looseItems[lineCount] = null;
+        }
+    }
+
+    private void clearLines() {
+        lineCount = 0;
+        looseItems = null;
+    }
+
+    /**
+     * Eşit ilk satırın sırası; sıkıştırılmış satırlar için OrderItem oluşturmadan karşılaştırır
+     */
+    private int indexOfLine(Object o) {
+        if (o != null && !(o instanceof OrderItem)) {
+            return -1;
+        }
+        OrderItem item = (OrderItem) o;
+        // Sözlükte olmayan ad hiçbir sıkıştırılmış satırda geçemez; sözlük dolduğu için eklenemeyen
+        // ad sonradan da eklenemez, dolayısıyla böyle bir satır yalnızca sıkıştırılmamış olabilir
+        int productId = isCompact(item) ? products.find(item.productName) : -1;
+        if (productId >= 0) {
+            for (int i = 0; i < lineCount; i++) {
+                if (productIds[i] == productId && unitCents[i] == item.priceCents && quantities[i] == item.quantity) {
+                    return i;
+                }
+            }
+        } else if (looseItems != null) {
+            // Sıkıştırılamayan bir satır yalnızca yine sıkıştırılamayan bir satıra eşit olabilir
+            for (int i = 0; i < lineCount; i++) {
+                if (productIds[i] == LOOSE && Objects.equals(looseItems[i], item)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sipariş satırlarının liste görünümü; değişiklikler doğrudan paralel dizilere yazılır
+     */
+    private final class ItemList extends AbstractList<OrderItem> implements RandomAccess {
+        @Override
+        public OrderItem get(int index) {
+            Objects.checkIndex(index, lineCount);
+            return lineAt(index);
+        }
+
+        @Override
+        public int size() {
+            return lineCount;
+        }
+
+        @Override
+        public OrderItem set(int index, OrderItem item) {
+            Objects.checkIndex(index, lineCount);
+            OrderItem previous = lineAt(index);
+            storeLine(index, item);
+            return previous;
+        }
+
+        @Override
+        public void add(int index, OrderItem item) {
+            Objects.checkIndex(index, lineCount + 1);
+            insertLine(index, item);
+            modCount++;
+        }
+
+        @Override
+        public OrderItem remove(int index) {
+            Objects.checkIndex(index, lineCount);
+            OrderItem previous = lineAt(index);
+            removeLine(index);
+            modCount++;
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            clearLines();
+            modCount++;
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return indexOfLine(o);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOfLine(o) >= 0;
+        }
+
+        // Sipariş metotlarıyla yapılan yapısal değişiklikler de açık iterator'ları geçersiz kılar
+        void changed() {
+            modCount++;
+        }
+    }
+
     // İç sınıf: OrderItem
+    /**
+     * Sipariş satırlarının belirli bir andaki değişmez görüntüsü
+     * Satırlar Order ile aynı paralel dizi düzeninde tutulur; OrderItem yalnızca get ile
+     * istendiğinde oluşur.
+     */
+    public static final class LineSnapshot {
+        private static final LineSnapshot EMPTY = new LineSnapshot(ProductDictionary.shared(), NO_INTS, NO_LONGS,
+                NO_INTS, null);
+
+        private final ProductDictionary products;
+        private final int[] productIds;
+        private final long[] unitCents;
+        private final int[] quantities;
+        // Yalnızca sıkıştırılamayan satır varsa ayrılır
+        private final OrderItem[] looseItems;
+
+        private LineSnapshot(ProductDictionary products, int[] productIds, long[] unitCents, int[] quantities,
+                             OrderItem[] looseItems) {
+            this.products = products;
+            this.productIds = productIds;
+            this.unitCents = unitCents;
+            this.quantities = quantities;
+            this.looseItems = looseItems;
+        }
+
+        public static LineSnapshot empty() {
+            return EMPTY;
+        }
+
+        public int size() {
+            return productIds.length;
+        }
+
+        public OrderItem get(int index) {
+            Objects.checkIndex(index, productIds.length);
+            int productId = productIds[index];
+            if (productId == LOOSE) {
+                return looseItems[index];
+            }
+            return new OrderItem(products.name(productId), Money.toBigDecimal(unitCents[index]), quantities[index]);
+        }
+
+        /**
+         * Bu görüntünün satırı diğer görüntünün satırına eşit mi (OrderItem.equals ile aynı sonuç); nesne ayırmaz
+         * Aynı sözlükte sıkıştırılmış ve sıkıştırılmamış satırlar hiçbir zaman eşit olmaz: ölçeği 2
+         * olan kuruşa çevrilebilir fiyat, adı sözlükte yer bulduğu sürece her zaman sıkıştırılır.
+         * Farklı sözlükler kullanan görüntüler satırlar oluşturularak karşılaştırılır.
+         */
+        public boolean sameLine(int index, LineSnapshot other, int otherIndex) {
+            Objects.checkIndex(index, productIds.length);
+            Objects.checkIndex(otherIndex, other.productIds.length);
+            if (products != other.products) {
+                return get(index).equals(other.get(otherIndex));
+            }
+            int productId = productIds[index];
+            if (productId != other.productIds[otherIndex]) {
+                return false;
+            }
+            if (productId == LOOSE) {
+                return Objects.equals(looseItems[index], other.looseItems[otherIndex]);
+            }
+            return unitCents[index] == other.unitCents[otherIndex] && quantities[index] == other.quantities[otherIndex];
+        }
+    }
+
     public static class OrderItem {
         private String productName;
         private BigDecimal price;
         private int quantity;
+        // Satır değişmez olduğundan toplam fiyat bir kez hesaplanır
+        private final BigDecimal totalPrice;
+        private final long priceCents;
+        private final long totalCents;
+        private final boolean centsExact;
 
         public OrderItem(String productName, BigDecimal price, int quantity) {
             this.productName = productName;
             this.price = price;
             this.quantity = quantity;
+            this.totalPrice = price != null ? price.multiply(BigDecimal.valueOf(quantity)) : null;
+
+            long unitCents = 0;
+            long lineCents = 0;
+            boolean exact = false;
+            if (price != null) {
+                try {
+                    unitCents = Money.toCents(price);
+                    lineCents = Money.multiply(unitCents, quantity);
+                    exact = true;
+                } catch (ArithmeticException e) {
+                    // Kuruş yolu bu satır için kullanılamaz; BigDecimal yolu etkilenmez
+                }
+            }
+            this.priceCents = unitCents;
+            this.totalCents = lineCents;
+            this.centsExact = exact;
         }
 
         public String getProductName() {
@@ -181,7 +827,43 @@ public class Order {
         }
 
         public BigDecimal getTotalPrice() {
-            return price.multiply(BigDecimal.valueOf(quantity));
+            if (totalPrice == null) {
+                throw new NullPointerException("Ürün fiyatı null");
+            }
+            return totalPrice;
+        }
+
+        /**
+         * Birim fiyat ve satır toplamı kuruş cinsinden kayıpsız ifade edilebiliyorsa true
+         */
+        public boolean isCentsExact() {
+            return centsExact;
+        }
+
+        /**
+         * Birim fiyatı kuruş cinsinden döndürür
+         *
+         * @throws ArithmeticException fiyat kuruşa çevrilemiyorsa
+         */
+        public long getPriceCents() {
+            requireCentsExact();
+            return priceCents;
+        }
+
+        /**
+         * Satır toplamını (fiyat x adet) kuruş cinsinden döndürür; nesne ayırmaz
+         *
+         * @throws ArithmeticException fiyat kuruşa çevrilemiyorsa veya toplam long'a sığmıyorsa
+         */
+        public long getTotalCents() {
+            requireCentsExact();
+            return totalCents;
+        }
+
+        private void requireCentsExact() {
+            if (!centsExact) {
+                throw new ArithmeticException("Satır tutarı kuruş cinsinden ifade edilemez: " + price + " x " + quantity);
+            }
         }
 
         @Override
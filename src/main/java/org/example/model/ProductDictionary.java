@@ -0,0 +1,126 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ürün adlarını 0'dan başlayan int ID'lere eşleyen sözlük (interning)
+ *
+ * Sipariş satırları ürün adını String olarak değil, buradaki ID olarak saklar; aynı ürün
+ * milyonlarca satırda tekrarlansa da ad bellekte bir kez durur ve ID'den her zaman aynı String
+ * örneği döner. ID'ler kalıcıdır, sözlükten ürün silinmez; katalog boyutunda (on binlerce)
+ * ad için tasarlanmıştır. Sınırsız farklı ad (ör. serbest metin) belleği büyütmesin diye
+ * sözlüğün bir üst sınırı vardır: sınıra ulaşıldığında tryIntern -1 döner ve Order yeni
+ * adları sözlüğe eklemeden sıkıştırılmamış satır olarak saklar. Thread-safe'dir: okumalar
+ * kilitsizdir, yeni ad eklemek kısa bir kilit alır.
+ */
+public final class ProductDictionary {
+    public static final int DEFAULT_MAX_SIZE = 65_536;
+    private static final int INITIAL_CAPACITY = 1_024;
+    private static final ProductDictionary SHARED = new ProductDictionary();
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private volatile String[] names;
+    private int size;
+
+    public ProductDictionary() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize sözlükte tutulabilecek en fazla ad sayısı
+     */
+    public ProductDictionary(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Sözlük boyutu pozitif olmalı");
+        }
+        this.maxSize = maxSize;
+        this.names = new String[Math.min(INITIAL_CAPACITY, maxSize)];
+    }
+
+    /**
+     * Siparişlerin kullandığı ortak sözlük
+     */
+    public static ProductDictionary shared() {
+        return SHARED;
+    }
+
+    /**
+     * Adın ID'sini döndürür; ad ilk kez görülüyorsa yeni ID verir
+     *
+     * @throws IllegalStateException ad yeni ve sözlük dolmuşsa
+     */
+    public int intern(String name) {
+        int id = tryIntern(name);
+        if (id < 0) {
+            throw new IllegalStateException("Ürün sözlüğü dolu, en fazla " + maxSize + " ad tutulabilir");
+        }
+        return id;
+    }
+
+    /**
+     * Adın ID'sini döndürür; ad ilk kez görülüyorsa yeni ID verir, sözlük dolmuşsa -1
+     */
+    public int tryIntern(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Ürün adı null olamaz");
+        }
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(name);
+            if (id != null) {
+                return id;
+            }
+            if (size == maxSize) {
+                return -1;
+            }
+            String[] current = names;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, (int) Math.min((long) size * 2, maxSize));
+            }
+            current[size] = name;
+            // Dizi her eklemede volatile alana yeniden yazılır, böylece yeni ad okuyuculara görünür
+            names = current;
+            ids.put(name, size);
+            return size++;
+        }
+    }
+
+    /**
+     * Adın ID'si; ad sözlükte yoksa -1 (sözlüğe eklemez)
+     */
+    public int find(String name) {
+        if (name == null) {
+            return -1;
+        }
+        Integer id = ids.get(name);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * ID'nin ürün adı
+     */
+    public String name(int id) {
+        String[] current = names;
+        if (id < 0 || id >= current.length || current[id] == null) {
+            throw new IllegalArgumentException("Bilinmeyen ürün ID'si: " + id);
+        }
+        return current[id];
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public boolean isFull() {
+        return size() >= maxSize;
+    }
+}
@@ -13,6 +13,7 @@ public class User {
     private String password;
     private boolean active;
     private LocalDateTime createdAt;
+    private long version;
 
     // Varsayılan constructor
     public User() {
@@ -28,6 +29,29 @@ public class User {
         this.password = password;
     }
 
+    // Tüm alanları verilen kayıt (ör. bir depodan okunurken); kayıt zamanı için saat okunmaz
+    public User(Long id, String username, String email, String password, boolean active,
+                LocalDateTime createdAt, long version) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.password = password;
+        this.active = active;
+        this.createdAt = createdAt;
+        this.version = version;
+    }
+
+    // Kopya constructor (güncellemeler saklanan nesne yerine kopya üzerinde yapılır)
+    public User(User other) {
+        this.id = other.id;
+        this.username = other.username;
+        this.email = other.email;
+        this.password = other.password;
+        this.active = other.active;
+        this.createdAt = other.createdAt;
+        this.version = other.version;
+    }
+
     // Getter ve Setter metodları
     public Long getId() {
         return id;
@@ -77,6 +101,15 @@ public class User {
         this.createdAt = createdAt;
     }
 
+    // Optimistic locking için sürüm numarası; her başarılı güncellemede artar
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     // Email validasyonu için yardımcı metod
     public boolean hasValidEmail() {
         return email != null && email.contains("@") && email.contains(".");
@@ -108,6 +141,7 @@ public class User {
                 ", email='" + email + '\'' +
                 ", active=" + active +
                 ", createdAt=" + createdAt +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
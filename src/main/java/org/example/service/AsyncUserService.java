@@ -0,0 +1,296 @@
+package org.example.service;
+
+import org.example.model.User;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * UserService için CompletableFuture tabanlı asenkron cephe (facade)
+ *
+ * Her işlem veritabanı ve email adımlarına bölünür; adımlar ayrı ve sınırlı executor'larda
+ * çalışır, çağıran thread hiçbir zaman bloklanmaz. Varsayılan email executor'ı virtual
+ * thread kullanır, böylece email gönderimi beklerken platform thread'i meşgul edilmez.
+ * Dönen future iptal edildiğinde veya zaman aşımına uğradığında, henüz başlamamış adımlar
+ * hiç çalışmaz ve sürmekte olanlar interrupt edilir.
+ */
+public class AsyncUserService implements AutoCloseable {
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    public static final int DEFAULT_STORE_QUEUE_CAPACITY = 100_000;
+    public static final int DEFAULT_MAX_CONCURRENT_EMAILS = 10_000;
+
+    private final UserService userService;
+    private final ExecutorService storeExecutor;
+    private final ExecutorService emailExecutor;
+    private final Semaphore emailPermits;
+    private final Duration timeout;
+    private final boolean ownsExecutors;
+
+    /**
+     * Varsayılan sınırlı executor'larla oluşturur: veritabanı adımları için
+     * işlemci sayısı kadar thread ve sınırlı kuyruk, email adımları için virtual thread'ler
+     */
+    public AsyncUserService(UserService userService) {
+        this(userService, newBoundedStoreExecutor(), Executors.newVirtualThreadPerTaskExecutor(),
+                DEFAULT_MAX_CONCURRENT_EMAILS, DEFAULT_TIMEOUT, true);
+    }
+
+    /**
+     * Dışarıdan verilen executor'larla oluşturur; executor'ların kapatılması çağıranın sorumluluğundadır
+     */
+    public AsyncUserService(UserService userService, ExecutorService storeExecutor, ExecutorService emailExecutor,
+                            int maxConcurrentEmails, Duration timeout) {
+        this(userService, storeExecutor, emailExecutor, maxConcurrentEmails, timeout, false);
+    }
+
+    private AsyncUserService(UserService userService, ExecutorService storeExecutor, ExecutorService emailExecutor,
+                             int maxConcurrentEmails, Duration timeout, boolean ownsExecutors) {
+        if (userService == null || storeExecutor == null || emailExecutor == null) {
+            throw new IllegalArgumentException("Service ve executor'lar null olamaz");
+        }
+        if (maxConcurrentEmails <= 0) {
+            throw new IllegalArgumentException("Eşzamanlı email limiti pozitif olmalı");
+        }
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Zaman aşımı pozitif olmalı");
+        }
+        this.userService = userService;
+        this.storeExecutor = storeExecutor;
+        this.emailExecutor = emailExecutor;
+        this.emailPermits = new Semaphore(maxConcurrentEmails);
+        this.timeout = timeout;
+        this.ownsExecutors = ownsExecutors;
+    }
+
+    /**
+     * Yeni kullanıcı kaydı yapar; hoş geldin emaili hatası kaydı engellemez
+     */
+    public CompletableFuture<User> registerUserAsync(String username, String email, String password) {
+        return call(scope -> scope.onStore(() -> userService.createUser(username, email, password))
+                .thenCompose(user -> scope.onEmail(() -> {
+                    userService.sendWelcomeEmail(user);
+                    return user;
+                })));
+    }
+
+    /**
+     * Kullanıcı girişi yapar
+     */
+    public CompletableFuture<Optional<User>> loginUserAsync(String email, String password) {
+        return loginUserAsync(email, password, null);
+    }
+
+    /**
+     * Kaynak adresi ile kullanıcı girişi yapar
+     */
+    public CompletableFuture<Optional<User>> loginUserAsync(String email, String password, String sourceAddress) {
+        return call(scope -> scope.onStore(() -> userService.loginUser(email, password, sourceAddress)));
+    }
+
+    /**
+     * Kullanıcı profilini günceller; email değiştiyse bildirim gönderir
+     */
+    public CompletableFuture<User> updateUserProfileAsync(Long userId, String newUsername, String newEmail) {
+        return call(scope -> scope.onStore(() -> userService.applyProfileUpdate(userId, newUsername, newEmail))
+                .thenCompose(update -> {
+                    if (!update.isEmailChanged()) {
+                        return CompletableFuture.completedFuture(update.getUser());
+                    }
+                    return scope.onEmail(() -> {
+                        userService.sendNotification(update.getUser(), "Email adresiniz başarıyla güncellendi.",
+                                "Email güncelleme bildirimi gönderilemedi: ");
+                        return update.getUser();
+                    });
+                }));
+    }
+
+    /**
+     * Şifre sıfırlama token'ı oluşturur ve email gönderir
+     */
+    public CompletableFuture<String> requestPasswordResetAsync(String email) {
+        return call(scope -> scope.onStore(() -> userService.findResettableUser(email))
+                .thenCompose(user -> scope.onEmail(() -> {
+                    String resetToken = userService.generateResetToken();
+                    userService.sendPasswordResetEmail(user, resetToken);
+                    return resetToken;
+                })));
+    }
+
+    /**
+     * Kullanıcıyı pasif yapar
+     */
+    public CompletableFuture<Void> deactivateUserAsync(Long userId) {
+        return changeActiveStateAsync(userId, false, "Hesabınız pasifleştirildi.",
+                "Pasifleştirme bildirimi gönderilemedi: ");
+    }
+
+    /**
+     * Kullanıcıyı aktif yapar
+     */
+    public CompletableFuture<Void> activateUserAsync(Long userId) {
+        return changeActiveStateAsync(userId, true, "Hesabınız tekrar aktifleştirildi.",
+                "Aktifleştirme bildirimi gönderilemedi: ");
+    }
+
+    /**
+     * Kullanıcı detaylarını getirir
+     */
+    public CompletableFuture<Optional<User>> getUserByIdAsync(Long userId) {
+        return call(scope -> scope.onStore(() -> userService.getUserById(userId)));
+    }
+
+    /**
+     * Email adresine göre kullanıcı getirir
+     */
+    public CompletableFuture<Optional<User>> getUserByEmailAsync(String email) {
+        return call(scope -> scope.onStore(() -> userService.getUserByEmail(email)));
+    }
+
+    /**
+     * Tüm aktif kullanıcıları getirir
+     */
+    public CompletableFuture<List<User>> getAllActiveUsersAsync() {
+        return call(scope -> scope.onStore(userService::getAllActiveUsers));
+    }
+
+    /**
+     * Toplu email gönderimi yapar
+     */
+    public CompletableFuture<Integer> sendBulkNotificationAsync(String subject, String message) {
+        return call(scope -> scope.onStore(userService::getAllActiveUsers)
+                .thenCompose(users -> scope.onEmail(() -> userService.sendBulkEmail(users, subject, message))));
+    }
+
+    /**
+     * Kullanıcı istatistiklerini getirir
+     */
+    public CompletableFuture<UserService.UserStats> getUserStatsAsync() {
+        return call(scope -> scope.onStore(userService::getUserStats));
+    }
+
+    /**
+     * Sahip olunan executor'ları kapatır; dışarıdan verilen executor'lara dokunmaz
+     */
+    @Override
+    public void close() {
+        if (ownsExecutors) {
+            storeExecutor.shutdown();
+            emailExecutor.shutdown();
+        }
+    }
+
+    private CompletableFuture<Void> changeActiveStateAsync(Long userId, boolean active, String message,
+                                                           String failureLog) {
+        return call(scope -> scope.onStore(() -> userService.changeActiveState(userId, active))
+                .thenCompose(user -> scope.onEmail(() -> {
+                    userService.sendNotification(user, message, failureLog);
+                    return null;
+                })));
+    }
+
+    private <T> CompletableFuture<T> call(Function<Scope, CompletableFuture<T>> pipeline) {
+        Scope scope = new Scope();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // Çağıranın iptali veya zaman aşımı kalan adımları durdurur
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                scope.cancel();
+            }
+        });
+
+        pipeline.apply(scope).whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+            } else {
+                result.complete(value);
+            }
+        });
+        return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private static ExecutorService newBoundedStoreExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(DEFAULT_STORE_QUEUE_CAPACITY));
+    }
+
+    /**
+     * Tek bir asenkron çağrının adımlarını izler, iptalde hepsini birlikte durdurur
+     */
+    private final class Scope {
+        private final Map<CompletableFuture<?>, Future<?>> running = new ConcurrentHashMap<>();
+        private volatile boolean cancelled;
+
+        <T> CompletableFuture<T> onStore(Supplier<T> step) {
+            return submit(storeExecutor, step, false);
+        }
+
+        <T> CompletableFuture<T> onEmail(Supplier<T> step) {
+            return submit(emailExecutor, step, true);
+        }
+
+        private <T> CompletableFuture<T> submit(ExecutorService executor, Supplier<T> step, boolean needsEmailPermit) {
+            CompletableFuture<T> stage = new CompletableFuture<>();
+            if (cancelled) {
+                stage.cancel(false);
+                return stage;
+            }
+            try {
+                Future<?> task = executor.submit(() -> runStep(stage, step, needsEmailPermit));
+                running.put(stage, task);
+                stage.whenComplete((value, error) -> running.remove(stage));
+                // submit ile kayıt arasında iptal gelmiş olabilir
+                if (cancelled) {
+                    task.cancel(true);
+                    stage.cancel(false);
+                }
+            } catch (RejectedExecutionException e) {
+                stage.completeExceptionally(e);
+            }
+            return stage;
+        }
+
+        private <T> void runStep(CompletableFuture<T> stage, Supplier<T> step, boolean needsEmailPermit) {
+            if (cancelled) {
+                stage.cancel(false);
+                return;
+            }
+            boolean acquired = false;
+            try {
+                if (needsEmailPermit) {
+                    emailPermits.acquire();
+                    acquired = true;
+                }
+                stage.complete(step.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stage.cancel(false);
+            } catch (Throwable t) {
+                stage.completeExceptionally(t);
+            } finally {
+                if (acquired) {
+                    emailPermits.release();
+                }
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+            running.forEach((stage, task) -> {
+                task.cancel(true);
+                stage.cancel(false);
+            });
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.service;
+
+import org.example.model.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Kullanıcı deposundaki değişikliklerin sıralı akışı (change data capture)
+ *
+ * Olaylar 1'den başlayan, artan sıra numaralarıyla sabit boyutlu bir halka (ring) buffer'a
+ * yazılır. Yazma kilitsizdir: sıra numarası atomik sayaçtan alınır ve olay kendi slotuna
+ * CAS ile konur; tüketiciler beklenmez, halka dolduğunda en eski olayların üzerine yazılır.
+ * Tüketiciler olayı silmez; her tüketici kendi kaldığı sıra numarasını tutar ve read ile
+ * oradan devam eder. Okuma yayınlanmamış ilk sıra numarasında durur, bu yüzden tüketici
+ * olayları her zaman sıra numarası sırasıyla ve boşluksuz görür. Tüketicinin istediği olay
+ * üzerine yazılmışsa IllegalStateException fırlatılır; tüketici tam bir anlık görüntüyle
+ * (örneğin streamUsers) yeniden eşitlenip getLastSequence'tan devam etmelidir.
+ *
+ * Aynı kullanıcıya eşzamanlı yazmalarda olaylar sürüm sırasından farklı sırada
+ * yayınlanabilir; tüketici eski sürümlü olayları getVersion ile ayıklayabilir.
+ * Silme olayı, silinen sürümden bir büyük sürüm taşıyan bir mezar taşıdır; bu yüzden
+ * kullanıcı başına en yüksek sürümü uygulayan tüketici, silmeyle yarışan bir güncellemenin
+ * olayı sonra gelse bile silinmiş kullanıcıyı geri getirmez.
+ */
+public class ChangeFeed {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final AtomicReferenceArray<ChangeEvent> ring;
+    private final int mask;
+    private final AtomicLong lastSequence = new AtomicLong();
+
+    public ChangeFeed() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Verilen kapasiteyi ikinin kuvvetine yuvarlayarak akış oluşturur
+     */
+    public ChangeFeed(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Kapasite 1 ile 2^30 arasında olmalı");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.ring = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Olayı yayınlar ve sıra numarasını döndürür
+     */
+    public long publish(ChangeType type, Long userId, User user, long version) {
+        long sequence = lastSequence.incrementAndGet();
+        ChangeEvent event = new ChangeEvent(sequence, type, userId, user, version);
+        int slot = (int) (sequence & mask);
+        while (true) {
+            ChangeEvent current = ring.get(slot);
+            // Halkayı bir tur geçmiş daha yeni bir olay varsa bu olay zaten kaybedilmiştir
+            if (current != null && current.sequence > sequence) {
+                return sequence;
+            }
+            if (ring.compareAndSet(slot, current, event)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * fromSequence ve sonrasındaki yayınlanmış olayları sırayla, en fazla maxEvents kadar döndürür
+     * Henüz yayınlanmamış bir sıra numarasına gelindiğinde durur
+     *
+     * @throws IllegalStateException istenen olayın üzerine yazılmışsa
+     */
+    public List<ChangeEvent> read(long fromSequence, int maxEvents) {
+        if (fromSequence <= 0) {
+            throw new IllegalArgumentException("Sıra numarası pozitif olmalı");
+        }
+        if (maxEvents <= 0) {
+            throw new IllegalArgumentException("Olay sayısı pozitif olmalı");
+        }
+        List<ChangeEvent> events = new ArrayList<>(Math.min(maxEvents, 1_024));
+        long sequence = fromSequence;
+        while (events.size() < maxEvents) {
+            ChangeEvent event = ring.get((int) (sequence & mask));
+            if (event == null || event.sequence < sequence) {
+                break;
+            }
+            if (event.sequence > sequence) {
+                throw new IllegalStateException("Değişiklik akışında " + sequence
+                        + " numaralı olayın üzerine yazıldı, en eski olay: " + getOldestSequence());
+            }
+            events.add(event);
+            sequence++;
+        }
+        return events;
+    }
+
+    /**
+     * Verilen son sıra numarasından sonraki olayları okur; tüketicinin devam etmesi için kısayol
+     */
+    public List<ChangeEvent> readAfter(long lastSeenSequence, int maxEvents) {
+        return read(lastSeenSequence + 1, maxEvents);
+    }
+
+    /**
+     * Sıra numarası alınmış son olay; 0 ise henüz olay yoktur
+     */
+    public long getLastSequence() {
+        return lastSequence.get();
+    }
+
+    /**
+     * Halkada hâlâ okunabilecek en eski sıra numarası
+     */
+    public long getOldestSequence() {
+        return Math.max(1, lastSequence.get() - mask);
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Değişiklik türü
+     */
+    public enum ChangeType {
+        INSERT,
+        UPDATE,
+        DELETE,
+        /** Tüm kullanıcılar silindi; kullanıcı alanları boştur */
+        ALL_DELETED
+    }
+
+    /**
+     * Tek bir değişiklik olayı
+     * Kullanıcı, olay anındaki durumun bir kopyasıdır; silmede silinen son durumdur
+     */
+    public static class ChangeEvent {
+        private final long sequence;
+        private final ChangeType type;
+        private final Long userId;
+        private final User user;
+        private final long version;
+
+        public ChangeEvent(long sequence, ChangeType type, Long userId, User user, long version) {
+            this.sequence = sequence;
+            this.type = type;
+            this.userId = userId;
+            this.user = user;
+            this.version = version;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public ChangeType getType() {
+            return type;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public User getUser() {
+            return user;
+        }
+
+        /**
+         * Olaydaki kullanıcı sürümü; silmede silinen sürümün bir fazlası
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public String toString() {
+            return "ChangeEvent{" +
+                    "sequence=" + sequence +
+                    ", type=" + type +
+                    ", userId=" + userId +
+                    ", version=" + version +
+                    '}';
+        }
+    }
+}
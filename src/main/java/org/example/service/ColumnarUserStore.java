@@ -0,0 +1,731 @@
+package org.example.service;
+
+import org.example.model.User;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Kullanıcıları sütun bazlı (columnar) ilkel dizilerde tutan kompakt depo
+ *
+ * Her kullanıcı bir satırdır: ID, kayıt zamanı (UTC epoch saniye) ve sürüm long dizilerinde,
+ * aktiflik ve canlılık bitset'lerde, kullanıcı adı, email ve şifre ise tek bir UTF-8 byte
+ * alanında (arena) uzunluk önekiyle tutulur; satır yalnızca alandaki konumları saklar.
+ * Email araması, email baytları üzerinde açık adreslemeli bir int tablosuyla yapılır.
+ * Böylece kullanıcı başına User, Long, String ve LocalDateTime nesneleri oluşmaz.
+ *
+ * Okumalar User nesnesi yerine satırı gösteren salt okunur flyweight görünümler (UserView)
+ * döndürür; alanlar her erişimde sütunlardan okunur. Görünüm User'dan türemez ve değiştirici
+ * metodu yoktur; güncelleme için UserView.toUser ile kopya alınıp updateUser çağrılır. Kayıt zamanı saniyeye
+ * yuvarlanır. Silinen satırlar ve güncellemede eskiyen metinler, yarıdan fazlası boşa
+ * çıktığında sıkıştırılarak geri kazanılır. Yazmalar yazma kilidiyle, okumalar okuma
+ * kilidiyle yapılır.
+ */
+public class ColumnarUserStore {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NULL_STRING = -1;
+    private static final long NO_CREATED_AT = Long.MIN_VALUE;
+    // Email tablosunda silinmiş slot; boş slot 0'dır, dolu slot satır + 1
+    private static final int TOMBSTONE = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] createdAtSeconds = new long[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private int[] usernames = new int[INITIAL_CAPACITY];
+    private int[] emails = new int[INITIAL_CAPACITY];
+    private int[] passwords = new int[INITIAL_CAPACITY];
+    private long[] activeBits = new long[bitWords(INITIAL_CAPACITY)];
+    private long[] liveBits = new long[bitWords(INITIAL_CAPACITY)];
+    private int rowCount;
+    private int liveCount;
+
+    private byte[] arena = new byte[INITIAL_CAPACITY * 32];
+    private int arenaSize;
+    private int arenaGarbage;
+
+    private int[] emailSlots = new int[INITIAL_CAPACITY * 2];
+    private int emailSlotsUsed;
+
+    private long nextId = 1;
+    // Sıkıştırmada satırlar yer değiştirir; görünümler satırlarını yeniden bulur
+    private long layoutEpoch;
+
+    /**
+     * Kullanıcıyı kaydeder; verilen nesneye ID ve sürüm yazılır, nesnenin kendisi saklanmaz
+     */
+    public User saveUser(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("Kullanıcı null olamaz");
+        }
+        if (user.getUsername() == null || user.getUsername().trim().isEmpty()) {
+            throw new IllegalArgumentException("Kullanıcı adı boş olamaz");
+        }
+        if (user.getEmail() == null || !user.hasValidEmail()) {
+            throw new IllegalArgumentException("Geçerli bir email adresi gerekli");
+        }
+
+        byte[] email = utf8(user.getEmail());
+        lock.writeLock().lock();
+        try {
+            if (findEmailRow(email) >= 0) {
+                throw new IllegalStateException("Bu email adresi zaten kayıtlı");
+            }
+            ensureRowCapacity(rowCount + 1);
+            // Tablo satır canlı işaretlenmeden büyütülür; aksi halde yeniden oluşturma satırı bir kez daha ekler
+            ensureEmailSlotCapacity();
+            int row = rowCount++;
+            long id = nextId++;
+            ids[row] = id;
+            createdAtSeconds[row] = user.getCreatedAt() != null
+                    ? user.getCreatedAt().toEpochSecond(ZoneOffset.UTC) : NO_CREATED_AT;
+            versions[row] = 0L;
+            usernames[row] = writeString(user.getUsername());
+            emails[row] = writeBytes(email);
+            passwords[row] = writeString(user.getPassword());
+            setBit(activeBits, row, user.isActive());
+            setBit(liveBits, row, true);
+            liveCount++;
+            insertEmailSlot(row);
+
+            user.setId(id);
+            user.setVersion(0L);
+            return user;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ID'ye göre kullanıcı görünümü döndürür
+     */
+    public Optional<UserView> findUserById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            int row = rowOf(id);
+            return row >= 0 ? Optional.of(new UserView(id, row, layoutEpoch)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Email adresine göre kullanıcı görünümü döndürür
+     */
+    public Optional<UserView> findUserByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        byte[] bytes = utf8(email);
+        lock.readLock().lock();
+        try {
+            int row = findEmailRow(bytes);
+            return row >= 0 ? Optional.of(new UserView(ids[row], row, layoutEpoch)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Email adresinin kayıtlı olup olmadığını kontrol eder
+     */
+    public boolean isEmailExists(String email) {
+        if (email == null) {
+            return false;
+        }
+        byte[] bytes = utf8(email);
+        lock.readLock().lock();
+        try {
+            return findEmailRow(bytes) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Kullanıcıyı günceller; sürüm saklanan sürümle aynı olmalıdır (DatabaseService ile aynı kurallar)
+     */
+    public User updateUser(User user) {
+        if (user == null || user.getId() == null) {
+            throw new IllegalArgumentException("Kullanıcı veya ID null olamaz");
+        }
+
+        byte[] newEmail = user.getEmail() != null ? utf8(user.getEmail()) : null;
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(user.getId());
+            if (row < 0) {
+                throw new IllegalStateException("Güncellenecek kullanıcı bulunamadı");
+            }
+            if (versions[row] != user.getVersion()) {
+                throw new ConcurrentModificationException(
+                        "Kullanıcı başka bir işlem tarafından güncellendi, sürüm: " + versions[row]);
+            }
+            boolean emailChanged = !Arrays.equals(readBytes(emails[row]), newEmail);
+            if (emailChanged && newEmail != null && findEmailRow(newEmail) >= 0) {
+                throw new IllegalStateException("Bu email adresi zaten kayıtlı");
+            }
+
+            if (emailChanged) {
+                ensureEmailSlotCapacity();
+                removeEmailSlot(row);
+                arenaGarbage += encodedLength(emails[row]);
+                emails[row] = writeBytes(newEmail);
+                insertEmailSlot(row);
+            }
+            usernames[row] = replaceString(usernames[row], user.getUsername());
+            passwords[row] = replaceString(passwords[row], user.getPassword());
+            createdAtSeconds[row] = user.getCreatedAt() != null
+                    ? user.getCreatedAt().toEpochSecond(ZoneOffset.UTC) : NO_CREATED_AT;
+            setBit(activeBits, row, user.isActive());
+            versions[row]++;
+            user.setVersion(versions[row]);
+            compactIfWasteful();
+            return user;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Kullanıcıyı siler
+     */
+    public boolean deleteUser(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(userId);
+            if (row < 0) {
+                return false;
+            }
+            removeEmailSlot(row);
+            setBit(liveBits, row, false);
+            setBit(activeBits, row, false);
+            liveCount--;
+            arenaGarbage += encodedLength(usernames[row]) + encodedLength(emails[row]) + encodedLength(passwords[row]);
+            compactIfWasteful();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int getUserCount() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tüm kullanıcıları ID sırasıyla görünüm olarak getirir
+     * Liste çağrı anındaki ID'leri tutar; görünümler erişildikçe oluşturulur
+     */
+    public List<UserView> getAllUsers() {
+        return usersMatching(false);
+    }
+
+    /**
+     * Aktif kullanıcıları ID sırasıyla görünüm olarak getirir
+     */
+    public List<UserView> getActiveUsers() {
+        return usersMatching(true);
+    }
+
+    /**
+     * Dizilerin boş kapasitesini bırakır (örneğin toplu yüklemeden sonra)
+     */
+    public void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            compact(Math.max(liveCount, 1));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sütunların, metin alanının ve email tablosunun kapladığı yaklaşık bayt
+     */
+    public long getDataBytes() {
+        lock.readLock().lock();
+        try {
+            return 8L * (ids.length + createdAtSeconds.length + versions.length + activeBits.length + liveBits.length)
+                    + 4L * (usernames.length + emails.length + passwords.length + emailSlots.length)
+                    + arena.length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<UserView> usersMatching(boolean activeOnly) {
+        long[] userIds;
+        int[] rows;
+        long epoch;
+        lock.readLock().lock();
+        try {
+            userIds = new long[liveCount];
+            rows = new int[liveCount];
+            int size = 0;
+            for (int row = 0; row < rowCount; row++) {
+                if (getBit(activeOnly ? activeBits : liveBits, row)) {
+                    userIds[size] = ids[row];
+                    rows[size++] = row;
+                }
+            }
+            if (size != userIds.length) {
+                userIds = Arrays.copyOf(userIds, size);
+                rows = Arrays.copyOf(rows, size);
+            }
+            epoch = layoutEpoch;
+        } finally {
+            lock.readLock().unlock();
+        }
+        long[] snapshotIds = userIds;
+        int[] snapshotRows = rows;
+        return new AbstractList<>() {
+            @Override
+            public UserView get(int index) {
+                return new UserView(snapshotIds[index], snapshotRows[index], epoch);
+            }
+
+            @Override
+            public int size() {
+                return snapshotIds.length;
+            }
+        };
+    }
+
+    // Satırlar ID sırasıyla eklenir, bu yüzden ID sütunu sıralıdır
+    private int rowOf(long id) {
+        int row = Arrays.binarySearch(ids, 0, rowCount, id);
+        return row >= 0 && getBit(liveBits, row) ? row : -1;
+    }
+
+    private int findEmailRow(byte[] email) {
+        int mask = emailSlots.length - 1;
+        int slot = hash(email, 0, email.length) & mask;
+        while (true) {
+            int entry = emailSlots[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (entry != TOMBSTONE && emailEquals(entry - 1, email)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Bir ekleme daha yapılabilsin diye email tablosunu gerekirse büyütür
+     * Satırın durumu değişmeden önce çağrılmalıdır: yeniden oluşturma tüm canlı satırları ekler,
+     * sonrasında insertEmailSlot aynı satırı ikinci kez eklerdi
+     */
+    private void ensureEmailSlotCapacity() {
+        if ((emailSlotsUsed + 1) * 2 > emailSlots.length) {
+            rebuildEmailSlots(emailSlots.length * 2);
+        }
+    }
+
+    // Yer olduğu varsayılır; bkz. ensureEmailSlotCapacity
+    private void insertEmailSlot(int row) {
+        if (emails[row] == NULL_STRING) {
+            return;
+        }
+        int mask = emailSlots.length - 1;
+        int slot = emailHash(row) & mask;
+        while (emailSlots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        emailSlots[slot] = row + 1;
+        emailSlotsUsed++;
+    }
+
+    // Slot mezar taşıyla işaretlenir; mezar taşları yeniden oluşturmada temizlenir
+    private void removeEmailSlot(int row) {
+        if (emails[row] == NULL_STRING) {
+            return;
+        }
+        int mask = emailSlots.length - 1;
+        int slot = emailHash(row) & mask;
+        while (emailSlots[slot] != row + 1) {
+            slot = (slot + 1) & mask;
+        }
+        emailSlots[slot] = TOMBSTONE;
+    }
+
+    private void rebuildEmailSlots(int capacity) {
+        emailSlots = new int[capacity];
+        emailSlotsUsed = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (getBit(liveBits, row)) {
+                insertEmailSlot(row);
+            }
+        }
+    }
+
+    private boolean emailEquals(int row, byte[] email) {
+        int offset = emails[row];
+        if (offset == NULL_STRING) {
+            return false;
+        }
+        int length = readLength(offset);
+        int start = offset + lengthBytes(length);
+        return Arrays.equals(arena, start, start + length, email, 0, email.length);
+    }
+
+    private int emailHash(int row) {
+        int offset = emails[row];
+        int length = readLength(offset);
+        return hash(arena, offset + lengthBytes(length), length);
+    }
+
+    private static int hash(byte[] bytes, int from, int length) {
+        int h = 1;
+        for (int i = from; i < from + length; i++) {
+            h = 31 * h + bytes[i];
+        }
+        // Doğrusal yoklamada kümelenmeyi azaltmak için karıştırılır
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void compactIfWasteful() {
+        int deadRows = rowCount - liveCount;
+        if ((deadRows > 64 && deadRows * 2 > rowCount) || (arenaGarbage > 4_096 && arenaGarbage * 2 > arenaSize)) {
+            compact(Math.max(liveCount * 3 / 2, INITIAL_CAPACITY));
+        }
+    }
+
+    // Canlı satırları sırayla yeni dizilere ve yeni metin alanına kopyalar
+    private void compact(int capacity) {
+        long[] newIds = new long[capacity];
+        long[] newCreated = new long[capacity];
+        long[] newVersions = new long[capacity];
+        int[] newUsernames = new int[capacity];
+        int[] newEmails = new int[capacity];
+        int[] newPasswords = new int[capacity];
+        long[] newActive = new long[bitWords(capacity)];
+        long[] newLive = new long[bitWords(capacity)];
+        byte[] oldArena = arena;
+        arena = new byte[Math.max(arenaSize - arenaGarbage, 16)];
+        arenaSize = 0;
+
+        int target = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (!getBit(liveBits, row)) {
+                continue;
+            }
+            newIds[target] = ids[row];
+            newCreated[target] = createdAtSeconds[row];
+            newVersions[target] = versions[row];
+            newUsernames[target] = copyString(oldArena, usernames[row]);
+            newEmails[target] = copyString(oldArena, emails[row]);
+            newPasswords[target] = copyString(oldArena, passwords[row]);
+            setBit(newActive, target, getBit(activeBits, row));
+            setBit(newLive, target, true);
+            target++;
+        }
+
+        ids = newIds;
+        createdAtSeconds = newCreated;
+        versions = newVersions;
+        usernames = newUsernames;
+        emails = newEmails;
+        passwords = newPasswords;
+        activeBits = newActive;
+        liveBits = newLive;
+        rowCount = target;
+        arenaGarbage = 0;
+        rebuildEmailSlots(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, liveCount)) * 4));
+        layoutEpoch++;
+    }
+
+    private void ensureRowCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        createdAtSeconds = Arrays.copyOf(createdAtSeconds, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        usernames = Arrays.copyOf(usernames, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        passwords = Arrays.copyOf(passwords, capacity);
+        activeBits = Arrays.copyOf(activeBits, bitWords(capacity));
+        liveBits = Arrays.copyOf(liveBits, bitWords(capacity));
+    }
+
+    private int replaceString(int offset, String value) {
+        if (Objects.equals(readString(offset), value)) {
+            return offset;
+        }
+        arenaGarbage += encodedLength(offset);
+        return writeString(value);
+    }
+
+    private int writeString(String value) {
+        return value == null ? NULL_STRING : writeBytes(utf8(value));
+    }
+
+    // Uzunluk 7 bitlik gruplar halinde (varint) önek olarak yazılır
+    private int writeBytes(byte[] bytes) {
+        if (bytes == null) {
+            return NULL_STRING;
+        }
+        int needed = lengthBytes(bytes.length) + bytes.length;
+        if (arenaSize + needed > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arenaSize + needed, arena.length + (arena.length >> 1)));
+        }
+        int offset = arenaSize;
+        int length = bytes.length;
+        while (length >= 0x80) {
+            arena[arenaSize++] = (byte) (length | 0x80);
+            length >>>= 7;
+        }
+        arena[arenaSize++] = (byte) length;
+        System.arraycopy(bytes, 0, arena, arenaSize, bytes.length);
+        arenaSize += bytes.length;
+        return offset;
+    }
+
+    private int copyString(byte[] source, int offset) {
+        if (offset == NULL_STRING) {
+            return NULL_STRING;
+        }
+        int needed = encodedLength(source, offset);
+        if (arenaSize + needed > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arenaSize + needed, arena.length + (arena.length >> 1)));
+        }
+        System.arraycopy(source, offset, arena, arenaSize, needed);
+        int copied = arenaSize;
+        arenaSize += needed;
+        return copied;
+    }
+
+    private String readString(int offset) {
+        if (offset == NULL_STRING) {
+            return null;
+        }
+        int length = readLength(offset);
+        return new String(arena, offset + lengthBytes(length), length, StandardCharsets.UTF_8);
+    }
+
+    private byte[] readBytes(int offset) {
+        if (offset == NULL_STRING) {
+            return null;
+        }
+        int length = readLength(offset);
+        int start = offset + lengthBytes(length);
+        return Arrays.copyOfRange(arena, start, start + length);
+    }
+
+    private int readLength(int offset) {
+        return readLength(arena, offset);
+    }
+
+    private static int readLength(byte[] source, int offset) {
+        int length = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = source[offset++];
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return length;
+    }
+
+    private int encodedLength(int offset) {
+        return offset == NULL_STRING ? 0 : encodedLength(arena, offset);
+    }
+
+    private static int encodedLength(byte[] source, int offset) {
+        int length = readLength(source, offset);
+        return lengthBytes(length) + length;
+    }
+
+    private static int lengthBytes(int length) {
+        int bytes = 1;
+        while (length >= 0x80) {
+            length >>>= 7;
+            bytes++;
+        }
+        return bytes;
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int bitWords(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static boolean getBit(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void setBit(long[] bits, int index, boolean value) {
+        if (value) {
+            bits[index >>> 6] |= 1L << index;
+        } else {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Depodaki bir satırı gösteren salt okunur kullanıcı görünümü
+     * User'dan türemez: oluşturulurken zaman damgası veya alan ayrılmaz, yalnızca ID ve satır
+     * ipucu tutulur. Alanlar her erişimde sütunlardan okunur; sıkıştırmadan sonra satır ID ile
+     * yeniden bulunur. Görünüm değişmezdir, thread'ler arasında paylaşılabilir. Kullanıcı
+     * silinmişse okumalar IllegalStateException fırlatır. equals ve hashCode aynı depodaki ID'ye göredir.
+     */
+    public final class UserView {
+        private final long id;
+        private final int row;
+        private final long epoch;
+
+        private UserView(long id, int row, long epoch) {
+            this.id = id;
+            this.row = row;
+            this.epoch = epoch;
+        }
+
+        // Okuma kilidi tutulurken çağrılır
+        private int row() {
+            int current = epoch == layoutEpoch && row >= 0 && row < rowCount && ids[row] == id ? row : rowOf(id);
+            if (current < 0 || !getBit(liveBits, current)) {
+                throw new IllegalStateException("Kullanıcı silinmiş: " + id);
+            }
+            return current;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getUsername() {
+            lock.readLock().lock();
+            try {
+                return readString(usernames[row()]);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        public String getEmail() {
+            lock.readLock().lock();
+            try {
+                return readString(emails[row()]);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        public String getPassword() {
+            lock.readLock().lock();
+            try {
+                return readString(passwords[row()]);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        public boolean isActive() {
+            lock.readLock().lock();
+            try {
+                return getBit(activeBits, row());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        public LocalDateTime getCreatedAt() {
+            lock.readLock().lock();
+            try {
+                long seconds = createdAtSeconds[row()];
+                return seconds == NO_CREATED_AT ? null : LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        public long getVersion() {
+            lock.readLock().lock();
+            try {
+                return versions[row()];
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Görünümün o anki durumunun değiştirilebilir kopyası; tüm alanlar tek okuma kilidi altında okunur
+         */
+        public User toUser() {
+            lock.readLock().lock();
+            try {
+                int current = row();
+                User user = new User(readString(usernames[current]), readString(emails[current]),
+                        readString(passwords[current]));
+                user.setId(id);
+                user.setActive(getBit(activeBits, current));
+                long seconds = createdAtSeconds[current];
+                user.setCreatedAt(seconds == NO_CREATED_AT ? null : LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC));
+                user.setVersion(versions[current]);
+                return user;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        public boolean hasValidEmail() {
+            String email = getEmail();
+            return email != null && email.contains("@") && email.contains(".");
+        }
+
+        public String getDisplayName() {
+            String username = getUsername();
+            return username != null ? username : "Unknown User";
+        }
+
+        private ColumnarUserStore store() {
+            return ColumnarUserStore.this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof UserView)) return false;
+            UserView view = (UserView) o;
+            return id == view.id && store() == view.store();
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(id);
+        }
+
+        @Override
+        public String toString() {
+            return "UserView{id=" + id + '}';
+        }
+    }
+}
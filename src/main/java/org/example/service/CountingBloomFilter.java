@@ -0,0 +1,154 @@
+package org.example.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Silmeyi destekleyen (counting) Bloom filtresi
+ *
+ * Her konumda bit yerine 4 bitlik bir sayaç vardır; ekleme k sayacı artırır, silme azaltır.
+ * mightContain false dönerse eleman kesinlikle yoktur; true dönerse eleman büyük olasılıkla
+ * vardır. 15'e ulaşan sayaç bir daha azaltılmaz, böylece taşma hiçbir zaman yanlış negatife
+ * yol açmaz. Sayaçlar long'lara paketlenir (long başına 16 sayaç) ve CAS ile güncellenir,
+ * bu yüzden filtre kilitsiz ve thread-safe'dir. Kapasite aşıldıkça yanlış pozitif oranı artar;
+ * büyütmek için daha büyük bir filtre oluşturup elemanları yeniden eklemek gerekir.
+ */
+class CountingBloomFilter {
+    private static final int COUNTER_BITS = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+    private static final long MAX_COUNT = (1L << COUNTER_BITS) - 1;
+
+    private final AtomicLongArray words;
+    private final long counterCount;
+    private final int hashCount;
+    private final int capacity;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Beklenen eleman sayısı ve hedef yanlış pozitif oranına göre boyutlandırır
+     */
+    CountingBloomFilter(int capacity, double falsePositiveRate) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Kapasite pozitif olmalı");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Yanlış pozitif oranı 0 ile 1 arasında olmalı");
+        }
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long counters = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+        this.words = new AtomicLongArray(wordCount);
+        this.counterCount = (long) wordCount * COUNTERS_PER_WORD;
+        this.hashCount = Math.max(1, (int) Math.round((double) counterCount / capacity * Math.log(2)));
+        this.capacity = capacity;
+    }
+
+    /**
+     * Elemanı ekler
+     */
+    void add(String element) {
+        long hash = hash(element);
+        for (int i = 0; i < hashCount; i++) {
+            increment(counter(hash, i));
+        }
+        size.incrementAndGet();
+    }
+
+    /**
+     * Daha önce eklenmiş bir elemanı çıkarır; eklenmemiş eleman çıkarılmamalıdır
+     */
+    void remove(String element) {
+        long hash = hash(element);
+        for (int i = 0; i < hashCount; i++) {
+            decrement(counter(hash, i));
+        }
+        size.decrementAndGet();
+    }
+
+    /**
+     * false ise eleman kesinlikle yoktur, true ise büyük olasılıkla vardır
+     */
+    boolean mightContain(String element) {
+        long hash = hash(element);
+        for (int i = 0; i < hashCount; i++) {
+            long counter = counter(hash, i);
+            long word = words.get((int) (counter / COUNTERS_PER_WORD));
+            if (((word >>> shift(counter)) & MAX_COUNT) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Filtredeki eleman sayısı
+     */
+    int size() {
+        return size.get();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Mevcut doluluk için beklenen yanlış pozitif oranı: (1 - e^(-kn/m))^k
+     */
+    double expectedFalsePositiveRate() {
+        double fill = 1 - Math.exp(-(double) hashCount * size.get() / counterCount);
+        return Math.pow(fill, hashCount);
+    }
+
+    private void increment(long counter) {
+        int index = (int) (counter / COUNTERS_PER_WORD);
+        int shift = shift(counter);
+        while (true) {
+            long word = words.get(index);
+            if (((word >>> shift) & MAX_COUNT) == MAX_COUNT) {
+                return;
+            }
+            if (words.compareAndSet(index, word, word + (1L << shift))) {
+                return;
+            }
+        }
+    }
+
+    private void decrement(long counter) {
+        int index = (int) (counter / COUNTERS_PER_WORD);
+        int shift = shift(counter);
+        while (true) {
+            long word = words.get(index);
+            long count = (word >>> shift) & MAX_COUNT;
+            // Doymuş sayacın gerçek değeri bilinmez, azaltmak yanlış negatif üretebilir
+            if (count == 0 || count == MAX_COUNT) {
+                return;
+            }
+            if (words.compareAndSet(index, word, word - (1L << shift))) {
+                return;
+            }
+        }
+    }
+
+    private static int shift(long counter) {
+        return (int) (counter % COUNTERS_PER_WORD) * COUNTER_BITS;
+    }
+
+    private long counter(long hash, int i) {
+        // Kirsch-Mitzenmacher: iki hash yarısından k farklı hash türetilir
+        long combined = (hash & 0xffffffffL) + i * (hash >>> 32);
+        return Math.floorMod(combined, counterCount);
+    }
+
+    private static long hash(String element) {
+        // FNV-1a ve son karıştırma; String.hashCode 32 bit olduğu için kullanılmaz
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < element.length(); i++) {
+            h ^= element.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
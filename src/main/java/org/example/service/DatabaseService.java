@@ -1,15 +1,109 @@
 package org.example.service;
 
 import org.example.model.User;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Veritabanı işlemlerini simüle eden service sınıfı
  * Bu sınıf test amaçlı basit bir in-memory database simülasyonu yapar
+ *
+ * Veri işlemleri kilitsizdir. Güncellemeler optimistic locking ile yapılır: her kaydın
+ * bir sürüm numarası vardır, updateUser yalnızca okunan sürüm hâlâ günceldeyse yazar ve
+ * sürümü artırır, aksi halde ConcurrentModificationException fırlatır. Email benzersizliği
+ * ayrı bir email → ID indeksi üzerinden atomik olarak korunur.
+ *
+ * Kullanıcılar değiştirilemez PersistentLongMap'lerde tutulur (tüm kullanıcılar ve yalnızca
+ * aktifler); her yazma yeni bir sürüm oluşturup tek bir referansı CAS ile değiştirir.
+ * Okumalar o anki sürümü alır, bu yüzden getAllUsers ve getActiveUsers kopyalama yapmadan
+ * O(1) maliyetle tutarlı bir anlık görüntü döndürür. Büyük veri için ID'ye göre
+ * sayfalama (cursor) ve tembel (lazy) Stream API'leri sunulur. Kayıt zamanına göre
+ * aralık sorguları, epoch milisaniye ile anahtarlanmış sıralı bir ikincil indeksten yapılır.
+ * Kullanıcı adı önek aramaları (autocomplete) küçük harfe çevrilmiş kullanıcı adları
+ * üzerinde tutulan bir radix ağacından yapılır.
+ *
+ * Email varlık kontrolleri önce silmeyi destekleyen bir Bloom filtresinden geçer; filtre
+ * "yok" derse indekse hiç bakılmaz. Filtreye email indeksten önce eklenir ve indeksten
+ * çıktıktan sonra çıkarılır, bu yüzden kayıtlı bir email için filtre asla "yok" demez.
+ * Kapasite aşıldığında filtre iki katı boyutla indeksten yeniden oluşturulur.
+ *
+ * Kullanıcılar ID hash'ine göre bağımsız shard'lara bölünebilir. Her shard kendi tablo ve
+ * indeks sürümünü kendi referansında tutar, bu yüzden farklı shard'lara yazan thread'ler
+ * aynı CAS için yarışmaz. Email benzersizliği shard'lardan bağımsız, ortak email indeksinde
+ * kayıt yayınlanmadan önce rezervasyonla korunur. Tüm kullanıcıları kapsayan okumalar
+ * (listeler, sayfalar, sayımlar, aramalar) her shard'ın anlık görüntüsünü alıp sonuçları
+ * ID (veya sorgunun) sırasıyla birleştirir; shard'lar arası anlık görüntü atomik değildir.
+ * Varsayılan tek shard'dır ve listeler kopyalamadan O(1) döner. ID'ler IdBlockAllocator'dan
+ * thread başına bloklar halinde alınır, böylece kayıtlar ortak bir sayaç için yarışmaz.
+ * Her başarılı yazma, getChangeFeed ile okunabilen sıra numaralı değişiklik akışına yayınlanır.
  */
 public class DatabaseService {
-    private final Map<Long, User> users = new HashMap<>();
-    private long nextUserId = 1L;
+    private static final Comparator<StoredUser> BY_ID = Comparator.comparingLong(stored -> stored.id);
+    private static final Comparator<StoredUser> BY_CREATED_AT =
+            Comparator.<StoredUser>comparingLong(stored -> stored.createdAtKey).thenComparing(BY_ID);
+    private static final Comparator<StoredUser> BY_USERNAME =
+            Comparator.<StoredUser, String>comparing(stored -> stored.usernameKey).thenComparing(BY_ID);
+
+    private final AtomicReference<UserTables>[] shards;
+    private final Map<String, Long> emailIndex = new ConcurrentHashMap<>();
+    private final IdBlockAllocator idAllocator;
+    private final List<UserChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private final ChangeFeed changeFeed = new ChangeFeed();
+
+    static final int EMAIL_FILTER_INITIAL_CAPACITY = 1_024;
+    static final double EMAIL_FILTER_FALSE_POSITIVE_RATE = 0.01;
+    // Filtre ve indeks değişiklikleri okuma kilidiyle, yeniden oluşturma yazma kilidiyle yapılır
+    private final ReentrantReadWriteLock emailFilterLock = new ReentrantReadWriteLock();
+    private volatile CountingBloomFilter emailFilter =
+            new CountingBloomFilter(EMAIL_FILTER_INITIAL_CAPACITY, EMAIL_FILTER_FALSE_POSITIVE_RATE);
+    private final LongAdder emailLookups = new LongAdder();
+    private final LongAdder emailFilterRejects = new LongAdder();
+    private final LongAdder emailFilterFalsePositives = new LongAdder();
+
+    public DatabaseService() {
+        this(1);
+    }
+
+    public DatabaseService(int shardCount) {
+        this(shardCount, new IdBlockAllocator());
+    }
+
+    /**
+     * Kullanıcıları ID hash'ine göre verilen sayıda shard'a bölen veritabanı oluşturur
+     * ID'ler verilen dağıtıcıdan bloklar halinde alınır
+     */
+    public DatabaseService(int shardCount, IdBlockAllocator idAllocator) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard sayısı pozitif olmalı");
+        }
+        if (idAllocator == null) {
+            throw new IllegalArgumentException("ID dağıtıcısı null olamaz");
+        }
+        this.idAllocator = idAllocator;
+        shards = newShards(shardCount);
+    }
+
+    /**
+     * Boş tablolarla başlayan shard dizisini oluşturur
+     * Generic dizi oluşturulamadığından ham dizi tek noktada tipli diziye çevrilir
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static AtomicReference<UserTables>[] newShards(int shardCount) {
+        AtomicReference<UserTables>[] shards = new AtomicReference[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new AtomicReference<>(UserTables.EMPTY);
+        }
+        return shards;
+    }
 
     /**
      * Kullanıcıyı veritabanına kaydeder
@@ -27,13 +121,22 @@ public class DatabaseService {
             throw new IllegalArgumentException("Geçerli bir email adresi gerekli");
         }
 
-        // Email zaten kayıtlı mı kontrol et
+        // Email zaten kayıtlı mı kontrol et (ID harcamadan erken çıkış)
         if (isEmailExists(user.getEmail())) {
             throw new IllegalStateException("Bu email adresi zaten kayıtlı");
         }
 
-        user.setId(nextUserId++);
-        users.put(user.getId(), user);
+        long id = idAllocator.nextId();
+        // Eşzamanlı kayıtlarda emaili yalnızca biri alabilir
+        if (reserveEmail(user.getEmail(), id) != null) {
+            throw new IllegalStateException("Bu email adresi zaten kayıtlı");
+        }
+
+        user.setId(id);
+        user.setVersion(0L);
+        StoredUser stored = new StoredUser(user, user.getEmail(), user.isActive(), 0L);
+        shard(id).updateAndGet(current -> current.with(id, stored));
+        changeFeed.publish(ChangeFeed.ChangeType.INSERT, id, new User(user), 0L);
         return user;
     }
 
@@ -44,7 +147,8 @@ public class DatabaseService {
         if (id == null) {
             return Optional.empty();
         }
-        return Optional.ofNullable(users.get(id));
+        StoredUser stored = shard(id).get().all.get(id);
+        return stored != null ? Optional.of(stored.user) : Optional.empty();
     }
 
     /**
@@ -54,41 +158,202 @@ public class DatabaseService {
         if (email == null) {
             return Optional.empty();
         }
-        
-        return users.values().stream()
-                .filter(user -> email.equals(user.getEmail()))
-                .findFirst();
+
+        Long id = emailIndex.get(email);
+        StoredUser stored = id != null ? shard(id).get().all.get(id) : null;
+        // İndeks kaydı kullanıcı kaydından önce eklenir ve sonra silinir
+        if (stored == null || !email.equals(stored.email)) {
+            return Optional.empty();
+        }
+        return Optional.of(stored.user);
     }
 
     /**
-     * Tüm kullanıcıları getirir
+     * Tüm kullanıcıları ID sırasıyla getirir
+     * Dönen liste değiştirilemez bir anlık görüntüdür ve sonraki yazmalardan etkilenmez;
+     * tek shard'da kopyalanmaz, birden fazla shard'da shard'lar ID sırasıyla birleştirilir
      */
     public List<User> getAllUsers() {
-        return new ArrayList<>(users.values());
+        return snapshotList(tables -> tables.all);
     }
 
     /**
-     * Aktif kullanıcıları getirir
+     * Aktif kullanıcıları ID sırasıyla getirir
+     * Dönen liste değiştirilemez bir anlık görüntüdür ve sonraki yazmalardan etkilenmez
      */
     public List<User> getActiveUsers() {
-        return users.values().stream()
-                .filter(User::isActive)
-                .toList();
+        return snapshotList(tables -> tables.active);
+    }
+
+    /**
+     * Verilen ID'den sonraki kullanıcıları en fazla limit kadar getirir
+     * İlk sayfa için afterId null verilir; sonraki sayfa için dönen cursor kullanılır
+     */
+    public UserPage getUsersPage(Long afterId, int limit) {
+        return page(tables -> tables.all, afterId, limit);
+    }
+
+    /**
+     * Verilen ID'den sonraki aktif kullanıcıları en fazla limit kadar getirir
+     */
+    public UserPage getActiveUsersPage(Long afterId, int limit) {
+        return page(tables -> tables.active, afterId, limit);
+    }
+
+    /**
+     * Tüm kullanıcıları ID sırasıyla tembel olarak dolaşan stream döndürür
+     * Stream çağrı anındaki anlık görüntüyü dolaşır, listeye dökmez; parallel() ile bölünebilir
+     */
+    public Stream<User> streamUsers() {
+        return stream(tables -> tables.all);
+    }
+
+    /**
+     * Aktif kullanıcıları ID sırasıyla tembel olarak dolaşan stream döndürür
+     */
+    public Stream<User> streamActiveUsers() {
+        return stream(tables -> tables.active);
+    }
+
+    /**
+     * Kayıt zamanı [from, to) aralığında olan kullanıcıları kayıt zamanı sırasıyla getirir
+     * (aynı milisaniyede kaydolanlar ID sırasıyla döner)
+     */
+    public List<User> findUsersCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        long fromKey = createdAtKey(from);
+        long toKey = createdAtKey(to);
+        List<List<StoredUser>> perShard = new ArrayList<>(shards.length);
+        for (AtomicReference<UserTables> shard : shards) {
+            List<StoredUser> matches = new ArrayList<>();
+            Iterator<PersistentLongMap<StoredUser>> buckets = shard.get().byCreatedAt.iterator(fromKey, toKey);
+            while (buckets.hasNext()) {
+                Iterator<StoredUser> users = buckets.next().iterator(0);
+                while (users.hasNext()) {
+                    StoredUser stored = users.next();
+                    if (stored.isCreatedBetween(from, to)) {
+                        matches.add(stored);
+                    }
+                }
+            }
+            perShard.add(matches);
+        }
+        return merge(perShard, BY_CREATED_AT, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Kayıt zamanı [from, to) aralığında olan kullanıcı sayısını döndürür
+     * Aralığın içinde kalan milisaniye kovaları kullanıcılara bakılmadan boyutlarıyla sayılır
+     */
+    public int countUsersCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        long fromKey = createdAtKey(from);
+        long toKey = createdAtKey(to);
+        int count = 0;
+        for (AtomicReference<UserTables> shard : shards) {
+            count += countCreatedBetween(shard.get(), from, to, fromKey, toKey);
+        }
+        return count;
+    }
+
+    private static int countCreatedBetween(UserTables tables, LocalDateTime from, LocalDateTime to,
+                                           long fromKey, long toKey) {
+        int count = 0;
+        Iterator<PersistentLongMap<StoredUser>> buckets = tables.byCreatedAt.iterator(fromKey, toKey);
+        while (buckets.hasNext()) {
+            PersistentLongMap<StoredUser> bucket = buckets.next();
+            Iterator<StoredUser> users = bucket.iterator(0);
+            long bucketKey = users.next().createdAtKey;
+            if (bucketKey != fromKey && bucketKey != toKey) {
+                count += bucket.size();
+                continue;
+            }
+            // Sınırdaki kovalarda tam zaman karşılaştırması gerekir
+            for (StoredUser stored : bucket.values(Function.identity())) {
+                if (stored.isCreatedBetween(from, to)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Kullanıcı adı verilen önekle başlayan kullanıcıları en fazla limit kadar getirir
+     * Arama büyük/küçük harfe duyarsızdır; sonuçlar kullanıcı adına göre sözlük sırasıyla döner
+     */
+    public List<User> findUsersByUsernamePrefix(String prefix, int limit) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("Önek null olamaz");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Sonuç limiti pozitif olmalı");
+        }
+        String key = usernameKey(prefix);
+        List<List<StoredUser>> perShard = new ArrayList<>(shards.length);
+        for (AtomicReference<UserTables> shard : shards) {
+            perShard.add(shard.get().byUsername.findByPrefix(key, limit));
+        }
+        return merge(perShard, BY_USERNAME, limit);
     }
 
     /**
      * Kullanıcıyı günceller
+     *
+     * Kullanıcının sürümü saklanan sürümle aynı olmalıdır; başarılı güncellemede
+     * sürüm bir artırılır ve verilen nesneye de yazılır.
      */
     public User updateUser(User user) {
         if (user == null || user.getId() == null) {
             throw new IllegalArgumentException("Kullanıcı veya ID null olamaz");
         }
 
-        if (!users.containsKey(user.getId())) {
-            throw new IllegalStateException("Güncellenecek kullanıcı bulunamadı");
+        Long id = user.getId();
+        long expectedVersion = user.getVersion();
+        String newEmail = user.getEmail();
+        boolean emailReserved = false;
+        try {
+            while (true) {
+                AtomicReference<UserTables> tables = shard(id);
+                UserTables snapshot = tables.get();
+                StoredUser current = snapshot.all.get(id);
+                if (current == null) {
+                    throw new IllegalStateException("Güncellenecek kullanıcı bulunamadı");
+                }
+                if (current.version != expectedVersion) {
+                    throw new ConcurrentModificationException(
+                            "Kullanıcı başka bir işlem tarafından güncellendi, sürüm: " + current.version);
+                }
+
+                boolean emailChanged = !Objects.equals(current.email, newEmail);
+                if (emailChanged && newEmail != null && !emailReserved) {
+                    Long owner = reserveEmail(newEmail, id);
+                    if (owner != null && !owner.equals(id)) {
+                        throw new IllegalStateException("Bu email adresi zaten kayıtlı");
+                    }
+                    emailReserved = owner == null;
+                }
+
+                // Nesne yayınlanmadan önce sürümü yazılır; CAS başarısızsa geri alınır
+                user.setVersion(expectedVersion + 1);
+                StoredUser next = new StoredUser(user, newEmail, user.isActive(), expectedVersion + 1);
+                if (tables.compareAndSet(snapshot, snapshot.with(id, next))) {
+                    if (emailChanged && current.email != null) {
+                        releaseEmail(current.email, id);
+                    }
+                    break;
+                }
+                user.setVersion(expectedVersion);
+            }
+        } catch (RuntimeException e) {
+            if (emailReserved) {
+                releaseEmail(newEmail, id);
+            }
+            throw e;
         }
 
-        users.put(user.getId(), user);
+        changeFeed.publish(ChangeFeed.ChangeType.UPDATE, id, new User(user), expectedVersion + 1);
+        notifyUserChanged(id);
         return user;
     }
 
@@ -99,29 +364,284 @@ public class DatabaseService {
         if (userId == null) {
             return false;
         }
-        return users.remove(userId) != null;
+        AtomicReference<UserTables> tables = shard(userId);
+        StoredUser removed;
+        while (true) {
+            UserTables snapshot = tables.get();
+            removed = snapshot.all.get(userId);
+            if (removed == null) {
+                return false;
+            }
+            if (tables.compareAndSet(snapshot, snapshot.without(userId))) {
+                break;
+            }
+        }
+        if (removed.email != null) {
+            releaseEmail(removed.email, userId);
+        }
+        // Silme, silinen sürümden bir büyük sürümlü mezar taşı olarak yayınlanır; silinen sürümün
+        // güncelleme olayı silmeden sonra yayınlansa bile "en yüksek sürüm kazanır" tüketicisi silmeyi uygular
+        changeFeed.publish(ChangeFeed.ChangeType.DELETE, userId, new User(removed.user), removed.version + 1);
+        notifyUserChanged(userId);
+        return true;
     }
 
     /**
      * Email adresinin zaten kayıtlı olup olmadığını kontrol eder
      */
     public boolean isEmailExists(String email) {
-        return findUserByEmail(email).isPresent();
+        if (email == null) {
+            return false;
+        }
+        emailLookups.increment();
+        if (!emailFilter.mightContain(email)) {
+            emailFilterRejects.increment();
+            return false;
+        }
+        if (emailIndex.containsKey(email)) {
+            return true;
+        }
+        emailFilterFalsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Email filtresini indeksteki emaillerden, mevcut kayıt sayısına göre boyutlandırarak
+     * yeniden oluşturur (örneğin toplu yüklemeden veya başlangıçtan sonra)
+     */
+    public void rebuildEmailFilter() {
+        emailFilterLock.writeLock().lock();
+        try {
+            rebuildEmailFilter(Math.max(EMAIL_FILTER_INITIAL_CAPACITY, emailIndex.size() * 2));
+        } finally {
+            emailFilterLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Email filtresinin o ana kadarki sorgu istatistikleri
+     */
+    public EmailFilterStats getEmailFilterStats() {
+        CountingBloomFilter filter = emailFilter;
+        return new EmailFilterStats(emailLookups.sum(), emailFilterRejects.sum(), emailFilterFalsePositives.sum(),
+                filter.capacity(), filter.expectedFalsePositiveRate());
     }
 
     /**
      * Veritabanındaki toplam kullanıcı sayısını döndürür
      */
     public int getUserCount() {
-        return users.size();
+        int count = 0;
+        for (AtomicReference<UserTables> shard : shards) {
+            count += shard.get().all.size();
+        }
+        return count;
+    }
+
+    /**
+     * Kullanıcıların bölündüğü shard sayısı
+     */
+    public int getShardCount() {
+        return shards.length;
     }
 
     /**
      * Veritabanını temizler (test amaçlı)
      */
     public void clearAll() {
-        users.clear();
-        nextUserId = 1L;
+        for (AtomicReference<UserTables> shard : shards) {
+            shard.set(UserTables.EMPTY);
+        }
+        emailFilterLock.writeLock().lock();
+        try {
+            emailIndex.clear();
+            emailFilter = new CountingBloomFilter(EMAIL_FILTER_INITIAL_CAPACITY, EMAIL_FILTER_FALSE_POSITIVE_RATE);
+        } finally {
+            emailFilterLock.writeLock().unlock();
+        }
+        idAllocator.reset();
+        changeFeed.publish(ChangeFeed.ChangeType.ALL_DELETED, null, null, 0L);
+        for (UserChangeListener listener : changeListeners) {
+            listener.allUsersRemoved();
+        }
+    }
+
+    /**
+     * Ekleme, güncelleme ve silme olaylarının sıra numaralı akışı
+     * Tüketiciler getAllUsers'ı yoklamak yerine kaldıkları sıra numarasından okur
+     */
+    public ChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    /**
+     * Kullanıcı güncelleme ve silme işlemlerinden haberdar olacak dinleyiciyi ekler
+     * (örneğin cache invalidation için)
+     */
+    public void addUserChangeListener(UserChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Dinleyici null olamaz");
+        }
+        changeListeners.add(listener);
+    }
+
+    // Emaili önce filtreye, sonra indekse ekler; email başkasındaysa sahibini döndürür
+    private Long reserveEmail(String email, long id) {
+        Long owner;
+        emailFilterLock.readLock().lock();
+        try {
+            CountingBloomFilter filter = emailFilter;
+            filter.add(email);
+            owner = emailIndex.putIfAbsent(email, id);
+            if (owner != null) {
+                filter.remove(email);
+            }
+        } finally {
+            emailFilterLock.readLock().unlock();
+        }
+        growEmailFilterIfFull();
+        return owner;
+    }
+
+    // Emaili önce indeksten, sonra filtreden çıkarır; yalnızca ID emailin sahibiyse
+    private void releaseEmail(String email, long id) {
+        emailFilterLock.readLock().lock();
+        try {
+            if (emailIndex.remove(email, id)) {
+                emailFilter.remove(email);
+            }
+        } finally {
+            emailFilterLock.readLock().unlock();
+        }
+    }
+
+    private void growEmailFilterIfFull() {
+        if (emailFilter.size() <= emailFilter.capacity()) {
+            return;
+        }
+        emailFilterLock.writeLock().lock();
+        try {
+            // Başka bir thread büyütmüş olabilir
+            CountingBloomFilter filter = emailFilter;
+            if (filter.size() > filter.capacity()) {
+                rebuildEmailFilter(Math.max(filter.capacity() * 2, emailIndex.size() * 2));
+            }
+        } finally {
+            emailFilterLock.writeLock().unlock();
+        }
+    }
+
+    // Yazma kilidi tutulurken çağrılır; hiçbir ekleme/çıkarma yarıda değildir
+    private void rebuildEmailFilter(int capacity) {
+        CountingBloomFilter filter = new CountingBloomFilter(capacity, EMAIL_FILTER_FALSE_POSITIVE_RATE);
+        for (String email : emailIndex.keySet()) {
+            filter.add(email);
+        }
+        emailFilter = filter;
+    }
+
+    private UserPage page(Function<UserTables, PersistentLongMap<StoredUser>> table, Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Sayfa boyutu pozitif olmalı");
+        }
+        if (afterId != null && afterId == Long.MAX_VALUE) {
+            return new UserPage(List.of(), null);
+        }
+
+        long fromId = afterId == null ? 0 : afterId + 1;
+        Iterator<StoredUser> iterator = mergedById(table, fromId);
+        List<User> users = new ArrayList<>(Math.min(limit, 1_024));
+        Long lastId = null;
+        while (users.size() < limit && iterator.hasNext()) {
+            StoredUser stored = iterator.next();
+            users.add(stored.user);
+            lastId = stored.id;
+        }
+        return new UserPage(Collections.unmodifiableList(users), iterator.hasNext() ? lastId : null);
+    }
+
+    private static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Başlangıç ve bitiş zamanı null olamaz");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Başlangıç zamanı bitiş zamanından sonra olamaz");
+        }
+    }
+
+    private static String usernameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Kayıt zamanını UTC epoch milisaniyeye çevirir; 1970 öncesi zamanlar 0 kovasında toplanır
+     */
+    private static long createdAtKey(LocalDateTime time) {
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        if (seconds < 0) {
+            return 0;
+        }
+        if (seconds >= Long.MAX_VALUE / 1000) {
+            return Long.MAX_VALUE;
+        }
+        return seconds * 1000 + time.getNano() / 1_000_000;
+    }
+
+    private Stream<User> stream(Function<UserTables, PersistentLongMap<StoredUser>> table) {
+        if (shards.length == 1) {
+            return StreamSupport.stream(table.apply(shards[0].get()).spliterator(), false).map(stored -> stored.user);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(mergedById(table, 0),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false).map(stored -> stored.user);
+    }
+
+    private AtomicReference<UserTables> shard(long id) {
+        if (shards.length == 1) {
+            return shards[0];
+        }
+        // Ardışık ID'ler shard'lara dağılsın diye karıştırılır
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return shards[(int) ((hash >>> 32) % shards.length)];
+    }
+
+    private List<User> snapshotList(Function<UserTables, PersistentLongMap<StoredUser>> table) {
+        if (shards.length == 1) {
+            return table.apply(shards[0].get()).values(stored -> stored.user);
+        }
+        List<User> users = new ArrayList<>();
+        mergedById(table, 0).forEachRemaining(stored -> users.add(stored.user));
+        return Collections.unmodifiableList(users);
+    }
+
+    // Her shard'ın tablosunu fromId'den itibaren dolaşıp ID sırasıyla birleştirir
+    private Iterator<StoredUser> mergedById(Function<UserTables, PersistentLongMap<StoredUser>> table, long fromId) {
+        if (shards.length == 1) {
+            return table.apply(shards[0].get()).iterator(fromId);
+        }
+        List<Iterator<StoredUser>> sources = new ArrayList<>(shards.length);
+        for (AtomicReference<UserTables> shard : shards) {
+            sources.add(table.apply(shard.get()).iterator(fromId));
+        }
+        return new MergingIterator(sources, BY_ID);
+    }
+
+    private static List<User> merge(List<List<StoredUser>> perShard, Comparator<StoredUser> order, int limit) {
+        List<Iterator<StoredUser>> sources = new ArrayList<>(perShard.size());
+        for (List<StoredUser> matches : perShard) {
+            sources.add(matches.iterator());
+        }
+        Iterator<StoredUser> merged = perShard.size() == 1 ? sources.get(0) : new MergingIterator(sources, order);
+        List<User> result = new ArrayList<>();
+        while (result.size() < limit && merged.hasNext()) {
+            result.add(merged.next().user);
+        }
+        return result;
+    }
+
+    private void notifyUserChanged(Long userId) {
+        for (UserChangeListener listener : changeListeners) {
+            listener.userChanged(userId);
+        }
     }
 
     /**
@@ -131,4 +651,255 @@ public class DatabaseService {
         // Gerçek uygulamada veritabanı bağlantısını kontrol ederdi
         return true;
     }
+
+    /**
+     * Saklanan kullanıcı ile yazma anındaki ID, email, aktiflik, kullanıcı adı, kayıt zamanı
+     * ve sürüm bilgisini birlikte tutar
+     */
+    private static final class StoredUser {
+        private final User user;
+        private final long id;
+        private final String email;
+        private final boolean active;
+        private final String usernameKey;
+        private final LocalDateTime createdAt;
+        private final long createdAtKey;
+        private final long version;
+
+        private StoredUser(User user, String email, boolean active, long version) {
+            this.user = user;
+            this.id = user.getId();
+            this.email = email;
+            this.active = active;
+            this.usernameKey = user.getUsername() != null ? usernameKey(user.getUsername()) : null;
+            this.createdAt = user.getCreatedAt();
+            this.createdAtKey = createdAt != null ? createdAtKey(createdAt) : -1;
+            this.version = version;
+        }
+
+        private boolean isCreatedBetween(LocalDateTime from, LocalDateTime to) {
+            return createdAt != null && !createdAt.isBefore(from) && createdAt.isBefore(to);
+        }
+    }
+
+    /**
+     * Tablolar ve ikincil indekslerin birlikte değişen tek bir sürümü
+     * byCreatedAt: kayıt zamanı (epoch ms) → o milisaniyede kaydolan kullanıcılar (ID → kayıt)
+     * byUsername: küçük harfli kullanıcı adı → kullanıcılar (ID → kayıt)
+     */
+    private static final class UserTables {
+        private static final UserTables EMPTY = new UserTables(PersistentLongMap.empty(), PersistentLongMap.empty(),
+                PersistentLongMap.empty(), PersistentPrefixIndex.empty());
+
+        private final PersistentLongMap<StoredUser> all;
+        private final PersistentLongMap<StoredUser> active;
+        private final PersistentLongMap<PersistentLongMap<StoredUser>> byCreatedAt;
+        private final PersistentPrefixIndex<StoredUser> byUsername;
+
+        private UserTables(PersistentLongMap<StoredUser> all, PersistentLongMap<StoredUser> active,
+                           PersistentLongMap<PersistentLongMap<StoredUser>> byCreatedAt,
+                           PersistentPrefixIndex<StoredUser> byUsername) {
+            this.all = all;
+            this.active = active;
+            this.byCreatedAt = byCreatedAt;
+            this.byUsername = byUsername;
+        }
+
+        private UserTables with(long id, StoredUser stored) {
+            StoredUser previous = all.get(id);
+            PersistentLongMap<PersistentLongMap<StoredUser>> createdIndex = byCreatedAt;
+            PersistentPrefixIndex<StoredUser> usernameIndex = byUsername;
+            if (previous != null) {
+                createdIndex = removeCreated(createdIndex, previous);
+                usernameIndex = usernameIndex.without(previous.usernameKey, id);
+            }
+            if (stored.usernameKey != null) {
+                usernameIndex = usernameIndex.with(stored.usernameKey, id, stored);
+            }
+            return new UserTables(all.with(id, stored),
+                    stored.active ? active.with(id, stored) : active.without(id),
+                    addCreated(createdIndex, stored), usernameIndex);
+        }
+
+        private UserTables without(long id) {
+            StoredUser previous = all.get(id);
+            if (previous == null) {
+                return this;
+            }
+            return new UserTables(all.without(id), active.without(id), removeCreated(byCreatedAt, previous),
+                    byUsername.without(previous.usernameKey, id));
+        }
+
+        private static PersistentLongMap<PersistentLongMap<StoredUser>> addCreated(
+                PersistentLongMap<PersistentLongMap<StoredUser>> index, StoredUser stored) {
+            if (stored.createdAtKey < 0) {
+                return index;
+            }
+            PersistentLongMap<StoredUser> bucket = index.get(stored.createdAtKey);
+            if (bucket == null) {
+                bucket = PersistentLongMap.empty();
+            }
+            return index.with(stored.createdAtKey, bucket.with(stored.id, stored));
+        }
+
+        private static PersistentLongMap<PersistentLongMap<StoredUser>> removeCreated(
+                PersistentLongMap<PersistentLongMap<StoredUser>> index, StoredUser stored) {
+            PersistentLongMap<StoredUser> bucket = stored.createdAtKey < 0 ? null : index.get(stored.createdAtKey);
+            if (bucket == null) {
+                return index;
+            }
+            bucket = bucket.without(stored.id);
+            return bucket.isEmpty() ? index.without(stored.createdAtKey) : index.with(stored.createdAtKey, bucket);
+        }
+    }
+
+    /**
+     * Her biri aynı sırada olan iteratorları tek bir sıralı iteratorda birleştirir (k-way merge)
+     */
+    private static final class MergingIterator implements Iterator<StoredUser> {
+        private final PriorityQueue<Head> heads;
+
+        private MergingIterator(List<Iterator<StoredUser>> sources, Comparator<StoredUser> order) {
+            this.heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                    (left, right) -> order.compare(left.current, right.current));
+            for (Iterator<StoredUser> source : sources) {
+                if (source.hasNext()) {
+                    heads.add(new Head(source));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public StoredUser next() {
+            Head head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            StoredUser result = head.current;
+            if (head.source.hasNext()) {
+                head.current = head.source.next();
+                heads.add(head);
+            }
+            return result;
+        }
+
+        private static final class Head {
+            private final Iterator<StoredUser> source;
+            private StoredUser current;
+
+            private Head(Iterator<StoredUser> source) {
+                this.source = source;
+                this.current = source.next();
+            }
+        }
+    }
+
+    /**
+     * Sayfalı sorgu sonucu: sayfadaki kullanıcılar ve sonraki sayfanın cursor'ı
+     */
+    public static class UserPage {
+        private final List<User> users;
+        private final Long nextCursor;
+
+        public UserPage(List<User> users, Long nextCursor) {
+            this.users = users;
+            this.nextCursor = nextCursor;
+        }
+
+        public List<User> getUsers() {
+            return users;
+        }
+
+        /**
+         * Sonraki sayfa için afterId olarak verilecek değer; son sayfada null
+         */
+        public Long getNextCursor() {
+            return nextCursor;
+        }
+
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
+    }
+
+    /**
+     * Email filtresi istatistikleri
+     */
+    public static class EmailFilterStats {
+        private final long lookups;
+        private final long definitelyAbsent;
+        private final long falsePositives;
+        private final int capacity;
+        private final double expectedFalsePositiveRate;
+
+        public EmailFilterStats(long lookups, long definitelyAbsent, long falsePositives,
+                                int capacity, double expectedFalsePositiveRate) {
+            this.lookups = lookups;
+            this.definitelyAbsent = definitelyAbsent;
+            this.falsePositives = falsePositives;
+            this.capacity = capacity;
+            this.expectedFalsePositiveRate = expectedFalsePositiveRate;
+        }
+
+        /**
+         * Toplam email varlık sorgusu
+         */
+        public long getLookups() {
+            return lookups;
+        }
+
+        /**
+         * Filtrenin indekse bakmadan "yok" dediği sorgular
+         */
+        public long getDefinitelyAbsent() {
+            return definitelyAbsent;
+        }
+
+        /**
+         * Filtrenin "olabilir" dediği ama indekste bulunmayan sorgular
+         */
+        public long getFalsePositives() {
+            return falsePositives;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Mevcut doluluğa göre teorik yanlış pozitif oranı
+         */
+        public double getExpectedFalsePositiveRate() {
+            return expectedFalsePositiveRate;
+        }
+
+        /**
+         * Kayıtlı olmayan emailler için gözlenen yanlış pozitif oranı
+         */
+        public double getObservedFalsePositiveRate() {
+            long absent = definitelyAbsent + falsePositives;
+            return absent == 0 ? 0.0 : (double) falsePositives / absent;
+        }
+    }
+
+    /**
+     * Kullanıcı değişikliklerini dinleyen arayüz
+     */
+    public interface UserChangeListener {
+        /**
+         * Kullanıcı güncellendiğinde veya silindiğinde çağrılır
+         */
+        void userChanged(Long userId);
+
+        /**
+         * Veritabanı tamamen temizlendiğinde çağrılır
+         */
+        default void allUsersRemoved() {
+        }
+    }
 }
\ No newline at end of file
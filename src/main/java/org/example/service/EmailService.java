@@ -1,16 +1,20 @@
 package org.example.service;
 
 import org.example.model.User;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * Email gönderimi işlemlerini yöneten service sınıfı
  * Gerçek uygulamada SMTP veya email API'leri kullanılır
+ * Email logu, sıra numarasıyla anahtarlanmış değiştirilemez bir PersistentLongMap'te tutulur;
+ * gönderimler yeni sürümü CAS ile yayınlar, okumalar kopyalamadan anlık görüntü alır
  */
 public class EmailService {
-    private final List<EmailLog> sentEmails = new ArrayList<>();
-    private boolean emailServiceEnabled = true;
+    private final AtomicReference<PersistentLongMap<EmailLog>> sentEmails =
+            new AtomicReference<>(PersistentLongMap.empty());
+    private volatile boolean emailServiceEnabled = true;
 
     /**
      * Kullanıcıya hoş geldin emaili gönderir
@@ -115,7 +119,7 @@ public class EmailService {
             
             // Email logunu kaydet
             EmailLog emailLog = new EmailLog(to, subject, content);
-            sentEmails.add(emailLog);
+            sentEmails.updateAndGet(log -> log.with(log.size(), emailLog));
             
             return true;
         } catch (InterruptedException e) {
@@ -142,16 +146,17 @@ public class EmailService {
 
     /**
      * Gönderilen emailları getirir (test amaçlı)
+     * Dönen liste değiştirilemez bir anlık görüntüdür; kopyalanmaz ve sonraki gönderimlerden etkilenmez
      */
     public List<EmailLog> getSentEmails() {
-        return new ArrayList<>(sentEmails);
+        return sentEmails.get().values(Function.identity());
     }
 
     /**
      * Belirli bir email adresine gönderilen emailleri getirir
      */
     public List<EmailLog> getSentEmailsTo(String emailAddress) {
-        return sentEmails.stream()
+        return getSentEmails().stream()
                 .filter(email -> email.getTo().equals(emailAddress))
                 .toList();
     }
@@ -160,14 +165,15 @@ public class EmailService {
      * Email loglarını temizler (test amaçlı)
      */
     public void clearEmailLogs() {
-        sentEmails.clear();
+        // Daha önce alınmış anlık görüntüler eski logu görmeye devam eder
+        sentEmails.set(PersistentLongMap.empty());
     }
 
     /**
      * Gönderilen email sayısını döndürür
      */
     public int getSentEmailCount() {
-        return sentEmails.size();
+        return sentEmails.get().size();
     }
 
     /**
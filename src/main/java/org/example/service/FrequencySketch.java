@@ -0,0 +1,76 @@
+package org.example.service;
+
+/**
+ * Anahtarların yakın geçmişteki erişim sıklığını tahmin eden TinyLFU sketch'i
+ *
+ * 4 satırlı bir Count-Min sketch'tir; sayaçlar 15'te doyar. Örnek sayısı sınıra
+ * ulaştığında tüm sayaçlar yarıya indirilir, böylece eski popülerlik zamanla unutulur.
+ * Thread-safe değildir, çağıran taraf senkronize etmelidir.
+ */
+class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+
+    private final byte[] counts;
+    private final int widthMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int expectedSize) {
+        int width = Integer.highestOneBit(Math.max(16, expectedSize) * 2 - 1);
+        this.counts = new byte[width * DEPTH];
+        this.widthMask = width - 1;
+        this.sampleSize = Math.max(10, expectedSize) * 10;
+    }
+
+    /**
+     * Anahtarın erişim sayısını bir artırır
+     */
+    void increment(long key) {
+        long hash = spread(key);
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            int slot = slot(hash, row);
+            if (counts[slot] < MAX_COUNT) {
+                counts[slot]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Anahtarın tahmini erişim sayısını döndürür
+     */
+    int frequency(long key) {
+        long hash = spread(key);
+        int min = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, counts[slot(hash, row)]);
+        }
+        return min;
+    }
+
+    private void reset() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = (byte) (counts[i] >>> 1);
+        }
+        additions /= 2;
+    }
+
+    private int slot(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return row * (widthMask + 1) + ((h1 + row * h2) & widthMask);
+    }
+
+    private static long spread(long key) {
+        long h = key * 0x9e3779b97f4a7c15L;
+        h ^= h >>> 32;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 29;
+        return h;
+    }
+}
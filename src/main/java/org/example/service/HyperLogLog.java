@@ -0,0 +1,115 @@
+package org.example.service;
+
+/**
+ * Farklı eleman sayısını sabit bellekle tahmin eden HyperLogLog sayacı
+ *
+ * 2^p kayıt (register) tutar, her biri bir bayt. 64 bitlik hash'in ilk p biti kaydı seçer,
+ * kalan bitlerdeki baştaki sıfır sayısı + 1 o kayda en büyük değer olarak yazılır. Tahminin
+ * standart hatası yaklaşık 1.04 / √(2^p)'dir (p = 8 için %6.5, p = 12 için %1.6). Küçük
+ * kümelerde boş kayıt sayısıyla doğrusal sayım (linear counting) kullanılır. Eklenen değerin
+ * iyi karıştırılmış bir hash olması gerekir. Thread-safe değildir.
+ */
+final class HyperLogLog {
+    static final int MIN_PRECISION = 4;
+    static final int MAX_PRECISION = 16;
+
+    private final byte[] registers;
+    private final int precision;
+
+    HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Hassasiyet " + MIN_PRECISION + " ile " + MAX_PRECISION + " arasında olmalı");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Karıştırılmış bir hash ekler; kümeye yeni bir kayıt değeri girdiyse true
+     */
+    boolean add(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        // Kalan bitlerin sonuna 1 eklenir, böylece sıfır sayısı 64 - p'yi aşmaz
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Tahmini farklı eleman sayısı
+     */
+    long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Diğer sayacın kümesiyle birleşim alır; hassasiyetler aynı olmalıdır
+     */
+    void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Farklı hassasiyetteki sayaçlar birleştirilemez");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * Kayıtları diğer sayacınkilerle değiştirir; hassasiyetler aynı olmalıdır
+     */
+    void copyFrom(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Farklı hassasiyetteki sayaçlar kopyalanamaz");
+        }
+        System.arraycopy(other.registers, 0, registers, 0, registers.length);
+    }
+
+    int byteSize() {
+        return registers.length;
+    }
+
+    /**
+     * Tahminin göreli standart hatası
+     */
+    double standardError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    /**
+     * long değeri iyi dağılmış bir hash'e çevirir (SplitMix64 son karıştırması)
+     */
+    static long mix(long value) {
+        long h = value + 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+}
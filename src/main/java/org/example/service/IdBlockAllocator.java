@@ -0,0 +1,182 @@
+package org.example.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Blok tabanlı ID dağıtıcısı
+ *
+ * ID'ler, ortak sayaçtan tek seferde ayrılan bloklardan verilir; ortak sayaca blok başına bir
+ * kez gidilir. Bloklar thread'e değil, çekirdek sayısına göre boyutlanmış küçük bir şerit
+ * (stripe) dizisine aittir: thread, ID'sine göre bir şeridi seçer ve o şeridin bloğundan
+ * CAS ile ID alır. Böylece binlerce sanal thread olsa da boşta kalan blok sayısı şerit
+ * sayısıyla sınırlıdır. Yalnızca verilen en yüksek blok sınırı (high-water mark) saklanır ve
+ * blok, sınır saklanmadan önce verilmez. Yeniden başlatmada dağıtıcı saklanan sınırın
+ * üstünden devam eder, bu yüzden daha önce verilmiş bir ID asla tekrar verilmez; çökmede
+ * yalnızca şeritlerdeki kullanılmamış blok kalıntıları kaybolur (şerit başına en fazla bir blok).
+ * Tek thread'den alınan ID'ler, şeridini paylaşan başka thread yoksa ardışıktır; ID'ler
+ * global olarak artan sırada verilmez.
+ */
+public final class IdBlockAllocator {
+    public static final int DEFAULT_BLOCK_SIZE = 128;
+    private static final int MAX_STRIPES = 64;
+
+    private final int blockSize;
+    private final HighWaterMark highWaterMark;
+    private final AtomicReferenceArray<Block> stripes;
+    private final int stripeMask;
+    // Saklanan sınır; yalnızca senkronize blok ayırmada okunur ve yazılır
+    private long reservedUpTo;
+    // reset sonrası şeritlerdeki eski blokları geçersiz kılar
+    private volatile long generation;
+
+    /**
+     * Bellekte sınır tutan, varsayılan blok boyutlu dağıtıcı
+     */
+    public IdBlockAllocator() {
+        this(DEFAULT_BLOCK_SIZE, new InMemoryHighWaterMark());
+    }
+
+    /**
+     * Verilen blok boyutu ve sınır deposuyla dağıtıcı oluşturur; dağıtım saklanan sınırın üstünden başlar
+     */
+    public IdBlockAllocator(int blockSize, HighWaterMark highWaterMark) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Blok boyutu pozitif olmalı");
+        }
+        if (highWaterMark == null) {
+            throw new IllegalArgumentException("Sınır deposu null olamaz");
+        }
+        long stored = highWaterMark.read();
+        if (stored < 0) {
+            throw new IllegalStateException("Saklanan ID sınırı negatif olamaz: " + stored);
+        }
+        this.blockSize = blockSize;
+        this.highWaterMark = highWaterMark;
+        this.reservedUpTo = stored;
+        int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Yeni bir ID döndürür; ilk ID 1'dir
+     */
+    public long nextId() {
+        int stripe = (int) (Thread.currentThread().threadId() & stripeMask);
+        while (true) {
+            Block block = stripes.get(stripe);
+            if (block != null && block.generation == generation) {
+                long id = block.next.getAndIncrement();
+                // Kontrol ile ID alma arasında advancePast veya reset girdiyse blok geçersizdir; nesil
+                // ID alındıktan sonra yeniden okunur ve değiştiyse ID kullanılmadan yeni blok alınır
+                if (id <= block.last && block.generation == generation) {
+                    return id;
+                }
+            }
+            refill(stripe, block);
+        }
+    }
+
+    /**
+     * Verilen ID'ye kadar olan ID'leri verilmiş sayar; sonraki ID'ler bu değerin üstünden verilir
+     * Sınır dışarıda üretilmiş veya başka yerde saklanan ID'leri (örneğin arşivdekileri) kapsamıyorsa kullanılır
+     */
+    public synchronized void advancePast(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("ID negatif olamaz: " + id);
+        }
+        if (id <= reservedUpTo) {
+            return;
+        }
+        highWaterMark.write(id);
+        reservedUpTo = id;
+        // Şeritlerdeki bloklar verilen ID'nin altında kalabilir
+        generation++;
+    }
+
+    /**
+     * Dağıtımı baştan başlatır ve sınırı sıfırlar (test amaçlı)
+     * Daha önce verilen ID'ler yeniden verilebilir hale gelir
+     */
+    public synchronized void reset() {
+        reservedUpTo = 0;
+        highWaterMark.write(0);
+        generation++;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    int getStripeCount() {
+        return stripeMask + 1;
+    }
+
+    /**
+     * Şeridin bitmiş veya eski nesil bloğunu yenisiyle değiştirir
+     * Başka bir thread şeridi zaten yenilediyse yeni blok ayrılmaz
+     */
+    private synchronized void refill(int stripe, Block exhausted) {
+        if (stripes.get(stripe) == exhausted) {
+            stripes.set(stripe, reserveBlock());
+        }
+    }
+
+    private Block reserveBlock() {
+        if (reservedUpTo > Long.MAX_VALUE - blockSize) {
+            throw new IllegalStateException("ID aralığı tükendi");
+        }
+        long first = reservedUpTo + 1;
+        long last = reservedUpTo + blockSize;
+        // Blok kullanılmadan önce sınır kalıcı hale getirilir
+        highWaterMark.write(last);
+        reservedUpTo = last;
+        return new Block(first, last, generation);
+    }
+
+    /**
+     * Dağıtılan en yüksek ID sınırının saklandığı yer (örneğin dosya veya tablo satırı)
+     */
+    public interface HighWaterMark {
+        /**
+         * Saklanan sınırı döndürür; hiç yazılmadıysa 0
+         */
+        long read();
+
+        /**
+         * Sınırı kalıcı olarak yazar; dönene kadar sınır saklanmış olmalıdır
+         */
+        void write(long mark);
+    }
+
+    /**
+     * Süreç içinde yaşayan sınır deposu
+     */
+    public static final class InMemoryHighWaterMark implements HighWaterMark {
+        private volatile long mark;
+
+        @Override
+        public long read() {
+            return mark;
+        }
+
+        @Override
+        public void write(long mark) {
+            this.mark = mark;
+        }
+    }
+
+    // Şeridi paylaşan thread'ler next'i CAS ile artırır; last'ı geçen değerler kullanılmaz
+    private static final class Block {
+        private final AtomicLong next;
+        private final long last;
+        private final long generation;
+
+        private Block(long next, long last, long generation) {
+            this.next = new AtomicLong(next);
+            this.last = last;
+            this.generation = generation;
+        }
+    }
+}
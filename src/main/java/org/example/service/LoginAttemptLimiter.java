@@ -0,0 +1,81 @@
+package org.example.service;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Başarısız giriş denemelerini sınırlayan service sınıfı
+ * Email ve kaynak (IP adresi vb.) başına başarısız denemeler kayan pencere içinde sayılır.
+ * Sayaçlar yaklaşık ve sabit bellekli olduğu için milyonlarca farklı anahtarda da büyümez.
+ */
+public class LoginAttemptLimiter {
+    public static final int DEFAULT_MAX_FAILURES_PER_EMAIL = 10;
+    public static final int DEFAULT_MAX_FAILURES_PER_SOURCE = 100;
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(15);
+
+    private static final int SKETCH_WIDTH = 1 << 14;
+
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerSource;
+    private final SlidingWindowCounter emailFailures;
+    private final SlidingWindowCounter sourceFailures;
+
+    public LoginAttemptLimiter() {
+        this(DEFAULT_MAX_FAILURES_PER_EMAIL, DEFAULT_MAX_FAILURES_PER_SOURCE, DEFAULT_WINDOW);
+    }
+
+    public LoginAttemptLimiter(int maxFailuresPerEmail, int maxFailuresPerSource, Duration window) {
+        this(maxFailuresPerEmail, maxFailuresPerSource, window, System::currentTimeMillis);
+    }
+
+    LoginAttemptLimiter(int maxFailuresPerEmail, int maxFailuresPerSource, Duration window, LongSupplier clock) {
+        if (maxFailuresPerEmail <= 0 || maxFailuresPerSource <= 0) {
+            throw new IllegalArgumentException("Deneme limitleri pozitif olmalı");
+        }
+        if (window == null) {
+            throw new IllegalArgumentException("Pencere süresi null olamaz");
+        }
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerSource = maxFailuresPerSource;
+        this.emailFailures = new SlidingWindowCounter(SKETCH_WIDTH, window.toMillis(), clock);
+        this.sourceFailures = new SlidingWindowCounter(SKETCH_WIDTH, window.toMillis(), clock);
+    }
+
+    /**
+     * Email veya kaynak için deneme limiti aşılmış mı kontrol eder
+     * Kaynak bilinmiyorsa null verilebilir; bu durumda sadece email limiti uygulanır
+     */
+    public boolean isBlocked(String email, String source) {
+        if (email != null && emailFailures.estimate(email) >= maxFailuresPerEmail) {
+            return true;
+        }
+        return source != null && sourceFailures.estimate(source) >= maxFailuresPerSource;
+    }
+
+    /**
+     * Başarısız bir giriş denemesini kaydeder
+     */
+    public void recordFailure(String email, String source) {
+        if (email != null) {
+            emailFailures.increment(email);
+        }
+        if (source != null) {
+            sourceFailures.increment(source);
+        }
+    }
+
+    /**
+     * Email için son penceredeki yaklaşık başarısız deneme sayısını döndürür
+     */
+    public long getFailureCount(String email) {
+        return email != null ? emailFailures.estimate(email) : 0;
+    }
+
+    /**
+     * Tüm sayaçları sıfırlar (test amaçlı)
+     */
+    public void reset() {
+        emailFailures.clear();
+        sourceFailures.clear();
+    }
+}
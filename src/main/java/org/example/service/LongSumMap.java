@@ -0,0 +1,124 @@
+package org.example.service;
+
+/**
+ * long anahtar başına (adet, toplam) tutan açık adreslemeli primitive toplam tablosu
+ *
+ * Anahtarlar, adetler ve toplamlar ayrı long dizilerinde durur; ekleme kutulama yapmaz ve
+ * nesne ayırmaz (yalnızca tablo büyürken). Doluluk %50'yi geçince kapasite ikiye katlanır.
+ * Thread-safe değildir; paralel toplamalarda her thread kendi tablosunu doldurur ve
+ * sonunda tablolar merge ile birleştirilir.
+ */
+final class LongSumMap {
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] counts;
+    private long[] sums;
+    private boolean[] used;
+    private int size;
+
+    LongSumMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Anahtarın adet ve toplamına ekler; toplam taşarsa ArithmeticException fırlatılır
+     */
+    void add(long key, long count, long sum) {
+        int slot = slot(key);
+        if (!used[slot]) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+                slot = slot(key);
+            }
+            used[slot] = true;
+            keys[slot] = key;
+            size++;
+        }
+        counts[slot] += count;
+        sums[slot] = Math.addExact(sums[slot], sum);
+    }
+
+    /**
+     * Diğer tablonun tüm anahtarlarını bu tabloya ekler
+     */
+    void merge(LongSumMap other) {
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.used[i]) {
+                add(other.keys[i], other.counts[i], other.sums[i]);
+            }
+        }
+    }
+
+    long count(long key) {
+        int slot = slot(key);
+        return used[slot] ? counts[slot] : 0;
+    }
+
+    long sum(long key) {
+        int slot = slot(key);
+        return used[slot] ? sums[slot] : 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Tüm girişleri (sıra garanti edilmeden) ziyaret eder
+     */
+    void forEach(EntryVisitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                visitor.visit(keys[i], counts[i], sums[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryVisitor {
+        void visit(long key, long count, long sum);
+    }
+
+    /**
+     * Anahtarın bulunduğu ya da yerleşeceği slot
+     */
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        long h = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (h ^ (h >>> 32)) & mask;
+        while (used[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldCounts = counts;
+        long[] oldSums = sums;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = slot(oldKeys[i]);
+                used[slot] = true;
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+                sums[slot] = oldSums[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        counts = new long[capacity];
+        sums = new long[capacity];
+        used = new boolean[capacity];
+    }
+
+    @Override
+    public String toString() {
+        return "LongSumMap{size=" + size + ", capacity=" + keys.length + '}';
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.service;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.function.LongPredicate;
+
+/**
+ * Heap dışı (off-heap) bellekte tutulan, açık adreslemeli long → long hash tablosu
+ *
+ * Girişler 16 baytlık (anahtar, değer + 1) çiftler olarak tek bir MemorySegment'te durur;
+ * değer alanının 0 olması slotun boş olduğunu gösterir. Çakışmalar doğrusal yoklamayla
+ * çözülür, silmede mezar taşı bırakılmaz, sonraki girişler geri kaydırılır. Aynı anahtar
+ * birden fazla değer taşıyabilir (örneğin aynı hash'e düşen emailler); find çağıranın
+ * doğrulamasından geçen ilk değeri döndürür. Tablo büyürken yeni segment ayrı bir arena'dan
+ * ayrılır ve eski arena hemen kapatılarak belleği geri verilir. Thread-safe değildir.
+ */
+final class OffHeapHashIndex implements AutoCloseable {
+    private static final long ENTRY_BYTES = 16;
+    private static final int MIN_CAPACITY = 1 << 10;
+
+    private Arena arena;
+    private MemorySegment entries;
+    private long capacity;
+    private long size;
+
+    OffHeapHashIndex() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Anahtarın, doğrulamadan geçen ilk değerini döndürür; yoksa -1
+     */
+    long find(long key, LongPredicate matches) {
+        long mask = capacity - 1;
+        for (long slot = home(key); ; slot = (slot + 1) & mask) {
+            long stored = value(slot);
+            if (stored == 0) {
+                return -1;
+            }
+            if (key(slot) == key && matches.test(stored - 1)) {
+                return stored - 1;
+            }
+        }
+    }
+
+    /**
+     * Anahtar-değer çifti ekler; değer negatif olamaz
+     */
+    void put(long key, long value) {
+        if ((size + 1) * 2 > capacity) {
+            resize(capacity * 2);
+        }
+        insert(key, value);
+        size++;
+    }
+
+    /**
+     * Anahtar-değer çiftini çıkarır
+     */
+    boolean remove(long key, long value) {
+        long mask = capacity - 1;
+        long slot = home(key);
+        while (true) {
+            long stored = value(slot);
+            if (stored == 0) {
+                return false;
+            }
+            if (key(slot) == key && stored - 1 == value) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // Geri kaydırma: boşluktan sonra yoklama zinciri kopmasın diye girişler boşluğa taşınır
+        long gap = slot;
+        long next = (gap + 1) & mask;
+        while (value(next) != 0) {
+            long nextHome = home(key(next));
+            boolean movable = gap <= next ? nextHome <= gap || nextHome > next : nextHome <= gap && nextHome > next;
+            if (movable) {
+                entries.set(ValueLayout.JAVA_LONG, gap * ENTRY_BYTES, key(next));
+                entries.set(ValueLayout.JAVA_LONG, gap * ENTRY_BYTES + 8, value(next));
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        entries.set(ValueLayout.JAVA_LONG, gap * ENTRY_BYTES + 8, 0L);
+        size--;
+        return true;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Tablonun heap dışında kapladığı bayt
+     */
+    long byteSize() {
+        return entries.byteSize();
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private void insert(long key, long value) {
+        long mask = capacity - 1;
+        long slot = home(key);
+        while (value(slot) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        entries.set(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES, key);
+        entries.set(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES + 8, value + 1);
+    }
+
+    private void resize(long newCapacity) {
+        Arena oldArena = arena;
+        MemorySegment oldEntries = entries;
+        long oldCapacity = capacity;
+        allocate(newCapacity);
+        for (long slot = 0; slot < oldCapacity; slot++) {
+            long stored = oldEntries.get(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES + 8);
+            if (stored != 0) {
+                insert(oldEntries.get(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES), stored - 1);
+            }
+        }
+        oldArena.close();
+    }
+
+    private void allocate(long newCapacity) {
+        arena = Arena.ofShared();
+        // Arena'dan ayrılan bellek sıfırlanmış gelir, yani tüm slotlar boştur
+        entries = arena.allocate(newCapacity * ENTRY_BYTES, Long.BYTES);
+        capacity = newCapacity;
+    }
+
+    private long key(long slot) {
+        return entries.get(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES);
+    }
+
+    private long value(long slot) {
+        return entries.get(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES + 8);
+    }
+
+    private long home(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (h ^ (h >>> 29)) & (capacity - 1);
+    }
+}
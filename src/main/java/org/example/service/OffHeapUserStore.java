@@ -0,0 +1,550 @@
+package org.example.service;
+
+import org.example.model.User;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Kullanıcı kayıtlarını heap dışında (java.lang.foreign MemorySegment) tutan depo
+ *
+ * Her kullanıcı sabit boyutlu bir kayıttır (ID, kayıt zamanı, sürüm, aktiflik ve metinlerin
+ * konumu); kayıtlar 64K'lık bloklar halinde ayrılır ve silinen kayıtların slotları yeniden
+ * kullanılır. Kullanıcı adı, email ve şifre UTF-8 olarak ayrı metin bloklarına art arda
+ * yazılır. ID ve email indeksleri de heap dışındaki açık adreslemeli tablolardır. Heap'te
+ * yalnızca blok referansları ve boş slot listesi durur, bu yüzden kullanıcı sayısı arttıkça
+ * GC'nin taradığı canlı nesne sayısı artmaz.
+ *
+ * Okumalar kaydı o an çözüp kısa ömürlü bir User kopyası döndürür; kopya heap dışındaki
+ * belleğe referans tutmaz, depo kapatıldıktan sonra da kullanılabilir. Sık okumalar ve taramalar
+ * için readUser ve forEachRecord, alanları yeniden kullanılabilir bir UserRecord tutamacına kopyalar;
+ * metinler yalnızca istendiğinde String'e çevrilir ve kayıt başına nesne ayrılmaz. Güncellemede eskiyen
+ * metinler boşa çıkan alanın yarıyı geçmesiyle yeni bir arena'ya sıkıştırılır ve eski
+ * arena kapatılır. Tüm heap dışı bellek close ile açıkça geri verilir; kapatılan depo
+ * kullanılamaz. Yazmalar yazma kilidiyle, okumalar okuma kilidiyle yapılır.
+ */
+public class OffHeapUserStore implements AutoCloseable {
+    private static final int RECORD_BYTES = 48;
+    private static final int RECORDS_PER_CHUNK = 1 << 16;
+    private static final long STRING_CHUNK_BYTES = 1 << 20;
+    private static final long NO_CREATED_AT = Long.MIN_VALUE;
+    private static final int NULL_LENGTH = -1;
+
+    // Kayıt düzeni
+    private static final long ID = 0;
+    private static final long CREATED_AT = 8;
+    private static final long VERSION = 16;
+    private static final long TEXT = 24;
+    private static final long USERNAME_LENGTH = 32;
+    private static final long EMAIL_LENGTH = 36;
+    private static final long PASSWORD_LENGTH = 40;
+    private static final long FLAGS = 44;
+    private static final int ACTIVE_FLAG = 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Arena recordArena = Arena.ofShared();
+    private final List<MemorySegment> recordChunks = new ArrayList<>();
+    private final OffHeapHashIndex idIndex = new OffHeapHashIndex();
+    private final OffHeapHashIndex emailIndex = new OffHeapHashIndex();
+
+    private Arena textArena = Arena.ofShared();
+    private List<MemorySegment> textChunks = new ArrayList<>();
+    private long textChunkUsed = STRING_CHUNK_BYTES;
+    private long textBytes;
+    private long textGarbage;
+
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+    private int userCount;
+    private long nextId = 1;
+    private boolean closed;
+
+    /**
+     * Kullanıcıyı kaydeder; verilen nesneye ID ve sürüm yazılır, nesnenin kendisi saklanmaz
+     */
+    public User saveUser(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("Kullanıcı null olamaz");
+        }
+        if (user.getUsername() == null || user.getUsername().trim().isEmpty()) {
+            throw new IllegalArgumentException("Kullanıcı adı boş olamaz");
+        }
+        if (user.getEmail() == null || !user.hasValidEmail()) {
+            throw new IllegalArgumentException("Geçerli bir email adresi gerekli");
+        }
+
+        byte[] email = utf8(user.getEmail());
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (findEmailSlot(email) >= 0) {
+                throw new IllegalStateException("Bu email adresi zaten kayıtlı");
+            }
+            int slot = allocateSlot();
+            long id = nextId++;
+            long record = recordOffset(slot);
+            MemorySegment chunk = chunk(slot);
+            chunk.set(ValueLayout.JAVA_LONG, record + ID, id);
+            chunk.set(ValueLayout.JAVA_LONG, record + VERSION, 0L);
+            writeFields(chunk, record, user, email);
+            idIndex.put(id, slot);
+            emailIndex.put(hash(email), slot);
+            userCount++;
+
+            user.setId(id);
+            user.setVersion(0L);
+            return user;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ID'ye göre kullanıcının o anki kopyasını döndürür
+     */
+    public Optional<User> findUserById(Long id) {
+        if (id == null || id <= 0) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            long slot = idIndex.find(id, candidate -> true);
+            return slot >= 0 ? Optional.of(read((int) slot, new UserRecord()).toUser()) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Email adresine göre kullanıcının o anki kopyasını döndürür
+     */
+    public Optional<User> findUserByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        byte[] bytes = utf8(email);
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            int slot = findEmailSlot(bytes);
+            return slot >= 0 ? Optional.of(read(slot, new UserRecord()).toUser()) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ID'ye göre kullanıcının alanlarını verilen tutamaca kopyalar; kullanıcı yoksa false
+     * Tutamaç çağrılar arasında yeniden kullanılabilir; User nesnesi oluşturulmaz.
+     */
+    public boolean readUser(Long id, UserRecord into) {
+        if (into == null) {
+            throw new IllegalArgumentException("Tutamaç null olamaz");
+        }
+        if (id == null || id <= 0) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            long slot = idIndex.find(id, candidate -> true);
+            if (slot < 0) {
+                return false;
+            }
+            read((int) slot, into);
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Email adresinin kayıtlı olup olmadığını kontrol eder
+     */
+    public boolean isEmailExists(String email) {
+        if (email == null) {
+            return false;
+        }
+        byte[] bytes = utf8(email);
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            return findEmailSlot(bytes) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Kullanıcıyı günceller; sürüm saklanan sürümle aynı olmalıdır (DatabaseService ile aynı kurallar)
+     */
+    public User updateUser(User user) {
+        if (user == null || user.getId() == null) {
+            throw new IllegalArgumentException("Kullanıcı veya ID null olamaz");
+        }
+        byte[] newEmail = user.getEmail() != null ? utf8(user.getEmail()) : null;
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            long found = idIndex.find(user.getId(), candidate -> true);
+            if (found < 0) {
+                throw new IllegalStateException("Güncellenecek kullanıcı bulunamadı");
+            }
+            int slot = (int) found;
+            MemorySegment chunk = chunk(slot);
+            long record = recordOffset(slot);
+            long version = chunk.get(ValueLayout.JAVA_LONG, record + VERSION);
+            if (version != user.getVersion()) {
+                throw new ConcurrentModificationException(
+                        "Kullanıcı başka bir işlem tarafından güncellendi, sürüm: " + version);
+            }
+            byte[] oldEmail = email(chunk, record);
+            boolean emailChanged = !Arrays.equals(oldEmail, newEmail);
+            if (emailChanged && newEmail != null && findEmailSlot(newEmail) >= 0) {
+                throw new IllegalStateException("Bu email adresi zaten kayıtlı");
+            }
+
+            if (emailChanged) {
+                if (oldEmail != null) {
+                    emailIndex.remove(hash(oldEmail), slot);
+                }
+                if (newEmail != null) {
+                    emailIndex.put(hash(newEmail), slot);
+                }
+            }
+            textGarbage += textLength(chunk, record);
+            writeFields(chunk, record, user, newEmail);
+            chunk.set(ValueLayout.JAVA_LONG, record + VERSION, version + 1);
+            user.setVersion(version + 1);
+            compactTextIfWasteful();
+            return user;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Kullanıcıyı siler
+     */
+    public boolean deleteUser(Long userId) {
+        if (userId == null || userId <= 0) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            long found = idIndex.find(userId, candidate -> true);
+            if (found < 0) {
+                return false;
+            }
+            int slot = (int) found;
+            MemorySegment chunk = chunk(slot);
+            long record = recordOffset(slot);
+            byte[] email = email(chunk, record);
+            if (email != null) {
+                emailIndex.remove(hash(email), slot);
+            }
+            idIndex.remove(userId, slot);
+            textGarbage += textLength(chunk, record);
+            chunk.set(ValueLayout.JAVA_LONG, record + ID, 0L);
+            if (freeSlotCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+            }
+            freeSlots[freeSlotCount++] = slot;
+            userCount--;
+            compactTextIfWasteful();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int getUserCount() {
+        lock.readLock().lock();
+        try {
+            return userCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tüm kullanıcıları kayıt slotu sırasıyla (ID sırası garanti edilmez) tek tek çözüp verir
+     * Aynı anda yalnızca bir kullanıcının kopyası oluşturulur
+     */
+    public void forEachUser(Consumer<User> action) {
+        forEachRecord(record -> action.accept(record.toUser()));
+    }
+
+    /**
+     * Tüm kullanıcıları kayıt slotu sırasıyla tek bir yeniden kullanılan tutamaca okuyarak verir
+     * Tutamaç bir sonraki kayıtla üzerine yazılır; saklanacak değerler çağıran tarafından kopyalanmalıdır
+     */
+    public void forEachRecord(Consumer<UserRecord> action) {
+        UserRecord record = new UserRecord();
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (chunk(slot).get(ValueLayout.JAVA_LONG, recordOffset(slot) + ID) != 0) {
+                    action.accept(read(slot, record));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Kayıtların, metinlerin ve indekslerin heap dışında kapladığı bayt
+     */
+    public long getOffHeapBytes() {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            return (long) recordChunks.size() * RECORDS_PER_CHUNK * RECORD_BYTES
+                    + textChunks.stream().mapToLong(MemorySegment::byteSize).sum()
+                    + idIndex.byteSize() + emailIndex.byteSize();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tüm heap dışı belleği geri verir; sonraki işlemler IllegalStateException fırlatır
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            idIndex.close();
+            emailIndex.close();
+            textArena.close();
+            recordArena.close();
+            recordChunks.clear();
+            textChunks.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Depo kapatıldı");
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (slotCount == recordChunks.size() * RECORDS_PER_CHUNK) {
+            recordChunks.add(recordArena.allocate((long) RECORDS_PER_CHUNK * RECORD_BYTES, Long.BYTES));
+        }
+        return slotCount++;
+    }
+
+    private MemorySegment chunk(int slot) {
+        return recordChunks.get(slot / RECORDS_PER_CHUNK);
+    }
+
+    private static long recordOffset(int slot) {
+        return (long) (slot % RECORDS_PER_CHUNK) * RECORD_BYTES;
+    }
+
+    private int findEmailSlot(byte[] email) {
+        return (int) emailIndex.find(hash(email), slot -> Arrays.equals(email(chunk((int) slot), recordOffset((int) slot)), email));
+    }
+
+    // Sabit alanları ve metinleri yazar; metinler her zaman yeni konuma eklenir
+    private void writeFields(MemorySegment chunk, long record, User user, byte[] email) {
+        byte[] username = user.getUsername() != null ? utf8(user.getUsername()) : null;
+        byte[] password = user.getPassword() != null ? utf8(user.getPassword()) : null;
+        chunk.set(ValueLayout.JAVA_LONG, record + CREATED_AT, user.getCreatedAt() != null
+                ? user.getCreatedAt().toEpochSecond(ZoneOffset.UTC) : NO_CREATED_AT);
+        chunk.set(ValueLayout.JAVA_INT, record + FLAGS, user.isActive() ? ACTIVE_FLAG : 0);
+        chunk.set(ValueLayout.JAVA_INT, record + USERNAME_LENGTH, username != null ? username.length : NULL_LENGTH);
+        chunk.set(ValueLayout.JAVA_INT, record + EMAIL_LENGTH, email != null ? email.length : NULL_LENGTH);
+        chunk.set(ValueLayout.JAVA_INT, record + PASSWORD_LENGTH, password != null ? password.length : NULL_LENGTH);
+        chunk.set(ValueLayout.JAVA_LONG, record + TEXT, writeText(username, email, password));
+    }
+
+    // Üç metni art arda yazar; konum üst 32 bitte blok, alt 32 bitte blok içi ofsettir
+    private long writeText(byte[]... parts) {
+        long length = 0;
+        for (byte[] part : parts) {
+            length += part != null ? part.length : 0;
+        }
+        if (textChunkUsed + length > STRING_CHUNK_BYTES || textChunks.isEmpty()) {
+            textChunks.add(textArena.allocate(Math.max(STRING_CHUNK_BYTES, length), 1));
+            textChunkUsed = 0;
+        }
+        MemorySegment chunk = textChunks.get(textChunks.size() - 1);
+        long position = ((long) (textChunks.size() - 1) << 32) | textChunkUsed;
+        for (byte[] part : parts) {
+            if (part != null) {
+                MemorySegment.copy(part, 0, chunk, ValueLayout.JAVA_BYTE, textChunkUsed, part.length);
+                textChunkUsed += part.length;
+            }
+        }
+        textBytes += length;
+        return position;
+    }
+
+    // Kaydın sabit alanlarını ve üç metnini tek kopyayla tutamaca alır
+    private UserRecord read(int slot, UserRecord into) {
+        MemorySegment chunk = chunk(slot);
+        long record = recordOffset(slot);
+        long position = chunk.get(ValueLayout.JAVA_LONG, record + TEXT);
+        into.id = chunk.get(ValueLayout.JAVA_LONG, record + ID);
+        into.version = chunk.get(ValueLayout.JAVA_LONG, record + VERSION);
+        into.active = (chunk.get(ValueLayout.JAVA_INT, record + FLAGS) & ACTIVE_FLAG) != 0;
+        into.createdAt = chunk.get(ValueLayout.JAVA_LONG, record + CREATED_AT);
+        into.usernameLength = chunk.get(ValueLayout.JAVA_INT, record + USERNAME_LENGTH);
+        into.emailLength = chunk.get(ValueLayout.JAVA_INT, record + EMAIL_LENGTH);
+        into.passwordLength = chunk.get(ValueLayout.JAVA_INT, record + PASSWORD_LENGTH);
+        int length = (int) textLength(chunk, record);
+        if (into.text.length < length) {
+            into.text = new byte[Math.max(length, into.text.length * 2)];
+        }
+        MemorySegment.copy(textChunks.get((int) (position >>> 32)), ValueLayout.JAVA_BYTE,
+                position & 0xFFFFFFFFL, into.text, 0, length);
+        return into;
+    }
+
+    private byte[] email(MemorySegment chunk, long record) {
+        int length = chunk.get(ValueLayout.JAVA_INT, record + EMAIL_LENGTH);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        long position = chunk.get(ValueLayout.JAVA_LONG, record + TEXT);
+        int usernameLength = chunk.get(ValueLayout.JAVA_INT, record + USERNAME_LENGTH);
+        long offset = (position & 0xFFFFFFFFL) + Math.max(usernameLength, 0);
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(textChunks.get((int) (position >>> 32)), ValueLayout.JAVA_BYTE, offset, bytes, 0, length);
+        return bytes;
+    }
+
+    private static long textLength(MemorySegment chunk, long record) {
+        return Math.max(chunk.get(ValueLayout.JAVA_INT, record + USERNAME_LENGTH), 0)
+                + Math.max(chunk.get(ValueLayout.JAVA_INT, record + EMAIL_LENGTH), 0)
+                + Math.max(chunk.get(ValueLayout.JAVA_INT, record + PASSWORD_LENGTH), 0);
+    }
+
+    // Canlı metinler yeni bir arena'ya kopyalanır, eski arena tek seferde kapatılır
+    private void compactTextIfWasteful() {
+        if (textGarbage < STRING_CHUNK_BYTES || textGarbage * 2 < textBytes) {
+            return;
+        }
+        Arena oldArena = textArena;
+        List<MemorySegment> oldChunks = textChunks;
+        textArena = Arena.ofShared();
+        textChunks = new ArrayList<>();
+        textChunkUsed = STRING_CHUNK_BYTES;
+        textBytes = 0;
+        textGarbage = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            MemorySegment chunk = chunk(slot);
+            long record = recordOffset(slot);
+            if (chunk.get(ValueLayout.JAVA_LONG, record + ID) == 0) {
+                continue;
+            }
+            long position = chunk.get(ValueLayout.JAVA_LONG, record + TEXT);
+            byte[] bytes = new byte[(int) textLength(chunk, record)];
+            MemorySegment.copy(oldChunks.get((int) (position >>> 32)), ValueLayout.JAVA_BYTE,
+                    position & 0xFFFFFFFFL, bytes, 0, bytes.length);
+            chunk.set(ValueLayout.JAVA_LONG, record + TEXT, writeText(bytes));
+        }
+        oldArena.close();
+    }
+
+    private static long hash(byte[] bytes) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Bir kullanıcı kaydının heap dışından kopyalanan alanları; yeniden kullanılabilir okuma tutamacı
+     * Metinler bayt olarak tutulur ve yalnızca getter çağrıldığında String'e çevrilir. Tutamaç
+     * heap dışı belleğe referans tutmaz, depo kapatıldıktan sonra da okunabilir. Thread-safe değildir.
+     */
+    public static final class UserRecord {
+        private long id;
+        private long version;
+        private boolean active;
+        private long createdAt = NO_CREATED_AT;
+        private byte[] text = new byte[64];
+        private int usernameLength = NULL_LENGTH;
+        private int emailLength = NULL_LENGTH;
+        private int passwordLength = NULL_LENGTH;
+
+        // Okunmamış tutamacın ID'si 0'dır
+        public long getId() {
+            return id;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt == NO_CREATED_AT ? null : LocalDateTime.ofEpochSecond(createdAt, 0, ZoneOffset.UTC);
+        }
+
+        public String getUsername() {
+            return decode(0, usernameLength);
+        }
+
+        public String getEmail() {
+            return decode(Math.max(usernameLength, 0), emailLength);
+        }
+
+        public String getPassword() {
+            return decode(Math.max(usernameLength, 0) + Math.max(emailLength, 0), passwordLength);
+        }
+
+        /**
+         * Tutamacın o anki değerlerinden bağımsız bir User kopyası
+         */
+        public User toUser() {
+            return new User(id, getUsername(), getEmail(), getPassword(), active, getCreatedAt(), version);
+        }
+
+        private String decode(int offset, int length) {
+            return length == NULL_LENGTH ? null : new String(text, offset, length, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String toString() {
+            return "UserRecord{id=" + id + ", version=" + version + '}';
+        }
+    }
+}
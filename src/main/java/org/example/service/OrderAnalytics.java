@@ -0,0 +1,368 @@
+package org.example.service;
+
+import org.example.model.Money;
+import org.example.model.Order;
+import org.example.model.Order.OrderStatus;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Siparişler üzerinde paralel gelir ve sipariş analizi
+ *
+ * Sipariş kümesinin spliterator'ı fork/join ile parçalara bölünür. Her worker thread kendi
+ * kısmi sonucunu (Partial) primitive sayaçlarla doldurur: tutarlar kuruş cinsinden long
+ * (bkz. Money), durum kırılımı durum sırasına göre long dizileri, zaman dilimi ve kullanıcı
+ * kırılımları LongSumMap tablolarıdır. Sipariş başına nesne ayrılmaz ve paylaşılan bir sayaç
+ * güncellenmez; thread başına kısmi sonuçlar yalnızca en sonda birleştirilir.
+ *
+ * Toplamı kuruşa çevrilemeyen siparişler (ör. üç ondalıklı fiyatlar) ayrıca toplanır ve
+ * rapor oluşturulurken BigDecimal ile eklenir; sonuçlar kuruş yolunda kayıp yaşamaz.
+ * Zaman dilimleri siparişin oluşturulma zamanına göre, UTC kabul edilerek hesaplanır.
+ */
+public class OrderAnalytics {
+    static final int LEAF_SIZE = 8_192;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final ForkJoinPool pool;
+    private final long bucketSeconds;
+
+    /**
+     * Ortak fork/join havuzunu ve günlük zaman dilimlerini kullanan analiz
+     */
+    public OrderAnalytics() {
+        this(ForkJoinPool.commonPool(), Duration.ofDays(1));
+    }
+
+    public OrderAnalytics(ForkJoinPool pool, Duration bucket) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Fork/join havuzu null olamaz");
+        }
+        if (bucket == null || bucket.getSeconds() <= 0 || bucket.getNano() != 0) {
+            throw new IllegalArgumentException("Zaman dilimi tam saniye ve pozitif olmalı");
+        }
+        this.pool = pool;
+        this.bucketSeconds = bucket.getSeconds();
+    }
+
+    /**
+     * Repository'deki siparişlerin anlık görüntüsünü analiz eder
+     *
+     * @throws IllegalStateException repository'nin arşive taşınmış siparişleri varsa; rapor
+     *                               sessizce eksik kalmasın diye arşivi de kapsayan aralıklı analiz kullanılmalıdır
+     */
+    public AnalyticsReport analyze(OrderRepository orderRepository) {
+        if (orderRepository == null) {
+            throw new IllegalArgumentException("Repository null olamaz");
+        }
+        if (orderRepository.hasArchivedOrders()) {
+            throw new IllegalStateException("Repository'de arşivlenmiş siparişler var; arşivi de kapsayan analiz için tarih aralığı verin");
+        }
+        return analyze(orderRepository.orderSpliterator());
+    }
+
+    /**
+     * Oluşturulma zamanı [from, to) aralığındaki siparişleri, arşivlenmiş olanlar dahil analiz eder
+     */
+    public AnalyticsReport analyze(OrderRepository orderRepository, LocalDateTime from, LocalDateTime to) {
+        if (orderRepository == null) {
+            throw new IllegalArgumentException("Repository null olamaz");
+        }
+        return analyze(orderRepository.orderSpliteratorCreatedBetween(from, to));
+    }
+
+    public AnalyticsReport analyze(Collection<Order> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Sipariş listesi null olamaz");
+        }
+        return analyze(orders.spliterator());
+    }
+
+    /**
+     * Spliterator'daki siparişleri paralel olarak analiz eder
+     */
+    public AnalyticsReport analyze(Spliterator<Order> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Spliterator null olamaz");
+        }
+        Map<Thread, Partial> partials = new ConcurrentHashMap<>();
+        pool.invoke(new AggregateTask(orders, partials));
+
+        Partial total = new Partial();
+        for (Partial partial : partials.values()) {
+            total.merge(partial);
+        }
+        return new AnalyticsReport(total, partials.size(), bucketSeconds);
+    }
+
+    /**
+     * Spliterator'ı küçük parçalara kadar bölen görev
+     * Yaprak görevler çalıştıkları thread'in kısmi sonucuna yazar; bir thread aynı anda tek
+     * yaprak çalıştırdığından kısmi sonuçlar senkronizasyonsuz güncellenir
+     */
+    private final class AggregateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // Görevler yalnızca havuz içinde yaşar, serileştirilmez
+        private final transient Spliterator<Order> orders;
+        private final transient Map<Thread, Partial> partials;
+
+        private AggregateTask(Spliterator<Order> orders, Map<Thread, Partial> partials) {
+            this.orders = orders;
+            this.partials = partials;
+        }
+
+        @Override
+        protected void compute() {
+            Spliterator<Order> prefix;
+            if (orders.estimateSize() > LEAF_SIZE && (prefix = orders.trySplit()) != null) {
+                invokeAll(new AggregateTask(prefix, partials), new AggregateTask(orders, partials));
+                return;
+            }
+            Partial partial = partials.computeIfAbsent(Thread.currentThread(), thread -> new Partial());
+            orders.forEachRemaining(order -> partial.add(order, bucketSeconds));
+        }
+    }
+
+    /**
+     * Tek bir thread'in primitive toplamları
+     */
+    private static final class Partial {
+        private long orderCount;
+        private long itemCount;
+        private long revenueCents;
+        private final long[] statusCounts = new long[STATUSES.length];
+        private final long[] statusCents = new long[STATUSES.length];
+        private final LongSumMap buckets = new LongSumMap();
+        private final LongSumMap users = new LongSumMap();
+        // Toplamı kuruşa çevrilemeyen siparişler; rapor BigDecimal ile ekler
+        private final List<Order> inexact = new ArrayList<>();
+
+        private void add(Order order, long bucketSeconds) {
+            long cents;
+            try {
+                cents = order.getTotalCents();
+            } catch (ArithmeticException e) {
+                inexact.add(order);
+                cents = 0;
+            }
+            int status = order.getStatus().ordinal();
+            long bucket = Math.floorDiv(order.getCreatedAt().toEpochSecond(ZoneOffset.UTC), bucketSeconds);
+            orderCount++;
+            itemCount += order.getItemCount();
+            revenueCents = Math.addExact(revenueCents, cents);
+            statusCounts[status]++;
+            statusCents[status] = Math.addExact(statusCents[status], cents);
+            buckets.add(bucket, 1, cents);
+            users.add(order.getUserId(), 1, cents);
+        }
+
+        private void merge(Partial other) {
+            orderCount += other.orderCount;
+            itemCount += other.itemCount;
+            revenueCents = Math.addExact(revenueCents, other.revenueCents);
+            for (int i = 0; i < STATUSES.length; i++) {
+                statusCounts[i] += other.statusCounts[i];
+                statusCents[i] = Math.addExact(statusCents[i], other.statusCents[i]);
+            }
+            buckets.merge(other.buckets);
+            users.merge(other.users);
+            inexact.addAll(other.inexact);
+        }
+    }
+
+    /**
+     * Analiz sonucu
+     * Tutarlar iki ondalık basamaklı BigDecimal olarak döner; kuruşa çevrilemeyen siparişler
+     * varsa ilgili tutarlar onların tam ölçeğini taşır
+     */
+    public static class AnalyticsReport {
+        private final long orderCount;
+        private final long itemCount;
+        private final BigDecimal revenue;
+        private final long[] statusCounts;
+        private final BigDecimal[] statusRevenue;
+        private final SortedMap<LocalDateTime, BigDecimal> revenueByBucket;
+        private final SortedMap<LocalDateTime, Long> ordersByBucket;
+        private final LongSumMap users;
+        private final Map<Long, BigDecimal> inexactUserRevenue;
+        private final int workerCount;
+
+        private AnalyticsReport(Partial total, int workerCount, long bucketSeconds) {
+            Map<Long, BigDecimal> inexactBuckets = new HashMap<>();
+            Map<Long, BigDecimal> inexactUsers = new HashMap<>();
+            BigDecimal[] inexactStatus = new BigDecimal[STATUSES.length];
+            BigDecimal inexactRevenue = BigDecimal.ZERO;
+            for (Order order : total.inexact) {
+                BigDecimal amount = order.getTotalAmount();
+                long bucket = Math.floorDiv(order.getCreatedAt().toEpochSecond(ZoneOffset.UTC), bucketSeconds);
+                int status = order.getStatus().ordinal();
+                inexactRevenue = inexactRevenue.add(amount);
+                inexactStatus[status] = inexactStatus[status] == null ? amount : inexactStatus[status].add(amount);
+                inexactBuckets.merge(bucket, amount, BigDecimal::add);
+                inexactUsers.merge(order.getUserId(), amount, BigDecimal::add);
+            }
+
+            this.orderCount = total.orderCount;
+            this.itemCount = total.itemCount;
+            this.revenue = Money.toBigDecimal(total.revenueCents).add(inexactRevenue);
+            this.statusCounts = total.statusCounts.clone();
+            this.statusRevenue = new BigDecimal[STATUSES.length];
+            for (int i = 0; i < STATUSES.length; i++) {
+                BigDecimal cents = Money.toBigDecimal(total.statusCents[i]);
+                statusRevenue[i] = inexactStatus[i] == null ? cents : cents.add(inexactStatus[i]);
+            }
+            this.revenueByBucket = new TreeMap<>();
+            this.ordersByBucket = new TreeMap<>();
+            total.buckets.forEach((bucket, count, cents) -> {
+                LocalDateTime start = LocalDateTime.ofEpochSecond(bucket * bucketSeconds, 0, ZoneOffset.UTC);
+                BigDecimal extra = inexactBuckets.get(bucket);
+                BigDecimal amount = Money.toBigDecimal(cents);
+                revenueByBucket.put(start, extra == null ? amount : amount.add(extra));
+                ordersByBucket.put(start, count);
+            });
+            this.users = total.users;
+            this.inexactUserRevenue = inexactUsers;
+            this.workerCount = workerCount;
+        }
+
+        // Kısmi sonuç üreten farklı worker thread sayısı; bölmenin gerçekten paralel çalıştığını doğrulamak için
+        int getWorkerCount() {
+            return workerCount;
+        }
+
+        public long getOrderCount() {
+            return orderCount;
+        }
+
+        /**
+         * Tüm siparişlerdeki toplam ürün adedi
+         */
+        public long getItemCount() {
+            return itemCount;
+        }
+
+        public BigDecimal getRevenue() {
+            return revenue;
+        }
+
+        /**
+         * Sipariş başına ortalama tutar; sipariş yoksa sıfır
+         */
+        public BigDecimal getAverageOrderValue() {
+            if (orderCount == 0) {
+                return BigDecimal.ZERO;
+            }
+            return revenue.divide(BigDecimal.valueOf(orderCount), Money.SCALE, RoundingMode.HALF_EVEN);
+        }
+
+        /**
+         * Sipariş başına ortalama ürün adedi (sepet büyüklüğü)
+         */
+        public double getAverageBasketSize() {
+            return orderCount == 0 ? 0 : (double) itemCount / orderCount;
+        }
+
+        public long getOrderCount(OrderStatus status) {
+            return statusCounts[status.ordinal()];
+        }
+
+        public BigDecimal getRevenue(OrderStatus status) {
+            return statusRevenue[status.ordinal()];
+        }
+
+        /**
+         * Zaman dilimi başlangıcına göre sıralı gelir
+         */
+        public SortedMap<LocalDateTime, BigDecimal> getRevenueByBucket() {
+            return revenueByBucket;
+        }
+
+        /**
+         * Zaman dilimi başlangıcına göre sıralı sipariş sayısı
+         */
+        public SortedMap<LocalDateTime, Long> getOrderCountByBucket() {
+            return ordersByBucket;
+        }
+
+        /**
+         * Siparişi olan farklı kullanıcı sayısı
+         */
+        public int getUserCount() {
+            return users.size();
+        }
+
+        public long getOrderCount(long userId) {
+            return users.count(userId);
+        }
+
+        public BigDecimal getRevenue(long userId) {
+            BigDecimal amount = Money.toBigDecimal(users.sum(userId));
+            BigDecimal extra = inexactUserRevenue.get(userId);
+            return extra == null ? amount : amount.add(extra);
+        }
+
+        /**
+         * Gelire göre en çok harcayan kullanıcılar (azalan sırada)
+         */
+        public List<Long> getTopUsersByRevenue(int limit) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Limit pozitif olmalı");
+            }
+            if (!inexactUserRevenue.isEmpty()) {
+                // Kuruşa çevrilemeyen tutarlar varsa BigDecimal ile sıralanır
+                Map<Long, BigDecimal> all = new HashMap<>();
+                users.forEach((userId, count, cents) -> all.put(userId, getRevenue(userId)));
+                return all.entrySet().stream()
+                        .sorted(Map.Entry.<Long, BigDecimal>comparingByValue().reversed()
+                                .thenComparing(Map.Entry.comparingByKey()))
+                        .limit(limit)
+                        .map(Map.Entry::getKey)
+                        .toList();
+            }
+            // Kuruş toplamları üzerinde sınırlı boyutlu seçim; kullanıcı başına nesne ayrılmaz
+            long[] topUsers = new long[Math.min(limit, users.size())];
+            long[] topCents = new long[topUsers.length];
+            int[] filled = {0};
+            users.forEach((userId, count, cents) -> {
+                int n = filled[0];
+                if (n == topUsers.length && !ranksAbove(cents, userId, topCents[n - 1], topUsers[n - 1])) {
+                    return;
+                }
+                int i = n == topUsers.length ? n - 1 : n;
+                while (i > 0 && ranksAbove(cents, userId, topCents[i - 1], topUsers[i - 1])) {
+                    topCents[i] = topCents[i - 1];
+                    topUsers[i] = topUsers[i - 1];
+                    i--;
+                }
+                topCents[i] = cents;
+                topUsers[i] = userId;
+                if (n < topUsers.length) {
+                    filled[0]++;
+                }
+            });
+            List<Long> result = new ArrayList<>(topUsers.length);
+            for (long userId : topUsers) {
+                result.add(userId);
+            }
+            return result;
+        }
+
+        private static boolean ranksAbove(long cents, long userId, long otherCents, long otherUserId) {
+            return cents > otherCents || (cents == otherCents && userId < otherUserId);
+        }
+    }
+}
@@ -0,0 +1,764 @@
+package org.example.service;
+
+import org.example.model.Order;
+import org.example.model.Order.OrderItem;
+import org.example.model.Order.OrderStatus;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Kapanmış siparişlerin yerel diskte tutulan, gün bazında bölümlenmiş sıkıştırılmış arşivi
+ *
+ * Her archive çağrısı, siparişleri oluşturulma günlerine göre gruplar ve her gün için değişmez
+ * bir segment dosyası yazar (orders-YYYY-MM-DD-NNNNNN.seg). Segment içinde siparişler ID
+ * sırasıyla BLOCK_SIZE'lık bloklara bölünür ve her blok ayrı ayrı Deflater ile sıkıştırılır.
+ * Dosyanın sonundaki seyrek indeks her blok için ilk/son ID, en erken/en geç oluşturulma zamanı
+ * ve dosya konumunu tutar; bellekte yalnızca bu indeks durur (blok başına ~50 bayt). ID ile
+ * arama ilgili tek bloğu, oluşturulma aralığıyla tarama yalnızca aralıkla kesişen blokları
+ * okuyup açar. Aralık taraması tembeldir: bir günün segmentleri ID sırasıyla birleştirilerek
+ * blok blok okunur, bu yüzden aralık ne kadar geniş olursa olsun bellekte segment başına tek
+ * bir çözülmüş blok durur.
+ *
+ * Segmentler önce geçici dosyaya yazılır ve tamamlanınca atomik olarak yeniden adlandırılır;
+ * yarım kalmış yazma arşive görünmez. Dizin yeniden açıldığında mevcut segmentlerin indeksleri
+ * yüklenir. Aynı sipariş birden fazla kez arşivlenirse okumalar en yüksek sürümü döndürür.
+ * Segmentin sonundaki sabit alan (footer) segmentteki en yüksek ID'yi de taşır; dizin yeniden
+ * açıldığında getMaxArchivedId ile ID dağıtıcısı arşivdeki ID'lerin üstünden başlatılabilir.
+ * Disk hataları UncheckedIOException olarak iletilir.
+ *
+ * Zaman damgaları UTC kabul edilerek saniye ve nanosaniye olarak saklanır.
+ */
+public class OrderArchive {
+    static final int BLOCK_SIZE = 128;
+    private static final int MAGIC = 0x4F415243;
+    private static final String PREFIX = "orders-";
+    private static final String SUFFIX = ".seg";
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final Path directory;
+    // Segmentler yazılma sırasıyla; yeni segment eklenince liste kopyalanıp yeniden yayınlanır
+    private volatile List<Segment> segments = List.of();
+    private long nextSequence = 1;
+
+    /**
+     * Dizindeki arşivi açar; dizin yoksa oluşturulur
+     */
+    public OrderArchive(Path directory) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Arşiv dizini null olamaz");
+        }
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            List<Segment> loaded = new ArrayList<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+                for (Path file : files) {
+                    Segment segment = Segment.open(file);
+                    loaded.add(segment);
+                    nextSequence = Math.max(nextSequence, segment.sequence + 1);
+                }
+            }
+            loaded.sort(Comparator.comparingLong(segment -> segment.sequence));
+            this.segments = List.copyOf(loaded);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Arşiv dizini açılamadı: " + directory, e);
+        }
+    }
+
+    /**
+     * Siparişleri oluşturulma günlerine göre yeni segmentlere yazar
+     * Metot döndüğünde segmentler diske yazılmış ve okumalara açılmıştır
+     */
+    public void archive(Collection<Order> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Sipariş listesi null olamaz");
+        }
+        Map<LocalDate, List<Order>> partitions = new TreeMap<>();
+        for (Order order : orders) {
+            if (order == null || order.getId() == null || order.getCreatedAt() == null) {
+                throw new IllegalArgumentException("Arşivlenecek siparişin ID'si ve oluşturulma zamanı olmalı");
+            }
+            partitions.computeIfAbsent(order.getCreatedAt().toLocalDate(), day -> new ArrayList<>()).add(order);
+        }
+        if (partitions.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            List<Segment> written = new ArrayList<>(segments);
+            for (Map.Entry<LocalDate, List<Order>> partition : partitions.entrySet()) {
+                List<Order> sorted = new ArrayList<>(partition.getValue());
+                sorted.sort(Comparator.comparingLong(Order::getId));
+                written.add(writeSegment(partition.getKey(), nextSequence++, sorted));
+            }
+            segments = List.copyOf(written);
+        }
+    }
+
+    /**
+     * Arşivdeki siparişi ID ile bulur; her çağrıda diskten yeni bir Order çözülür
+     */
+    public Optional<Order> findById(long id) {
+        Order found = null;
+        for (Segment segment : segments) {
+            if (id < segment.firstId || id > segment.lastId) {
+                continue;
+            }
+            int block = segment.blockFor(id);
+            if (block < 0) {
+                continue;
+            }
+            for (Order order : segment.readBlock(block)) {
+                if (order.getId() == id && (found == null || order.getVersion() > found.getVersion())) {
+                    found = order;
+                }
+            }
+        }
+        return Optional.ofNullable(found);
+    }
+
+    /**
+     * Oluşturulma zamanı [from, to) aralığındaki arşivlenmiş siparişleri zaman, sonra ID sırasıyla getirir
+     * Sonuç listeye toplanır; geniş aralıklar için streamByCreatedAt kullanılmalıdır
+     */
+    public List<Order> findByCreatedAt(LocalDateTime from, LocalDateTime to) {
+        List<Order> result = new ArrayList<>();
+        spliteratorByCreatedAt(from, to, id -> false).forEachRemaining(result::add);
+        result.sort(Comparator.comparing(Order::getCreatedAt).thenComparing(Order::getId));
+        return result;
+    }
+
+    /**
+     * Oluşturulma zamanı [from, to) aralığındaki arşivlenmiş siparişleri tembel olarak dolaşan stream
+     * Siparişler gün, gün içinde ID sırasıyla gelir; bloklar ancak sıraları geldiğinde okunur.
+     */
+    public Stream<Order> streamByCreatedAt(LocalDateTime from, LocalDateTime to) {
+        return StreamSupport.stream(spliteratorByCreatedAt(from, to, id -> false), false);
+    }
+
+    /**
+     * Aralıktaki siparişleri blok blok okuyan, günlere ve ID aralıklarına bölünebilen spliterator
+     * Aynı siparişin kopyaları aynı güne düştüğünden bir günün segmentleri ID sırasıyla birleştirilerek
+     * dolaşılır ve her siparişin en yüksek sürümü bir kez döner; bellekte segment başına tek bir
+     * çözülmüş blok durur. skipId'nin true döndüğü siparişler atlanır.
+     */
+    Spliterator<Order> spliteratorByCreatedAt(LocalDateTime from, LocalDateTime to, LongPredicate skipId) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Tarih aralığı null olamaz");
+        }
+        if (skipId == null) {
+            throw new IllegalArgumentException("ID süzgeci null olamaz");
+        }
+        List<DayRange> days = new ArrayList<>();
+        if (from.isBefore(to)) {
+            LocalDate firstDay = from.toLocalDate();
+            LocalDate lastDay = to.toLocalDate();
+            Map<LocalDate, List<Segment>> byDay = new TreeMap<>();
+            for (Segment segment : segments) {
+                // Gün bölümü aralık dışındaysa segmentin indeksine hiç bakılmaz
+                if (!segment.day.isBefore(firstDay) && !segment.day.isAfter(lastDay)) {
+                    byDay.computeIfAbsent(segment.day, day -> new ArrayList<>()).add(segment);
+                }
+            }
+            for (List<Segment> daySegments : byDay.values()) {
+                long firstId = Long.MAX_VALUE;
+                long lastId = Long.MIN_VALUE;
+                for (Segment segment : daySegments) {
+                    firstId = Math.min(firstId, segment.firstId);
+                    lastId = Math.max(lastId, segment.lastId);
+                }
+                days.add(new DayRange(daySegments, firstId, lastId, from, to));
+            }
+        }
+        return new RangeSpliterator(days, skipId);
+    }
+
+    /**
+     * Arşivdeki en yüksek sipariş ID'si; arşiv boşsa 0
+     */
+    public long getMaxArchivedId() {
+        long max = 0;
+        for (Segment segment : segments) {
+            max = Math.max(max, segment.lastId);
+        }
+        return max;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Arşivdeki sipariş kaydı sayısı (yeniden arşivlenen siparişler birden fazla sayılır)
+     */
+    public long getArchivedOrderCount() {
+        long count = 0;
+        for (Segment segment : segments) {
+            count += segment.orderCount;
+        }
+        return count;
+    }
+
+    /**
+     * Segment dosyalarının diskteki toplam boyutu
+     */
+    public long getDiskBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.fileSize;
+        }
+        return bytes;
+    }
+
+    private Segment writeSegment(LocalDate day, long sequence, List<Order> orders) {
+        Path file = directory.resolve(String.format("%s%s-%06d%s", PREFIX, day, sequence, SUFFIX));
+        Path temporary = directory.resolve(file.getFileName() + ".tmp");
+        int blockCount = (orders.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        long[] firstIds = new long[blockCount];
+        long[] lastIds = new long[blockCount];
+        long[] minCreated = new long[blockCount];
+        long[] maxCreated = new long[blockCount];
+        long[] offsets = new long[blockCount];
+        int[] lengths = new int[blockCount];
+        Deflater deflater = new Deflater();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long position = 0;
+            for (int block = 0; block < blockCount; block++) {
+                List<Order> blockOrders = orders.subList(block * BLOCK_SIZE, Math.min(orders.size(), (block + 1) * BLOCK_SIZE));
+                long min = Long.MAX_VALUE;
+                long max = Long.MIN_VALUE;
+                for (Order order : blockOrders) {
+                    long key = timeKey(order.getCreatedAt());
+                    min = Math.min(min, key);
+                    max = Math.max(max, key);
+                }
+                byte[] compressed = compress(deflater, encodeBlock(blockOrders));
+                firstIds[block] = blockOrders.get(0).getId();
+                lastIds[block] = blockOrders.get(blockOrders.size() - 1).getId();
+                minCreated[block] = min;
+                maxCreated[block] = max;
+                offsets[block] = position;
+                lengths[block] = compressed.length;
+                position += writeFully(channel, ByteBuffer.wrap(compressed));
+            }
+
+            ByteBuffer index = ByteBuffer.allocate(Integer.BYTES * 2 + blockCount * Segment.INDEX_ENTRY_BYTES + Segment.FOOTER_BYTES);
+            index.putInt(orders.size()).putInt(blockCount);
+            for (int block = 0; block < blockCount; block++) {
+                index.putLong(firstIds[block]).putLong(lastIds[block])
+                        .putLong(minCreated[block]).putLong(maxCreated[block])
+                        .putLong(offsets[block]).putInt(lengths[block]);
+            }
+            index.putLong(lastIds[blockCount - 1]).putLong(position).putInt(MAGIC).flip();
+            long fileSize = position + writeFully(channel, index);
+            channel.force(true);
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+            return new Segment(file, day, sequence, orders.size(), fileSize,
+                    firstIds, lastIds, minCreated, maxCreated, offsets, lengths);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Arşiv segmenti yazılamadı: " + file, e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static long writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+        return written;
+    }
+
+    private static byte[] compress(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+        byte[] chunk = new byte[8_192];
+        while (!deflater.finished()) {
+            out.write(chunk, 0, deflater.deflate(chunk));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Bloğun sıkıştırılmamış hali: sipariş sayısı, ardından her sipariş sırayla
+     */
+    private static byte[] encodeBlock(List<Order> orders) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(orders.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(orders.size());
+        for (Order order : orders) {
+            out.writeLong(order.getId());
+            out.writeLong(order.getUserId());
+            out.writeLong(order.getVersion());
+            out.writeByte(order.getStatus().ordinal());
+            writeTime(out, order.getCreatedAt());
+            writeTime(out, order.getUpdatedAt());
+            for (OrderStatus status : STATUSES) {
+                writeTime(out, order.getStatusChangedAt(status));
+            }
+            List<OrderItem> items = order.getItems();
+            out.writeInt(items.size());
+            for (OrderItem item : items) {
+                out.writeBoolean(item.getProductName() != null);
+                if (item.getProductName() != null) {
+                    out.writeUTF(item.getProductName());
+                }
+                BigInteger unscaled = item.getPrice().unscaledValue();
+                if (unscaled.bitLength() > 63) {
+                    throw new IllegalArgumentException("Fiyat arşive yazılamayacak kadar büyük: " + item.getPrice());
+                }
+                out.writeLong(unscaled.longValue());
+                out.writeInt(item.getPrice().scale());
+                out.writeInt(item.getQuantity());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<Order> decodeBlock(byte[] raw) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+        int count = in.readInt();
+        List<Order> orders = new ArrayList<>(count);
+        LocalDateTime[] changedAt = new LocalDateTime[STATUSES.length];
+        for (int i = 0; i < count; i++) {
+            long id = in.readLong();
+            long userId = in.readLong();
+            long version = in.readLong();
+            OrderStatus status = STATUSES[in.readByte()];
+            LocalDateTime createdAt = readTime(in);
+            LocalDateTime updatedAt = readTime(in);
+            for (int s = 0; s < STATUSES.length; s++) {
+                changedAt[s] = readTime(in);
+            }
+
+            Order order = new Order(userId, createdAt);
+            order.setId(id);
+            int itemCount = in.readInt();
+            for (int j = 0; j < itemCount; j++) {
+                String name = in.readBoolean() ? in.readUTF() : null;
+                long unscaled = in.readLong();
+                int scale = in.readInt();
+                order.addItem(new OrderItem(name, BigDecimal.valueOf(unscaled, scale), in.readInt()));
+            }
+            // Ara durumların giriş zamanları geri yüklenir, en son mevcut durum atanır
+            for (OrderStatus previous : STATUSES) {
+                if (previous != OrderStatus.PENDING && previous != status && changedAt[previous.ordinal()] != null) {
+                    order.setStatus(previous, changedAt[previous.ordinal()]);
+                }
+            }
+            LocalDateTime statusAt = changedAt[status.ordinal()];
+            order.setStatus(status, statusAt != null ? statusAt : updatedAt);
+            order.setUpdatedAt(updatedAt);
+            order.setVersion(version);
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeBoolean(time != null);
+        if (time != null) {
+            out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(time.getNano());
+        }
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long seconds = in.readLong();
+        return LocalDateTime.ofEpochSecond(seconds, in.readInt(), ZoneOffset.UTC);
+    }
+
+    /**
+     * İndeksteki zaman anahtarı: UTC epoch milisaniye (blok sınırları için yeterli hassasiyet)
+     */
+    private static long timeKey(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Bir günün segmentlerinde kapalı bir ID aralığı ve [from, to) zaman aralığı
+     */
+    private static final class DayRange {
+        private final List<Segment> segments;
+        private final long fromId;
+        private final long toId;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final long fromKey;
+        private final long toKey;
+        // Aralıkla kesişen blok sayısı; okunmadan indeksten hesaplanır
+        private final int blockCount;
+
+        private DayRange(List<Segment> segments, long fromId, long toId, LocalDateTime from, LocalDateTime to) {
+            this.segments = segments;
+            this.fromId = fromId;
+            this.toId = toId;
+            this.from = from;
+            this.to = to;
+            this.fromKey = timeKey(from);
+            this.toKey = timeKey(to);
+            int blocks = 0;
+            for (Segment segment : segments) {
+                for (int block = 0; block < segment.blockCount(); block++) {
+                    if (intersects(segment, block)) {
+                        blocks++;
+                    }
+                }
+            }
+            this.blockCount = blocks;
+        }
+
+        private boolean intersects(Segment segment, int block) {
+            return segment.lastIds[block] >= fromId && segment.firstIds[block] <= toId
+                    && segment.maxCreated[block] >= fromKey && segment.minCreated[block] < toKey;
+        }
+
+        /**
+         * ID aralığını ortadan böler; alt yarıyı döndürür, bu aralık üst yarı olarak kalır
+         */
+        private DayRange[] split() {
+            long middle = fromId + (toId - fromId) / 2;
+            return new DayRange[]{
+                    new DayRange(segments, fromId, middle, from, to),
+                    new DayRange(segments, middle + 1, toId, from, to)};
+        }
+    }
+
+    /**
+     * Bir günün segmentlerini ID sırasıyla birleştiren okuyucu; aynı ID'nin kopyalarından en yüksek sürümü verir
+     */
+    private static final class DayMerge {
+        private final DayRange range;
+        private final Segment[] cursorSegments;
+        private final int[] nextBlocks;
+        private final List<List<Order>> blocks = new ArrayList<>();
+        private final int[] positions;
+
+        private DayMerge(DayRange range) {
+            this.range = range;
+            int count = range.segments.size();
+            this.cursorSegments = range.segments.toArray(new Segment[0]);
+            this.nextBlocks = new int[count];
+            this.positions = new int[count];
+            for (int i = 0; i < count; i++) {
+                blocks.add(List.of());
+            }
+        }
+
+        /**
+         * Sıradaki sipariş; gün bittiyse null
+         */
+        private Order next(LongPredicate skipId) {
+            while (true) {
+                long minId = Long.MAX_VALUE;
+                for (int i = 0; i < cursorSegments.length; i++) {
+                    if (fill(i)) {
+                        minId = Math.min(minId, blocks.get(i).get(positions[i]).getId());
+                    }
+                }
+                if (minId == Long.MAX_VALUE || minId > range.toId) {
+                    return null;
+                }
+                // Segmentler yazılma sırasıyla durur; eşit sürümde sonra yazılan kazanır
+                Order newest = null;
+                for (int i = 0; i < cursorSegments.length; i++) {
+                    if (fill(i)) {
+                        Order order = blocks.get(i).get(positions[i]);
+                        if (order.getId() == minId) {
+                            positions[i]++;
+                            if (newest == null || order.getVersion() >= newest.getVersion()) {
+                                newest = order;
+                            }
+                        }
+                    }
+                }
+                LocalDateTime createdAt = newest.getCreatedAt();
+                if (!createdAt.isBefore(range.from) && createdAt.isBefore(range.to) && !skipId.test(minId)) {
+                    return newest;
+                }
+            }
+        }
+
+        /**
+         * İmlecin bloğunda okunacak sipariş kalmadıysa aralıkla kesişen sonraki bloğu okur; segment bittiyse false
+         */
+        private boolean fill(int cursor) {
+            Segment segment = cursorSegments[cursor];
+            while (positions[cursor] == blocks.get(cursor).size()) {
+                int block = nextBlocks[cursor];
+                if (block >= segment.blockCount() || segment.firstIds[block] > range.toId) {
+                    blocks.set(cursor, List.of());
+                    positions[cursor] = 0;
+                    return false;
+                }
+                nextBlocks[cursor]++;
+                if (range.intersects(segment, block)) {
+                    List<Order> orders = segment.readBlock(block);
+                    int position = 0;
+                    while (position < orders.size() && orders.get(position).getId() < range.fromId) {
+                        position++;
+                    }
+                    blocks.set(cursor, orders);
+                    positions[cursor] = position;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Gün aralıklarını sırayla dolaşan spliterator; önce günleri, tek gün kalınca ID aralığını böler
+     */
+    private static final class RangeSpliterator implements Spliterator<Order> {
+        private final List<DayRange> days;
+        private final LongPredicate skipId;
+        private int position;
+        private DayMerge merge;
+
+        private RangeSpliterator(List<DayRange> days, LongPredicate skipId) {
+            this.days = days;
+            this.skipId = skipId;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Order> action) {
+            while (true) {
+                if (merge == null) {
+                    if (position == days.size()) {
+                        return false;
+                    }
+                    merge = new DayMerge(days.get(position++));
+                }
+                Order order = merge.next(skipId);
+                if (order != null) {
+                    action.accept(order);
+                    return true;
+                }
+                merge = null;
+            }
+        }
+
+        @Override
+        public Spliterator<Order> trySplit() {
+            int remaining = days.size() - position;
+            if (merge != null || remaining == 0) {
+                return null;
+            }
+            if (remaining > 1) {
+                int middle = position + remaining / 2;
+                RangeSpliterator prefix = new RangeSpliterator(new ArrayList<>(days.subList(position, middle)), skipId);
+                position = middle;
+                return prefix;
+            }
+            DayRange day = days.get(position);
+            if (day.blockCount < 2 || day.toId <= day.fromId) {
+                return null;
+            }
+            DayRange[] halves = day.split();
+            days.set(position, halves[1]);
+            return new RangeSpliterator(new ArrayList<>(List.of(halves[0])), skipId);
+        }
+
+        @Override
+        public long estimateSize() {
+            long blocks = 0;
+            for (int i = position; i < days.size(); i++) {
+                blocks += days.get(i).blockCount;
+            }
+            return blocks * BLOCK_SIZE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+
+    /**
+     * Tek bir segment dosyasının bellekte tutulan seyrek indeksi
+     */
+    private static final class Segment {
+        private static final int INDEX_ENTRY_BYTES = Long.BYTES * 5 + Integer.BYTES;
+        // En yüksek ID, indeks konumu, MAGIC
+        private static final int FOOTER_BYTES = Long.BYTES * 2 + Integer.BYTES;
+
+        private final Path file;
+        private final LocalDate day;
+        private final long sequence;
+        private final int orderCount;
+        private final long fileSize;
+        private final long firstId;
+        private final long lastId;
+        private final long[] firstIds;
+        private final long[] lastIds;
+        private final long[] minCreated;
+        private final long[] maxCreated;
+        private final long[] offsets;
+        private final int[] lengths;
+
+        private Segment(Path file, LocalDate day, long sequence, int orderCount, long fileSize,
+                        long[] firstIds, long[] lastIds, long[] minCreated, long[] maxCreated,
+                        long[] offsets, int[] lengths) {
+            this.file = file;
+            this.day = day;
+            this.sequence = sequence;
+            this.orderCount = orderCount;
+            this.fileSize = fileSize;
+            this.firstId = firstIds.length > 0 ? firstIds[0] : Long.MAX_VALUE;
+            this.lastId = lastIds.length > 0 ? lastIds[lastIds.length - 1] : Long.MIN_VALUE;
+            this.firstIds = firstIds;
+            this.lastIds = lastIds;
+            this.minCreated = minCreated;
+            this.maxCreated = maxCreated;
+            this.offsets = offsets;
+            this.lengths = lengths;
+        }
+
+        /**
+         * Dosyanın sonundaki indeksi okur; dosya adı gün ve sıra numarasını verir
+         */
+        private static Segment open(Path file) throws IOException {
+            String name = file.getFileName().toString();
+            String stem = name.substring(PREFIX.length(), name.length() - SUFFIX.length());
+            LocalDate day;
+            long sequence;
+            try {
+                day = LocalDate.parse(stem.substring(0, 10));
+                sequence = Long.parseLong(stem.substring(11));
+            } catch (RuntimeException e) {
+                throw new IOException("Geçersiz segment dosya adı: " + name, e);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size < FOOTER_BYTES) {
+                    throw new IOException("Segment dosyası eksik: " + name);
+                }
+                ByteBuffer footer = readFully(channel, size - FOOTER_BYTES, FOOTER_BYTES);
+                long maxId = footer.getLong();
+                long indexOffset = footer.getLong();
+                if (footer.getInt() != MAGIC || indexOffset < 0 || indexOffset > size - FOOTER_BYTES) {
+                    throw new IOException("Segment dosyası bozuk: " + name);
+                }
+                ByteBuffer index = readFully(channel, indexOffset, (int) (size - FOOTER_BYTES - indexOffset));
+                int orderCount = index.getInt();
+                int blockCount = index.getInt();
+                long[] firstIds = new long[blockCount];
+                long[] lastIds = new long[blockCount];
+                long[] minCreated = new long[blockCount];
+                long[] maxCreated = new long[blockCount];
+                long[] offsets = new long[blockCount];
+                int[] lengths = new int[blockCount];
+                for (int block = 0; block < blockCount; block++) {
+                    firstIds[block] = index.getLong();
+                    lastIds[block] = index.getLong();
+                    minCreated[block] = index.getLong();
+                    maxCreated[block] = index.getLong();
+                    offsets[block] = index.getLong();
+                    lengths[block] = index.getInt();
+                }
+                if (blockCount == 0 || lastIds[blockCount - 1] != maxId) {
+                    throw new IOException("Segment dosyası bozuk: " + name);
+                }
+                return new Segment(file, day, sequence, orderCount, size,
+                        firstIds, lastIds, minCreated, maxCreated, offsets, lengths);
+            }
+        }
+
+        private int blockCount() {
+            return firstIds.length;
+        }
+
+        /**
+         * ID'yi içerebilecek bloğun sırası; hiçbir blok kapsamıyorsa -1
+         */
+        private int blockFor(long id) {
+            int low = 0;
+            int high = firstIds.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (firstIds[mid] > id) {
+                    high = mid - 1;
+                } else if (lastIds[mid] < id) {
+                    low = mid + 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        private List<Order> readBlock(int block) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer compressed = readFully(channel, offsets[block], lengths[block]);
+                Inflater inflater = new Inflater();
+                try {
+                    inflater.setInput(compressed.array());
+                    ByteArrayOutputStream raw = new ByteArrayOutputStream(lengths[block] * 4);
+                    byte[] chunk = new byte[8_192];
+                    while (!inflater.finished()) {
+                        int inflated = inflater.inflate(chunk);
+                        if (inflated == 0 && inflater.needsInput()) {
+                            throw new IOException("Segment bloğu eksik: " + file.getFileName());
+                        }
+                        raw.write(chunk, 0, inflated);
+                    }
+                    return decodeBlock(raw.toByteArray());
+                } catch (DataFormatException e) {
+                    throw new IOException("Segment bloğu bozuk: " + file.getFileName(), e);
+                } finally {
+                    inflater.end();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Arşiv segmenti okunamadı: " + file, e);
+            }
+        }
+
+        private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Beklenmeyen dosya sonu");
+                }
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+}
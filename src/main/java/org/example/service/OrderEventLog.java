@@ -0,0 +1,397 @@
+package org.example.service;
+
+import org.example.model.Order.OrderItem;
+import org.example.model.Order.OrderStatus;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Sipariş olaylarının yalnızca sona eklenen (append-only) ikili günlüğü
+ *
+ * Her olay bir tür baytı ve değişken uzunluklu (varint) alanlarla kodlanır: ID'ler ve adetler
+ * çoğunlukla 1-3 bayt, zaman damgaları epoch milisaniye olarak 6 bayt tutar. Kayıtlar 1 MB'lık
+ * byte[] parçalarında durur ve parça sınırını aşmaz; dizi büyürken eski veri kopyalanmaz.
+ * appendAll bir grubu önce kilitsiz olarak yerel bir tampona kodlar, sonra tek bir kilitli
+ * kopyayla günlüğe ekler; grup içindeki olaylar araya başka olay girmeden art arda yazılır.
+ * Yazılmış baytlar bir daha değişmez, bu yüzden forEach yalnızca o anki sonu kilitle okur ve
+ * oynatma sırasında yazmalar beklemez.
+ *
+ * Zaman damgaları milisaniye hassasiyetinde saklanır. LocalDateTime değerleri UTC kabul
+ * edilerek kodlanır ve aynı şekilde geri çözülür.
+ */
+public class OrderEventLog {
+    static final int CHUNK_SIZE = 1 << 20;
+
+    private byte[][] chunks = new byte[16][];
+    private int[] chunkUsed = new int[16];
+    private int chunkCount;
+    private long eventCount;
+    private long byteSize;
+
+    /**
+     * Tek bir olay ekler
+     */
+    public void append(OrderEvent event) {
+        appendAll(List.of(event));
+    }
+
+    /**
+     * Olayları verilen sırayla, araya başka olay girmeden ekler
+     */
+    public void appendAll(List<OrderEvent> events) {
+        if (events == null) {
+            throw new IllegalArgumentException("Olay listesi null olamaz");
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+        Encoder encoder = new Encoder(events.size());
+        for (OrderEvent event : events) {
+            if (event == null) {
+                throw new IllegalArgumentException("Olay null olamaz");
+            }
+            encoder.encode(event);
+        }
+        synchronized (this) {
+            copyRecords(encoder);
+            eventCount += events.size();
+            byteSize += encoder.length;
+        }
+    }
+
+    /**
+     * O ana kadar eklenmiş olayları eklenme sırasıyla çözer ve tüketiciye verir
+     * Oynatma sürerken eklenen olaylar bu oynatmaya dahil edilmez
+     */
+    public void forEach(Consumer<OrderEvent> consumer) {
+        byte[][] snapshot;
+        int count;
+        int lastUsed;
+        int[] used;
+        synchronized (this) {
+            snapshot = chunks;
+            count = chunkCount;
+            used = chunkUsed;
+            lastUsed = count > 0 ? chunkUsed[count - 1] : 0;
+        }
+        Decoder decoder = new Decoder();
+        for (int i = 0; i < count; i++) {
+            decoder.buffer = snapshot[i];
+            decoder.position = 0;
+            int end = i == count - 1 ? lastUsed : used[i];
+            while (decoder.position < end) {
+                consumer.accept(decoder.decode());
+            }
+        }
+    }
+
+    /**
+     * Günlükteki olay sayısı
+     */
+    public synchronized long size() {
+        return eventCount;
+    }
+
+    /**
+     * Olayların kodlanmış toplam boyutu (bayt)
+     */
+    public synchronized long getByteSize() {
+        return byteSize;
+    }
+
+    private void copyRecords(Encoder encoder) {
+        int record = 0;
+        while (record < encoder.recordCount) {
+            int start = record == 0 ? 0 : encoder.recordEnds[record - 1];
+            int space = chunkCount == 0 ? 0 : chunks[chunkCount - 1].length - chunkUsed[chunkCount - 1];
+            // Bu parçaya sığan en uzun kayıt dizisi tek kopyayla yazılır
+            int last = record;
+            while (last < encoder.recordCount && encoder.recordEnds[last] - start <= space) {
+                last++;
+            }
+            if (last == record) {
+                newChunk(Math.max(CHUNK_SIZE, encoder.recordEnds[record] - start));
+                continue;
+            }
+            int length = encoder.recordEnds[last - 1] - start;
+            System.arraycopy(encoder.buffer, start, chunks[chunkCount - 1], chunkUsed[chunkCount - 1], length);
+            chunkUsed[chunkCount - 1] += length;
+            record = last;
+        }
+    }
+
+    private void newChunk(int size) {
+        if (chunkCount == chunks.length) {
+            // Okuyucular eski dizileri tutabilir; diziler yerinde değil kopyalanarak büyütülür
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            chunkUsed = Arrays.copyOf(chunkUsed, chunkCount * 2);
+        }
+        chunks[chunkCount] = new byte[size];
+        chunkCount++;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromEpochMillis(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    /**
+     * Olay türü
+     */
+    public enum EventType {
+        CREATED,
+        ITEM_ADDED,
+        ITEM_REMOVED,
+        STATUS_CHANGED,
+        USER_CHANGED,
+        DELETED
+    }
+
+    /**
+     * Tek bir sipariş olayı
+     * Türe göre yalnızca ilgili alanlar doludur: CREATED kullanıcı ve zaman, ITEM_* ürün satırı,
+     * STATUS_CHANGED durum ve zaman, USER_CHANGED kullanıcı taşır
+     */
+    public static class OrderEvent {
+        private final EventType type;
+        private final long orderId;
+        private final Long userId;
+        private final OrderItem item;
+        private final OrderStatus status;
+        private final LocalDateTime timestamp;
+
+        private OrderEvent(EventType type, long orderId, Long userId, OrderItem item,
+                           OrderStatus status, LocalDateTime timestamp) {
+            this.type = type;
+            this.orderId = orderId;
+            this.userId = userId;
+            this.item = item;
+            this.status = status;
+            this.timestamp = timestamp;
+        }
+
+        public static OrderEvent created(long orderId, long userId, LocalDateTime createdAt) {
+            if (createdAt == null) {
+                throw new IllegalArgumentException("Oluşturma zamanı null olamaz");
+            }
+            return new OrderEvent(EventType.CREATED, orderId, userId, null, null, createdAt);
+        }
+
+        public static OrderEvent itemAdded(long orderId, OrderItem item) {
+            return new OrderEvent(EventType.ITEM_ADDED, orderId, null, requireItem(item), null, null);
+        }
+
+        public static OrderEvent itemRemoved(long orderId, OrderItem item) {
+            return new OrderEvent(EventType.ITEM_REMOVED, orderId, null, requireItem(item), null, null);
+        }
+
+        public static OrderEvent statusChanged(long orderId, OrderStatus status, LocalDateTime changedAt) {
+            if (status == null || changedAt == null) {
+                throw new IllegalArgumentException("Durum ve değişiklik zamanı null olamaz");
+            }
+            return new OrderEvent(EventType.STATUS_CHANGED, orderId, null, null, status, changedAt);
+        }
+
+        public static OrderEvent userChanged(long orderId, long userId) {
+            return new OrderEvent(EventType.USER_CHANGED, orderId, userId, null, null, null);
+        }
+
+        public static OrderEvent deleted(long orderId) {
+            return new OrderEvent(EventType.DELETED, orderId, null, null, null, null);
+        }
+
+        private static OrderItem requireItem(OrderItem item) {
+            if (item == null || item.getPrice() == null) {
+                throw new IllegalArgumentException("Ürün satırı ve fiyatı null olamaz");
+            }
+            return item;
+        }
+
+        public EventType getType() {
+            return type;
+        }
+
+        public long getOrderId() {
+            return orderId;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public OrderItem getItem() {
+            return item;
+        }
+
+        public OrderStatus getStatus() {
+            return status;
+        }
+
+        public LocalDateTime getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public String toString() {
+            return "OrderEvent{" +
+                    "type=" + type +
+                    ", orderId=" + orderId +
+                    (userId != null ? ", userId=" + userId : "") +
+                    (item != null ? ", product=" + item.getProductName() + ", quantity=" + item.getQuantity() : "") +
+                    (status != null ? ", status=" + status : "") +
+                    '}';
+        }
+    }
+
+    /**
+     * Olayları yerel, büyüyebilen bir tampona kodlar ve kayıt sonlarını tutar
+     */
+    private static final class Encoder {
+        private byte[] buffer;
+        private int length;
+        private int[] recordEnds;
+        private int recordCount;
+
+        private Encoder(int expectedEvents) {
+            this.buffer = new byte[Math.max(32, expectedEvents * 24)];
+            this.recordEnds = new int[expectedEvents];
+        }
+
+        private void encode(OrderEvent event) {
+            writeByte(event.type.ordinal());
+            writeVarLong(event.orderId);
+            switch (event.type) {
+                case CREATED -> {
+                    writeVarLong(event.userId);
+                    writeVarLong(zigzag(toEpochMillis(event.timestamp)));
+                }
+                case ITEM_ADDED, ITEM_REMOVED -> writeItem(event.item);
+                case STATUS_CHANGED -> {
+                    writeByte(event.status.ordinal());
+                    writeVarLong(zigzag(toEpochMillis(event.timestamp)));
+                }
+                case USER_CHANGED -> writeVarLong(event.userId);
+                case DELETED -> {
+                }
+            }
+            if (recordCount == recordEnds.length) {
+                recordEnds = Arrays.copyOf(recordEnds, recordCount * 2 + 1);
+            }
+            recordEnds[recordCount++] = length;
+        }
+
+        private void writeItem(OrderItem item) {
+            String name = item.getProductName();
+            if (name == null) {
+                writeVarLong(0);
+            } else {
+                byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(bytes.length + 1L);
+                ensure(bytes.length);
+                System.arraycopy(bytes, 0, buffer, length, bytes.length);
+                length += bytes.length;
+            }
+            BigInteger unscaled = item.getPrice().unscaledValue();
+            if (unscaled.bitLength() > 63) {
+                throw new IllegalArgumentException("Fiyat olay günlüğüne yazılamayacak kadar büyük: " + item.getPrice());
+            }
+            writeVarLong(zigzag(item.getPrice().scale()));
+            writeVarLong(zigzag(unscaled.longValue()));
+            writeVarLong(zigzag(item.getQuantity()));
+        }
+
+        private void writeByte(int value) {
+            ensure(1);
+            buffer[length++] = (byte) value;
+        }
+
+        private void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+            }
+        }
+
+        private static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    /**
+     * Bir parçadaki kayıtları sırayla çözer
+     */
+    private static final class Decoder {
+        private static final EventType[] TYPES = EventType.values();
+        private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+        private byte[] buffer;
+        private int position;
+
+        private OrderEvent decode() {
+            EventType type = TYPES[buffer[position++]];
+            long orderId = readVarLong();
+            return switch (type) {
+                case CREATED -> {
+                    long userId = readVarLong();
+                    yield OrderEvent.created(orderId, userId, fromEpochMillis(unzigzag(readVarLong())));
+                }
+                case ITEM_ADDED -> OrderEvent.itemAdded(orderId, readItem());
+                case ITEM_REMOVED -> OrderEvent.itemRemoved(orderId, readItem());
+                case STATUS_CHANGED -> {
+                    OrderStatus status = STATUSES[buffer[position++]];
+                    yield OrderEvent.statusChanged(orderId, status, fromEpochMillis(unzigzag(readVarLong())));
+                }
+                case USER_CHANGED -> OrderEvent.userChanged(orderId, readVarLong());
+                case DELETED -> OrderEvent.deleted(orderId);
+            };
+        }
+
+        private OrderItem readItem() {
+            int nameLength = (int) readVarLong() - 1;
+            String name = null;
+            if (nameLength >= 0) {
+                name = new String(buffer, position, nameLength, StandardCharsets.UTF_8);
+                position += nameLength;
+            }
+            int scale = (int) unzigzag(readVarLong());
+            long unscaled = unzigzag(readVarLong());
+            int quantity = (int) unzigzag(readVarLong());
+            return new OrderItem(name, BigDecimal.valueOf(unscaled, scale), quantity);
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        private static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -0,0 +1,527 @@
+package org.example.service;
+
+import org.example.model.Money;
+import org.example.model.Order;
+import org.example.model.Order.OrderItem;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Pazaryeri beslemelerinden gelen siparişler için aşamalı toplu alım hattı
+ *
+ * Ham satırlar sırasıyla PARSE → VALIDATE → TOTALS → STORE → EVENTS aşamalarından geçer.
+ * Her aşamanın kendi worker havuzu ve önünde sınırlı bir kuyruğu vardır; aşamalar arasında tek
+ * tek kayıt değil, batchSize'lık kayıt grupları (batch) akar. Kuyruk dolunca yazan taraf
+ * bekler: yavaş bir aşama önce kendi kuyruğunu, sonra sırayla üst aşamaları ve en sonunda
+ * submit çağıranı yavaşlatır. Böylece hattaki kayıt sayısı en fazla
+ * (aşama sayısı x (kuyruk kapasitesi + worker sayısı) x batchSize) olur, bellek patlamaz.
+ *
+ * Satır biçimi: {@code userId;ürün|fiyat|adet;ürün|fiyat|adet...} (ör. {@code 42;Kalem|12.50|2}).
+ * Çözülemeyen veya doğrulanamayan satırlar ilgili aşamada reddedilir ve istatistiklerde
+ * sayılır; hattı durdurmaz. Reddetme yalnızca beklenen veri hatalarıdır (biçim, iş kuralı,
+ * kuruş taşması). Bir aşamadaki beklenmeyen exception (ör. kayıt veya olay tüketicisi
+ * hatası, koddaki bir NullPointerException) reddetme sayılmaz: etkilenen kayıtlar o aşamanın
+ * hatalı kayıtlarına yazılır ve son hata getLastFailure ile alınabilir. Olay aşamasındaki
+ * hata, siparişlerin kaydedildiğini geri almaz; bu kayıtlar kaydedilmiş ama olayı iletilememiş
+ * sayılır. STORE aşaması ID verme ve indekslemeyi OrderRepository.saveAll
+ * ile tek adımda yapar (her batch tek sürüm olarak yayınlanır). EVENTS aşaması kaydedilen
+ * siparişleri verilen tüketiciye (ör. olay günlüğü veya değişiklik akışı) batch halinde iletir.
+ * Farklı worker'lar batch'leri farklı sırada bitirebilir; batch'ler arası sıra korunmaz.
+ */
+public class OrderIngestionPipeline implements AutoCloseable {
+    public static final int DEFAULT_BATCH_SIZE = 512;
+    public static final int DEFAULT_QUEUE_CAPACITY = 8;
+
+    /**
+     * Hattın aşamaları, akış sırasıyla
+     */
+    public enum Stage {
+        PARSE, VALIDATE, TOTALS, STORE, EVENTS
+    }
+
+    // Kapanışta her worker'a bir tane gönderilen bitiş işareti (kimlikle karşılaştırılır)
+    private static final List<Object> END = new ArrayList<>();
+
+    private final int batchSize;
+    private final StageRunner[] stages;
+    private final Object progressLock = new Object();
+    private long submittedRecords;
+    private long finishedRecords;
+    // submit kuyruğa koyarken okuma, close kapatırken yazma kilidini tutar; kapanıştan sonra kuyruğa batch giremez
+    private final ReentrantReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private boolean closed;
+    private volatile RuntimeException lastFailure;
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Varsayılan batch boyutu ve kuyruk kapasitesiyle, her aşamada bir worker ile oluşturur
+     */
+    public OrderIngestionPipeline(OrderRepository repository, Consumer<List<Order>> eventSink) {
+        this(repository, eventSink, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY, 1);
+    }
+
+    /**
+     * @param eventSink     kaydedilen siparişleri alan tüketici; null ise EVENTS aşaması yalnızca sayar
+     * @param queueCapacity her aşamanın önündeki kuyrukta bekleyebilecek en fazla batch sayısı
+     * @param workersPerStage her aşamanın worker sayısı
+     */
+    public OrderIngestionPipeline(OrderRepository repository, Consumer<List<Order>> eventSink,
+                                  int batchSize, int queueCapacity, int workersPerStage) {
+        if (repository == null) {
+            throw new IllegalArgumentException("Repository null olamaz");
+        }
+        if (batchSize <= 0 || queueCapacity <= 0 || workersPerStage <= 0) {
+            throw new IllegalArgumentException("Batch boyutu, kuyruk kapasitesi ve worker sayısı pozitif olmalı");
+        }
+        this.batchSize = batchSize;
+        this.stages = new StageRunner[Stage.values().length];
+        stages[Stage.PARSE.ordinal()] = new StageRunner(Stage.PARSE, queueCapacity, workersPerStage,
+                filter(Stage.PARSE, OrderIngestionPipeline::parse));
+        stages[Stage.VALIDATE.ordinal()] = new StageRunner(Stage.VALIDATE, queueCapacity, workersPerStage,
+                filter(Stage.VALIDATE, OrderIngestionPipeline::validate));
+        stages[Stage.TOTALS.ordinal()] = new StageRunner(Stage.TOTALS, queueCapacity, workersPerStage,
+                filter(Stage.TOTALS, OrderIngestionPipeline::buildOrder));
+        stages[Stage.STORE.ordinal()] = new StageRunner(Stage.STORE, queueCapacity, workersPerStage,
+                batch -> {
+                    @SuppressWarnings("unchecked")
+                    List<Order> orders = (List<Order>) (List<?>) batch;
+                    return new ArrayList<>(repository.saveAll(orders));
+                });
+        stages[Stage.EVENTS.ordinal()] = new StageRunner(Stage.EVENTS, queueCapacity, workersPerStage,
+                batch -> {
+                    if (eventSink != null) {
+                        @SuppressWarnings("unchecked")
+                        List<Order> orders = (List<Order>) (List<?>) batch;
+                        eventSink.accept(orders);
+                    }
+                    return batch;
+                });
+        for (int i = 0; i < stages.length; i++) {
+            stages[i].start(i + 1 < stages.length ? stages[i + 1] : null);
+        }
+    }
+
+    /**
+     * Satırları batch'lere bölüp hatta verir
+     * İlk aşamanın kuyruğu doluysa yer açılana kadar bekler (geri basınç)
+     * Kapanış, kuyruğa girmekte olan batch'i bekler; kapanış önce davranırsa kalan batch'ler reddedilir
+     *
+     * @throws IllegalStateException hat kapatılmışsa (önceki batch'ler hatta kalır)
+     */
+    public void submit(List<String> lines) throws InterruptedException {
+        if (lines == null) {
+            throw new IllegalArgumentException("Satır listesi null olamaz");
+        }
+        for (int from = 0; from < lines.size(); from += batchSize) {
+            List<Object> batch = new ArrayList<>(lines.subList(from, Math.min(lines.size(), from + batchSize)));
+            lifecycleLock.readLock().lockInterruptibly();
+            try {
+                if (closed) {
+                    throw new IllegalStateException("Alım hattı kapatılmış");
+                }
+                synchronized (progressLock) {
+                    submittedRecords += batch.size();
+                }
+                try {
+                    stages[0].put(batch);
+                } catch (InterruptedException e) {
+                    // Kuyruğa giremeyen batch beklenen kayıtlardan düşülür
+                    synchronized (progressLock) {
+                        submittedRecords -= batch.size();
+                        progressLock.notifyAll();
+                    }
+                    throw e;
+                }
+            } finally {
+                lifecycleLock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * O ana kadar verilen tüm satırlar kaydedilene veya reddedilene kadar bekler
+     *
+     * @return süre dolmadan hat boşaldıysa true
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (progressLock) {
+            while (finishedRecords < submittedRecords) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(progressLock, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Aşamaların o anki istatistikleri, akış sırasıyla
+     */
+    public List<StageStats> getStats() {
+        long elapsed = Math.max(1, System.nanoTime() - startNanos);
+        List<StageStats> stats = new ArrayList<>(stages.length);
+        for (StageRunner stage : stages) {
+            stats.add(stage.stats(elapsed));
+        }
+        return stats;
+    }
+
+    /**
+     * Bir aşamada beklenmeyen exception ile işlenemeyen son kaydın hatası
+     */
+    public Optional<RuntimeException> getLastFailure() {
+        return Optional.ofNullable(lastFailure);
+    }
+
+    /**
+     * Yeni satır kabulünü durdurur, hattaki kayıtları sonuna kadar işler ve worker'ları kapatır
+     */
+    @Override
+    public void close() {
+        lifecycleLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        boolean interrupted = false;
+        // Bitiş işaretleri aşama aşama gönderilir; bir aşama tamamen bitmeden sonrakine geçilmez
+        for (StageRunner stage : stages) {
+            try {
+                stage.finish();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                stage.workers.shutdownNow();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void recordFinished(int records) {
+        if (records == 0) {
+            return;
+        }
+        synchronized (progressLock) {
+            finishedRecords += records;
+            if (finishedRecords >= submittedRecords) {
+                progressLock.notifyAll();
+            }
+        }
+    }
+
+    // Aşama işlemleri
+
+    private void recordFailure(Stage stage, RuntimeException failure, int records) {
+        stages[stage.ordinal()].failedRecords.add(records);
+        lastFailure = failure;
+    }
+
+    /**
+     * Kayıt başına çalışan bir işlemi batch'e uygular
+     * null dönen kayıtlar reddedilmiş, exception fırlatan kayıtlar hatalı sayılır
+     */
+    private Function<List<Object>, List<Object>> filter(Stage stage, Function<Object, Object> step) {
+        return batch -> {
+            List<Object> out = new ArrayList<>(batch.size());
+            for (Object record : batch) {
+                Object result;
+                try {
+                    result = step.apply(record);
+                } catch (RuntimeException e) {
+                    recordFailure(stage, e, 1);
+                    continue;
+                }
+                if (result != null) {
+                    out.add(result);
+                }
+            }
+            return out;
+        };
+    }
+
+    /**
+     * Satırı kullanıcı ve satırlara çözer; biçim hatalıysa null
+     */
+    private static Object parse(Object record) {
+        String line = (String) record;
+        int end = line.indexOf(';');
+        if (end <= 0) {
+            return null;
+        }
+        try {
+            long userId = Long.parseLong(line.substring(0, end).trim());
+            List<OrderItem> items = new ArrayList<>(4);
+            int start = end + 1;
+            while (start < line.length()) {
+                end = line.indexOf(';', start);
+                if (end < 0) {
+                    end = line.length();
+                }
+                int priceStart = line.indexOf('|', start);
+                int quantityStart = priceStart < 0 ? -1 : line.indexOf('|', priceStart + 1);
+                if (priceStart < 0 || quantityStart < 0 || quantityStart >= end) {
+                    return null;
+                }
+                items.add(new OrderItem(line.substring(start, priceStart),
+                        new BigDecimal(line.substring(priceStart + 1, quantityStart)),
+                        Integer.parseInt(line.substring(quantityStart + 1, end))));
+                start = end + 1;
+            }
+            return new ParsedOrder(userId, items);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * İş kurallarını uygular; geçersiz siparişte null
+     */
+    private static Object validate(Object record) {
+        ParsedOrder parsed = (ParsedOrder) record;
+        if (parsed.userId < 0 || parsed.items.isEmpty()) {
+            return null;
+        }
+        for (OrderItem item : parsed.items) {
+            if (item.getProductName().isBlank() || item.getQuantity() <= 0
+                    || item.getPrice().signum() < 0 || !Money.isRepresentable(item.getPrice())) {
+                return null;
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Siparişi oluşturur; toplamlar satırlar eklenirken hesaplanır, kuruş toplamı taşarsa null
+     */
+    private static Object buildOrder(Object record) {
+        ParsedOrder parsed = (ParsedOrder) record;
+        Order order = new Order(parsed.userId);
+        for (OrderItem item : parsed.items) {
+            order.addItem(item);
+        }
+        try {
+            order.getTotalCents();
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        return order;
+    }
+
+    /**
+     * Çözülmüş ama henüz doğrulanmamış sipariş
+     */
+    private static final class ParsedOrder {
+        private final long userId;
+        private final List<OrderItem> items;
+
+        private ParsedOrder(long userId, List<OrderItem> items) {
+            this.userId = userId;
+            this.items = items;
+        }
+    }
+
+    /**
+     * Tek bir aşamanın kuyruğu, worker havuzu ve sayaçları
+     */
+    private final class StageRunner {
+        private final Stage stage;
+        private final BlockingQueue<List<Object>> queue;
+        private final int queueCapacity;
+        private final int workerCount;
+        private final ExecutorService workers;
+        private final Function<List<Object>, List<Object>> process;
+        private final LongAdder inputRecords = new LongAdder();
+        private final LongAdder outputRecords = new LongAdder();
+        private final LongAdder failedRecords = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder busyNanos = new LongAdder();
+        private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+        private StageRunner(Stage stage, int queueCapacity, int workerCount,
+                            Function<List<Object>, List<Object>> process) {
+            this.stage = stage;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.queueCapacity = queueCapacity;
+            this.workerCount = workerCount;
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+                Thread thread = new Thread(runnable, "ingest-" + stage.name().toLowerCase() + "-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.process = process;
+        }
+
+        private void start(StageRunner next) {
+            for (int i = 0; i < workerCount; i++) {
+                workers.execute(() -> run(next));
+            }
+        }
+
+        private void put(List<Object> batch) throws InterruptedException {
+            queue.put(batch);
+            maxQueueDepth.accumulateAndGet(queue.size(), Math::max);
+        }
+
+        private void run(StageRunner next) {
+            try {
+                while (true) {
+                    List<Object> batch = queue.take();
+                    if (batch == END) {
+                        return;
+                    }
+                    long start = System.nanoTime();
+                    List<Object> out;
+                    try {
+                        out = process.apply(batch);
+                    } catch (RuntimeException e) {
+                        // Toplu adım (ör. kayıt veya olay tüketicisi) başarısızsa batch'in tamamı hatalıdır
+                        recordFailure(stage, e, batch.size());
+                        out = List.of();
+                    }
+                    busyNanos.add(System.nanoTime() - start);
+                    batches.increment();
+                    inputRecords.add(batch.size());
+                    outputRecords.add(out.size());
+                    if (next != null && !out.isEmpty()) {
+                        recordFinished(batch.size() - out.size());
+                        next.put(out);
+                    } else {
+                        recordFinished(batch.size());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Her worker'a bitiş işareti gönderir ve kuyruk boşalıp worker'lar çıkana kadar bekler
+         */
+        private void finish() throws InterruptedException {
+            for (int i = 0; i < workerCount; i++) {
+                queue.put(END);
+            }
+            workers.shutdown();
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+
+        private StageStats stats(long elapsedNanos) {
+            long processed = inputRecords.sum();
+            long failed = failedRecords.sum();
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return new StageStats(stage, processed, processed - outputRecords.sum() - failed, failed, batches.sum(),
+                    queue.size(), maxQueueDepth.get(), queueCapacity,
+                    processed / seconds, (double) busyNanos.sum() / elapsedNanos / workerCount);
+        }
+    }
+
+    /**
+     * Bir aşamanın anlık istatistikleri
+     * Doluluk (utilization), worker'ların batch işleyerek geçirdiği sürenin toplam süreye oranıdır;
+     * 1'e yakın olan aşama hattın darboğazıdır.
+     */
+    public static final class StageStats {
+        private final Stage stage;
+        private final long processedRecords;
+        private final long rejectedRecords;
+        private final long failedRecords;
+        private final long batches;
+        private final int queueDepth;
+        private final int maxQueueDepth;
+        private final int queueCapacity;
+        private final double recordsPerSecond;
+        private final double utilization;
+
+        private StageStats(Stage stage, long processedRecords, long rejectedRecords, long failedRecords, long batches,
+                           int queueDepth, int maxQueueDepth, int queueCapacity,
+                           double recordsPerSecond, double utilization) {
+            this.stage = stage;
+            this.processedRecords = processedRecords;
+            this.rejectedRecords = rejectedRecords;
+            this.failedRecords = failedRecords;
+            this.batches = batches;
+            this.queueDepth = queueDepth;
+            this.maxQueueDepth = maxQueueDepth;
+            this.queueCapacity = queueCapacity;
+            this.recordsPerSecond = recordsPerSecond;
+            this.utilization = utilization;
+        }
+
+        public Stage getStage() {
+            return stage;
+        }
+
+        public long getProcessedRecords() {
+            return processedRecords;
+        }
+
+        /**
+         * Veri hatası nedeniyle bu aşamada elenen kayıtlar
+         */
+        public long getRejectedRecords() {
+            return rejectedRecords;
+        }
+
+        /**
+         * Beklenmeyen exception nedeniyle bu aşamada işlenemeyen kayıtlar
+         */
+        public long getFailedRecords() {
+            return failedRecords;
+        }
+
+        public long getBatches() {
+            return batches;
+        }
+
+        /**
+         * Aşamanın kuyruğunda bekleyen batch sayısı
+         */
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public int getMaxQueueDepth() {
+            return maxQueueDepth;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        /**
+         * Hat açıldığından beri saniye başına işlenen kayıt
+         */
+        public double getRecordsPerSecond() {
+            return recordsPerSecond;
+        }
+
+        public double getUtilization() {
+            return utilization;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s{işlenen=%d, reddedilen=%d, hatalı=%d, batch=%d, kuyruk=%d/%d (en fazla %d), %.0f kayıt/s, doluluk=%.2f}",
+                    stage, processedRecords, rejectedRecords, failedRecords, batches, queueDepth, queueCapacity,
+                    maxQueueDepth, recordsPerSecond, utilization);
+        }
+    }
+}
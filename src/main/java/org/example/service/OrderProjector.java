@@ -0,0 +1,85 @@
+package org.example.service;
+
+import org.example.model.Order;
+import org.example.service.OrderEventLog.OrderEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sipariş olaylarından sipariş durumunu yeniden kuran projeksiyon
+ *
+ * Olaylar günlükteki sırayla uygulanmalıdır. Ürün satırları addItem/removeItem ile
+ * eklendiğinden toplam tutar ve adet artımlı olarak yeniden hesaplanır; durumlar günlükteki
+ * geçiş zamanlarıyla atanır. Günlük yetkili kaynak olduğundan durum geçişleri yeniden
+ * doğrulanmaz. Thread-safe değildir; tek bir thread tarafından beslenmelidir.
+ */
+public class OrderProjector {
+    private final Map<Long, Order> orders = new HashMap<>();
+    private long appliedEvents;
+
+    /**
+     * Günlüğün tamamını oynatarak yeni bir projeksiyon kurar
+     */
+    public static OrderProjector replay(OrderEventLog log) {
+        if (log == null) {
+            throw new IllegalArgumentException("Olay günlüğü null olamaz");
+        }
+        OrderProjector projector = new OrderProjector();
+        log.forEach(projector::apply);
+        return projector;
+    }
+
+    /**
+     * Tek bir olayı uygular
+     *
+     * @throws IllegalStateException olay bilinmeyen bir siparişe aitse veya sipariş zaten varsa
+     */
+    public void apply(OrderEvent event) {
+        long orderId = event.getOrderId();
+        if (event.getType() == OrderEventLog.EventType.CREATED) {
+            Order order = new Order(event.getUserId(), event.getTimestamp());
+            order.setId(orderId);
+            if (orders.putIfAbsent(orderId, order) != null) {
+                throw new IllegalStateException("Sipariş zaten oluşturulmuş: " + orderId);
+            }
+            appliedEvents++;
+            return;
+        }
+
+        Order order = orders.get(orderId);
+        if (order == null) {
+            throw new IllegalStateException("Olay bilinmeyen siparişe ait: " + orderId);
+        }
+        switch (event.getType()) {
+            case ITEM_ADDED -> order.addItem(event.getItem());
+            case ITEM_REMOVED -> order.removeItem(event.getItem());
+            case STATUS_CHANGED -> order.setStatus(event.getStatus(), event.getTimestamp());
+            case USER_CHANGED -> order.setUserId(event.getUserId());
+            case DELETED -> orders.remove(orderId);
+            default -> throw new IllegalStateException("Beklenmeyen olay türü: " + event.getType());
+        }
+        appliedEvents++;
+    }
+
+    public Optional<Order> getOrder(Long orderId) {
+        return Optional.ofNullable(orders.get(orderId));
+    }
+
+    /**
+     * Yeniden kurulan siparişler (sıra garanti edilmez)
+     */
+    public List<Order> getOrders() {
+        return new ArrayList<>(orders.values());
+    }
+
+    public int getOrderCount() {
+        return orders.size();
+    }
+
+    public long getAppliedEvents() {
+        return appliedEvents;
+    }
+}
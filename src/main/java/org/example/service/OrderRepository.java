@@ -0,0 +1,693 @@
+package org.example.service;
+
+import org.example.model.Order;
+import org.example.model.Order.LineSnapshot;
+import org.example.model.Order.OrderItem;
+import org.example.model.Order.OrderStatus;
+import org.example.service.OrderEventLog.OrderEvent;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Siparişleri saklayan in-memory repository
+ *
+ * DatabaseService ile aynı modeli izler: siparişler değiştirilemez PersistentLongMap'lerde
+ * tutulur ve her yazma yeni bir sürümü tek bir referans üzerinden CAS ile yayınlar; okumalar
+ * kilitsizdir ve tutarlı bir anlık görüntü görür. Güncellemeler sipariş sürümüyle optimistic
+ * locking yapar. Kullanıcıya (userId → sipariş ID → sipariş) ve duruma (durum → sipariş ID →
+ * sipariş) göre ikincil indeksler aynı sürümde birlikte değişir, bu yüzden "kullanıcının
+ * siparişleri" ve "SHIPPED siparişler" tarama yapmadan, kopyalamadan O(1) maliyetle döner.
+ * ID'ler IdBlockAllocator'dan alınır.
+ *
+ * Bir OrderEventLog verilirse her yazma, önceki sürümle farkı olaylar halinde günlüğe ekler
+ * (oluşturma, eklenen/çıkarılan satırlar, durum ve kullanıcı değişikliği, silme). Aynı siparişin
+ * olaylarının günlükte sürüm sırasıyla yer alması için bu durumda yazmalar kendi aralarında
+ * sıraya girer; okumalar yine kilitsizdir. clearAll günlüğe yazılmaz.
+ *
+ * Bir OrderArchive verilirse archiveClosedOrders son durumdaki (DELIVERED, CANCELLED) eski
+ * siparişleri diske taşır ve bellekteki tablolardan çıkarır; böylece bellek yalnızca açık ve
+ * yeni kapanmış siparişlerle orantılı kalır. findOrderById bellekte bulamadığı siparişi arşivde
+ * arar; listeleme ve sayma metotları yalnızca bellekteki siparişleri kapsar. Arşivlenmiş
+ * siparişler değişmezdir: güncellenemez ve silinemez, clearAll arşive dokunmaz.
+ */
+public class OrderRepository {
+    private final AtomicReference<OrderTables> tables = new AtomicReference<>(OrderTables.EMPTY);
+    private final IdBlockAllocator idAllocator;
+    private final OrderEventLog eventLog;
+    private final OrderArchive archive;
+    private final Object eventWriteLock = new Object();
+
+    public OrderRepository() {
+        this(new IdBlockAllocator());
+    }
+
+    public OrderRepository(IdBlockAllocator idAllocator) {
+        this(idAllocator, null);
+    }
+
+    /**
+     * Yazmaları verilen olay günlüğüne de kaydeden repository oluşturur
+     */
+    public OrderRepository(IdBlockAllocator idAllocator, OrderEventLog eventLog) {
+        this(idAllocator, eventLog, null);
+    }
+
+    /**
+     * Kapanmış eski siparişleri verilen arşive taşıyabilen repository oluşturur (günlük ve arşiv null olabilir)
+     * ID dağıtıcısı arşivdeki en yüksek ID'nin üstüne ilerletilir; yeniden açılan arşivle ID çakışmaz
+     */
+    public OrderRepository(IdBlockAllocator idAllocator, OrderEventLog eventLog, OrderArchive archive) {
+        if (idAllocator == null) {
+            throw new IllegalArgumentException("ID dağıtıcısı null olamaz");
+        }
+        this.idAllocator = idAllocator;
+        this.eventLog = eventLog;
+        this.archive = archive;
+        if (archive != null) {
+            idAllocator.advancePast(archive.getMaxArchivedId());
+        }
+    }
+
+    /**
+     * Siparişi kaydeder; siparişe ID ve sürüm yazılır
+     * Kaydedilen nesnenin durumu dondurulur; sonraki durum değişiklikleri transitionStatus ile yapılır
+     */
+    public Order saveOrder(Order order) {
+        validate(order);
+        long id = idAllocator.nextId();
+        order.setId(id);
+        order.setVersion(0L);
+        StoredOrder stored = new StoredOrder(order, 0L, eventLog != null);
+        if (eventLog == null) {
+            tables.updateAndGet(current -> current.with(id, stored));
+            return order;
+        }
+        synchronized (eventWriteLock) {
+            tables.updateAndGet(current -> current.with(id, stored));
+            eventLog.appendAll(changeEvents(null, stored));
+        }
+        return order;
+    }
+
+    /**
+     * Siparişleri toplu kaydeder; her birine ID ve sürüm yazılır
+     * Önce tümü doğrulanır, geçersiz sipariş varsa hiçbiri kaydedilmez. Toplu kayıt tek bir
+     * sürüm olarak yayınlanır: okumalar ya hiçbirini ya hepsini görür ve yazma başına bir CAS
+     * yerine toplu kayıt başına bir CAS yapılır.
+     */
+    public List<Order> saveAll(List<Order> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Sipariş listesi null olamaz");
+        }
+        for (Order order : orders) {
+            validate(order);
+        }
+        StoredOrder[] stored = new StoredOrder[orders.size()];
+        for (int i = 0; i < stored.length; i++) {
+            Order order = orders.get(i);
+            order.setId(idAllocator.nextId());
+            order.setVersion(0L);
+            stored[i] = new StoredOrder(order, 0L, eventLog != null);
+        }
+        if (eventLog == null) {
+            tables.updateAndGet(current -> current.withAll(stored));
+            return orders;
+        }
+        synchronized (eventWriteLock) {
+            tables.updateAndGet(current -> current.withAll(stored));
+            List<OrderEvent> events = new ArrayList<>();
+            for (StoredOrder order : stored) {
+                events.addAll(changeEvents(null, order));
+            }
+            eventLog.appendAll(events);
+        }
+        return orders;
+    }
+
+    /**
+     * ID'ye göre sipariş bulur; bellekte yoksa ve arşiv varsa arşivde arar
+     * Arşivden dönen sipariş diskten çözülmüş bir kopyadır
+     */
+    public Optional<Order> findOrderById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        StoredOrder stored = tables.get().all.get(id);
+        if (stored != null) {
+            return Optional.of(stored.order);
+        }
+        return archive != null ? archive.findById(id) : Optional.empty();
+    }
+
+    /**
+     * Kullanıcının siparişlerini ID sırasıyla getirir
+     * Dönen liste değiştirilemez bir anlık görüntüdür; kopyalanmaz ve sonraki yazmalardan etkilenmez
+     */
+    public List<Order> findOrdersByUserId(Long userId) {
+        if (userId == null || userId < 0) {
+            return List.of();
+        }
+        PersistentLongMap<StoredOrder> orders = tables.get().byUser.get(userId);
+        return orders != null ? orders.values(stored -> stored.order) : List.of();
+    }
+
+    /**
+     * Verilen durumdaki siparişleri ID sırasıyla getirir
+     * Dönen liste değiştirilemez bir anlık görüntüdür; kopyalanmaz ve sonraki yazmalardan etkilenmez
+     */
+    public List<Order> findOrdersByStatus(OrderStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Sipariş durumu null olamaz");
+        }
+        return tables.get().byStatus[status.ordinal()].values(stored -> stored.order);
+    }
+
+    /**
+     * Tüm siparişleri ID sırasıyla getirir
+     */
+    public List<Order> getAllOrders() {
+        return tables.get().all.values(stored -> stored.order);
+    }
+
+    /**
+     * Bellekteki tüm siparişleri ID sırasıyla tembel olarak dolaşan stream döndürür
+     * Stream çağrı anındaki anlık görüntüyü dolaşır; spliterator'ı ID aralığını bölerek paralel işlenebilir.
+     * Arşive taşınmış siparişler dahil değildir (bkz. streamOrdersCreatedBetween)
+     */
+    public Stream<Order> streamOrders() {
+        return StreamSupport.stream(orderSpliterator(), false);
+    }
+
+    /**
+     * Bellekteki siparişlerin anlık görüntüsünü ID aralığı bölünerek paralel dolaşan spliterator
+     * Stream ara işlemleri (map, filter) sıralı bir stream'de bölmeyi kapattığından analiz bunu doğrudan kullanır
+     */
+    Spliterator<Order> orderSpliterator() {
+        return tables.get().all.spliterator(stored -> stored.order);
+    }
+
+    /**
+     * Oluşturulma zamanı [from, to) aralığındaki siparişleri, arşivdekiler dahil dolaşan stream döndürür
+     * Bellekteki siparişler anlık görüntüden, arşivdekiler ise aralığı kapsayan bloklar sırası
+     * geldikçe okunarak tembel olarak gelir. Hem bellekte hem arşivde olan sipariş (arşivlendikten
+     * sonra değiştiği için bellekte kalmış) bir kez, bellekteki haliyle döner.
+     */
+    public Stream<Order> streamOrdersCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return StreamSupport.stream(orderSpliteratorCreatedBetween(from, to), false);
+    }
+
+    /**
+     * streamOrdersCreatedBetween'in paralel bölünebilen spliterator'ı
+     * Önce bellek ve arşiv kısımlarına, sonra her biri kendi içinde (ID aralığı, gün, blok) bölünür.
+     */
+    Spliterator<Order> orderSpliteratorCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Tarih aralığı null olamaz");
+        }
+        PersistentLongMap<StoredOrder> hot = tables.get().all;
+        Spliterator<Order> live = hot.spliterator(
+                stored -> isCreatedBetween(stored.order, from, to) ? stored.order : null);
+        if (archive == null) {
+            return live;
+        }
+        return new ConcatSpliterator(live, archive.spliteratorByCreatedAt(from, to, id -> hot.get(id) != null));
+    }
+
+    /**
+     * Repository'nin arşive taşınmış siparişi olup olmadığı
+     * Varsa streamOrders ve getAllOrders yalnızca bellekteki siparişleri kapsar
+     */
+    public boolean hasArchivedOrders() {
+        return archive != null && archive.getArchivedOrderCount() > 0;
+    }
+
+    private static boolean isCreatedBetween(Order order, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime createdAt = order.getCreatedAt();
+        return createdAt != null && !createdAt.isBefore(from) && createdAt.isBefore(to);
+    }
+
+    public int countOrdersByUserId(Long userId) {
+        return findOrdersByUserId(userId).size();
+    }
+
+    public int countOrdersByStatus(OrderStatus status) {
+        return findOrdersByStatus(status).size();
+    }
+
+    public int getOrderCount() {
+        return tables.get().all.size();
+    }
+
+    /**
+     * Siparişi günceller
+     *
+     * Siparişin sürümü saklanan sürümle aynı olmalıdır; başarılı güncellemede sürüm bir
+     * artırılır ve verilen nesneye de yazılır. Kullanıcı veya durum değiştiyse indeksler
+     * aynı yazmada taşınır. Durum değişikliği, saklanan nesnenin değil bir kopyanın üzerinde
+     * yapılmalıdır; saklanan nesnelerin durumu dondurulmuştur.
+     */
+    public Order updateOrder(Order order) {
+        validate(order);
+        if (order.getId() == null) {
+            throw new IllegalArgumentException("Sipariş ID null olamaz");
+        }
+
+        if (eventLog == null) {
+            replace(order);
+            return order;
+        }
+        synchronized (eventWriteLock) {
+            StoredOrder previous = replace(order);
+            eventLog.appendAll(changeEvents(previous, tables.get().all.get(order.getId())));
+        }
+        return order;
+    }
+
+    /**
+     * Siparişin durumu hâlâ expected ise ve geçiş geçerliyse target'a geçirir
+     *
+     * Geçiş saklanan kaydın bir kopyasında yapılır; sürüm bir artırılır ve durum indeksi aynı
+     * CAS ile taşınır, okumalar ya eski ya yeni kaydı tutarlı indekslerle görür. Saklanan
+     * siparişlerin durumu yerinde değiştirilemez (bkz. Order.freezeStatus).
+     *
+     * @return geçiş yapıldıysa true; durum beklenenden farklıysa veya geçiş geçersizse false
+     * @throws IllegalStateException sipariş bellekte yoksa
+     */
+    public boolean transitionStatus(Long orderId, OrderStatus expected, OrderStatus target) {
+        if (orderId == null || expected == null || target == null) {
+            throw new IllegalArgumentException("Sipariş ID ve durumlar null olamaz");
+        }
+        if (eventLog == null) {
+            return transition(orderId, expected, target) != null;
+        }
+        synchronized (eventWriteLock) {
+            StoredOrder previous = transition(orderId, expected, target);
+            if (previous == null) {
+                return false;
+            }
+            eventLog.appendAll(changeEvents(previous, tables.get().all.get(orderId)));
+            return true;
+        }
+    }
+
+    /**
+     * Durum geçişini CAS ile yayınlar ve önceki kaydı döndürür; geçiş yapılmadıysa null
+     */
+    private StoredOrder transition(long id, OrderStatus expected, OrderStatus target) {
+        while (true) {
+            OrderTables snapshot = tables.get();
+            StoredOrder current = snapshot.all.get(id);
+            if (current == null) {
+                throw new IllegalStateException("Durumu değiştirilecek sipariş bulunamadı");
+            }
+            if (current.status != expected || !expected.canTransitionTo(target)) {
+                return null;
+            }
+            Order next = new Order(current.order);
+            next.transitionTo(target);
+            next.setVersion(current.version + 1);
+            // Geçiş satırlara dokunmaz; önceki görüntü paylaşılır
+            StoredOrder stored = new StoredOrder(next, current.version + 1, current.lines);
+            if (tables.compareAndSet(snapshot, snapshot.with(id, stored))) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Saklanan siparişi sürüm kontrolüyle CAS ile değiştirir ve önceki kaydı döndürür
+     */
+    private StoredOrder replace(Order order) {
+        long id = order.getId();
+        long expectedVersion = order.getVersion();
+        while (true) {
+            OrderTables snapshot = tables.get();
+            StoredOrder current = snapshot.all.get(id);
+            if (current == null) {
+                throw new IllegalStateException("Güncellenecek sipariş bulunamadı");
+            }
+            if (current.version != expectedVersion) {
+                throw new ConcurrentModificationException(
+                        "Sipariş başka bir işlem tarafından güncellendi, sürüm: " + current.version);
+            }
+            // Nesne yayınlanmadan önce sürümü yazılır; CAS başarısızsa geri alınır
+            order.setVersion(expectedVersion + 1);
+            StoredOrder next = new StoredOrder(order, expectedVersion + 1, eventLog != null);
+            if (tables.compareAndSet(snapshot, snapshot.with(id, next))) {
+                return current;
+            }
+            order.setVersion(expectedVersion);
+        }
+    }
+
+    /**
+     * Siparişi siler
+     */
+    public boolean deleteOrder(Long orderId) {
+        if (orderId == null) {
+            return false;
+        }
+        if (eventLog == null) {
+            return remove(orderId);
+        }
+        synchronized (eventWriteLock) {
+            boolean removed = remove(orderId);
+            if (removed) {
+                eventLog.append(OrderEvent.deleted(orderId));
+            }
+            return removed;
+        }
+    }
+
+    private boolean remove(long orderId) {
+        while (true) {
+            OrderTables snapshot = tables.get();
+            if (snapshot.all.get(orderId) == null) {
+                return false;
+            }
+            if (tables.compareAndSet(snapshot, snapshot.without(orderId))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Son duruma (DELIVERED veya CANCELLED) en az minAge önce geçmiş siparişleri arşive taşır
+     *
+     * Siparişler durum indeksinden seçilir, önce arşive yazılır, sonra bellekten çıkarılır.
+     * Arşive yazılırken güncellenen sipariş bellekte kalır; sonraki bir çağrı onu yeni sürümüyle
+     * yeniden arşivler (arşiv okumaları en yüksek sürümü döndürür). Taşıma olay günlüğüne
+     * silme olarak yazılmaz.
+     *
+     * @return bellekten çıkarılan sipariş sayısı
+     */
+    public int archiveClosedOrders(Duration minAge) {
+        if (archive == null) {
+            throw new IllegalStateException("Repository için arşiv tanımlanmamış");
+        }
+        if (minAge == null || minAge.isNegative()) {
+            throw new IllegalArgumentException("Arşivleme yaşı negatif veya null olamaz");
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        OrderTables snapshot = tables.get();
+        List<StoredOrder> candidates = new ArrayList<>();
+        for (OrderStatus status : OrderStatus.values()) {
+            if (!status.isTerminal()) {
+                continue;
+            }
+            for (StoredOrder stored : snapshot.byStatus[status.ordinal()].values(stored -> stored)) {
+                LocalDateTime closedAt = stored.order.getStatusChangedAt(status);
+                if (closedAt == null) {
+                    closedAt = stored.order.getUpdatedAt();
+                }
+                if (closedAt != null && !closedAt.isAfter(cutoff)) {
+                    candidates.add(stored);
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        List<Order> orders = new ArrayList<>(candidates.size());
+        for (StoredOrder stored : candidates) {
+            orders.add(stored.order);
+        }
+        archive.archive(orders);
+
+        int moved = 0;
+        for (StoredOrder stored : candidates) {
+            if (removeIfUnchanged(stored)) {
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Kaydı yalnızca hâlâ aynı sürümde saklanıyorsa çıkarır
+     */
+    private boolean removeIfUnchanged(StoredOrder stored) {
+        while (true) {
+            OrderTables snapshot = tables.get();
+            if (snapshot.all.get(stored.id) != stored) {
+                return false;
+            }
+            if (tables.compareAndSet(snapshot, snapshot.without(stored.id))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Repository'yi temizler (test amaçlı)
+     */
+    public void clearAll() {
+        tables.set(OrderTables.EMPTY);
+        idAllocator.reset();
+    }
+
+    /**
+     * Önceki kayıttan (yeni siparişte null) sonraki kayda geçişi anlatan olaylar
+     * Satırlar yalnızca sona eklendiyse eklenen satırlar sırasıyla yazılır; aksi halde satır
+     * çokluğu farkı (önce çıkarılanlar, sonra eklenenler) yazılır
+     */
+    private static List<OrderEvent> changeEvents(StoredOrder previous, StoredOrder next) {
+        List<OrderEvent> events = new ArrayList<>();
+        long id = next.id;
+        LineSnapshot oldLines = previous != null ? previous.lines : LineSnapshot.empty();
+        if (previous == null) {
+            events.add(OrderEvent.created(id, next.userId, next.order.getCreatedAt()));
+        } else if (previous.userId != next.userId) {
+            events.add(OrderEvent.userChanged(id, next.userId));
+        }
+
+        LineSnapshot newLines = next.lines;
+        if (oldLines != newLines) {
+            appendLineEvents(events, id, oldLines, newLines);
+        }
+
+        OrderStatus oldStatus = previous != null ? previous.status : OrderStatus.PENDING;
+        if (next.status != oldStatus) {
+            LocalDateTime changedAt = next.order.getStatusChangedAt(next.status);
+            events.add(OrderEvent.statusChanged(id, next.status,
+                    changedAt != null ? changedAt : next.order.getUpdatedAt()));
+        }
+        return events;
+    }
+
+    private static void appendLineEvents(List<OrderEvent> events, long id, LineSnapshot oldLines,
+                                         LineSnapshot newLines) {
+        int oldSize = oldLines.size();
+        int newSize = newLines.size();
+        boolean appended = newSize >= oldSize;
+        for (int i = 0; appended && i < oldSize; i++) {
+            appended = oldLines.sameLine(i, newLines, i);
+        }
+        if (appended) {
+            for (int i = oldSize; i < newSize; i++) {
+                events.add(OrderEvent.itemAdded(id, newLines.get(i)));
+            }
+            return;
+        }
+
+        // Satırlar yalnızca bu yolda OrderItem olarak oluşturulur
+        Map<OrderItem, Integer> counts = new HashMap<>();
+        for (int i = 0; i < oldSize; i++) {
+            counts.merge(oldLines.get(i), 1, Integer::sum);
+        }
+        List<OrderItem> added = new ArrayList<>();
+        for (int i = 0; i < newSize; i++) {
+            OrderItem item = newLines.get(i);
+            if (counts.merge(item, -1, Integer::sum) < 0) {
+                added.add(item);
+            }
+        }
+        for (Map.Entry<OrderItem, Integer> entry : counts.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                events.add(OrderEvent.itemRemoved(id, entry.getKey()));
+            }
+        }
+        for (OrderItem item : added) {
+            events.add(OrderEvent.itemAdded(id, item));
+        }
+    }
+
+    private static void validate(Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Sipariş null olamaz");
+        }
+        if (order.getUserId() == null || order.getUserId() < 0) {
+            throw new IllegalArgumentException("Sipariş geçerli bir kullanıcıya ait olmalı");
+        }
+        if (order.getStatus() == null) {
+            throw new IllegalArgumentException("Sipariş durumu null olamaz");
+        }
+    }
+
+    /**
+     * Saklanan sipariş ile yazma anındaki ID, kullanıcı, durum ve sürüm bilgisini birlikte tutar
+     * Siparişin durumu dondurulur; yerinde bir geçiş durum indeksini bayatlatırdı
+     */
+    private static final class StoredOrder {
+        private final Order order;
+        private final long id;
+        private final long userId;
+        private final OrderStatus status;
+        private final long version;
+        // Olay günlüğü varsa yazma anındaki satırların sıkıştırılmış görüntüsü; sonraki yazmayla fark çıkarmak için
+        private final LineSnapshot lines;
+
+        private StoredOrder(Order order, long version, boolean captureLines) {
+            this(order, version, captureLines ? order.snapshotLines() : null);
+        }
+
+        private StoredOrder(Order order, long version, LineSnapshot lines) {
+            order.freezeStatus();
+            this.order = order;
+            this.id = order.getId();
+            this.userId = order.getUserId();
+            this.status = order.getStatus();
+            this.version = version;
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * İki spliterator'ı art arda dolaşır; ilk bölmede ilk kısmı bütün olarak verir, sonra ikinciyi böler
+     */
+    private static final class ConcatSpliterator implements Spliterator<Order> {
+        private Spliterator<Order> first;
+        private final Spliterator<Order> second;
+
+        private ConcatSpliterator(Spliterator<Order> first, Spliterator<Order> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Order> action) {
+            if (first != null) {
+                if (first.tryAdvance(action)) {
+                    return true;
+                }
+                first = null;
+            }
+            return second.tryAdvance(action);
+        }
+
+        @Override
+        public Spliterator<Order> trySplit() {
+            if (first != null) {
+                Spliterator<Order> prefix = first;
+                first = null;
+                return prefix;
+            }
+            return second.trySplit();
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = (first != null ? first.estimateSize() : 0) + second.estimateSize();
+            return size < 0 ? Long.MAX_VALUE : size;
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL;
+        }
+    }
+
+    /**
+     * Tablo ve ikincil indekslerin birlikte değişen tek bir sürümü
+     * byUser: kullanıcı ID → o kullanıcının siparişleri (sipariş ID → kayıt)
+     * byStatus: durum sırası → o durumdaki siparişler (sipariş ID → kayıt)
+     */
+    private static final class OrderTables {
+        private static final OrderTables EMPTY;
+
+        static {
+            PersistentLongMap<StoredOrder>[] statuses = newStatusTables(OrderStatus.values().length);
+            for (int i = 0; i < statuses.length; i++) {
+                statuses[i] = PersistentLongMap.empty();
+            }
+            EMPTY = new OrderTables(PersistentLongMap.empty(), PersistentLongMap.empty(), statuses);
+        }
+
+        /**
+         * Durum tabloları için tipli dizi; generic dizi oluşturulamadığından ham dizi burada çevrilir
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static PersistentLongMap<StoredOrder>[] newStatusTables(int length) {
+            return new PersistentLongMap[length];
+        }
+
+        private final PersistentLongMap<StoredOrder> all;
+        private final PersistentLongMap<PersistentLongMap<StoredOrder>> byUser;
+        private final PersistentLongMap<StoredOrder>[] byStatus;
+
+        private OrderTables(PersistentLongMap<StoredOrder> all,
+                            PersistentLongMap<PersistentLongMap<StoredOrder>> byUser,
+                            PersistentLongMap<StoredOrder>[] byStatus) {
+            this.all = all;
+            this.byUser = byUser;
+            this.byStatus = byStatus;
+        }
+
+        private OrderTables with(long id, StoredOrder stored) {
+            StoredOrder previous = all.get(id);
+            PersistentLongMap<PersistentLongMap<StoredOrder>> userIndex = byUser;
+            PersistentLongMap<StoredOrder>[] statusIndex = byStatus.clone();
+            if (previous != null) {
+                userIndex = removeFromUser(userIndex, previous);
+                statusIndex[previous.status.ordinal()] = statusIndex[previous.status.ordinal()].without(id);
+            }
+            PersistentLongMap<StoredOrder> userOrders = userIndex.get(stored.userId);
+            if (userOrders == null) {
+                userOrders = PersistentLongMap.empty();
+            }
+            userIndex = userIndex.with(stored.userId, userOrders.with(id, stored));
+            statusIndex[stored.status.ordinal()] = statusIndex[stored.status.ordinal()].with(id, stored);
+            return new OrderTables(all.with(id, stored), userIndex, statusIndex);
+        }
+
+        private OrderTables withAll(StoredOrder[] stored) {
+            OrderTables result = this;
+            for (StoredOrder order : stored) {
+                result = result.with(order.id, order);
+            }
+            return result;
+        }
+
+        private OrderTables without(long id) {
+            StoredOrder previous = all.get(id);
+            if (previous == null) {
+                return this;
+            }
+            PersistentLongMap<StoredOrder>[] statusIndex = byStatus.clone();
+            statusIndex[previous.status.ordinal()] = statusIndex[previous.status.ordinal()].without(id);
+            return new OrderTables(all.without(id), removeFromUser(byUser, previous), statusIndex);
+        }
+
+        private static PersistentLongMap<PersistentLongMap<StoredOrder>> removeFromUser(
+                PersistentLongMap<PersistentLongMap<StoredOrder>> index, StoredOrder stored) {
+            PersistentLongMap<StoredOrder> orders = index.get(stored.userId);
+            if (orders == null) {
+                return index;
+            }
+            orders = orders.without(stored.id);
+            return orders.isEmpty() ? index.without(stored.userId) : index.with(stored.userId, orders);
+        }
+    }
+}
@@ -0,0 +1,486 @@
+package org.example.service;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Negatif olmayan long anahtarlar için değiştirilemez (persistent) sıralı map
+ *
+ * 32 dallı bir radix trie'dir. Her değişiklik yalnızca kökten değişen yaprağa kadar olan
+ * yoldaki düğümleri kopyalar (path copying), geri kalan düğümler eski sürümle paylaşılır.
+ * Bu yüzden bir sürümü saklamak O(1) maliyetli bir anlık görüntüdür (snapshot): sonraki
+ * yazmalar onu hiçbir zaman değiştirmez. Anahtarlar küçük ve yoğun olduğunda (sırayla
+ * verilen ID'ler gibi) ağaç sığ kalır; bir milyon anahtar için derinlik 4'tür.
+ * Değerler anahtar sırasıyla dolaşılır; spliterator anahtar aralığını ikiye bölerek
+ * paralel dolaşmayı destekler. Null değer saklanamaz.
+ */
+final class PersistentLongMap<V> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    // 13 seviye (65 bit) tüm long aralığını kapsar
+    private static final int MAX_SHIFT = 60;
+
+    private static final PersistentLongMap<?> EMPTY = new PersistentLongMap<>(null, 0);
+
+    private final Node root;
+    private final int shift;
+
+    private PersistentLongMap(Node root, int shift) {
+        this.root = root;
+        this.shift = shift;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> PersistentLongMap<V> empty() {
+        return (PersistentLongMap<V>) EMPTY;
+    }
+
+    /**
+     * Anahtarın değerini döndürür, yoksa null
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        if (key < 0 || !covers(shift, key)) {
+            return null;
+        }
+        Node node = root;
+        for (int level = shift; node != null; level -= BITS) {
+            Object slot = node.slots[index(key, level)];
+            if (level == 0) {
+                return (V) slot;
+            }
+            node = (Node) slot;
+        }
+        return null;
+    }
+
+    /**
+     * Anahtara değer atanmış yeni bir sürüm döndürür; bu sürüm değişmez
+     */
+    PersistentLongMap<V> with(long key, V value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Anahtar negatif olamaz");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Değer null olamaz");
+        }
+
+        Node newRoot = root;
+        int newShift = shift;
+        // Anahtar mevcut ağaca sığmıyorsa köke yeni seviyeler eklenir
+        while (!covers(newShift, key)) {
+            if (newRoot != null) {
+                Object[] slots = new Object[WIDTH];
+                slots[0] = newRoot;
+                newRoot = new Node(slots, newRoot.size);
+            }
+            newShift += BITS;
+        }
+        return new PersistentLongMap<>(put(newRoot, newShift, key, value), newShift);
+    }
+
+    /**
+     * Anahtarın çıkarıldığı yeni bir sürüm döndürür; anahtar yoksa aynı sürüm döner
+     */
+    PersistentLongMap<V> without(long key) {
+        if (get(key) == null) {
+            return this;
+        }
+        Node newRoot = remove(root, shift, key);
+        return newRoot == null ? empty() : new PersistentLongMap<>(newRoot, shift);
+    }
+
+    int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Değerleri anahtar sırasıyla dolaşan iterator; başlangıç anahtarından küçük anahtarlar atlanır
+     */
+    Iterator<V> iterator(long fromKey) {
+        return new TrieIterator<>(root, shift, Math.max(0, fromKey));
+    }
+
+    /**
+     * Anahtarı [fromKey, toKey] kapalı aralığında olan değerleri anahtar sırasıyla dolaşan iterator
+     */
+    Iterator<V> iterator(long fromKey, long toKey) {
+        TrieIterator<V> values = new TrieIterator<>(root, shift, Math.max(0, fromKey));
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return values.hasNext() && values.peekKey() <= toKey;
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return values.next();
+            }
+        };
+    }
+
+    /**
+     * Değerleri anahtar sırasıyla dolaşan, anahtar aralığı bölünerek paralel işlenebilen spliterator
+     */
+    Spliterator<V> spliterator() {
+        long maxKey = shift + BITS >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << (shift + BITS)) - 1;
+        return new TrieSpliterator<>(this, 0, maxKey);
+    }
+
+    /**
+     * Değerleri dönüştürerek dolaşan spliterator; bölme davranışı spliterator() ile aynıdır
+     * Dönüştürücü null döndürürse değer atlanır (süzme); bu durumda estimateSize üst sınırdır.
+     */
+    <R> Spliterator<R> spliterator(Function<? super V, ? extends R> mapper) {
+        return new MappedSpliterator<>(spliterator(), mapper);
+    }
+
+    /**
+     * Bu sürümün değerlerini, anahtar sırasıyla, değiştirilemez bir liste olarak döndürür
+     * Liste kopyalanmaz; index ile erişim O(log n) sürer
+     */
+    <R> List<R> values(Function<? super V, ? extends R> mapper) {
+        return new SnapshotList<>(this, mapper);
+    }
+
+    private static boolean covers(int shift, long key) {
+        return shift >= MAX_SHIFT || (key >>> (shift + BITS)) == 0;
+    }
+
+    private static int index(long key, int level) {
+        return (int) ((key >>> level) & MASK);
+    }
+
+    private static Node put(Node node, int level, long key, Object value) {
+        Object[] slots = node == null ? new Object[WIDTH] : node.slots.clone();
+        int size = node == null ? 0 : node.size;
+        int index = index(key, level);
+
+        if (level == 0) {
+            if (slots[index] == null) {
+                size++;
+            }
+            slots[index] = value;
+        } else {
+            Node child = (Node) slots[index];
+            Node newChild = put(child, level - BITS, key, value);
+            size += newChild.size - (child == null ? 0 : child.size);
+            slots[index] = newChild;
+        }
+        return new Node(slots, size);
+    }
+
+    // Anahtarın var olduğu varsayılır; boşalan düğümler budanır
+    private static Node remove(Node node, int level, long key) {
+        if (node.size == 1) {
+            return null;
+        }
+        Object[] slots = node.slots.clone();
+        int index = index(key, level);
+        slots[index] = level == 0 ? null : remove((Node) slots[index], level - BITS, key);
+        return new Node(slots, node.size - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int rank) {
+        Node node = root;
+        int remaining = rank;
+        for (int level = shift; ; level -= BITS) {
+            for (Object slot : node.slots) {
+                if (slot == null) {
+                    continue;
+                }
+                if (level == 0) {
+                    if (remaining == 0) {
+                        return (V) slot;
+                    }
+                    remaining--;
+                } else {
+                    Node child = (Node) slot;
+                    if (remaining < child.size) {
+                        node = child;
+                        break;
+                    }
+                    remaining -= child.size;
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Object[] slots;
+        // Bu düğümün altındaki değer sayısı; index ile erişimde kullanılır
+        private final int size;
+
+        private Node(Object[] slots, int size) {
+            this.slots = slots;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Trie'yi derinlik öncelikli dolaşan iterator; her seviye için bir düğüm ve konum tutar
+     */
+    private static final class TrieIterator<V> implements Iterator<V> {
+        private final Node[] nodes;
+        private final int[] positions;
+        private final int shift;
+        private int depth;
+        private V next;
+        private long nextKey;
+
+        private TrieIterator(Node root, int shift, long fromKey) {
+            int levels = shift / BITS + 1;
+            this.shift = shift;
+            this.nodes = new Node[levels];
+            this.positions = new int[levels];
+            if (root == null) {
+                this.depth = -1;
+                return;
+            }
+            if (!covers(shift, fromKey)) {
+                // Başlangıç anahtarı tüm anahtarlardan büyük
+                this.depth = -1;
+                return;
+            }
+            // Başlangıç anahtarının yolu boyunca konumlar ayarlanır
+            nodes[0] = root;
+            for (int d = 0; d < levels; d++) {
+                positions[d] = index(fromKey, shift - d * BITS);
+            }
+            this.depth = 0;
+            advance(true);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public V next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            V result = next;
+            advance(false);
+            return result;
+        }
+
+        /**
+         * Sıradaki değerin anahtarı; yalnızca hasNext true iken anlamlıdır
+         */
+        long peekKey() {
+            return nextKey;
+        }
+
+        private long currentKey() {
+            long key = 0;
+            for (int d = 0; d < positions.length; d++) {
+                key |= (long) positions[d] << (shift - d * BITS);
+            }
+            return key;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance(boolean seeking) {
+            next = null;
+            int leafDepth = nodes.length - 1;
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                int position = positions[depth];
+                if (position >= WIDTH) {
+                    // Bu düğüm bitti, üst seviyede bir sonraki kardeşe geç
+                    depth--;
+                    if (depth >= 0) {
+                        positions[depth]++;
+                    }
+                    seeking = false;
+                    continue;
+                }
+                Object slot = node.slots[position];
+                if (slot == null) {
+                    positions[depth]++;
+                    seeking = false;
+                    continue;
+                }
+                if (depth == leafDepth) {
+                    next = (V) slot;
+                    nextKey = currentKey();
+                    positions[depth]++;
+                    return;
+                }
+                nodes[depth + 1] = (Node) slot;
+                depth++;
+                if (!seeking) {
+                    positions[depth] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Kaynağın bölmelerini koruyarak değerleri dönüştüren ve null sonuçları atlayan spliterator
+     */
+    private static final class MappedSpliterator<V, R> implements Spliterator<R> {
+        private final Spliterator<V> source;
+        private final Function<? super V, ? extends R> mapper;
+
+        private MappedSpliterator(Spliterator<V> source, Function<? super V, ? extends R> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            boolean[] accepted = new boolean[1];
+            while (!accepted[0]) {
+                boolean advanced = source.tryAdvance(value -> {
+                    R mapped = mapper.apply(value);
+                    if (mapped != null) {
+                        action.accept(mapped);
+                        accepted[0] = true;
+                    }
+                });
+                if (!advanced) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            source.forEachRemaining(value -> {
+                R mapped = mapper.apply(value);
+                if (mapped != null) {
+                    action.accept(mapped);
+                }
+            });
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            Spliterator<V> prefix = source.trySplit();
+            return prefix != null ? new MappedSpliterator<>(prefix, mapper) : null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Kapalı bir anahtar aralığını dolaşan spliterator; bölme aralığı ortadan ikiye ayırır
+     * Anahtarlar yoğun olduğunda (sırayla verilen ID'ler) parçalar dengeli olur.
+     */
+    private static final class TrieSpliterator<V> implements Spliterator<V> {
+        // Bundan küçük aralıklar bölünmez, tek yaprak düğümden az iş paralelleştirmeye değmez
+        private static final long MIN_SPLIT_RANGE = WIDTH * 4L;
+
+        private final PersistentLongMap<V> map;
+        private long fromKey;
+        private final long toKey;
+        private TrieIterator<V> iterator;
+
+        private TrieSpliterator(PersistentLongMap<V> map, long fromKey, long toKey) {
+            this.map = map;
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super V> action) {
+            if (iterator == null) {
+                iterator = new TrieIterator<>(map.root, map.shift, fromKey);
+            }
+            if (!iterator.hasNext() || iterator.peekKey() > toKey) {
+                return false;
+            }
+            action.accept(iterator.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<V> trySplit() {
+            if (iterator != null || toKey - fromKey < MIN_SPLIT_RANGE) {
+                return null;
+            }
+            long middle = fromKey + (toKey - fromKey) / 2;
+            TrieSpliterator<V> prefix = new TrieSpliterator<>(map, fromKey, middle);
+            fromKey = middle + 1;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.min(map.size(), toKey - fromKey + 1);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Bir sürümün değerleri üzerinde kopyasız, değiştirilemez liste görünümü
+     */
+    private static final class SnapshotList<V, R> extends AbstractList<R> {
+        private final PersistentLongMap<V> map;
+        private final Function<? super V, ? extends R> mapper;
+
+        private SnapshotList(PersistentLongMap<V> map, Function<? super V, ? extends R> mapper) {
+            this.map = map;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public R get(int index) {
+            if (index < 0 || index >= map.size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", boyut: " + map.size());
+            }
+            return mapper.apply(map.valueAt(index));
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Iterator<R> iterator() {
+            Iterator<V> values = map.iterator(0);
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return values.hasNext();
+                }
+
+                @Override
+                public R next() {
+                    return mapper.apply(values.next());
+                }
+            };
+        }
+    }
+}
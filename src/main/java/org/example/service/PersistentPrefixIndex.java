@@ -0,0 +1,223 @@
+package org.example.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * String anahtarlar için değiştirilemez (persistent) radix ağacı; önek (prefix) aramasında kullanılır
+ *
+ * Tek çocuklu ara düğümler birleştirilir, böylece kenarlar tek karakter yerine ortak önekleri
+ * taşır ve düğüm sayısı anahtar sayısıyla sınırlı kalır. Aynı anahtar birden fazla değere
+ * sahip olabilir; bir anahtarın değerleri ID ile anahtarlanmış bir PersistentLongMap'te tutulur.
+ * PersistentLongMap gibi her değişiklik yalnızca değişen yoldaki düğümleri kopyalar, eski
+ * sürümler geçerli kalır. Önek araması önce öneğe inip sonra alt ağacı sözlük sırasıyla
+ * dolaşır ve limit dolunca durur; maliyeti toplam anahtar sayısından bağımsızdır.
+ */
+final class PersistentPrefixIndex<V> {
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final PersistentPrefixIndex<?> EMPTY =
+            new PersistentPrefixIndex<>(new Node("", NO_CHILDREN, PersistentLongMap.empty()));
+
+    private final Node root;
+
+    private PersistentPrefixIndex(Node root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> PersistentPrefixIndex<V> empty() {
+        return (PersistentPrefixIndex<V>) EMPTY;
+    }
+
+    /**
+     * Anahtara ID ile bir değer eklenmiş (veya aynı ID'nin değeri değiştirilmiş) yeni sürüm döndürür
+     */
+    PersistentPrefixIndex<V> with(String key, long id, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Anahtar ve değer null olamaz");
+        }
+        return new PersistentPrefixIndex<>(insert(root, key, 0, id, value));
+    }
+
+    /**
+     * Anahtardan ID'nin değerinin çıkarıldığı yeni sürüm döndürür; yoksa aynı sürüm döner
+     */
+    PersistentPrefixIndex<V> without(String key, long id) {
+        if (key == null) {
+            return this;
+        }
+        Node newRoot = remove(root, key, 0, id);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot != null ? new PersistentPrefixIndex<>(newRoot) : empty();
+    }
+
+    /**
+     * Öneki taşıyan anahtarların değerlerini sözlük sırasıyla (aynı anahtarda ID sırasıyla)
+     * en fazla limit kadar döndürür
+     */
+    @SuppressWarnings("unchecked")
+    List<V> findByPrefix(String prefix, int limit) {
+        List<V> result = new ArrayList<>(Math.min(limit, 64));
+        Node node = root;
+        int position = 0;
+        // Öneğin bittiği (veya ortasında kaldığı) düğüme in
+        while (position < prefix.length()) {
+            int index = childIndex(node.children, prefix.charAt(position));
+            if (index < 0) {
+                return result;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, prefix, position);
+            if (common < child.label.length() && position + common < prefix.length()) {
+                return result;
+            }
+            position += common;
+            node = child;
+        }
+        collect(node, limit, (List<Object>) result);
+        return result;
+    }
+
+    private static void collect(Node node, int limit, List<Object> result) {
+        Iterator<Object> values = node.values.iterator(0);
+        while (values.hasNext() && result.size() < limit) {
+            result.add(values.next());
+        }
+        for (Node child : node.children) {
+            if (result.size() >= limit) {
+                return;
+            }
+            collect(child, limit, result);
+        }
+    }
+
+    private static Node insert(Node node, String key, int position, long id, Object value) {
+        if (position == key.length()) {
+            return new Node(node.label, node.children, node.values.with(id, value));
+        }
+
+        int index = childIndex(node.children, key.charAt(position));
+        if (index < 0) {
+            Node leaf = new Node(key.substring(position), NO_CHILDREN, PersistentLongMap.empty().with(id, value));
+            return node.withChildInserted(-index - 1, leaf);
+        }
+
+        Node child = node.children[index];
+        int common = commonPrefixLength(child.label, key, position);
+        if (common == child.label.length()) {
+            return node.withChildReplaced(index, insert(child, key, position + common, id, value));
+        }
+
+        // Anahtar çocuğun kenarının ortasında ayrılıyor; kenar ortak önekte bölünür
+        Node lower = new Node(child.label.substring(common), child.children, child.values);
+        Node split = new Node(child.label.substring(0, common), new Node[] {lower}, PersistentLongMap.empty());
+        return node.withChildReplaced(index, insert(split, key, position + common, id, value));
+    }
+
+    // Değer yoksa aynı düğüm, düğüm tamamen boşaldıysa null döner
+    private static Node remove(Node node, String key, int position, long id) {
+        Node updated;
+        if (position == key.length()) {
+            PersistentLongMap<Object> values = node.values.without(id);
+            if (values == node.values) {
+                return node;
+            }
+            updated = new Node(node.label, node.children, values);
+        } else {
+            int index = childIndex(node.children, key.charAt(position));
+            if (index < 0) {
+                return node;
+            }
+            Node child = node.children[index];
+            if (!key.startsWith(child.label, position)) {
+                return node;
+            }
+            Node newChild = remove(child, key, position + child.label.length(), id);
+            if (newChild == child) {
+                return node;
+            }
+            updated = newChild == null ? node.withChildRemoved(index) : node.withChildReplaced(index, newChild);
+        }
+        return compact(updated);
+    }
+
+    // Değersiz düğümleri budar, değersiz ve tek çocuklu düğümü çocuğuyla birleştirir
+    private static Node compact(Node node) {
+        if (!node.values.isEmpty()) {
+            return node;
+        }
+        if (node.children.length == 0) {
+            return null;
+        }
+        if (node.children.length == 1 && !node.label.isEmpty()) {
+            Node child = node.children[0];
+            return new Node(node.label + child.label, child.children, child.values);
+        }
+        return node;
+    }
+
+    private static int childIndex(Node[] children, char first) {
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char current = children[middle].label.charAt(0);
+            if (current < first) {
+                low = middle + 1;
+            } else if (current > first) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int commonPrefixLength(String label, String key, int position) {
+        int max = Math.min(label.length(), key.length() - position);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(position + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node {
+        // Üst düğümden bu düğüme gelen kenarın etiketi; kök için boş
+        private final String label;
+        // İlk karaktere göre sıralı
+        private final Node[] children;
+        // Tam olarak bu düğümde biten anahtarın değerleri (ID → değer)
+        private final PersistentLongMap<Object> values;
+
+        private Node(String label, Node[] children, PersistentLongMap<Object> values) {
+            this.label = label;
+            this.children = children;
+            this.values = values;
+        }
+
+        private Node withChildInserted(int index, Node child) {
+            Node[] copy = new Node[children.length + 1];
+            System.arraycopy(children, 0, copy, 0, index);
+            copy[index] = child;
+            System.arraycopy(children, index, copy, index + 1, children.length - index);
+            return new Node(label, copy, values);
+        }
+
+        private Node withChildReplaced(int index, Node child) {
+            Node[] copy = children.clone();
+            copy[index] = child;
+            return new Node(label, copy, values);
+        }
+
+        private Node withChildRemoved(int index) {
+            Node[] copy = children.length == 1 ? NO_CHILDREN : new Node[children.length - 1];
+            System.arraycopy(children, 0, copy, 0, index);
+            System.arraycopy(children, index + 1, copy, index, children.length - index - 1);
+            return new Node(label, copy, values);
+        }
+    }
+}
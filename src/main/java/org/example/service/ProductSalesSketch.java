@@ -0,0 +1,370 @@
+package org.example.service;
+
+import org.example.model.Order;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ürün satışları için sabit bellekli, akan veri (streaming) özetleri
+ *
+ * Siparişler eklendikçe işlenir ve her an sorgulanabilir; hiçbir sipariş veya satır saklanmaz.
+ *
+ * Satış adedi: Count-Min sketch. Genişlik w = ⌈e / ε⌉, derinlik d = ⌈ln(1 / δ)⌉ long sayaçtır.
+ * Tahmin gerçek adetten hiçbir zaman küçük değildir ve 1 - δ olasılıkla en fazla ε·N büyüktür
+ * (N: o ana kadar eklenen toplam adet).
+ *
+ * En çok satanlar: tahmini adede göre bir min-heap en fazla topN ürünü tutar. Yeni bir ürünün
+ * tahmini heap'teki en küçük değeri geçerse onun yerine girer. Sıralama Count-Min tahminleriyle
+ * yapıldığından gerçek adetleri ε·N'den yakın ürünlerin sırası yer değiştirebilir; adedi ε·N'den
+ * belirgin biçimde büyük ürünler listede yer alır.
+ *
+ * Farklı alıcı sayısı: hücreleri HyperLogLog olan d × w_b'lik bir Count-Min matrisi, w_b = ⌈e / ε_b⌉.
+ * Ürün her satırda bir hücreye alıcısını ekler, tahmin satırların en küçüğüdür. Aynı hücreyi
+ * paylaşan ürünlerin alıcıları birleştiğinden matris tahmini yalnızca yukarı sapar; bir hücredeki
+ * alıcı birleşimi, hücreye düşen ürünlerin alıcı sayıları toplamını geçemediğinden Count-Min
+ * sınırı burada da geçerlidir: HLL hatası dışında tahmin 1 - δ olasılıkla gerçek alıcı sayısını
+ * en fazla ε_b·S aşar (S: o ana kadar eklenen satış kaydı sayısı; farklı ürün-alıcı çiftlerinin
+ * sayısı bundan büyük olamaz). Bu sapma çok satan ürünler için de büyüyebildiğinden en çok
+ * satanlar listesindeki her ürün ayrıca kendi HLL'ini taşır: ürün listeye girdiğinde en küçük matris hücresinin kopyasıyla başlar (o ana kadarki
+ * alıcıları ve o ana kadarki çakışma payını içerir) ve sonraki alıcılar yalnızca ona eklenir.
+ * Çok satanlar akışın başında listeye girdiğinden çakışma payı küçük kalır. Her iki yolda
+ * da tahmine HLL'in yaklaşık %6.5'lik standart hatası eklenir.
+ *
+ * Bellek yapılandırmayla sabittir (varsayılan ayarlarla yaklaşık 570 KB). Thread-safe'dir;
+ * yazma ve sorgular tek bir kilitle sıralanır.
+ */
+public class ProductSalesSketch {
+    public static final double DEFAULT_EPSILON = 0.0005;
+    public static final double DEFAULT_DELTA = 0.01;
+    // Matrisin her hücresi 256 baytlık bir HLL olduğundan alıcı hatası adet hatasından ayrı seçilir
+    public static final double DEFAULT_BUYER_EPSILON = 0.01;
+    private static final int BUYER_PRECISION = 8;
+
+    private final long[][] counts;
+    private final int width;
+    private final HyperLogLog[][] buyers;
+    private final int buyerWidth;
+    private final int topN;
+    private final Map<String, HeapEntry> tracked;
+    private final HeapEntry[] heap;
+    private int heapSize;
+    private long totalQuantity;
+    private long saleCount;
+
+    public ProductSalesSketch(int topN) {
+        this(topN, DEFAULT_EPSILON, DEFAULT_DELTA);
+    }
+
+    /**
+     * @param topN    izlenecek en çok satan ürün sayısı
+     * @param epsilon adet tahmininin toplam adede göre en büyük göreli hatası
+     * @param delta   hata sınırının aşılma olasılığı
+     */
+    public ProductSalesSketch(int topN, double epsilon, double delta) {
+        this(topN, epsilon, delta, DEFAULT_BUYER_EPSILON);
+    }
+
+    /**
+     * @param topN         izlenecek en çok satan ürün sayısı
+     * @param epsilon      adet tahmininin toplam adede göre en büyük göreli hatası
+     * @param delta        hata sınırlarının aşılma olasılığı
+     * @param buyerEpsilon alıcı tahmininin satış kaydı sayısına göre en büyük göreli hatası (HLL hatası hariç)
+     */
+    public ProductSalesSketch(int topN, double epsilon, double delta, double buyerEpsilon) {
+        if (topN <= 0 || topN > 10_000) {
+            throw new IllegalArgumentException("topN 1 ile 10000 arasında olmalı");
+        }
+        if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1) || !(buyerEpsilon > 0 && buyerEpsilon < 1)) {
+            throw new IllegalArgumentException("Epsilon ve delta 0 ile 1 arasında olmalı");
+        }
+        int depth = (int) Math.ceil(Math.log(1 / delta));
+        this.width = (int) Math.ceil(Math.E / epsilon);
+        this.buyerWidth = (int) Math.ceil(Math.E / buyerEpsilon);
+        this.counts = new long[depth][width];
+        this.buyers = new HyperLogLog[depth][buyerWidth];
+        for (HyperLogLog[] row : buyers) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new HyperLogLog(BUYER_PRECISION);
+            }
+        }
+        this.topN = topN;
+        this.tracked = new HashMap<>(topN * 2);
+        this.heap = new HeapEntry[topN];
+    }
+
+    /**
+     * Siparişin tüm satırlarını siparişin kullanıcısını alıcı sayarak ekler
+     */
+    public synchronized void addOrder(Order order) {
+        if (order == null || order.getUserId() == null) {
+            throw new IllegalArgumentException("Sipariş ve kullanıcısı null olamaz");
+        }
+        // Satırlar OrderItem oluşturulmadan okunur
+        for (int i = 0; i < order.getLineCount(); i++) {
+            addSale(order.getLineProductName(i), order.getLineQuantity(i), order.getUserId());
+        }
+    }
+
+    /**
+     * Tek bir satış ekler
+     */
+    public synchronized void add(String productName, int quantity, long buyerId) {
+        addSale(productName, quantity, buyerId);
+    }
+
+    /**
+     * Ürünün tahmini satış adedi; gerçek adetten küçük olmaz
+     */
+    public synchronized long estimateQuantity(String productName) {
+        return estimateQuantity(hash(requireName(productName)));
+    }
+
+    /**
+     * Ürünün tahmini farklı alıcı sayısı
+     * En çok satanlar listesindeki ürünler kendi HLL'inden, diğerleri matristen tahmin edilir;
+     * matris tahmini HLL hatası dışında gerçek sayıyı 1 - δ olasılıkla en fazla getBuyerErrorBound kadar aşar.
+     */
+    public synchronized long estimateDistinctBuyers(String productName) {
+        HeapEntry entry = tracked.get(requireName(productName));
+        if (entry != null) {
+            return entry.buyers.estimate();
+        }
+        return smallestBuyerCell(hash(productName)).estimate();
+    }
+
+    /**
+     * Tahmini adede göre azalan sırada en çok satan ürünler
+     */
+    public synchronized List<ProductEstimate> getTopProducts() {
+        HeapEntry[] entries = Arrays.copyOf(heap, heapSize);
+        Arrays.sort(entries, (a, b) -> a.quantity != b.quantity
+                ? Long.compare(b.quantity, a.quantity) : a.productName.compareTo(b.productName));
+        List<ProductEstimate> result = new ArrayList<>(entries.length);
+        for (HeapEntry entry : entries) {
+            result.add(new ProductEstimate(entry.productName, entry.quantity, estimateDistinctBuyers(entry.productName)));
+        }
+        return result;
+    }
+
+    /**
+     * O ana kadar eklenen toplam adet (N)
+     */
+    public synchronized long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    /**
+     * Adet tahminindeki olası en büyük fazlalık (ε·N), 1 - δ olasılıkla
+     */
+    public synchronized long getQuantityErrorBound() {
+        return (long) Math.ceil(Math.E / width * totalQuantity);
+    }
+
+    /**
+     * Matristen gelen alıcı tahminindeki olası en büyük fazlalık (ε_b·S), 1 - δ olasılıkla; HLL hatası hariç
+     */
+    public synchronized long getBuyerErrorBound() {
+        return (long) Math.ceil(Math.E / buyerWidth * saleCount);
+    }
+
+    /**
+     * Sketch'lerin kapladığı yaklaşık bellek (bayt); eklenen veriyle büyümez
+     */
+    public long getMemoryBytes() {
+        long bytes = (long) counts.length * width * Long.BYTES;
+        bytes += ((long) buyers.length * buyerWidth + topN) * (1 << BUYER_PRECISION);
+        return bytes;
+    }
+
+    private void addSale(String productName, int quantity, long buyerId) {
+        requireName(productName);
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Adet pozitif olmalı");
+        }
+        long hash = hash(productName);
+        long buyerHash = HyperLogLog.mix(buyerId);
+        for (int row = 0; row < counts.length; row++) {
+            counts[row][column(hash, row, width)] += quantity;
+            buyers[row][column(hash, row, buyerWidth)].add(buyerHash);
+        }
+        totalQuantity += quantity;
+        saleCount++;
+        HeapEntry entry = offer(productName, hash, estimateQuantity(hash));
+        if (entry != null) {
+            entry.buyers.add(buyerHash);
+        }
+    }
+
+    /**
+     * Ürünü yeni tahminiyle en çok satanlar heap'ine önerir; ürün listedeyse kaydını döndürür
+     */
+    private HeapEntry offer(String productName, long hash, long quantity) {
+        HeapEntry entry = tracked.get(productName);
+        if (entry != null) {
+            // Tahmin yalnızca artar; min-heap'te aşağı doğru yer değiştirir
+            entry.quantity = quantity;
+            siftDown(entry.index);
+            return entry;
+        }
+        if (heapSize < topN) {
+            entry = new HeapEntry(productName, quantity, new HyperLogLog(BUYER_PRECISION));
+            heap[heapSize] = entry;
+            entry.index = heapSize++;
+            entry.buyers.copyFrom(smallestBuyerCell(hash));
+            tracked.put(productName, entry);
+            siftUp(entry.index);
+            return entry;
+        }
+        if (quantity > heap[0].quantity) {
+            HeapEntry evicted = heap[0];
+            tracked.remove(evicted.productName);
+            // Çıkarılan ürünün HLL'i yeniden kullanılır, bellek sabit kalır
+            entry = new HeapEntry(productName, quantity, evicted.buyers);
+            entry.buyers.copyFrom(smallestBuyerCell(hash));
+            entry.index = 0;
+            heap[0] = entry;
+            tracked.put(productName, entry);
+            siftDown(0);
+            return entry;
+        }
+        return null;
+    }
+
+    private HyperLogLog smallestBuyerCell(long hash) {
+        HyperLogLog smallest = null;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < buyers.length; row++) {
+            HyperLogLog cell = buyers[row][column(hash, row, buyerWidth)];
+            long estimate = cell.estimate();
+            if (estimate < min) {
+                min = estimate;
+                smallest = cell;
+            }
+        }
+        return smallest;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap[parent].quantity <= heap[index].quantity) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int smallest = index;
+            int left = index * 2 + 1;
+            int right = left + 1;
+            if (left < heapSize && heap[left].quantity < heap[smallest].quantity) {
+                smallest = left;
+            }
+            if (right < heapSize && heap[right].quantity < heap[smallest].quantity) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(smallest, index);
+            index = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        HeapEntry tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+        heap[i].index = i;
+        heap[j].index = j;
+    }
+
+    private long estimateQuantity(long hash) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < counts.length; row++) {
+            min = Math.min(min, counts[row][column(hash, row, width)]);
+        }
+        return min;
+    }
+
+    private static int column(long hash, int row, int width) {
+        // Kirsch-Mitzenmacher: iki hash yarısından satır başına farklı hash türetilir
+        long combined = (hash & 0xffffffffL) + row * (hash >>> 32);
+        return (int) Math.floorMod(combined, (long) width);
+    }
+
+    private static String requireName(String productName) {
+        if (productName == null) {
+            throw new IllegalArgumentException("Ürün adı null olamaz");
+        }
+        return productName;
+    }
+
+    private static long hash(String element) {
+        // FNV-1a ve son karıştırma; String.hashCode 32 bit olduğu için kullanılmaz
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < element.length(); i++) {
+            h ^= element.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class HeapEntry {
+        private final String productName;
+        private final HyperLogLog buyers;
+        private long quantity;
+        private int index;
+
+        private HeapEntry(String productName, long quantity, HyperLogLog buyers) {
+            this.productName = productName;
+            this.quantity = quantity;
+            this.buyers = buyers;
+        }
+    }
+
+    /**
+     * Bir ürünün tahmini satış adedi ve farklı alıcı sayısı
+     */
+    public static class ProductEstimate {
+        private final String productName;
+        private final long estimatedQuantity;
+        private final long estimatedBuyers;
+
+        public ProductEstimate(String productName, long estimatedQuantity, long estimatedBuyers) {
+            this.productName = productName;
+            this.estimatedQuantity = estimatedQuantity;
+            this.estimatedBuyers = estimatedBuyers;
+        }
+
+        public String getProductName() {
+            return productName;
+        }
+
+        public long getEstimatedQuantity() {
+            return estimatedQuantity;
+        }
+
+        public long getEstimatedBuyers() {
+            return estimatedBuyers;
+        }
+
+        @Override
+        public String toString() {
+            return "ProductEstimate{" +
+                    "productName='" + productName + '\'' +
+                    ", estimatedQuantity=" + estimatedQuantity +
+                    ", estimatedBuyers=" + estimatedBuyers +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Aynı anahtar için eşzamanlı yapılan çağrıları tek bir çalıştırmada birleştiren yardımcı sınıf
+ *
+ * Bir anahtar için çağrı sürerken gelen diğer çağıranlar kendi çağrılarını yapmaz,
+ * sürmekte olan çağrının sonucunu (veya exception'ını) bekler. Çağrı bittikten sonra
+ * gelenler yeni bir çalıştırma başlatır; sonuçlar saklanmaz.
+ */
+public class SingleFlight<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executionCount = new LongAdder();
+    private final LongAdder sharedCount = new LongAdder();
+
+    /**
+     * Anahtar için çağrıyı çalıştırır veya sürmekte olan çağrının sonucunu bekler
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            sharedCount.increment();
+            return join(existing);
+        }
+
+        executionCount.increment();
+        try {
+            V result = call.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Anahtar için sürmekte olan çağrıyı unutur; sonraki çağıranlar yeni çalıştırma başlatır
+     * Zaten bekleyenler mevcut çağrının sonucunu almaya devam eder
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Sürmekte olan tüm çağrıları unutur
+     */
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    /**
+     * Gerçekten çalıştırılan çağrı sayısını döndürür
+     */
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    /**
+     * Başka bir çağrının sonucunu paylaşan çağıran sayısını döndürür
+     */
+    public long getSharedCount() {
+        return sharedCount.sum();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
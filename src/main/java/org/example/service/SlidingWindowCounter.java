@@ -0,0 +1,144 @@
+package org.example.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Anahtar başına yaklaşık olay sayısını kayan pencere içinde tutan sayaç
+ *
+ * Her pencere sabit boyutlu bir Count-Min sketch'tir: anahtar sayısı ne olursa olsun
+ * bellek kullanımı değişmez. Kayan pencere, bir önceki pencerenin sayısı geçen süreyle
+ * orantılı ağırlıklandırılarak yaklaşık hesaplanır. Tahmin hiçbir zaman gerçek değerin
+ * altında kalmaz; çakışmalar yüzünden en fazla (e / genişlik) * toplam olay kadar fazla sayabilir.
+ */
+class SlidingWindowCounter {
+    private static final int DEPTH = 4;
+    private static final long ROTATING = Long.MIN_VALUE;
+
+    private final int widthMask;
+    private final long windowMillis;
+    private final LongSupplier clock;
+    private final long seed;
+    private final Window[] windows = new Window[2];
+
+    SlidingWindowCounter(int width, long windowMillis, LongSupplier clock) {
+        if (width <= 0 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Genişlik 2'nin kuvveti olmalı");
+        }
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("Pencere süresi pozitif olmalı");
+        }
+        this.widthMask = width - 1;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+        // Rastgele tohum, dışarıdan hesaplanmış çakışmalarla başka bir anahtarı kilitlemeyi zorlaştırır
+        this.seed = ThreadLocalRandom.current().nextLong();
+        this.windows[0] = new Window(width);
+        this.windows[1] = new Window(width);
+    }
+
+    /**
+     * Anahtar için bir olay kaydeder
+     */
+    void increment(String key) {
+        long epoch = clock.getAsLong() / windowMillis;
+        Window window = windows[(int) (epoch & 1)];
+        window.rotateTo(epoch);
+
+        long hash = hash(key);
+        for (int row = 0; row < DEPTH; row++) {
+            window.counts.getAndIncrement(slot(hash, row));
+        }
+    }
+
+    /**
+     * Anahtarın son pencere süresindeki yaklaşık olay sayısını döndürür
+     */
+    long estimate(String key) {
+        long now = clock.getAsLong();
+        long epoch = now / windowMillis;
+        long hash = hash(key);
+
+        long current = windows[(int) (epoch & 1)].min(epoch, hash);
+        long previous = windows[(int) ((epoch - 1) & 1)].min(epoch - 1, hash);
+        if (previous == 0) {
+            return current;
+        }
+
+        long remaining = windowMillis - (now % windowMillis);
+        return current + (previous * remaining + windowMillis - 1) / windowMillis;
+    }
+
+    /**
+     * Tüm sayaçları sıfırlar
+     */
+    void clear() {
+        for (Window window : windows) {
+            window.epoch.set(-1L);
+            window.clear();
+        }
+    }
+
+    private int slot(long hash, int row) {
+        // Kirsch-Mitzenmacher: iki hash yarısından DEPTH farklı hash türetilir
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return row * (widthMask + 1) + ((h1 + row * h2) & widthMask);
+    }
+
+    private long hash(String key) {
+        // Tohumlu FNV-1a; String.hashCode çakışmaları tohumdan bağımsız olduğu için kullanılmaz
+        long h = seed ^ 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private final class Window {
+        private final AtomicIntegerArray counts;
+        private final AtomicLong epoch = new AtomicLong(-1L);
+
+        private Window(int width) {
+            this.counts = new AtomicIntegerArray(width * DEPTH);
+        }
+
+        private void rotateTo(long newEpoch) {
+            long seen;
+            while ((seen = epoch.get()) < newEpoch) {
+                if (seen == ROTATING) {
+                    // Başka bir thread pencereyi temizliyor; kısa süreli bekleme
+                    Thread.onSpinWait();
+                } else if (epoch.compareAndSet(seen, ROTATING)) {
+                    // Okuyucular temizlik bitene kadar pencereyi boş görür
+                    clear();
+                    epoch.set(newEpoch);
+                    return;
+                }
+            }
+        }
+
+        private long min(long expectedEpoch, long hash) {
+            if (epoch.get() != expectedEpoch) {
+                return 0;
+            }
+            int min = Integer.MAX_VALUE;
+            for (int row = 0; row < DEPTH; row++) {
+                min = Math.min(min, counts.get(slot(hash, row)));
+            }
+            return min;
+        }
+
+        private void clear() {
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0);
+            }
+        }
+    }
+}
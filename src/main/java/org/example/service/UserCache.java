@@ -0,0 +1,337 @@
+package org.example.service;
+
+import org.example.model.User;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * DatabaseService önünde duran, boyutu sınırlı read-through kullanıcı cache'i
+ *
+ * Okumalar kilitsiz bir ConcurrentHashMap'ten yapılır. Hangi kaydın atılacağına
+ * W-TinyLFU politikası karar verir: yeni kayıtlar küçük bir LRU penceresine girer,
+ * pencereden taşan aday ana bölgeye ancak kurbanından daha sık erişilmişse kabul edilir.
+ * Aynı anahtar için eşzamanlı cache miss'ler tek bir yüklemede birleştirilir.
+ * Bulunamayan kullanıcılar cache'lenmez.
+ */
+public class UserCache implements DatabaseService.UserChangeListener {
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final int maximumSize;
+    private final Map<Long, Entry> data = new ConcurrentHashMap<>();
+    private final Map<String, Long> emailIndex = new ConcurrentHashMap<>();
+    private final SingleFlight<Object, Optional<User>> loads = new SingleFlight<>();
+
+    // Yükleme sürerken gelen invalidation'lar, eski değerin cache'e yazılmasını engeller
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final LinkedHashMap<Long, Boolean> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Long, Boolean> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Long, Boolean> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private final int windowMaximum;
+    private final int protectedMaximum;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public UserCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public UserCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache boyutu pozitif olmalı");
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (int) ((maximumSize - windowMaximum) * 0.8);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * ID'ye göre kullanıcıyı cache'ten getirir, yoksa loader ile yükler
+     */
+    public Optional<User> getById(Long id, Function<Long, Optional<User>> loader) {
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        Entry entry = data.get(id);
+        if (entry != null) {
+            recordHit(id);
+            return Optional.of(entry.user);
+        }
+
+        missCount.increment();
+        return load(id, () -> loader.apply(id));
+    }
+
+    /**
+     * Email adresine göre kullanıcıyı cache'ten getirir, yoksa loader ile yükler
+     */
+    public Optional<User> getByEmail(String email, Function<String, Optional<User>> loader) {
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        Long id = emailIndex.get(email);
+        Entry entry = id != null ? data.get(id) : null;
+        // Kullanıcı nesnesinin emaili sonradan değişmiş olabilir
+        if (entry != null && email.equals(entry.user.getEmail())) {
+            recordHit(id);
+            return Optional.of(entry.user);
+        }
+
+        missCount.increment();
+        return load(email, () -> loader.apply(email));
+    }
+
+    /**
+     * Kullanıcıyı cache'ten çıkarır
+     */
+    public void invalidate(Long id) {
+        if (id == null) {
+            return;
+        }
+        policyLock.lock();
+        try {
+            invalidations.incrementAndGet();
+            loads.forget(id);
+            Entry removed = data.remove(id);
+            if (removed != null) {
+                emailIndex.remove(removed.email, id);
+                window.remove(id);
+                probation.remove(id);
+                protectedSegment.remove(id);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    /**
+     * Tüm cache'i temizler
+     */
+    public void invalidateAll() {
+        policyLock.lock();
+        try {
+            invalidations.incrementAndGet();
+            loads.forgetAll();
+            data.clear();
+            emailIndex.clear();
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    @Override
+    public void userChanged(Long userId) {
+        invalidate(userId);
+    }
+
+    @Override
+    public void allUsersRemoved() {
+        invalidateAll();
+    }
+
+    /**
+     * Cache'teki kayıt sayısını döndürür
+     */
+    public int size() {
+        return data.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Cache istatistiklerini getirir
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadCount.sum(),
+                totalLoadTimeNanos.sum(), evictionCount.sum());
+    }
+
+    private Optional<User> load(Object key, Supplier<Optional<User>> loader) {
+        return loads.execute(key, () -> {
+            long stamp = invalidations.get();
+            long start = System.nanoTime();
+            Optional<User> result = loader.get();
+            loadCount.increment();
+            totalLoadTimeNanos.add(System.nanoTime() - start);
+
+            if (result.isPresent()) {
+                put(result.get(), stamp);
+            }
+            return result;
+        });
+    }
+
+    private void put(User user, long stamp) {
+        Long id = user.getId();
+        if (id == null) {
+            return;
+        }
+
+        policyLock.lock();
+        try {
+            // Yükleme sırasında invalidation olduysa değer eski olabilir, cache'lenmez
+            if (invalidations.get() != stamp) {
+                return;
+            }
+            Entry previous = data.put(id, new Entry(user, user.getEmail()));
+            if (previous != null) {
+                emailIndex.remove(previous.email, id);
+            }
+            if (user.getEmail() != null) {
+                emailIndex.put(user.getEmail(), id);
+            }
+
+            sketch.increment(id);
+            if (previous == null) {
+                window.put(id, Boolean.TRUE);
+                evictIfNeeded();
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void recordHit(Long id) {
+        hitCount.increment();
+        // Okumaların kilit için beklememesi adına meşgul kilitte erişim kaydı atlanır
+        if (policyLock.tryLock()) {
+            try {
+                sketch.increment(id);
+                onAccess(id);
+            } finally {
+                policyLock.unlock();
+            }
+        }
+    }
+
+    private void onAccess(Long id) {
+        if (window.get(id) != null || protectedSegment.get(id) != null) {
+            return;
+        }
+        if (probation.remove(id) != null) {
+            protectedSegment.put(id, Boolean.TRUE);
+            if (protectedSegment.size() > protectedMaximum) {
+                Long demoted = eldest(protectedSegment);
+                protectedSegment.remove(demoted);
+                probation.put(demoted, Boolean.TRUE);
+            }
+        }
+    }
+
+    private void evictIfNeeded() {
+        while (window.size() > windowMaximum) {
+            Long candidate = eldest(window);
+            window.remove(candidate);
+
+            if (probation.size() + protectedSegment.size() < maximumSize - windowMaximum) {
+                probation.put(candidate, Boolean.TRUE);
+                continue;
+            }
+
+            LinkedHashMap<Long, Boolean> victimSegment = probation.isEmpty() ? protectedSegment : probation;
+            Long victim = eldest(victimSegment);
+            if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+                victimSegment.remove(victim);
+                probation.put(candidate, Boolean.TRUE);
+                evict(victim);
+            } else {
+                evict(candidate);
+            }
+        }
+    }
+
+    private void evict(Long id) {
+        Entry removed = data.remove(id);
+        if (removed != null) {
+            emailIndex.remove(removed.email, id);
+            evictionCount.increment();
+        }
+    }
+
+    private static Long eldest(LinkedHashMap<Long, Boolean> segment) {
+        Iterator<Long> iterator = segment.keySet().iterator();
+        return iterator.next();
+    }
+
+    private static final class Entry {
+        private final User user;
+        private final String email;
+
+        private Entry(User user, String email) {
+            this.user = user;
+            this.email = email;
+        }
+    }
+
+    /**
+     * Cache istatistiklerini tutan sınıf
+     */
+    public static class CacheStats {
+        private final long hitCount;
+        private final long missCount;
+        private final long loadCount;
+        private final long totalLoadTimeNanos;
+        private final long evictionCount;
+
+        public CacheStats(long hitCount, long missCount, long loadCount, long totalLoadTimeNanos, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadCount = loadCount;
+            this.totalLoadTimeNanos = totalLoadTimeNanos;
+            this.evictionCount = evictionCount;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getLoadCount() {
+            return loadCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public double getHitRatio() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        public double getAverageLoadPenaltyNanos() {
+            return loadCount == 0 ? 0.0 : (double) totalLoadTimeNanos / loadCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("CacheStats{isabet=%d, ıska=%d, oran=%.3f, yükleme=%d, ortYükleme=%.0fns, atılan=%d}",
+                    hitCount, missCount, getHitRatio(), loadCount, getAverageLoadPenaltyNanos(), evictionCount);
+        }
+    }
+}
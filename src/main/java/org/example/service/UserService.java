@@ -1,27 +1,68 @@
 package org.example.service;
 
 import org.example.model.User;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Kullanıcı işlemlerini yöneten ana service sınıfı
  * Bu sınıf DatabaseService ve EmailService'i kullanır (Dependency Injection)
  */
 public class UserService {
+    // Sürüm çakışmasında bir güncellemenin en fazla kaç kez deneneceği
+    static final int MAX_UPDATE_ATTEMPTS = 5;
+
     private final DatabaseService databaseService;
     private final EmailService emailService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final UserCache userCache;
+
+    // Aynı anahtar için eşzamanlı veritabanı okumaları tek çağrıda birleştirilir
+    private final SingleFlight<Long, Optional<User>> idLookups = new SingleFlight<>();
+    private final SingleFlight<String, Optional<User>> emailLookups = new SingleFlight<>();
 
     public UserService(DatabaseService databaseService, EmailService emailService) {
+        this(databaseService, emailService, new LoginAttemptLimiter());
+    }
+
+    public UserService(DatabaseService databaseService, EmailService emailService,
+                       LoginAttemptLimiter loginAttemptLimiter) {
+        this(databaseService, emailService, loginAttemptLimiter, new UserCache());
+    }
+
+    /**
+     * loginAttemptLimiter null verilirse giriş denemeleri sınırlanmaz,
+     * userCache null verilirse okumalar doğrudan veritabanına gider
+     */
+    public UserService(DatabaseService databaseService, EmailService emailService,
+                       LoginAttemptLimiter loginAttemptLimiter, UserCache userCache) {
         this.databaseService = databaseService;
         this.emailService = emailService;
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        this.userCache = userCache;
+        if (userCache != null) {
+            // Güncelleme ve silmelerde cache kaydı düşürülür
+            databaseService.addUserChangeListener(userCache);
+        }
     }
 
     /**
      * Yeni kullanıcı kaydı yapar
      */
     public User registerUser(String username, String email, String password) {
+        User savedUser = createUser(username, email, password);
+        sendWelcomeEmail(savedUser);
+        return savedUser;
+    }
+
+    /**
+     * Kayıt işleminin veritabanı adımı: doğrulama ve kaydetme
+     */
+    User createUser(String username, String email, String password) {
         if (username == null || username.trim().isEmpty()) {
             throw new IllegalArgumentException("Kullanıcı adı boş olamaz");
         }
@@ -35,32 +76,44 @@ public class UserService {
             throw new IllegalStateException("Bu email adresi zaten kayıtlı");
         }
 
-        // Yeni kullanıcı oluştur
+        // Yeni kullanıcı oluştur ve veritabanına kaydet
         User user = new User(username, email, password);
-        
-        // Veritabanına kaydet
-        User savedUser = databaseService.saveUser(user);
-        
-        // Hoş geldin emaili gönder
+        return databaseService.saveUser(user);
+    }
+
+    /**
+     * Kayıt işleminin email adımı: hoş geldin emaili gönderir
+     */
+    void sendWelcomeEmail(User savedUser) {
         try {
             emailService.sendWelcomeEmail(savedUser);
         } catch (Exception e) {
             // Email gönderimi başarısız olsa da kullanıcı kaydı devam eder
             System.err.println("Hoş geldin emaili gönderilemedi: " + e.getMessage());
         }
-
-        return savedUser;
     }
 
     /**
      * Kullanıcı girişi yapar
      */
     public Optional<User> loginUser(String email, String password) {
+        return loginUser(email, password, null);
+    }
+
+    /**
+     * Kullanıcı girişi yapar, başarısız denemeleri email ve kaynak adresi başına sınırlar
+     */
+    public Optional<User> loginUser(String email, String password, String sourceAddress) {
         if (email == null || password == null) {
             return Optional.empty();
         }
 
-        Optional<User> userOpt = databaseService.findUserByEmail(email);
+        // Limit aşıldıysa veritabanına hiç gidilmez
+        if (loginAttemptLimiter != null && loginAttemptLimiter.isBlocked(email, sourceAddress)) {
+            throw new IllegalStateException("Çok fazla başarısız giriş denemesi, lütfen daha sonra tekrar deneyin");
+        }
+
+        Optional<User> userOpt = findUserByEmail(email);
         
         if (userOpt.isPresent()) {
             User user = userOpt.get();
@@ -70,6 +123,9 @@ public class UserService {
             }
         }
 
+        if (loginAttemptLimiter != null) {
+            loginAttemptLimiter.recordFailure(email, sourceAddress);
+        }
         return Optional.empty();
     }
 
@@ -77,100 +133,145 @@ public class UserService {
      * Kullanıcı profilini günceller
      */
     public User updateUserProfile(Long userId, String newUsername, String newEmail) {
-        User user = databaseService.findUserById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("Kullanıcı bulunamadı"));
+        ProfileUpdate update = applyProfileUpdate(userId, newUsername, newEmail);
 
-        boolean emailChanged = false;
-        
-        // Username güncelleme
-        if (newUsername != null && !newUsername.trim().isEmpty()) {
-            user.setUsername(newUsername);
+        // Email değiştiyse bildirim gönder
+        if (update.isEmailChanged()) {
+            sendNotification(update.getUser(), "Email adresiniz başarıyla güncellendi.",
+                    "Email güncelleme bildirimi gönderilemedi: ");
         }
 
-        // Email güncelleme
-        if (newEmail != null && !newEmail.equals(user.getEmail())) {
-            if (!user.hasValidEmail()) {
-                throw new IllegalArgumentException("Geçerli email adresi gerekli");
+        return update.getUser();
+    }
+
+    /**
+     * Profil güncellemenin veritabanı adımı
+     */
+    ProfileUpdate applyProfileUpdate(Long userId, String newUsername, String newEmail) {
+        AtomicBoolean emailChanged = new AtomicBoolean();
+
+        User updated = updateUserWithRetry(userId, user -> {
+            emailChanged.set(false);
+
+            // Username güncelleme
+            if (newUsername != null && !newUsername.trim().isEmpty()) {
+                user.setUsername(newUsername);
             }
-            
-            // Yeni email zaten kayıtlı mı kontrol et
-            if (databaseService.isEmailExists(newEmail)) {
-                throw new IllegalStateException("Bu email adresi zaten kullanılıyor");
+
+            // Email güncelleme
+            if (newEmail != null && !newEmail.equals(user.getEmail())) {
+                if (!user.hasValidEmail()) {
+                    throw new IllegalArgumentException("Geçerli email adresi gerekli");
+                }
+
+                // Yeni email zaten kayıtlı mı kontrol et
+                if (databaseService.isEmailExists(newEmail)) {
+                    throw new IllegalStateException("Bu email adresi zaten kullanılıyor");
+                }
+
+                user.setEmail(newEmail);
+                emailChanged.set(true);
             }
-            
-            user.setEmail(newEmail);
-            emailChanged = true;
-        }
+        });
 
-        User updatedUser = databaseService.updateUser(user);
+        return new ProfileUpdate(updated, emailChanged.get());
+    }
 
-        // Email değiştiyse bildirim gönder
-        if (emailChanged) {
+    /**
+     * Kullanıcının güncel halinin bir kopyasına değişiklikleri uygulayıp kaydeder
+     *
+     * Kayıt sürümü okuma ile yazma arasında değiştiyse (başka bir işlem araya girdiyse)
+     * güncel hal yeniden okunur ve değişiklikler tekrar uygulanır. Değişiklik fonksiyonu
+     * bu yüzden birden fazla kez çağrılabilir ve yan etkisiz olmalıdır.
+     */
+    public User updateUserWithRetry(Long userId, Consumer<User> changes) {
+        for (int attempt = 1; ; attempt++) {
+            User current = databaseService.findUserById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("Kullanıcı bulunamadı"));
+
+            // Saklanan nesne okuyucularla paylaşıldığı için değişiklik kopya üzerinde yapılır
+            User draft = new User(current);
+            changes.accept(draft);
             try {
-                emailService.sendNotificationEmail(updatedUser, "Email adresiniz başarıyla güncellendi.");
-            } catch (Exception e) {
-                System.err.println("Email güncelleme bildirimi gönderilemedi: " + e.getMessage());
+                return databaseService.updateUser(draft);
+            } catch (ConcurrentModificationException e) {
+                if (attempt >= MAX_UPDATE_ATTEMPTS) {
+                    throw e;
+                }
             }
         }
-
-        return updatedUser;
     }
 
     /**
      * Şifre sıfırlama token'ı oluşturur ve email gönderir
      */
     public String requestPasswordReset(String email) {
+        User user = findResettableUser(email);
+
+        // Reset token oluştur
+        String resetToken = generateResetToken();
+        
+        // Email gönder
+        sendPasswordResetEmail(user, resetToken);
+
+        return resetToken;
+    }
+
+    /**
+     * Şifre sıfırlamanın veritabanı adımı: kullanıcıyı bulur ve aktif olduğunu doğrular
+     */
+    User findResettableUser(String email) {
         User user = databaseService.findUserByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("Bu email adresi ile kayıtlı kullanıcı bulunamadı"));
 
         if (!user.isActive()) {
             throw new IllegalStateException("Pasif kullanıcılar için şifre sıfırlama yapılamaz");
         }
+        return user;
+    }
 
-        // Reset token oluştur
-        String resetToken = generateResetToken();
-        
-        // Email gönder
+    /**
+     * Şifre sıfırlamanın email adımı
+     */
+    void sendPasswordResetEmail(User user, String resetToken) {
         boolean emailSent = emailService.sendPasswordResetEmail(user, resetToken);
         
         if (!emailSent) {
             throw new RuntimeException("Şifre sıfırlama emaili gönderilemedi");
         }
-
-        return resetToken;
     }
 
     /**
      * Kullanıcıyı pasif yapar (soft delete)
      */
     public void deactivateUser(Long userId) {
-        User user = databaseService.findUserById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("Kullanıcı bulunamadı"));
-
-        user.setActive(false);
-        databaseService.updateUser(user);
-
-        try {
-            emailService.sendNotificationEmail(user, "Hesabınız pasifleştirildi.");
-        } catch (Exception e) {
-            System.err.println("Pasifleştirme bildirimi gönderilemedi: " + e.getMessage());
-        }
+        User user = changeActiveState(userId, false);
+        sendNotification(user, "Hesabınız pasifleştirildi.", "Pasifleştirme bildirimi gönderilemedi: ");
     }
 
     /**
      * Kullanıcıyı aktif yapar
      */
     public void activateUser(Long userId) {
-        User user = databaseService.findUserById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("Kullanıcı bulunamadı"));
+        User user = changeActiveState(userId, true);
+        sendNotification(user, "Hesabınız tekrar aktifleştirildi.", "Aktifleştirme bildirimi gönderilemedi: ");
+    }
 
-        user.setActive(true);
-        databaseService.updateUser(user);
+    /**
+     * Aktifleştirme/pasifleştirmenin veritabanı adımı
+     */
+    User changeActiveState(Long userId, boolean active) {
+        return updateUserWithRetry(userId, user -> user.setActive(active));
+    }
 
+    /**
+     * Bildirim emaili gönderir; hata kullanıcı işlemini geri almaz, sadece loglanır
+     */
+    void sendNotification(User user, String message, String failureLog) {
         try {
-            emailService.sendNotificationEmail(user, "Hesabınız tekrar aktifleştirildi.");
+            emailService.sendNotificationEmail(user, message);
         } catch (Exception e) {
-            System.err.println("Aktifleştirme bildirimi gönderilemedi: " + e.getMessage());
+            System.err.println(failureLog + e.getMessage());
         }
     }
 
@@ -178,29 +279,51 @@ public class UserService {
      * Kullanıcı detaylarını getirir
      */
     public Optional<User> getUserById(Long userId) {
-        return databaseService.findUserById(userId);
+        if (userCache == null) {
+            return findUserById(userId);
+        }
+        return userCache.getById(userId, this::findUserById);
     }
 
     /**
      * Email adresine göre kullanıcı getirir
      */
     public Optional<User> getUserByEmail(String email) {
-        return databaseService.findUserByEmail(email);
+        if (userCache == null) {
+            return findUserByEmail(email);
+        }
+        return userCache.getByEmail(email, this::findUserByEmail);
     }
 
     /**
      * Tüm aktif kullanıcıları getirir
+     * Liste veritabanının kopyasız anlık görüntüsüdür, kullanıcı sayısından bağımsız bellek kullanır
      */
     public List<User> getAllActiveUsers() {
         return databaseService.getActiveUsers();
     }
 
+    /**
+     * Kullanıcı adı önekiyle arama yapar (yazarken tamamlama); büyük/küçük harfe duyarsızdır
+     */
+    public List<User> searchUsersByUsername(String prefix, int limit) {
+        return databaseService.findUsersByUsernamePrefix(prefix, limit);
+    }
+
     /**
      * Toplu email gönderimi yapar
+     * Aktif kullanıcılar anlık görüntü üzerinden tek tek dolaşılır, listeye kopyalanmaz
      */
     public int sendBulkNotification(String subject, String message) {
         List<User> activeUsers = databaseService.getActiveUsers();
-        return emailService.sendBulkEmail(activeUsers, subject, message);
+        return sendBulkEmail(activeUsers, subject, message);
+    }
+
+    /**
+     * Toplu bildirimin email adımı
+     */
+    int sendBulkEmail(List<User> users, String subject, String message) {
+        return emailService.sendBulkEmail(users, subject, message);
     }
 
     /**
@@ -217,10 +340,35 @@ public class UserService {
         );
     }
 
+    /**
+     * Birleştirilmiş okumaların istatistiklerini getirir: veritabanına giden ve
+     * başka bir çağrının sonucunu paylaşan okuma sayıları
+     */
+    public LookupStats getLookupStats() {
+        return new LookupStats(
+                idLookups.getExecutionCount() + emailLookups.getExecutionCount(),
+                idLookups.getSharedCount() + emailLookups.getSharedCount()
+        );
+    }
+
+    private Optional<User> findUserById(Long userId) {
+        if (userId == null) {
+            return databaseService.findUserById(null);
+        }
+        return idLookups.execute(userId, () -> databaseService.findUserById(userId));
+    }
+
+    private Optional<User> findUserByEmail(String email) {
+        if (email == null) {
+            return databaseService.findUserByEmail(null);
+        }
+        return emailLookups.execute(email, () -> databaseService.findUserByEmail(email));
+    }
+
     /**
      * Şifre sıfırlama token'ı oluşturur
      */
-    private String generateResetToken() {
+    String generateResetToken() {
         return UUID.randomUUID().toString().replace("-", "").substring(0, 16);
     }
 
@@ -256,4 +404,51 @@ public class UserService {
                     totalUsers, activeUsers, inactiveUsers);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Profil güncellemenin veritabanı adımının sonucu
+     */
+    static class ProfileUpdate {
+        private final User user;
+        private final boolean emailChanged;
+
+        ProfileUpdate(User user, boolean emailChanged) {
+            this.user = user;
+            this.emailChanged = emailChanged;
+        }
+
+        User getUser() {
+            return user;
+        }
+
+        boolean isEmailChanged() {
+            return emailChanged;
+        }
+    }
+
+    /**
+     * Birleştirilmiş okuma istatistiklerini tutan sınıf
+     */
+    public static class LookupStats {
+        private final long storeCalls;
+        private final long sharedCalls;
+
+        public LookupStats(long storeCalls, long sharedCalls) {
+            this.storeCalls = storeCalls;
+            this.sharedCalls = sharedCalls;
+        }
+
+        public long getStoreCalls() {
+            return storeCalls;
+        }
+
+        public long getSharedCalls() {
+            return sharedCalls;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("LookupStats{veritabanı=%d, paylaşılan=%d}", storeCalls, sharedCalls);
+        }
+    }
+}
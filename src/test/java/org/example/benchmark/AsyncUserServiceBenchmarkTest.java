@@ -0,0 +1,66 @@
+package org.example.benchmark;
+
+import org.example.model.User;
+import org.example.service.AsyncUserService;
+import org.example.service.DatabaseService;
+import org.example.service.EmailService;
+import org.example.service.UserService;
+import org.junit.jupiter.api.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Küçük bir thread havuzunda on binlerce eşzamanlı isteğin çalıştırılması
+ * Her hoş geldin emaili 10 ms sürer; 2 platform thread'i ile bloklayarak gönderilseydi
+ * 5.000 kayıt tek başına 25 saniye sürerdi
+ */
+@Tag("benchmark")
+@DisplayName("AsyncUserService Benchmark")
+class AsyncUserServiceBenchmarkTest {
+
+    private static final int REGISTRATIONS = 5_000;
+    private static final int LOGINS = 20_000;
+
+    @Test
+    @DisplayName("25k eşzamanlı istek, 2 veritabanı thread'i")
+    void testManyConcurrentRequestsOnSmallPool() throws Exception {
+        DatabaseService databaseService = new DatabaseService();
+        EmailService emailService = new EmailService();
+        UserService userService = new UserService(databaseService, emailService);
+        ExecutorService storeExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(LOGINS + REGISTRATIONS));
+        ExecutorService emailExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+        try (AsyncUserService asyncUserService = new AsyncUserService(userService, storeExecutor, emailExecutor,
+                REGISTRATIONS, Duration.ofMinutes(1))) {
+            long start = System.nanoTime();
+            List<CompletableFuture<User>> registrations = new ArrayList<>();
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                registrations.add(asyncUserService.registerUserAsync("user" + i, "user" + i + "@example.com", "password123"));
+            }
+            CompletableFuture.allOf(registrations.toArray(new CompletableFuture[0])).get(1, TimeUnit.MINUTES);
+            long registered = System.nanoTime();
+
+            List<CompletableFuture<Optional<User>>> logins = new ArrayList<>();
+            for (int i = 0; i < LOGINS; i++) {
+                int user = i % REGISTRATIONS;
+                logins.add(asyncUserService.loginUserAsync("user" + user + "@example.com", "password123"));
+            }
+            CompletableFuture.allOf(logins.toArray(new CompletableFuture[0])).get(1, TimeUnit.MINUTES);
+            long end = System.nanoTime();
+
+            System.out.printf("AsyncUserService: %d kayıt %.0f ms, %d giriş %.0f ms%n",
+                    REGISTRATIONS, (registered - start) / 1e6, LOGINS, (end - registered) / 1e6);
+            assertEquals(REGISTRATIONS, emailService.getSentEmailCount(), "Tüm hoş geldin emailleri gönderilmeli");
+            assertTrue(logins.stream().allMatch(f -> f.join().isPresent()), "Tüm girişler başarılı olmalı");
+        } finally {
+            storeExecutor.shutdown();
+            emailExecutor.shutdown();
+        }
+    }
+}
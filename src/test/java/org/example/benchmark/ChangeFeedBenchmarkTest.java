@@ -0,0 +1,43 @@
+package org.example.benchmark;
+
+import org.example.model.User;
+import org.example.service.ChangeFeed;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Değişiklik akışına yayın maliyeti
+ * Yazma yoluna eklenen maliyet, olay kopyası dahil yayın başına nanosaniye olarak ölçülür
+ */
+@Tag("benchmark")
+@DisplayName("Değişiklik Akışı Benchmark")
+class ChangeFeedBenchmarkTest {
+
+    private static final int WARMUP = 1_000_000;
+    private static final int EVENTS = 5_000_000;
+
+    @Test
+    @DisplayName("Yayın başına maliyet")
+    void testPublishCost() {
+        // Given
+        ChangeFeed feed = new ChangeFeed();
+        User user = new User("testuser", "test@example.com", "password");
+        user.setId(1L);
+        for (int i = 0; i < WARMUP; i++) {
+            feed.publish(ChangeFeed.ChangeType.UPDATE, 1L, new User(user), i);
+        }
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            feed.publish(ChangeFeed.ChangeType.UPDATE, 1L, new User(user), i);
+        }
+        double nanosPerEvent = (double) (System.nanoTime() - start) / EVENTS;
+
+        // Then
+        System.out.printf("Değişiklik akışı: yayın başına %.1f ns (kapasite %d)%n", nanosPerEvent, feed.getCapacity());
+        assertEquals(WARMUP + EVENTS, feed.getLastSequence());
+        assertTrue(nanosPerEvent < 1_000, "Yayın bir mikrosaniyeden kısa sürmeli: " + nanosPerEvent + " ns");
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.benchmark;
+
+import org.example.model.User;
+import org.example.service.ColumnarUserStore;
+import org.example.service.DatabaseService;
+import org.junit.jupiter.api.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sütun bazlı deponun kullanıcı başına heap kullanımı
+ * Aynı kullanıcılar User nesneleri, DatabaseService ve ColumnarUserStore olarak tutulur;
+ * her yapı oluşturulmadan önce ve sonra GC sonrası kullanılan heap ölçülür.
+ * Her kullanıcının adı, emaili ve şifresi ayrı String'lerdir (paylaşılan literal yoktur).
+ */
+@Tag("benchmark")
+@DisplayName("Sütun Bazlı Depo Bellek Benchmark")
+class ColumnarFootprintBenchmarkTest {
+
+    private static final int USER_COUNT = 200_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("Kullanıcı başına heap, en az 3 kat az")
+    void testFootprintPerUser() {
+        // When
+        double objects = bytesPerUser(() -> {
+            List<User> users = new ArrayList<>(USER_COUNT);
+            for (int i = 0; i < USER_COUNT; i++) {
+                users.add(user(i));
+            }
+            return users;
+        });
+        double database = bytesPerUser(() -> {
+            DatabaseService databaseService = new DatabaseService();
+            for (int i = 0; i < USER_COUNT; i++) {
+                databaseService.saveUser(user(i));
+            }
+            return databaseService;
+        });
+        double columnar = bytesPerUser(() -> {
+            ColumnarUserStore store = new ColumnarUserStore();
+            for (int i = 0; i < USER_COUNT; i++) {
+                store.saveUser(user(i));
+            }
+            store.trimToSize();
+            return store;
+        });
+
+        // Then
+        System.out.printf("Kullanıcı başına heap: User nesneleri %.0f B, DatabaseService %.0f B, sütun bazlı %.0f B (%.1fx / %.1fx)%n",
+                objects, database, columnar, objects / columnar, database / columnar);
+        assertTrue(objects / columnar >= 3.0, "Sütun bazlı depo en az 3 kat az yer kaplamalı: " + objects / columnar);
+    }
+
+    private static User user(int i) {
+        User user = new User("user" + i, "user" + i + "@example.com", "password" + i);
+        user.setId((long) i + 1);
+        user.setCreatedAt(BASE.plusSeconds(i * 37L));
+        return user;
+    }
+
+    private static double bytesPerUser(Supplier<Object> build) {
+        long before = usedHeap();
+        Object retained = build.get();
+        long after = usedHeap();
+        assertNotNull(retained);
+        double perUser = (double) (after - before) / USER_COUNT;
+        // Ölçüm sırasında yapının toplanmaması için referans burada tutulur
+        System.identityHashCode(retained);
+        return perUser;
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.benchmark;
+
+import org.example.model.User;
+import org.example.service.DatabaseService;
+import org.junit.jupiter.api.*;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kayıt zamanı indeksi için benchmark
+ * Beş yıla yayılmış kullanıcılar üzerinde bir günlük aralık sorguları, tam tarama ile karşılaştırılır
+ */
+@Tag("benchmark")
+@DisplayName("Kayıt Zamanı İndeksi Benchmark")
+class CreatedAtIndexBenchmarkTest {
+
+    private static final int USER_COUNT = 200_000;
+    private static final int QUERIES = 1_000;
+    private static final int SCAN_QUERIES = 20;
+    private static final int FIVE_YEARS_SECONDS = 5 * 365 * 24 * 3600;
+
+    @Test
+    @DisplayName("Beş yılda bir günlük aralık sorgusu")
+    void testOneDayWindowQuery() {
+        // Given
+        DatabaseService databaseService = new DatabaseService();
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        Random random = new Random(42);
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", "password");
+            user.setCreatedAt(base.plusSeconds(random.nextInt(FIVE_YEARS_SECONDS)));
+            databaseService.saveUser(user);
+        }
+
+        // When - indeks ile sorgu
+        long found = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            LocalDateTime from = base.plusSeconds(random.nextInt(FIVE_YEARS_SECONDS));
+            found += databaseService.findUsersCreatedBetween(from, from.plusDays(1)).size();
+            found += databaseService.countUsersCreatedBetween(from, from.plusDays(1));
+        }
+        double indexMillis = (System.nanoTime() - start) / 1e6 / QUERIES;
+
+        // Karşılaştırma için tam tarama
+        start = System.nanoTime();
+        for (int i = 0; i < SCAN_QUERIES; i++) {
+            LocalDateTime from = base.plusSeconds(random.nextInt(FIVE_YEARS_SECONDS));
+            LocalDateTime to = from.plusDays(1);
+            found += databaseService.getAllUsers().stream()
+                    .filter(user -> !user.getCreatedAt().isBefore(from) && user.getCreatedAt().isBefore(to))
+                    .count();
+        }
+        double scanMillis = (System.nanoTime() - start) / 1e6 / SCAN_QUERIES;
+
+        // Then
+        System.out.printf("Kayıt zamanı indeksi: %d kullanıcı, gün sorgusu (liste+sayı) %.3f ms, tam tarama %.3f ms (%d)%n",
+                USER_COUNT, indexMillis, scanMillis, found);
+        assertTrue(indexMillis < 5.0, "Bir günlük sorgu milisaniyeler içinde bitmeli: " + indexMillis + " ms");
+        assertTrue(indexMillis < scanMillis, "İndeks tam taramadan hızlı olmalı");
+    }
+}
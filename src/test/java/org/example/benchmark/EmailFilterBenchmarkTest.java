@@ -0,0 +1,52 @@
+package org.example.benchmark;
+
+import org.example.model.User;
+import org.example.service.DatabaseService;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Email Bloom filtresi için benchmark
+ * Kayıtlı olmayan emaillerle yapılan varlık sorgularında gözlenen yanlış pozitif oranı
+ * ve sorgu başına maliyet raporlanır
+ */
+@Tag("benchmark")
+@DisplayName("Email Filtresi Benchmark")
+class EmailFilterBenchmarkTest {
+
+    private static final int USER_COUNT = 200_000;
+    private static final int LOOKUPS = 2_000_000;
+
+    @Test
+    @DisplayName("Kayıtlı olmayan emaillerle varlık sorgusu")
+    void testMissingEmailLookups() {
+        // Given
+        DatabaseService databaseService = new DatabaseService();
+        for (int i = 0; i < USER_COUNT; i++) {
+            databaseService.saveUser(new User("user" + i, "user" + i + "@example.com", "password"));
+        }
+        String[] missing = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            missing[i] = "missing" + i + "@example.com";
+        }
+
+        // When
+        long found = 0;
+        long start = System.nanoTime();
+        for (String email : missing) {
+            if (databaseService.isEmailExists(email)) {
+                found++;
+            }
+        }
+        double nanosPerLookup = (double) (System.nanoTime() - start) / LOOKUPS;
+        DatabaseService.EmailFilterStats stats = databaseService.getEmailFilterStats();
+
+        // Then
+        System.out.printf("Email filtresi: %d kullanıcı, kapasite %d, sorgu %.1f ns, yanlış pozitif %.4f (teorik %.4f)%n",
+                USER_COUNT, stats.getCapacity(), nanosPerLookup,
+                stats.getObservedFalsePositiveRate(), stats.getExpectedFalsePositiveRate());
+        assertEquals(0, found, "Kayıtlı olmayan email bulunmamalı");
+        assertTrue(stats.getObservedFalsePositiveRate() < 0.02, "Yanlış pozitif oranı hedefe yakın olmalı");
+    }
+}
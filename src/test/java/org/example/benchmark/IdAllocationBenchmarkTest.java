@@ -0,0 +1,104 @@
+package org.example.benchmark;
+
+import org.example.service.IdBlockAllocator;
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Yoğun çekişme altında ID dağıtım hızı
+ * Blok tabanlı dağıtıcı 1-32 thread'de, her ID'yi yavaş bir depoya (1 µs) yazan ortak sayaç
+ * ve hiç saklamayan AtomicLong ile karşılaştırılır; blok dağıtıcı depoya blok başına bir kez yazar
+ */
+@Tag("benchmark")
+@DisplayName("ID Dağıtımı Benchmark")
+class IdAllocationBenchmarkTest {
+
+    private static final int IDS_PER_THREAD = 2_000_000;
+    private static final int[] THREAD_COUNTS = {1, 4, 16, 32};
+
+    @Test
+    @DisplayName("Ortak sayaç ve blok dağıtıcı")
+    void testAllocationThroughput() throws Exception {
+        System.out.printf("ID dağıtımı (%d çekirdek):%n", Runtime.getRuntime().availableProcessors());
+        for (int threads : THREAD_COUNTS) {
+            AtomicLong counter = new AtomicLong();
+            double inMemory = run(counter::incrementAndGet, threads);
+
+            SlowHighWaterMark perIdStore = new SlowHighWaterMark();
+            double persisted = run(() -> {
+                synchronized (perIdStore) {
+                    long id = perIdStore.read() + 1;
+                    perIdStore.write(id);
+                    return id;
+                }
+            }, threads, IDS_PER_THREAD / 100);
+
+            SlowHighWaterMark store = new SlowHighWaterMark();
+            IdBlockAllocator allocator = new IdBlockAllocator(IdBlockAllocator.DEFAULT_BLOCK_SIZE, store);
+            double blocks = run(allocator::nextId, threads);
+
+            System.out.printf("  %2d thread: saklanan sayaç %,.0f ID/s, blok %,.0f ID/s (%d sınır yazımı), AtomicLong %,.0f ID/s%n",
+                    threads, persisted, blocks, store.writes, inMemory);
+            assertTrue(blocks > persisted, "Blok dağıtıcı her ID'yi saklayan sayaçtan hızlı olmalı");
+            assertTrue(store.writes <= (long) threads * IDS_PER_THREAD / IdBlockAllocator.DEFAULT_BLOCK_SIZE + threads,
+                    "Sınır blok başına bir kez yazılmalı");
+        }
+    }
+
+    private double run(LongSupplier ids, int threads) throws Exception {
+        return run(ids, threads, IDS_PER_THREAD);
+    }
+
+    private double run(LongSupplier ids, int threads, int idsPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long checksum = 0;
+                for (int i = 0; i < idsPerThread; i++) {
+                    checksum += ids.getAsLong();
+                }
+                return checksum;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        long checksum = 0;
+        for (Future<Long> future : futures) {
+            checksum += future.get(2, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        assertTrue(checksum > 0);
+        return threads * (double) idsPerThread / (elapsed / 1e9);
+    }
+
+    // Kalıcı yazmayı taklit eder
+    private static final class SlowHighWaterMark implements IdBlockAllocator.HighWaterMark {
+        private volatile long mark;
+        private long writes;
+
+        @Override
+        public long read() {
+            return mark;
+        }
+
+        @Override
+        public void write(long mark) {
+            long until = System.nanoTime() + 1_000;
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+            this.mark = mark;
+            writes++;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.benchmark;
+
+import org.example.service.LoginAttemptLimiter;
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoginAttemptLimiter throughput ölçümü
+ * Varsayılan "mvn test" çalıştırmasında atlanır, README'deki benchmark komutu ile çalıştırılır
+ */
+@Tag("benchmark")
+@DisplayName("LoginAttemptLimiter Benchmark")
+class LoginAttemptLimiterBenchmarkTest {
+
+    private static final int THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final long DURATION_MILLIS = 2_000;
+    private static final int KEY_COUNT = 100_000;
+
+    @Test
+    @DisplayName("Saniyede 500k kontrol")
+    void testCheckThroughput() throws Exception {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter();
+        String[] emails = new String[KEY_COUNT];
+        String[] sources = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            emails[i] = "user" + i + "@example.com";
+            sources[i] = "10.0." + (i >> 8 & 0xff) + "." + (i & 0xff);
+        }
+
+        LongAdder checks = new LongAdder();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long local = 0;
+                while (System.nanoTime() < deadline) {
+                    int i = random.nextInt(KEY_COUNT);
+                    // Saldırı trafiğini taklit eder: her 4 kontrolden biri başarısız deneme
+                    if (!limiter.isBlocked(emails[i], sources[i]) && (local & 3) == 0) {
+                        limiter.recordFailure(emails[i], sources[i]);
+                    }
+                    local++;
+                }
+                checks.add(local);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        double perSecond = checks.sum() * 1000.0 / DURATION_MILLIS;
+        System.out.printf("LoginAttemptLimiter: %d thread, %.0f kontrol/sn%n", THREADS, perSecond);
+        assertTrue(perSecond >= 500_000, "Saniyede en az 500k kontrol yapılmalı, ölçülen: " + perSecond);
+    }
+}
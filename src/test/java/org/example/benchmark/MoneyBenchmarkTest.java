@@ -0,0 +1,109 @@
+package org.example.benchmark;
+
+import org.example.model.Money;
+import org.example.model.Order;
+import org.junit.jupiter.api.*;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kuruş (long) ve BigDecimal sipariş aritmetiğinin karşılaştırması
+ * Aynı satırlar için satır toplamı (fiyat x adet) ve sipariş toplamı hesaplanır; işlem başına
+ * süre ve bu thread'in ayırdığı bayt ölçülür
+ */
+@Tag("benchmark")
+@DisplayName("Para Aritmetiği Benchmark")
+class MoneyBenchmarkTest {
+
+    private static final int LINES = 1_000;
+    private static final int ROUNDS = 5_000;
+
+    @Test
+    @DisplayName("Kuruş yolu nesne ayırmaz ve BigDecimal yolundan hızlıdır")
+    void testCentsVersusBigDecimal() {
+        // Given
+        BigDecimal[] prices = new BigDecimal[LINES];
+        long[] priceCents = new long[LINES];
+        int[] quantities = new int[LINES];
+        for (int i = 0; i < LINES; i++) {
+            prices[i] = BigDecimal.valueOf(100 + i * 37L % 99_000, 2);
+            priceCents[i] = Money.toCents(prices[i]);
+            quantities[i] = 1 + i % 50;
+        }
+        for (int i = 0; i < 200; i++) {
+            sumBigDecimal(prices, quantities);
+            sumCents(priceCents, quantities);
+        }
+
+        // When
+        long bigDecimalBytes = allocatedBytes();
+        long start = System.nanoTime();
+        BigDecimal bigDecimalTotal = null;
+        for (int i = 0; i < ROUNDS; i++) {
+            bigDecimalTotal = sumBigDecimal(prices, quantities);
+        }
+        double bigDecimalNanos = (double) (System.nanoTime() - start) / ROUNDS / LINES;
+        bigDecimalBytes = allocatedBytes() - bigDecimalBytes;
+
+        long centsBytes = allocatedBytes();
+        start = System.nanoTime();
+        long centsTotal = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            centsTotal = sumCents(priceCents, quantities);
+        }
+        double centsNanos = (double) (System.nanoTime() - start) / ROUNDS / LINES;
+        centsBytes = allocatedBytes() - centsBytes;
+
+        // Then
+        System.out.printf("Para aritmetiği: BigDecimal %.1f ns/satır, %.1f B/satır; kuruş %.1f ns/satır, %.3f B/satır%n",
+                bigDecimalNanos, (double) bigDecimalBytes / ROUNDS / LINES,
+                centsNanos, (double) centsBytes / ROUNDS / LINES);
+        assertEquals(0, Money.toBigDecimal(centsTotal).compareTo(bigDecimalTotal), "İki yol aynı toplamı vermeli");
+        assertTrue(centsBytes < (long) ROUNDS * LINES / 100, "Kuruş yolu satır başına nesne ayırmamalı");
+        assertTrue(centsNanos < bigDecimalNanos, "Kuruş yolu daha hızlı olmalı");
+    }
+
+    @Test
+    @DisplayName("Siparişin kuruş toplamı okunurken nesne ayrılmaz")
+    void testOrderTotalCentsAllocationFree() {
+        // Given
+        Order order = new Order(1L);
+        for (int i = 0; i < LINES; i++) {
+            order.addItem(new Order.OrderItem("Ürün", BigDecimal.valueOf(199 + i, 2), 1 + i % 5));
+        }
+
+        // When
+        long bytes = allocatedBytes();
+        long checksum = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            checksum += order.getTotalCents() + order.getLineTotalCents(i % LINES);
+        }
+        bytes = allocatedBytes() - bytes;
+
+        // Then
+        System.out.printf("Sipariş kuruş okuması: 1M okumada %,d B ayrıldı (%d)%n", bytes, checksum);
+        assertTrue(bytes < 100_000, "Kuruş okumaları nesne ayırmamalı");
+    }
+
+    private static BigDecimal sumBigDecimal(BigDecimal[] prices, int[] quantities) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < prices.length; i++) {
+            total = total.add(prices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return total;
+    }
+
+    private static long sumCents(long[] priceCents, int[] quantities) {
+        long total = 0;
+        for (int i = 0; i < priceCents.length; i++) {
+            total = Money.add(total, Money.multiply(priceCents[i], quantities[i]));
+        }
+        return total;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
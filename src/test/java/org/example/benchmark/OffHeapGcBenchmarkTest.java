@@ -0,0 +1,84 @@
+package org.example.benchmark;
+
+import org.example.model.User;
+import org.example.service.DatabaseService;
+import org.example.service.OffHeapUserStore;
+import org.junit.jupiter.api.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Heap dışı deponun GC'ye etkisi
+ * Kullanıcı sayısı adım adım artırılırken her adımda tam GC yapılır; old gen kullanımı ve
+ * tam GC süresi DatabaseService ile OffHeapUserStore için raporlanır
+ */
+@Tag("benchmark")
+@DisplayName("Heap Dışı Depo GC Benchmark")
+class OffHeapGcBenchmarkTest {
+
+    private static final int STEP = 50_000;
+    private static final int STEPS = 4;
+
+    @Test
+    @DisplayName("Kullanıcı sayısı artarken old gen ve GC süresi")
+    void testOldGenStaysFlat() {
+        // When - her depo kendi metodunda ölçülür, öncekinin nesneleri canlı kalmaz
+        double[][] onHeap = measureDatabaseService();
+        double[][] offHeap = measureOffHeapStore();
+
+        // Then
+        System.out.println("Heap dışı depo GC karşılaştırması (old gen MB / tam GC ms):");
+        for (int step = 0; step < STEPS; step++) {
+            System.out.printf("  %,7d kullanıcı: DatabaseService %6.1f MB / %5.1f ms, OffHeapUserStore %6.1f MB / %5.1f ms%n",
+                    (step + 1) * STEP, onHeap[step][0], onHeap[step][1], offHeap[step][0], offHeap[step][1]);
+        }
+        double offHeapGrowth = offHeap[STEPS - 1][0] - offHeap[0][0];
+        double onHeapGrowth = onHeap[STEPS - 1][0] - onHeap[0][0];
+        assertTrue(offHeapGrowth < onHeapGrowth / 20, "Heap dışı depoda old gen sabit kalmalı: " + offHeapGrowth + " MB");
+    }
+
+    private static double[][] measureDatabaseService() {
+        DatabaseService databaseService = new DatabaseService();
+        double[][] result = measure(databaseService::saveUser);
+        assertEquals(STEP * STEPS, databaseService.getUserCount());
+        return result;
+    }
+
+    private static double[][] measureOffHeapStore() {
+        try (OffHeapUserStore store = new OffHeapUserStore()) {
+            double[][] result = measure(store::saveUser);
+            assertEquals(STEP * STEPS, store.getUserCount());
+            return result;
+        }
+    }
+
+    // Her adım için [old gen MB, tam GC ms]
+    private static double[][] measure(Consumer<User> save) {
+        double[][] result = new double[STEPS][];
+        // Önceki ölçümün çöpü bu ölçüme yansımasın
+        System.gc();
+        int next = 0;
+        for (int step = 0; step < STEPS; step++) {
+            for (int i = 0; i < STEP; i++, next++) {
+                save.accept(new User("user" + next, "user" + next + "@example.com", "password" + next));
+            }
+            long start = System.nanoTime();
+            System.gc();
+            double gcMillis = (System.nanoTime() - start) / 1e6;
+            result[step] = new double[] {oldGenUsed() / 1e6, gcMillis};
+        }
+        return result;
+    }
+
+    private static long oldGenUsed() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getName().contains("Old Gen") || pool.getName().contains("Tenured")) {
+                return pool.getUsage().getUsed();
+            }
+        }
+        return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.benchmark;
+
+import org.example.model.Order;
+import org.example.model.Order.OrderItem;
+import org.example.model.Order.OrderStatus;
+import org.example.service.OrderAnalytics;
+import org.example.service.OrderAnalytics.AnalyticsReport;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Paralel sipariş analizinin, BigDecimal ile sipariş sipariş toplayan stream hesabına göre hızı
+ * Analiz 1 thread'le ve makinedeki tüm çekirdeklerle ayrı ayrı ölçülür; ölçeklenme çekirdek
+ * sayısına bağlıdır. Sipariş sayısı test heap'ine sığacak şekilde sınırlıdır
+ */
+@Tag("benchmark")
+@DisplayName("Sipariş Analizi Benchmark")
+class OrderAnalyticsBenchmarkTest {
+
+    private static final int ORDERS = 1_000_000;
+    private static final int USERS = 100_000;
+
+    @Test
+    @DisplayName("Primitive paralel analiz stream hesabından hızlıdır")
+    void testAnalyticsThroughput() {
+        // Given
+        List<Order> orders = orders();
+        int cores = Runtime.getRuntime().availableProcessors();
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool all = new ForkJoinPool(cores);
+        OrderAnalytics singleThread = new OrderAnalytics(single, Duration.ofDays(1));
+        OrderAnalytics allCores = new OrderAnalytics(all, Duration.ofDays(1));
+        for (int i = 0; i < 3; i++) {
+            singleThread.analyze(orders);
+            allCores.analyze(orders);
+            streamRevenue(orders);
+        }
+
+        // When
+        long start = System.nanoTime();
+        Map<String, BigDecimal> expected = streamRevenue(orders);
+        double streamMillis = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        AnalyticsReport report = singleThread.analyze(orders);
+        double singleMillis = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        allCores.analyze(orders);
+        double allMillis = (System.nanoTime() - start) / 1e6;
+        single.shutdown();
+        all.shutdown();
+
+        // Then
+        System.out.printf("Sipariş analizi (%,d sipariş): BigDecimal stream %.0f ms, analiz 1 thread %.0f ms, %d thread %.0f ms%n",
+                ORDERS, streamMillis, singleMillis, cores, allMillis);
+        assertEquals(0, expected.get("total").compareTo(report.getRevenue()));
+        assertEquals(0, expected.get(OrderStatus.SHIPPED.name()).compareTo(report.getRevenue(OrderStatus.SHIPPED)));
+        assertTrue(singleMillis < streamMillis, "Primitive analiz BigDecimal stream hesabından hızlı olmalı");
+    }
+
+    private static List<Order> orders() {
+        Random random = new Random(3);
+        OrderItem[] catalog = new OrderItem[1_000];
+        for (int i = 0; i < catalog.length; i++) {
+            catalog[i] = new OrderItem("Ürün-" + i, BigDecimal.valueOf(100 + random.nextInt(50_000), 2), 1 + i % 4);
+        }
+        LocalDateTime[] days = new LocalDateTime[365];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = LocalDateTime.of(2024, 1, 1, 12, 0).plusDays(i);
+        }
+        OrderStatus[] statuses = OrderStatus.values();
+        List<Order> orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order((long) random.nextInt(USERS), days[random.nextInt(days.length)]);
+            order.addItem(catalog[random.nextInt(catalog.length)]);
+            order.addItem(catalog[random.nextInt(catalog.length)]);
+            order.setStatus(statuses[i % statuses.length], order.getCreatedAt());
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    /**
+     * Karşılaştırma: sipariş nesnelerini BigDecimal tutarlarla gruplayan stream hesabı
+     */
+    private static Map<String, BigDecimal> streamRevenue(List<Order> orders) {
+        Map<String, BigDecimal> result = orders.stream().collect(Collectors.groupingBy(
+                order -> order.getStatus().name(),
+                Collectors.reducing(BigDecimal.ZERO, Order::getTotalAmount, BigDecimal::add)));
+        orders.stream().collect(Collectors.groupingBy(order -> order.getCreatedAt().toLocalDate(),
+                Collectors.reducing(BigDecimal.ZERO, Order::getTotalAmount, BigDecimal::add)));
+        orders.stream().collect(Collectors.groupingBy(Order::getUserId,
+                Collectors.reducing(BigDecimal.ZERO, Order::getTotalAmount, BigDecimal::add)));
+        result.put("total", orders.stream().map(Order::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add));
+        return result;
+    }
+}
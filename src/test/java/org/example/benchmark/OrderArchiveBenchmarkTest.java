@@ -0,0 +1,102 @@
+package org.example.benchmark;
+
+import org.example.model.Order;
+import org.example.model.Order.OrderStatus;
+import org.example.service.IdBlockAllocator;
+import org.example.service.OrderArchive;
+import org.example.service.OrderRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kapanmış siparişlerin arşive taşınmasıyla bellekteki heap kullanımı
+ * 200.000 sipariş 90 güne yayılır; %90'ı oluşturulmasından bir gün sonra teslim edilmiştir.
+ * Bir haftadan eski kapanmış siparişler arşive taşınır; taşımadan önce ve sonra repository'nin
+ * GC sonrası heap kullanımı, arşivden ID ile arama ve bir günlük aralık taraması ölçülür.
+ */
+@Tag("benchmark")
+@DisplayName("Sipariş Arşivi Benchmark")
+class OrderArchiveBenchmarkTest {
+
+    private static final int ORDER_COUNT = 200_000;
+    private static final int LOOKUPS = 2_000;
+    private static final Duration SPAN = Duration.ofDays(90);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Bellek açık siparişlerle orantılı kalır, arşiv okumaları indeksle yapılır")
+    void testArchiveFootprintAndLookups() {
+        // Given
+        OrderArchive archive = new OrderArchive(directory);
+        OrderRepository repository = new OrderRepository(new IdBlockAllocator(), null, archive);
+        LocalDateTime start = LocalDateTime.now().minus(SPAN);
+        long step = SPAN.toMillis() / ORDER_COUNT;
+        long baseline = usedHeap();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            LocalDateTime createdAt = start.plus(Duration.ofMillis(i * step));
+            Order order = new Order((long) (i % 5_000), createdAt);
+            order.addItem(new Order.OrderItem("Ürün-" + i % 1_000, BigDecimal.valueOf(500 + i % 10_000, 2), 1 + i % 4));
+            order.addItem(new Order.OrderItem("Kargo", new BigDecimal("29.90"), 1));
+            if (i % 10 != 0) {
+                order.setStatus(OrderStatus.DELIVERED, createdAt.plusDays(1));
+            }
+            repository.saveOrder(order);
+        }
+        long hotBefore = usedHeap() - baseline;
+
+        // When
+        long archiveStart = System.nanoTime();
+        int moved = repository.archiveClosedOrders(Duration.ofDays(7));
+        long archiveNanos = System.nanoTime() - archiveStart;
+        long hotAfter = usedHeap() - baseline;
+
+        Random random = new Random(7);
+        long lookupStart = System.nanoTime();
+        int found = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            // İlk 60 günün kapanmış siparişleri arşivdedir
+            long id = 1 + random.nextInt(ORDER_COUNT * 2 / 3);
+            if (id % 10 != 1 && repository.findOrderById(id).isPresent()) {
+                found++;
+            }
+        }
+        double lookupMicros = (System.nanoTime() - lookupStart) / 1_000.0 / LOOKUPS;
+
+        LocalDateTime day = start.plusDays(30);
+        long scanStart = System.nanoTime();
+        List<Order> scanned = archive.findByCreatedAt(day, day.plusDays(1));
+        double scanMillis = (System.nanoTime() - scanStart) / 1_000_000.0;
+
+        // Then
+        System.out.printf("Sipariş arşivi: %,d sipariş taşındı (%d ms), bellek %,d B -> %,d B (%.0f%%), "
+                        + "disk %.1f B/sipariş, %d segment; ID arama %.0f µs, 1 günlük tarama %d sipariş %.1f ms%n",
+                moved, archiveNanos / 1_000_000, hotBefore, hotAfter, 100.0 * hotAfter / hotBefore,
+                (double) archive.getDiskBytes() / moved, archive.getSegmentCount(), lookupMicros, scanned.size(), scanMillis);
+        assertTrue(moved > ORDER_COUNT * 3 / 4, "Kapanmış eski siparişlerin çoğu taşınmalı: " + moved);
+        assertEquals(ORDER_COUNT - moved, repository.getOrderCount());
+        assertTrue(hotAfter < hotBefore / 3, "Bellek açık siparişlerle orantılı kalmalı: " + hotAfter + " / " + hotBefore);
+        assertTrue(found > LOOKUPS * 8 / 10, "Arşivlenen siparişler ID ile bulunmalı: " + found);
+        assertTrue(scanned.size() > ORDER_COUNT / 200, "Bir günlük tarama o günün kapanmış siparişlerini döndürmeli");
+        assertTrue(lookupMicros < 5_000, "ID araması tek blok okumalı: " + lookupMicros + " µs");
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
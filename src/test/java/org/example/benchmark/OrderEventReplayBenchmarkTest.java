@@ -0,0 +1,75 @@
+package org.example.benchmark;
+
+import org.example.model.Order.OrderItem;
+import org.example.model.Order.OrderStatus;
+import org.example.service.OrderEventLog;
+import org.example.service.OrderEventLog.OrderEvent;
+import org.example.service.OrderProjector;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sipariş olay günlüğünün yazma ve yeniden oynatma hızı
+ * 100 bin siparişin her biri için 100 olay (oluşturma, satır ekleme/çıkarma, durum geçişleri)
+ * yazılır ve 10 milyon olayın tamamı projeksiyona oynatılır
+ */
+@Tag("benchmark")
+@DisplayName("Sipariş Olay Günlüğü Benchmark")
+class OrderEventReplayBenchmarkTest {
+
+    private static final int ORDERS = 100_000;
+    private static final int EVENTS_PER_ORDER = 100;
+    private static final int ITEM_ADDS = 60;
+
+    @Test
+    @DisplayName("10 milyon olay saniyeler içinde oynatılır")
+    void testReplayTenMillionEvents() {
+        // Given
+        OrderEventLog log = new OrderEventLog();
+        OrderItem[] catalog = new OrderItem[200];
+        for (int i = 0; i < catalog.length; i++) {
+            catalog[i] = new OrderItem("Ürün-" + i, BigDecimal.valueOf(100 + i * 13L, 2), 1 + i % 5);
+        }
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        long writeStart = System.nanoTime();
+        List<OrderEvent> batch = new ArrayList<>(EVENTS_PER_ORDER);
+        for (int order = 0; order < ORDERS; order++) {
+            batch.clear();
+            LocalDateTime at = start.plusSeconds(order);
+            batch.add(OrderEvent.created(order, order % 5_000, at));
+            for (int i = 0; i < ITEM_ADDS; i++) {
+                batch.add(OrderEvent.itemAdded(order, catalog[(order + i) % catalog.length]));
+            }
+            for (int i = 0; i < EVENTS_PER_ORDER - ITEM_ADDS - 4; i++) {
+                batch.add(OrderEvent.itemRemoved(order, catalog[(order + i) % catalog.length]));
+            }
+            batch.add(OrderEvent.statusChanged(order, OrderStatus.CONFIRMED, at.plusMinutes(1)));
+            batch.add(OrderEvent.statusChanged(order, OrderStatus.SHIPPED, at.plusHours(1)));
+            batch.add(OrderEvent.statusChanged(order, OrderStatus.DELIVERED, at.plusDays(1)));
+            log.appendAll(batch);
+        }
+        double writeSeconds = (System.nanoTime() - writeStart) / 1e9;
+
+        // When
+        long replayStart = System.nanoTime();
+        OrderProjector projector = OrderProjector.replay(log);
+        double replaySeconds = (System.nanoTime() - replayStart) / 1e9;
+
+        // Then
+        long events = (long) ORDERS * EVENTS_PER_ORDER;
+        System.out.printf("Olay günlüğü: %,d olay, %.1f B/olay; yazma %.2f s, oynatma %.2f s (%,.0f olay/s)%n",
+                log.size(), (double) log.getByteSize() / log.size(), writeSeconds, replaySeconds, events / replaySeconds);
+        assertEquals(events, log.size());
+        assertEquals(events, projector.getAppliedEvents());
+        assertEquals(ORDERS, projector.getOrderCount());
+        assertEquals(2 * ITEM_ADDS - EVENTS_PER_ORDER + 4, projector.getOrder(7L).orElseThrow().getItems().size());
+        assertEquals(OrderStatus.DELIVERED, projector.getOrder(7L).orElseThrow().getStatus());
+        assertTrue(replaySeconds < 30, "10 milyon olay saniyeler içinde oynatılmalı");
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.benchmark;
+
+import org.example.model.Order;
+import org.example.model.Order.OrderStatus;
+import org.example.service.OrderRepository;
+import org.junit.jupiter.api.*;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sipariş indeksleri için benchmark
+ * Kullanıcıya ve duruma göre sorgular, sipariş sayısı 5 kat artarken ölçülür ve tam tarama
+ * ile karşılaştırılır; indeksli sorgu süresi toplam sipariş sayısından bağımsız olmalıdır
+ */
+@Tag("benchmark")
+@DisplayName("Sipariş İndeksi Benchmark")
+class OrderIndexBenchmarkTest {
+
+    private static final int USERS = 10_000;
+    private static final int QUERIES = 100_000;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    @Test
+    @DisplayName("Kullanıcı ve durum sorguları sipariş sayısından bağımsız")
+    void testLookupIndependentOfSize() {
+        // When
+        double small = lookupNanos(100_000);
+        double large = lookupNanos(500_000);
+
+        // Then
+        System.out.printf("Sipariş indeksi: 100k sipariş %.0f ns, 500k sipariş %.0f ns (sorgu başına)%n", small, large);
+        assertTrue(large < small * 3, "Sorgu süresi sipariş sayısıyla doğrusal artmamalı");
+    }
+
+    private double lookupNanos(int orderCount) {
+        OrderRepository orderRepository = new OrderRepository();
+        Random random = new Random(1);
+        for (int i = 0; i < orderCount; i++) {
+            Order order = new Order((long) random.nextInt(USERS));
+            order.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            orderRepository.saveOrder(order);
+        }
+
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            List<Order> byUser = orderRepository.findOrdersByUserId((long) random.nextInt(USERS));
+            List<Order> byStatus = orderRepository.findOrdersByStatus(STATUSES[i % STATUSES.length]);
+            checksum += byUser.size() + byStatus.size();
+            if (!byUser.isEmpty()) {
+                checksum += byUser.get(0).getId();
+            }
+        }
+        double nanos = (double) (System.nanoTime() - start) / QUERIES;
+
+        // Karşılaştırma için tek bir kullanıcı sorgusunun tam taraması
+        start = System.nanoTime();
+        long scanned = orderRepository.getAllOrders().stream().filter(order -> order.getUserId() == 42L).count();
+        double scanNanos = System.nanoTime() - start;
+        System.out.printf("  %,d sipariş: indeks %.0f ns, tam tarama %.0f ns (%d)%n",
+                orderCount, nanos, scanNanos, checksum + scanned);
+        assertEquals(scanned, orderRepository.countOrdersByUserId(42L), "İndeks ve tarama aynı sonucu vermeli");
+        return nanos;
+    }
+}
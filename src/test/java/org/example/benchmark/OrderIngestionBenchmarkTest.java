@@ -0,0 +1,75 @@
+package org.example.benchmark;
+
+import org.example.service.OrderIngestionPipeline;
+import org.example.service.OrderIngestionPipeline.StageStats;
+import org.example.service.OrderRepository;
+import org.junit.jupiter.api.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Toplu sipariş alım hattının 100.000 sipariş/s yük altındaki davranışı
+ * Satırlar 10 ms'lik aralıklarla 1.000'lik patlamalar halinde (100.000 sipariş/s hızında)
+ * gönderilir. Hattın bu hıza yetişmesi, kuyrukların kapasiteyi aşmaması ve sonunda tüm
+ * siparişlerin kaydedilmesi beklenir; aşama başına işlenen kayıt, kuyruk derinliği ve
+ * doluluk raporlanır.
+ */
+@Tag("benchmark")
+@DisplayName("Sipariş Alım Hattı Benchmark")
+class OrderIngestionBenchmarkTest {
+
+    private static final int ORDER_COUNT = 300_000;
+    private static final int BURST = 1_000;
+    private static final long BURST_INTERVAL_NANOS = 10_000_000L;
+
+    @Test
+    @DisplayName("Hat 100.000 sipariş/s hızına yetişir, kuyruklar sınırlı kalır")
+    void testHundredThousandOrdersPerSecond() throws Exception {
+        // Given
+        List<String> lines = new ArrayList<>(ORDER_COUNT);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            lines.add(i % 20_000 + ";Ürün-" + i % 5_000 + "|" + (10 + i % 990) + ".99|" + (1 + i % 4)
+                    + ";Kargo|29.90|1");
+        }
+        OrderRepository repository = new OrderRepository();
+        LongAdder emitted = new LongAdder();
+
+        // When
+        List<StageStats> stats;
+        long start = System.nanoTime();
+        try (OrderIngestionPipeline pipeline = new OrderIngestionPipeline(repository,
+                orders -> emitted.add(orders.size()))) {
+            long next = start;
+            for (int from = 0; from < ORDER_COUNT; from += BURST) {
+                pipeline.submit(lines.subList(from, from + BURST));
+                next += BURST_INTERVAL_NANOS;
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            assertTrue(pipeline.awaitIdle(Duration.ofMinutes(2)), "Hat boşalmalı");
+            stats = pipeline.getStats();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        double ordersPerSecond = ORDER_COUNT / seconds;
+
+        // Then
+        System.out.printf("Alım hattı: %,d sipariş %.2f s içinde (%,.0f sipariş/s, hedef 100,000)%n",
+                ORDER_COUNT, seconds, ordersPerSecond);
+        for (StageStats stage : stats) {
+            System.out.println("  " + stage);
+        }
+        assertEquals(ORDER_COUNT, repository.getOrderCount());
+        assertEquals(ORDER_COUNT, emitted.sum());
+        for (StageStats stage : stats) {
+            assertTrue(stage.getMaxQueueDepth() <= stage.getQueueCapacity(), "Kuyruk kapasiteyi aşmamalı: " + stage);
+        }
+        assertTrue(ordersPerSecond >= 90_000, "Hat 100.000 sipariş/s hızına yetişmeli: " + ordersPerSecond);
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.benchmark;
+
+import org.example.model.Order;
+import org.example.model.Order.OrderItem;
+import org.junit.jupiter.api.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sipariş satırı başına heap kullanımı
+ * Aynı satırlar önceki düzende (ArrayList<OrderItem>, satır başına ayrı String ve BigDecimal)
+ * ve Order'ın paralel dizilerinde tutulur; her yapı tutulurken ve bırakıldıktan sonra GC sonrası
+ * kullanılan heap ölçülür. Order nesnesinin kendi maliyeti satırsız siparişler ölçülüp çıkarılır. Ürün adları 10.000 ürünlük katalogdan gelir ama her satırda yeni
+ * String örneğidir (ör. istekten ayrıştırılmış gibi). Siparişler depoda olduğu gibi kopya
+ * constructor ile saklanır.
+ */
+@Tag("benchmark")
+@DisplayName("Sipariş Satırı Bellek Benchmark")
+class OrderLineFootprintBenchmarkTest {
+
+    private static final int ORDER_COUNT = 10_000;
+    private static final int LINES_PER_ORDER = 20;
+    private static final int CATALOG_SIZE = 10_000;
+
+    @Test
+    @DisplayName("Satır başına heap ~100 bayttan ~16-20 bayta iner")
+    void testFootprintPerLine() {
+        // When
+        double objects = bytesPerLine(() -> {
+            List<List<OrderItem>> orders = new ArrayList<>(ORDER_COUNT);
+            for (int o = 0; o < ORDER_COUNT; o++) {
+                List<OrderItem> items = new ArrayList<>();
+                for (int l = 0; l < LINES_PER_ORDER; l++) {
+                    items.add(line(o, l));
+                }
+                orders.add(items);
+            }
+            return orders;
+        });
+        // İlk tur ürün sözlüğünü doldurur; katalog adları tüm siparişlerce paylaşıldığından satır maliyetine katılmaz
+        bytesPerLine(() -> orders(LINES_PER_ORDER));
+        double emptyOrders = bytesPerLine(() -> orders(0));
+        double compact = bytesPerLine(() -> orders(LINES_PER_ORDER)) - emptyOrders;
+
+        // Then
+        System.out.printf("Satır başına heap: OrderItem listesi %.1f B, paralel diziler %.1f B (%.1fx)%n",
+                objects, compact, objects / compact);
+        assertTrue(compact <= 24, "Satır başına en fazla 24 bayt kullanılmalı: " + compact);
+        assertTrue(objects / compact >= 4.0, "Paralel diziler en az 4 kat az yer kaplamalı: " + objects / compact);
+    }
+
+    private static List<Order> orders(int lines) {
+        List<Order> orders = new ArrayList<>(ORDER_COUNT);
+        for (int o = 0; o < ORDER_COUNT; o++) {
+            Order order = new Order((long) o);
+            for (int l = 0; l < lines; l++) {
+                order.addItem(line(o, l));
+            }
+            orders.add(new Order(order));
+        }
+        return orders;
+    }
+
+    private static OrderItem line(int order, int line) {
+        int product = (order * 31 + line * 7919) % CATALOG_SIZE;
+        return new OrderItem(new String("Ürün-" + product), BigDecimal.valueOf(100 + product, 2), 1 + line % 3);
+    }
+
+    /**
+     * Yapı tutulurken ve bırakıldıktan sonra ölçülen heap farkı (önceki ölçümlerden kalan
+     * çöp "önce" değerini bozmasın diye ikinci ölçüm yapı bırakıldıktan sonra yapılır)
+     */
+    private static double bytesPerLine(Supplier<Object> build) {
+        Object retained = build.get();
+        long with = usedHeap();
+        assertNotNull(retained);
+        retained = null;
+        long without = usedHeap();
+        return (double) (with - without) / ((long) ORDER_COUNT * LINES_PER_ORDER);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.benchmark;
+
+import org.example.model.Order;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Çok satırlı (B2B toplu sepet) siparişlerde toplam tutar bakımının maliyeti
+ * addItem ile artımlı güncelleme, her eklemede tüm listeyi yeniden hesaplayan eski
+ * davranışla (liste + calculateTotalAmount) karşılaştırılır; satır başına maliyet
+ * satır sayısından bağımsız kalmalıdır
+ */
+@Tag("benchmark")
+@DisplayName("Sipariş Toplamı Benchmark")
+class OrderTotalsBenchmarkTest {
+
+    private static final int[] LINE_COUNTS = {1_000, 5_000, 20_000};
+
+    @Test
+    @DisplayName("Satır başına maliyet sipariş büyüklüğünden bağımsız")
+    void testIncrementalTotals() {
+        // Given - ısınma
+        for (int i = 0; i < 20; i++) {
+            buildIncremental(2_000);
+            buildWithRecompute(1_000);
+        }
+
+        // When
+        double[] incremental = new double[LINE_COUNTS.length];
+        for (int i = 0; i < LINE_COUNTS.length; i++) {
+            int lines = LINE_COUNTS[i];
+            incremental[i] = nanosPerLine(() -> buildIncremental(lines), lines);
+            double recompute = nanosPerLine(() -> buildWithRecompute(lines), lines);
+            System.out.printf("Sipariş toplamı: %,d satır - artımlı %.0f ns/satır, yeniden hesaplama %.0f ns/satır%n",
+                    lines, incremental[i], recompute);
+        }
+
+        // Then
+        assertTrue(incremental[LINE_COUNTS.length - 1] < incremental[0] * 4,
+                "Artımlı güncellemede satır başına maliyet satır sayısıyla artmamalı");
+    }
+
+    private static double nanosPerLine(Runnable build, int lines) {
+        int rounds = Math.max(1, 20_000 / lines);
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            build.run();
+        }
+        return (double) (System.nanoTime() - start) / rounds / lines;
+    }
+
+    private static Order buildIncremental(int lines) {
+        Order order = new Order(1L);
+        for (int i = 0; i < lines; i++) {
+            order.addItem(line(i));
+        }
+        assertEquals(expectedCount(lines), order.getItemCount());
+        return order;
+    }
+
+    private static Order buildWithRecompute(int lines) {
+        Order order = new Order(1L);
+        for (int i = 0; i < lines; i++) {
+            order.getItems().add(line(i));
+            order.calculateTotalAmount();
+        }
+        assertEquals(expectedCount(lines), order.getItemCount());
+        return order;
+    }
+
+    private static Order.OrderItem line(int i) {
+        return new Order.OrderItem("Ürün-" + (i % 500), BigDecimal.valueOf(1_000 + i % 97, 2), 1 + i % 10);
+    }
+
+    private static int expectedCount(int lines) {
+        int count = 0;
+        for (int i = 0; i < lines; i++) {
+            count += 1 + i % 10;
+        }
+        return count;
+    }
+}
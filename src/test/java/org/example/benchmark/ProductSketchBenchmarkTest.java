@@ -0,0 +1,83 @@
+package org.example.benchmark;
+
+import org.example.service.ProductSalesSketch;
+import org.example.service.ProductSalesSketch.ProductEstimate;
+import org.junit.jupiter.api.*;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * En çok satanlar ve farklı alıcı özetinin, ürün adına göre tam gruplamaya karşı bellek ve doğruluğu
+ * Zipf dağılımlı 2 milyon satış 200 bin farklı ürüne dağıtılır; tam gruplama ürün başına adet
+ * ve alıcı kümesi tutar, sketch sabit bellekle çalışır
+ */
+@Tag("benchmark")
+@DisplayName("Ürün Sketch Benchmark")
+class ProductSketchBenchmarkTest {
+
+    private static final int PRODUCTS = 200_000;
+    private static final int SALES = 2_000_000;
+    private static final int BUYERS = 500_000;
+
+    @Test
+    @DisplayName("Sabit bellekle en çok satanlar ve alıcı sayıları")
+    void testSketchVersusExactGrouping() {
+        // Given
+        ZipfGenerator products = new ZipfGenerator(PRODUCTS, 1.0);
+        String[] names = new String[PRODUCTS + 1];
+        for (int i = 1; i <= PRODUCTS; i++) {
+            names[i] = "Ürün-" + i;
+        }
+        ProductSalesSketch sketch = new ProductSalesSketch(20);
+        Map<String, long[]> exactQuantities = new HashMap<>();
+        Map<String, Set<Long>> exactBuyers = new HashMap<>();
+
+        // When
+        long sketchNanos = 0;
+        for (int i = 0; i < SALES; i++) {
+            String name = names[(int) products.next()];
+            long buyer = ThreadLocalRandom.current().nextInt(BUYERS);
+            long start = System.nanoTime();
+            sketch.add(name, 1, buyer);
+            sketchNanos += System.nanoTime() - start;
+            exactQuantities.computeIfAbsent(name, n -> new long[1])[0]++;
+            exactBuyers.computeIfAbsent(name, n -> new HashSet<>()).add(buyer);
+        }
+
+        // Then
+        long exactBytes = estimateExactBytes(exactQuantities, exactBuyers);
+        List<ProductEstimate> top = sketch.getTopProducts();
+        int correct = 0;
+        double worstBuyerError = 0;
+        for (int rank = 1; rank <= 10; rank++) {
+            if (top.get(rank - 1).getProductName().equals(names[rank])) {
+                correct++;
+            }
+            int actualBuyers = exactBuyers.get(names[rank]).size();
+            long estimated = sketch.estimateDistinctBuyers(names[rank]);
+            worstBuyerError = Math.max(worstBuyerError, Math.abs(estimated - actualBuyers) / (double) actualBuyers);
+        }
+        System.out.printf("Ürün sketch: %,d satış, sketch %,d B (%.0f ns/satış), tam gruplama ~%,d B; "
+                        + "ilk 10 sırada %d doğru, alıcı sayısında en kötü hata %%%.1f, adet hata sınırı %,d%n",
+                SALES, sketch.getMemoryBytes(), (double) sketchNanos / SALES, exactBytes,
+                correct, worstBuyerError * 100, sketch.getQuantityErrorBound());
+        assertTrue(correct >= 8, "İlk 10 ürünün çoğu doğru sırada olmalı");
+        assertTrue(worstBuyerError < 0.25, "Çok satanların alıcı sayısı HLL hatası civarında olmalı");
+        assertTrue(sketch.getMemoryBytes() * 20 < exactBytes, "Sketch tam gruplamadan çok daha küçük olmalı");
+    }
+
+    /**
+     * Tam gruplamanın kabaca heap maliyeti: HashMap girişleri, long[] sayaçlar, HashSet'ler ve kutulu alıcı ID'leri
+     */
+    private static long estimateExactBytes(Map<String, long[]> quantities, Map<String, Set<Long>> buyers) {
+        long entries = quantities.size();
+        long buyerEntries = buyers.values().stream().mapToLong(Set::size).sum();
+        return entries * (32 + 24 + 48 + 32 + 64) + buyerEntries * (32 + 24);
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.benchmark;
+
+import org.example.model.User;
+import org.example.service.DatabaseService;
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shard'lı veritabanında yazma ölçeklenmesi
+ * 1'den 32'ye kadar thread ile kayıt ve güncelleme karışımı, tek shard ve çok shard için
+ * saniyedeki işlem sayısı olarak raporlanır. Ölçeklenme makinedeki çekirdek sayısıyla sınırlıdır.
+ */
+@Tag("benchmark")
+@DisplayName("Shard'lı Yazma Benchmark")
+class ShardedWriteBenchmarkTest {
+
+    private static final int OPERATIONS_PER_THREAD = 20_000;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+    private static final int SHARDS = 32;
+
+    @Test
+    @DisplayName("1-32 thread yazma hızı, 1 ve 32 shard")
+    void testWriteThroughputScaling() throws Exception {
+        System.out.printf("Shard'lı yazma (%d çekirdek):%n", Runtime.getRuntime().availableProcessors());
+        for (int threads : THREAD_COUNTS) {
+            double single = run(new DatabaseService(1), threads);
+            double sharded = run(new DatabaseService(SHARDS), threads);
+            System.out.printf("  %2d thread: 1 shard %,.0f işlem/s, %d shard %,.0f işlem/s%n",
+                    threads, single, SHARDS, sharded);
+        }
+    }
+
+    private double run(DatabaseService databaseService, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i += 2) {
+                    User user = databaseService.saveUser(
+                            new User("user" + thread + "_" + i, "user" + thread + "_" + i + "@example.com", "password"));
+                    User copy = new User(user);
+                    copy.setActive(false);
+                    databaseService.updateUser(copy);
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+
+        assertEquals(threads * OPERATIONS_PER_THREAD / 2, databaseService.getUserCount(), "Tüm kayıtlar yazılmalı");
+        assertTrue(databaseService.getActiveUsers().isEmpty(), "Tüm güncellemeler yazılmalı");
+        return threads * (double) OPERATIONS_PER_THREAD / (elapsed / 1e9);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.benchmark;
+
+import org.example.model.User;
+import org.example.service.DatabaseService;
+import org.example.service.EmailService;
+import org.example.service.UserService;
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Giriş ani yükünde (thundering herd) veritabanı çağrılarının ne kadar azaldığını ölçer
+ * Birleştirme olmasaydı her giriş isteği bir veritabanı okuması yapardı
+ */
+@Tag("benchmark")
+@DisplayName("Thundering Herd Benchmark")
+class ThunderingHerdBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int LOGINS_PER_THREAD = 200;
+    private static final int HOT_ACCOUNTS = 5;
+
+    @Test
+    @DisplayName("Sıcak hesaplara eşzamanlı girişler")
+    void testHotAccountLoginSpike() throws Exception {
+        CountingDatabaseService databaseService = new CountingDatabaseService();
+        for (int i = 0; i < HOT_ACCOUNTS; i++) {
+            databaseService.saveUser(new User("hot" + i, "hot" + i + "@example.com", "password123"));
+        }
+        UserService userService = new UserService(databaseService, new EmailService(), null, null);
+
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                barrier.await();
+                for (int i = 0; i < LOGINS_PER_THREAD; i++) {
+                    String email = "hot" + ThreadLocalRandom.current().nextInt(HOT_ACCOUNTS) + "@example.com";
+                    Optional<User> user = userService.loginUser(email, "password123");
+                    assertTrue(user.isPresent(), "Giriş başarılı olmalı");
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        long requests = (long) THREADS * LOGINS_PER_THREAD;
+        long storeCalls = databaseService.emailLookups.sum();
+        System.out.printf("Thundering herd: %d giriş, %d veritabanı okuması (%.1fx azalma), %s%n",
+                requests, storeCalls, (double) requests / storeCalls, userService.getLookupStats());
+        assertTrue(storeCalls < requests / 2, "Veritabanı okumaları en az yarıya inmeli");
+    }
+
+    /**
+     * Email okumalarını sayan ve yavaş depolamayı taklit eden DatabaseService
+     */
+    private static class CountingDatabaseService extends DatabaseService {
+        private final LongAdder emailLookups = new LongAdder();
+
+        @Override
+        public Optional<User> findUserByEmail(String email) {
+            emailLookups.increment();
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.findUserByEmail(email);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.benchmark;
+
+import org.example.model.User;
+import org.example.service.DatabaseService;
+import org.example.service.UserCache;
+import org.junit.jupiter.api.*;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserCache için Zipf erişim desenli benchmark
+ * Yavaş depolamayı taklit etmek için her yüklemeye sabit bir gecikme eklenir
+ */
+@Tag("benchmark")
+@DisplayName("UserCache Benchmark")
+class UserCacheBenchmarkTest {
+
+    private static final int USER_COUNT = 100_000;
+    private static final int CACHE_SIZE = 5_000;
+    private static final int REQUESTS = 1_000_000;
+    private static final long STORE_LATENCY_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    @Test
+    @DisplayName("Zipf(0.99) erişimde isabet oranı")
+    void testZipfHitRatio() {
+        DatabaseService databaseService = new DatabaseService();
+        for (int i = 0; i < USER_COUNT; i++) {
+            databaseService.saveUser(new User("user" + i, "user" + i + "@example.com", "password"));
+        }
+        UserCache cache = new UserCache(CACHE_SIZE);
+        databaseService.addUserChangeListener(cache);
+        ZipfGenerator zipf = new ZipfGenerator(USER_COUNT, 0.99);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            Optional<User> user = cache.getById(zipf.next(), id -> slowLoad(databaseService, id));
+            assertTrue(user.isPresent());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        UserCache.CacheStats stats = cache.getStats();
+        System.out.printf("UserCache: %d istek, %.1f ms, %s%n", REQUESTS, elapsed / 1e6, stats);
+        assertTrue(stats.getHitRatio() > 0.6, "Zipf erişimde isabet oranı %60'ın üstünde olmalı: " + stats);
+        assertTrue(cache.size() <= CACHE_SIZE, "Cache boyutu sınırı aşmamalı");
+    }
+
+    private static Optional<User> slowLoad(DatabaseService databaseService, Long id) {
+        long until = System.nanoTime() + STORE_LATENCY_NANOS;
+        while (System.nanoTime() < until) {
+            Thread.onSpinWait();
+        }
+        return databaseService.findUserById(id);
+    }
+}
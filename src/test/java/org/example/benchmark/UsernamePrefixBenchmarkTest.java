@@ -0,0 +1,56 @@
+package org.example.benchmark;
+
+import org.example.model.User;
+import org.example.service.DatabaseService;
+import org.junit.jupiter.api.*;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kullanıcı adı önek indeksi için benchmark
+ * Bir milyon rastgele kullanıcı adı üzerinde 1-3 harflik öneklerle ilk 10 sonuç sorgulanır
+ */
+@Tag("benchmark")
+@DisplayName("Kullanıcı Adı Önek İndeksi Benchmark")
+class UsernamePrefixBenchmarkTest {
+
+    private static final int USER_COUNT = 1_000_000;
+    private static final int QUERIES = 100_000;
+    private static final int TOP_K = 10;
+
+    @Test
+    @DisplayName("Milyon kullanıcıda top-10 önek araması")
+    void testTopKPrefixQuery() {
+        // Given
+        DatabaseService databaseService = new DatabaseService();
+        Random random = new Random(42);
+        long start = System.nanoTime();
+        for (int i = 0; i < USER_COUNT; i++) {
+            databaseService.saveUser(new User(randomName(random, 5 + random.nextInt(6)), "user" + i + "@example.com",
+                    "password"));
+        }
+        double loadSeconds = (System.nanoTime() - start) / 1e9;
+
+        // When
+        long found = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            found += databaseService.findUsersByUsernamePrefix(randomName(random, 1 + random.nextInt(3)), TOP_K).size();
+        }
+        double microsPerQuery = (System.nanoTime() - start) / 1e3 / QUERIES;
+
+        // Then
+        System.out.printf("Önek indeksi: %d kullanıcı %.1f sn'de yüklendi, top-%d sorgu %.2f µs (%d sonuç)%n",
+                USER_COUNT, loadSeconds, TOP_K, microsPerQuery, found);
+        assertTrue(microsPerQuery < 1_000, "Önek sorgusu milisaniyenin altında olmalı: " + microsPerQuery + " µs");
+    }
+
+    private static String randomName(Random random, int length) {
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            name.append((char) ('a' + random.nextInt(26)));
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Benchmark'lar için Zipf dağılımlı anahtar üreteci
+ * 1..n arası değer döndürür; küçük değerler (popüler anahtarlar) çok daha sık gelir
+ */
+class ZipfGenerator {
+    private final double[] cumulative;
+
+    ZipfGenerator(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    long next() {
+        double u = ThreadLocalRandom.current().nextDouble();
+        int index = Arrays.binarySearch(cumulative, u);
+        return (index >= 0 ? index : -index - 1) + 1L;
+    }
+}
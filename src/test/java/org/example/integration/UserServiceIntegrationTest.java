@@ -7,8 +7,12 @@ import org.example.service.UserService;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -227,6 +231,19 @@ class UserServiceIntegrationTest {
             // Email bildirim kontrolü (sadece email değişikliği için)
             assertEquals(1, emailService.getSentEmailCount(), "1 bildirim emaili gönderilmelidirli");
         }
+
+        @Test
+        @DisplayName("Username değişikliği aramaya hemen yansır")
+        void testUsernameSearchReflectsUpdate() {
+            // When
+            userService.updateUserProfile(testUser.getId(), "renamed", null);
+
+            // Then
+            assertTrue(userService.searchUsersByUsername("update", 10).isEmpty(), "Eski username ile bulunmamalı");
+            List<User> found = userService.searchUsersByUsername("ren", 10);
+            assertEquals(1, found.size(), "Yeni username ile bulunmalı");
+            assertEquals(testUser.getId(), found.get(0).getId(), "Doğru kullanıcı dönmeli");
+        }
     }
 
     @Nested
@@ -279,6 +296,53 @@ class UserServiceIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Eşzamanlı Güncelleme Akışı")
+    class ConcurrentUpdateFlow {
+
+        @Test
+        @DisplayName("Eşzamanlı güncellemelerde hiçbir değişiklik kaybolmaz")
+        void testNoLostUpdates() throws Exception {
+            // Given
+            User user = userService.registerUser("concurrent", "concurrent@example.com", "password123");
+            int threads = 8;
+            int updatesPerThread = 200;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger applied = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+
+            // When - her thread aynı kullanıcının aktiflik durumunu değiştirir
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < updatesPerThread; i++) {
+                        try {
+                            userService.updateUserWithRetry(user.getId(), u -> u.setActive(!u.isActive()));
+                            applied.incrementAndGet();
+                        } catch (ConcurrentModificationException e) {
+                            // Deneme sınırı aşıldı, güncelleme uygulanmadı
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // Then - her uygulanan güncelleme sürümü tam bir artırmış olmalı
+            User fromDb = databaseService.findUserById(user.getId()).get();
+            assertAll("Kayıp güncelleme kontrolü",
+                () -> assertTrue(applied.get() > 0, "Güncellemelerin en azından bir kısmı uygulanmalı"),
+                () -> assertEquals(applied.get(), fromDb.getVersion(), "Sürüm uygulanan güncelleme sayısına eşit olmalı"),
+                () -> assertEquals(applied.get() % 2 != 0, !fromDb.isActive(), "Aktiflik durumu tek/çift sayıya uymalı")
+            );
+        }
+    }
+
     @Nested
     @DisplayName("Kullanıcı Durumu Yönetimi")
     class UserStatusManagement {
@@ -0,0 +1,73 @@
+package org.example.model;
+
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Money için unit testleri
+ */
+@DisplayName("Money Unit Testleri")
+class MoneyTest {
+
+    @Nested
+    @DisplayName("Dönüşüm Testleri")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("BigDecimal kuruşa ve geri çevrilir")
+        void testRoundTrip() {
+            assertAll("Dönüşümler",
+                () -> assertEquals(12_345L, Money.toCents(new BigDecimal("123.45"))),
+                () -> assertEquals(1_250L, Money.toCents(new BigDecimal("12.5"))),
+                () -> assertEquals(700L, Money.toCents(new BigDecimal("7"))),
+                () -> assertEquals(-199L, Money.toCents(new BigDecimal("-1.99"))),
+                () -> assertEquals(100L, Money.toCents(new BigDecimal("1.000")), "Sondaki sıfırlar kabul edilmeli"),
+                () -> assertEquals(new BigDecimal("123.45"), Money.toBigDecimal(12_345L)),
+                () -> assertEquals(new BigDecimal("0.00"), Money.toBigDecimal(0L))
+            );
+        }
+
+        @Test
+        @DisplayName("Kuruştan hassas veya çok büyük tutar - exception")
+        void testUnrepresentable() {
+            BigDecimal tooPrecise = new BigDecimal("1.005");
+            BigDecimal tooLarge = new BigDecimal("1e30");
+
+            assertAll("Çevrilemeyen tutarlar",
+                () -> assertThrows(ArithmeticException.class, () -> Money.toCents(tooPrecise)),
+                () -> assertThrows(ArithmeticException.class, () -> Money.toCents(tooLarge)),
+                () -> assertThrows(IllegalArgumentException.class, () -> Money.toCents(null)),
+                () -> assertFalse(Money.isRepresentable(tooPrecise)),
+                () -> assertFalse(Money.isRepresentable(null)),
+                () -> assertTrue(Money.isRepresentable(new BigDecimal("9.99")))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Aritmetik Testleri")
+    class ArithmeticTests {
+
+        @Test
+        @DisplayName("Toplama, çıkarma ve çarpma")
+        void testArithmetic() {
+            assertAll("İşlemler",
+                () -> assertEquals(350L, Money.add(100L, 250L)),
+                () -> assertEquals(-150L, Money.subtract(100L, 250L)),
+                () -> assertEquals(10_200L, Money.multiply(2_550L, 4))
+            );
+        }
+
+        @Test
+        @DisplayName("Taşma - exception")
+        void testOverflow() {
+            assertAll("Taşmalar",
+                () -> assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1L)),
+                () -> assertThrows(ArithmeticException.class, () -> Money.subtract(Long.MIN_VALUE, 1L)),
+                () -> assertThrows(ArithmeticException.class, () -> Money.multiply(Long.MAX_VALUE / 2, 3))
+            );
+        }
+    }
+}
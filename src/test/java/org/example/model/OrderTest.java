@@ -6,6 +6,10 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -52,6 +56,27 @@ class OrderTest {
             assertEquals(userId, newOrder.getUserId(), "UserID doğru atanmalı");
             assertEquals(Order.OrderStatus.PENDING, newOrder.getStatus(), "Varsayılan durum PENDING olmalı");
         }
+
+        @Test
+        @DisplayName("Kopya constructor")
+        void testCopyConstructor() {
+            order.setId(7L);
+            order.setVersion(2L);
+            order.addItem(new Order.OrderItem("Product", new BigDecimal("10.00"), 1));
+
+            Order copy = new Order(order);
+            copy.addItem(new Order.OrderItem("Other", new BigDecimal("5.00"), 1));
+
+            assertAll("Kopya kontrolü",
+                () -> assertNotSame(order, copy, "Yeni nesne oluşturulmalı"),
+                () -> assertEquals(order, copy, "Kopya orijinale eşit olmalı"),
+                () -> assertEquals(123L, copy.getUserId()),
+                () -> assertEquals(2L, copy.getVersion()),
+                () -> assertEquals(order.getCreatedAt(), copy.getCreatedAt()),
+                () -> assertEquals(1, order.getItems().size(), "Kopyaya eklenen ürün orijinali etkilememeli"),
+                () -> assertEquals(new BigDecimal("10.00"), order.getTotalAmount())
+            );
+        }
     }
 
     @Nested
@@ -197,6 +222,123 @@ class OrderTest {
         }
     }
 
+    @Nested
+    @DisplayName("Durum Geçişi Testleri")
+    class StatusTransitionTests {
+
+        @Test
+        @DisplayName("Geçerli geçiş zinciri ve zaman damgaları")
+        void testValidTransitionChain() {
+            // When
+            Order.OrderStatus previous = order.transitionTo(Order.OrderStatus.CONFIRMED);
+            order.transitionTo(Order.OrderStatus.SHIPPED);
+            order.transitionTo(Order.OrderStatus.DELIVERED);
+
+            // Then
+            assertAll("Geçiş zinciri",
+                () -> assertEquals(Order.OrderStatus.PENDING, previous, "Önceki durum dönmeli"),
+                () -> assertEquals(Order.OrderStatus.DELIVERED, order.getStatus()),
+                () -> assertEquals(order.getCreatedAt(), order.getStatusChangedAt(Order.OrderStatus.PENDING)),
+                () -> assertNotNull(order.getStatusChangedAt(Order.OrderStatus.SHIPPED)),
+                () -> assertFalse(order.getStatusChangedAt(Order.OrderStatus.DELIVERED)
+                        .isBefore(order.getStatusChangedAt(Order.OrderStatus.SHIPPED)), "Zaman damgaları sıralı olmalı"),
+                () -> assertNull(order.getStatusChangedAt(Order.OrderStatus.CANCELLED), "Girilmeyen durumun zamanı olmamalı"),
+                () -> assertTrue(order.getStatus().isTerminal())
+            );
+        }
+
+        @Test
+        @DisplayName("Geçersiz geçiş - exception")
+        void testInvalidTransition() {
+            // When & Then
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> order.transitionTo(Order.OrderStatus.SHIPPED));
+            assertTrue(exception.getMessage().contains("PENDING -> SHIPPED"));
+            assertThrows(IllegalArgumentException.class, () -> order.transitionTo(null));
+            assertEquals(Order.OrderStatus.PENDING, order.getStatus(), "Durum değişmemeli");
+        }
+
+        @ParameterizedTest
+        @EnumSource(Order.OrderStatus.class)
+        @DisplayName("Son durumlardan çıkış yoktur")
+        void testTerminalStatesHaveNoExits(Order.OrderStatus target) {
+            for (Order.OrderStatus terminal : new Order.OrderStatus[]{Order.OrderStatus.DELIVERED, Order.OrderStatus.CANCELLED}) {
+                assertFalse(terminal.canTransitionTo(target), terminal + " -> " + target + " geçersiz olmalı");
+            }
+        }
+
+        @Test
+        @DisplayName("compareAndTransition yalnızca beklenen durumdan geçer")
+        void testCompareAndTransition() {
+            assertAll("Koşullu geçiş",
+                () -> assertFalse(order.compareAndTransition(Order.OrderStatus.CONFIRMED, Order.OrderStatus.SHIPPED),
+                    "Durum CONFIRMED değilken geçilmemeli"),
+                () -> assertFalse(order.compareAndTransition(Order.OrderStatus.PENDING, Order.OrderStatus.DELIVERED),
+                    "Geçersiz geçiş yapılmamalı"),
+                () -> assertTrue(order.compareAndTransition(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED)),
+                () -> assertEquals(Order.OrderStatus.CONFIRMED, order.getStatus())
+            );
+        }
+
+        @Test
+        @DisplayName("Eşzamanlı kargolama ve iptalden yalnızca biri kazanır")
+        void testConcurrentShipAndCancelStress() throws Exception {
+            // Given
+            int orders = 20_000;
+            List<Order> confirmed = new ArrayList<>(orders);
+            for (int i = 0; i < orders; i++) {
+                Order o = new Order((long) i);
+                o.transitionTo(Order.OrderStatus.CONFIRMED);
+                confirmed.add(o);
+            }
+            int threads = 4;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger shipWins = new AtomicInteger();
+            AtomicInteger cancelWins = new AtomicInteger();
+
+            // When - yarısı kargolar, yarısı iptal eder, hepsi aynı siparişler üzerinde
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                boolean ship = t % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (Order o : confirmed) {
+                        try {
+                            if (ship) {
+                                o.transitionTo(Order.OrderStatus.SHIPPED);
+                                shipWins.incrementAndGet();
+                            } else {
+                                o.cancel();
+                                cancelWins.incrementAndGet();
+                            }
+                        } catch (IllegalStateException e) {
+                            // Başka bir thread önce geçti
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // Then
+            assertEquals(orders, shipWins.get() + cancelWins.get(), "Her sipariş için tam olarak bir geçiş kazanmalı");
+            for (Order o : confirmed) {
+                Order.OrderStatus finalStatus = o.getStatus();
+                assertTrue(finalStatus == Order.OrderStatus.SHIPPED || finalStatus == Order.OrderStatus.CANCELLED,
+                    "Geçersiz son durum: " + finalStatus);
+                assertNotNull(o.getStatusChangedAt(finalStatus), "Kazanan geçişin zamanı kaydedilmeli");
+                Order.OrderStatus other = finalStatus == Order.OrderStatus.SHIPPED
+                    ? Order.OrderStatus.CANCELLED : Order.OrderStatus.SHIPPED;
+                assertNull(o.getStatusChangedAt(other), "Kaybeden geçişin zamanı kaydedilmemeli");
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Hesaplama Testleri")
     class CalculationTests {
@@ -228,6 +370,106 @@ class OrderTest {
             assertEquals(10, order.getItemCount(), "Toplam ürün adedi 10 olmalı");
         }
 
+        @Test
+        @DisplayName("Aynı üründen birden fazla eklenip çıkarıldığında toplamlar doğru kalır")
+        void testDuplicateItemsIncrementalTotals() {
+            // Given
+            Order.OrderItem pen = new Order.OrderItem("Kalem", new BigDecimal("2.50"), 4);
+            Order.OrderItem book = new Order.OrderItem("Defter", new BigDecimal("7.00"), 1);
+            order.addItem(pen);
+            order.addItem(book);
+            order.addItem(new Order.OrderItem("Kalem", new BigDecimal("2.50"), 4));
+
+            // When
+            order.removeItem(pen);
+            order.removeItem(new Order.OrderItem("Yok", BigDecimal.ONE, 1));
+
+            // Then
+            assertAll("Tekrarlanan ürünler",
+                () -> assertEquals(2, order.getItems().size(), "Kalemden bir tane kalmalı"),
+                () -> assertEquals(new BigDecimal("17.00"), order.getTotalAmount(), "Toplam tutar 17.00 olmalı"),
+                () -> assertEquals(5, order.getItemCount(), "Toplam ürün adedi 5 olmalı")
+            );
+
+            // When - hepsi çıkarılınca başlangıç değerlerine dönülür
+            order.removeItem(pen);
+            order.removeItem(book);
+
+            // Then
+            assertEquals(BigDecimal.ZERO, order.getTotalAmount(), "Boş siparişin toplamı BigDecimal.ZERO olmalı");
+            assertEquals(0, order.getItemCount(), "Boş siparişin ürün adedi 0 olmalı");
+        }
+
+        @Test
+        @DisplayName("Liste doğrudan değiştirildiğinde calculateTotalAmount toplamları eşitler")
+        void testCalculateTotalAmountResyncsAfterDirectListChange() {
+            // Given
+            order.addItem(new Order.OrderItem("Product", new BigDecimal("50.00"), 2));
+            order.getItems().add(new Order.OrderItem("Extra", new BigDecimal("5.00"), 3));
+
+            // When
+            order.calculateTotalAmount();
+
+            // Then
+            assertEquals(new BigDecimal("115.00"), order.getTotalAmount(), "Toplam tutar 115.00 olmalı");
+            assertEquals(5, order.getItemCount(), "Toplam ürün adedi 5 olmalı");
+        }
+
+        @Test
+        @DisplayName("Kuruş toplamı BigDecimal toplamıyla aynı kalır")
+        void testTotalCentsMatchesTotalAmount() {
+            // Given
+            Order.OrderItem laptop = new Order.OrderItem("Laptop", new BigDecimal("1500.00"), 1);
+            order.addItem(laptop);
+            order.addItem(new Order.OrderItem("Mouse", new BigDecimal("25.5"), 2));
+            order.addItem(new Order.OrderItem("Kablo", new BigDecimal("3"), 3));
+
+            // When
+            order.removeItem(laptop);
+
+            // Then
+            assertAll("Kuruş toplamı",
+                () -> assertEquals(6_000L, order.getTotalCents(), "Toplam 6000 kuruş olmalı"),
+                () -> assertEquals(0, Money.toBigDecimal(order.getTotalCents()).compareTo(order.getTotalAmount()),
+                    "Kuruş ve BigDecimal toplamları eşit olmalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Kuruşa çevrilemeyen satır varken kuruş toplamı - exception")
+        void testTotalCentsWithInexactLine() {
+            // Given
+            Order.OrderItem fuel = new Order.OrderItem("Yakıt", new BigDecimal("1.239"), 10);
+            order.addItem(new Order.OrderItem("Product", new BigDecimal("10.00"), 1));
+            order.addItem(fuel);
+
+            // When & Then
+            assertFalse(fuel.isCentsExact(), "Üç basamaklı fiyat kuruşa çevrilememeli");
+            assertThrows(ArithmeticException.class, () -> order.getTotalCents());
+            assertEquals(new BigDecimal("22.390"), order.getTotalAmount(), "BigDecimal yolu etkilenmemeli");
+
+            // When - satır çıkarılınca kuruş toplamı yeniden kullanılabilir
+            order.removeItem(fuel);
+
+            // Then
+            assertEquals(1_000L, order.getTotalCents());
+        }
+
+        @Test
+        @DisplayName("Ara toplam taşıp sonra geri döndüğünde kuruş toplamı yeniden hesaplanır")
+        void testTotalCentsRecoversFromIntermediateOverflow() {
+            // Given
+            BigDecimal huge = Money.toBigDecimal(Long.MAX_VALUE - 100);
+            Order.OrderItem big = new Order.OrderItem("Büyük", huge, 1);
+            order.addItem(new Order.OrderItem("Product", new BigDecimal("10.00"), 1));
+            order.addItem(big);
+
+            // When & Then
+            assertThrows(ArithmeticException.class, () -> order.getTotalCents(), "Toplam long'a sığmamalı");
+            order.removeItem(big);
+            assertEquals(1_000L, order.getTotalCents());
+        }
+
         @Test
         @DisplayName("Manuel toplam hesaplama")
         void testManualCalculateTotalAmount() {
@@ -271,6 +513,19 @@ class OrderTest {
                 "OrderItem toplam fiyatı doğru hesaplanmalı");
         }
 
+        @Test
+        @DisplayName("OrderItem kuruş tutarları")
+        void testOrderItemCents() {
+            Order.OrderItem item = new Order.OrderItem("Product", new BigDecimal("25.50"), 4);
+
+            assertAll("Kuruş tutarları",
+                () -> assertTrue(item.isCentsExact()),
+                () -> assertEquals(2_550L, item.getPriceCents()),
+                () -> assertEquals(10_200L, item.getTotalCents()),
+                () -> assertSame(item.getTotalPrice(), item.getTotalPrice(), "Toplam fiyat her çağrıda yeniden ayrılmamalı")
+            );
+        }
+
         @Test
         @DisplayName("OrderItem equals metodu")
         void testOrderItemEquals() {
@@ -293,6 +548,219 @@ class OrderTest {
         }
     }
 
+    @Nested
+    @DisplayName("Satır Saklama Testleri")
+    class LineStorageTests {
+
+        @Test
+        @DisplayName("Sıkıştırılmış satırlar eklenen satırlara eşit olarak okunur")
+        void testCompactRoundTrip() {
+            // Given
+            Order.OrderItem laptop = new Order.OrderItem("Laptop", new BigDecimal("1500.00"), 1);
+            Order.OrderItem mouse = new Order.OrderItem("Mouse", new BigDecimal("25.50"), 2);
+
+            // When
+            order.addItem(laptop);
+            order.addItem(mouse);
+            Order.OrderItem read = order.getItems().get(1);
+
+            // Then
+            assertAll("Okunan satırlar",
+                () -> assertEquals(List.of(laptop, mouse), order.getItems()),
+                () -> assertEquals(2, order.getLineCount()),
+                () -> assertEquals(new BigDecimal("25.50"), read.getPrice()),
+                () -> assertSame(ProductDictionary.shared().name(ProductDictionary.shared().find("Mouse")),
+                        read.getProductName(), "Ad sözlükteki örnek olmalı"),
+                () -> assertEquals("Mouse", order.getLineProductName(1)),
+                () -> assertEquals(2, order.getLineQuantity(1)),
+                () -> assertEquals(5_100L, order.getLineTotalCents(1)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> order.getLineTotalCents(2))
+            );
+        }
+
+        @Test
+        @DisplayName("Ölçeği 2 olmayan ve kuruşa çevrilemeyen fiyatlar olduğu gibi korunur")
+        void testLooseLinesPreserved() {
+            // Given
+            Order.OrderItem shortScale = new Order.OrderItem("Kalem", new BigDecimal("12.5"), 2);
+            Order.OrderItem precise = new Order.OrderItem("Altın", new BigDecimal("1.239"), 1);
+            Order.OrderItem compact = new Order.OrderItem("Defter", new BigDecimal("3.00"), 1);
+
+            // When
+            order.addItem(shortScale);
+            order.addItem(compact);
+            order.addItem(precise);
+
+            // Then
+            assertAll("Korunan satırlar",
+                () -> assertEquals(new BigDecimal("12.5"), order.getItems().get(0).getPrice(), "Ölçek değişmemeli"),
+                () -> assertSame(precise, order.getItems().get(2)),
+                () -> assertEquals(List.of(shortScale, compact, precise), order.getItems()),
+                () -> assertEquals(new BigDecimal("29.239"), order.getTotalAmount()),
+                () -> assertThrows(ArithmeticException.class, () -> order.getLineTotalCents(2)),
+                () -> assertEquals(2_500L, order.getLineTotalCents(0))
+            );
+
+            // When
+            order.removeItem(new Order.OrderItem("Altın", new BigDecimal("1.239"), 1));
+            order.removeItem(new Order.OrderItem("Kalem", new BigDecimal("12.50"), 2));
+
+            // Then
+            assertAll("Çıkarma",
+                () -> assertEquals(List.of(shortScale, compact), order.getItems(), "Ölçeği farklı satır eşit sayılmamalı"),
+                () -> assertEquals(2_800L, order.getTotalCents())
+            );
+        }
+
+        @Test
+        @DisplayName("Sözlük dolunca yeni ürün adları sıkıştırılmamış satır olarak saklanır")
+        void testFullDictionaryStoresLooseLines() {
+            // Given
+            ProductDictionary dictionary = new ProductDictionary(1);
+            Order limited = new Order(1L, LocalDateTime.now(), dictionary);
+            Order.OrderItem laptop = new Order.OrderItem("Laptop", new BigDecimal("1500.00"), 1);
+            Order.OrderItem mouse = new Order.OrderItem("Mouse", new BigDecimal("25.50"), 2);
+
+            // When
+            limited.addItem(laptop);
+            limited.addItem(mouse);
+            Order copy = new Order(limited);
+
+            // Then
+            assertAll("Dolu sözlük",
+                () -> assertEquals(1, dictionary.size(), "Sözlük sınırı aşılmamalı"),
+                () -> assertSame(mouse, limited.getItems().get(1), "Sözlüğe girmeyen satır olduğu gibi tutulmalı"),
+                () -> assertEquals(List.of(laptop, mouse), limited.getItems()),
+                () -> assertEquals(5_100L, limited.getLineTotalCents(1)),
+                () -> assertEquals(new BigDecimal("1551.00"), limited.getTotalAmount()),
+                () -> assertTrue(limited.getItems().contains(new Order.OrderItem("Mouse", new BigDecimal("25.50"), 2))),
+                () -> assertSame(dictionary, copy.getProductDictionary(), "Kopya aynı sözlüğü kullanmalı"),
+                () -> assertSame(ProductDictionary.shared(), order.getProductDictionary()),
+                () -> assertThrows(IllegalArgumentException.class, () -> new Order(1L, LocalDateTime.now(), null))
+            );
+
+            // When
+            limited.removeItem(new Order.OrderItem("Mouse", new BigDecimal("25.50"), 2));
+
+            // Then
+            assertEquals(List.of(laptop), limited.getItems());
+        }
+
+        @Test
+        @DisplayName("Farklı sözlükler kullanan satır görüntüleri satır içeriğiyle karşılaştırılır")
+        void testLineSnapshotAcrossDictionaries() {
+            // Given
+            Order.OrderItem laptop = new Order.OrderItem("Laptop", new BigDecimal("1500.00"), 1);
+            Order other = new Order(1L, LocalDateTime.now(), new ProductDictionary());
+            other.addItem(new Order.OrderItem("Mouse", new BigDecimal("25.50"), 1));
+            other.addItem(laptop);
+            order.addItem(laptop);
+
+            // Then
+            assertAll("Sözlükler arası karşılaştırma",
+                () -> assertTrue(order.snapshotLines().sameLine(0, other.snapshotLines(), 1)),
+                () -> assertFalse(order.snapshotLines().sameLine(0, other.snapshotLines(), 0))
+            );
+        }
+
+        @Test
+        @DisplayName("Satır görüntüsü sonraki değişikliklerden etkilenmez ve satırları karşılaştırır")
+        void testLineSnapshot() {
+            // Given
+            Order.OrderItem laptop = new Order.OrderItem("Laptop", new BigDecimal("1500.00"), 1);
+            Order.OrderItem pen = new Order.OrderItem("Kalem", new BigDecimal("12.5"), 2);
+            order.addItem(laptop);
+            order.addItem(pen);
+
+            // When
+            Order.LineSnapshot before = order.snapshotLines();
+            order.getItems().set(0, new Order.OrderItem("Laptop", new BigDecimal("1500.00"), 2));
+            order.addItem(new Order.OrderItem("Kalem", new BigDecimal("12.5"), 2));
+            Order.LineSnapshot after = order.snapshotLines();
+
+            // Then
+            assertAll("Satır görüntüsü",
+                () -> assertEquals(2, before.size()),
+                () -> assertEquals(3, after.size()),
+                () -> assertEquals(laptop, before.get(0), "Görüntü sonraki değişiklikten etkilenmemeli"),
+                () -> assertSame(pen, before.get(1)),
+                () -> assertFalse(before.sameLine(0, after, 0), "Adet farklı"),
+                () -> assertTrue(before.sameLine(1, after, 2), "Eşit sıkıştırılamayan satır"),
+                () -> assertFalse(before.sameLine(0, after, 1)),
+                () -> assertEquals(0, new Order(1L).snapshotLines().size()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> before.get(2))
+            );
+        }
+
+        @Test
+        @DisplayName("getItems görünümü üzerinden ekleme, değiştirme ve çıkarma")
+        void testItemViewMutations() {
+            // Given
+            Order.OrderItem a = new Order.OrderItem("A", new BigDecimal("1.00"), 1);
+            Order.OrderItem b = new Order.OrderItem("B", new BigDecimal("2.00"), 1);
+            Order.OrderItem c = new Order.OrderItem("C", new BigDecimal("3.5"), 1);
+            order.addItem(a);
+            List<Order.OrderItem> items = order.getItems();
+
+            // When
+            items.add(0, b);
+            items.add(c);
+            Order.OrderItem replaced = items.set(1, new Order.OrderItem("D", new BigDecimal("4.00"), 2));
+            Order.OrderItem removed = items.remove(0);
+            order.calculateTotalAmount();
+
+            // Then
+            assertAll("Görünüm değişiklikleri",
+                () -> assertEquals(a, replaced),
+                () -> assertEquals(b, removed),
+                () -> assertEquals(List.of(new Order.OrderItem("D", new BigDecimal("4.00"), 2), c), order.getItems()),
+                () -> assertEquals(new BigDecimal("11.50"), order.getTotalAmount()),
+                () -> assertEquals(3, order.getItemCount()),
+                () -> assertTrue(items.contains(c)),
+                () -> assertEquals(-1, items.indexOf(a))
+            );
+        }
+
+        @Test
+        @DisplayName("Sipariş değişince açık iterator hata verir")
+        void testIteratorFailFast() {
+            // Given
+            order.addItem(new Order.OrderItem("A", new BigDecimal("1.00"), 1));
+            order.addItem(new Order.OrderItem("B", new BigDecimal("2.00"), 1));
+
+            // Then
+            assertThrows(java.util.ConcurrentModificationException.class, () -> {
+                for (Order.OrderItem item : order.getItems()) {
+                    order.addItem(item);
+                }
+            });
+        }
+
+        @Test
+        @DisplayName("setItems verilen listeyi kopyalar, kopya sipariş satırları paylaşmaz")
+        void testSetItemsAndCopyIndependence() {
+            // Given
+            List<Order.OrderItem> source = new ArrayList<>();
+            source.add(new Order.OrderItem("A", new BigDecimal("1.00"), 1));
+            source.add(new Order.OrderItem("B", new BigDecimal("2.5"), 2));
+            order.setItems(source);
+            Order copy = new Order(order);
+
+            // When
+            source.clear();
+            copy.addItem(new Order.OrderItem("C", new BigDecimal("3.00"), 1));
+            copy.getItems().set(1, new Order.OrderItem("E", new BigDecimal("9.00"), 1));
+
+            // Then
+            assertAll("Bağımsızlık",
+                () -> assertEquals(2, order.getLineCount(), "Kaynak liste değişikliği siparişi etkilememeli"),
+                () -> assertEquals(new BigDecimal("2.5"), order.getItems().get(1).getPrice(), "Kopyadaki değişiklik orijinali etkilememeli"),
+                () -> assertEquals(new BigDecimal("6.00"), order.getTotalAmount()),
+                () -> assertEquals(3, copy.getLineCount())
+            );
+        }
+    }
+
     @Test
     @DisplayName("Order equals metodu")
     void testOrderEquals() {
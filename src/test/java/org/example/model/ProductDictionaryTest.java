@@ -0,0 +1,155 @@
+package org.example.model;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProductDictionary için unit testleri
+ */
+@DisplayName("ProductDictionary Unit Testleri")
+class ProductDictionaryTest {
+
+    private ProductDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new ProductDictionary();
+    }
+
+    @Test
+    @DisplayName("Aynı ad aynı ID'yi, farklı adlar sıradaki ID'leri alır")
+    void testIntern() {
+        // When
+        int laptop = dictionary.intern("Laptop");
+        int mouse = dictionary.intern("Mouse");
+        int laptopAgain = dictionary.intern(new String("Laptop"));
+
+        // Then
+        assertAll("ID'ler",
+            () -> assertEquals(0, laptop),
+            () -> assertEquals(1, mouse),
+            () -> assertEquals(laptop, laptopAgain, "Eşit ad aynı ID'yi almalı"),
+            () -> assertEquals(2, dictionary.size())
+        );
+    }
+
+    @Test
+    @DisplayName("ID'den her zaman ilk eklenen String örneği döner")
+    void testNameReturnsCanonicalInstance() {
+        // Given
+        String first = new String("Klavye");
+        int id = dictionary.intern(first);
+        dictionary.intern(new String("Klavye"));
+
+        // Then
+        assertSame(first, dictionary.name(id), "Ad kopyalanmadan tek örnek olarak saklanmalı");
+    }
+
+    @Test
+    @DisplayName("find sözlüğe eklemez")
+    void testFind() {
+        // Given
+        dictionary.intern("Monitör");
+
+        // Then
+        assertAll("Arama",
+            () -> assertEquals(0, dictionary.find("Monitör")),
+            () -> assertEquals(-1, dictionary.find("Yazıcı")),
+            () -> assertEquals(-1, dictionary.find(null)),
+            () -> assertEquals(1, dictionary.size(), "find yeni ID vermemeli")
+        );
+    }
+
+    @Test
+    @DisplayName("Geçersiz girdiler - exception")
+    void testInvalidInput() {
+        assertAll("Geçersiz girdiler",
+            () -> assertThrows(IllegalArgumentException.class, () -> dictionary.intern(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> dictionary.name(0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> dictionary.name(-1))
+        );
+    }
+
+    @Test
+    @DisplayName("Dizi büyürken önceki ID'ler geçerli kalır")
+    void testGrowth() {
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            dictionary.intern("Ürün-" + i);
+        }
+
+        // Then
+        assertAll("Büyüme",
+            () -> assertEquals(5_000, dictionary.size()),
+            () -> assertEquals("Ürün-0", dictionary.name(0)),
+            () -> assertEquals("Ürün-4999", dictionary.name(4_999)),
+            () -> assertEquals(3_210, dictionary.find("Ürün-3210"))
+        );
+    }
+
+    @Test
+    @DisplayName("Sözlük dolunca yeni ad eklenmez, mevcut adlar çözülmeye devam eder")
+    void testMaxSize() {
+        // Given
+        ProductDictionary small = new ProductDictionary(2);
+        small.intern("Laptop");
+        small.intern("Mouse");
+
+        // When
+        int rejected = small.tryIntern("Klavye");
+
+        // Then
+        assertAll("Üst sınır",
+            () -> assertEquals(-1, rejected),
+            () -> assertTrue(small.isFull()),
+            () -> assertEquals(2, small.size()),
+            () -> assertEquals(-1, small.find("Klavye"), "Reddedilen ad sözlüğe girmemeli"),
+            () -> assertEquals(1, small.tryIntern("Mouse"), "Mevcut ad ID'sini almaya devam etmeli"),
+            () -> assertThrows(IllegalStateException.class, () -> small.intern("Klavye")),
+            () -> assertEquals(ProductDictionary.DEFAULT_MAX_SIZE, dictionary.getMaxSize()),
+            () -> assertThrows(IllegalArgumentException.class, () -> new ProductDictionary(0))
+        );
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı eklemelerde her ad tek ID alır")
+    void testConcurrentIntern() throws Exception {
+        // Given
+        int threads = 4;
+        int names = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<int[]>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int[] ids = new int[names];
+                for (int i = 0; i < names; i++) {
+                    ids[i] = dictionary.intern("Ürün-" + i);
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+        List<int[]> results = new ArrayList<>();
+        for (Future<int[]> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(names, dictionary.size(), "Her ad bir kez eklenmeli");
+        for (int[] ids : results) {
+            for (int i = 0; i < names; i++) {
+                assertEquals(results.get(0)[i], ids[i], "Tüm thread'ler aynı ID'yi görmeli");
+                assertEquals("Ürün-" + i, dictionary.name(ids[i]));
+            }
+        }
+    }
+}
@@ -71,6 +71,18 @@ class UserTest {
         assertNotNull(user.getCreatedAt(), "Oluşturulma tarihi null olmamalı");
     }
 
+    @Test
+    @DisplayName("Tüm alanları alan constructor ile user oluşturma")
+    void testFullConstructor() {
+        User restored = new User(7L, "kayıt", "kayit@example.com", null, false, null, 3L);
+
+        assertEquals(7L, restored.getId(), "ID doğru atanmalı");
+        assertEquals("kayıt", restored.getUsername(), "Username doğru atanmalı");
+        assertFalse(restored.isActive(), "Aktiflik verilen değerle atanmalı");
+        assertNull(restored.getCreatedAt(), "Oluşturulma tarihi verilmediyse null kalmalı");
+        assertEquals(3L, restored.getVersion(), "Sürüm doğru atanmalı");
+    }
+
     @Test
     @DisplayName("Email validasyonu - geçerli email")
     void testValidEmail() {
@@ -265,4 +277,27 @@ class UserTest {
             () -> assertEquals(createdAt, user.getCreatedAt())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Kopya constructor tüm alanları kopyalar")
+    void testCopyConstructor() {
+        user.setId(5L);
+        user.setActive(false);
+        user.setVersion(3L);
+
+        User copy = new User(user);
+        copy.setUsername("changed");
+
+        assertAll("Kopya kontrolü",
+            () -> assertNotSame(user, copy, "Yeni nesne oluşturulmalı"),
+            () -> assertEquals(user, copy, "Kopya orijinale eşit olmalı"),
+            () -> assertEquals(5L, copy.getId()),
+            () -> assertEquals(user.getEmail(), copy.getEmail()),
+            () -> assertEquals(user.getPassword(), copy.getPassword()),
+            () -> assertFalse(copy.isActive()),
+            () -> assertEquals(user.getCreatedAt(), copy.getCreatedAt()),
+            () -> assertEquals(3L, copy.getVersion()),
+            () -> assertNotEquals("changed", user.getUsername(), "Kopyadaki değişiklik orijinali etkilememeli")
+        );
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.service;
+
+import org.example.model.User;
+import org.junit.jupiter.api.*;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AsyncUserService için testler
+ * Gerçek DatabaseService ve EmailService kullanılır; iptal ve zaman aşımı senaryoları
+ * email executor'ı bir latch ile meşgul edilerek test edilir
+ */
+@DisplayName("AsyncUserService Testleri")
+class AsyncUserServiceTest {
+
+    private DatabaseService databaseService;
+    private EmailService emailService;
+    private UserService userService;
+    private ExecutorService storeExecutor;
+    private ExecutorService emailExecutor;
+    private AsyncUserService asyncUserService;
+
+    @BeforeEach
+    void setUp() {
+        databaseService = new DatabaseService();
+        emailService = new EmailService();
+        userService = new UserService(databaseService, emailService);
+        storeExecutor = Executors.newFixedThreadPool(2);
+        emailExecutor = Executors.newSingleThreadExecutor();
+        asyncUserService = new AsyncUserService(userService, storeExecutor, emailExecutor, 10, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncUserService.close();
+        storeExecutor.shutdownNow();
+        emailExecutor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Başarılı Akışlar")
+    class SuccessFlows {
+
+        @Test
+        @DisplayName("Asenkron kayıt ve hoş geldin emaili")
+        void testRegisterUserAsync() throws Exception {
+            // When
+            User user = asyncUserService.registerUserAsync("asyncuser", "async@example.com", "password123")
+                    .get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertAll("Asenkron kayıt",
+                () -> assertNotNull(user.getId(), "ID atanmalı"),
+                () -> assertEquals(1, databaseService.getUserCount(), "Kullanıcı kaydedilmeli"),
+                () -> assertEquals(1, emailService.getSentEmailCount(), "Hoş geldin emaili gönderilmeli")
+            );
+        }
+
+        @Test
+        @DisplayName("Asenkron giriş ve profil güncelleme")
+        void testLoginAndUpdateAsync() throws Exception {
+            // Given
+            User user = userService.registerUser("asyncuser", "async@example.com", "password123");
+            emailService.clearEmailLogs();
+
+            // When
+            Optional<User> loggedIn = asyncUserService.loginUserAsync("async@example.com", "password123")
+                    .get(5, TimeUnit.SECONDS);
+            User updated = asyncUserService.updateUserProfileAsync(user.getId(), "renamed", "renamed@example.com")
+                    .get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertTrue(loggedIn.isPresent(), "Giriş başarılı olmalı");
+            assertEquals("renamed@example.com", updated.getEmail(), "Email güncellenmeli");
+            assertEquals(1, emailService.getSentEmailCount(), "Email değişikliği bildirilmeli");
+        }
+
+        @Test
+        @DisplayName("Asenkron pasifleştirme ve istatistik")
+        void testDeactivateAndStatsAsync() throws Exception {
+            // Given
+            User user = userService.registerUser("asyncuser", "async@example.com", "password123");
+
+            // When
+            asyncUserService.deactivateUserAsync(user.getId()).get(5, TimeUnit.SECONDS);
+            UserService.UserStats stats = asyncUserService.getUserStatsAsync().get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals(1, stats.getInactiveUsers(), "1 pasif kullanıcı olmalı");
+            assertTrue(asyncUserService.getAllActiveUsersAsync().get(5, TimeUnit.SECONDS).isEmpty(),
+                "Aktif kullanıcı olmamalı");
+        }
+    }
+
+    @Nested
+    @DisplayName("Hata, İptal ve Zaman Aşımı")
+    class FailureFlows {
+
+        @Test
+        @DisplayName("Doğrulama hatası future üzerinden iletilir")
+        void testValidationErrorPropagates() {
+            // When
+            CompletableFuture<User> future = asyncUserService.registerUserAsync("", "async@example.com", "password123");
+
+            // Then
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalArgumentException.class, exception.getCause(), "Orijinal exception korunmalı");
+            assertEquals(0, emailService.getSentEmailCount(), "Email adımı çalışmamalı");
+        }
+
+        @Test
+        @DisplayName("İptal edilen çağrının email adımı çalışmaz")
+        void testCancellationSkipsPendingSteps() throws Exception {
+            // Given - email executor'ı meşgul et
+            CountDownLatch release = new CountDownLatch(1);
+            emailExecutor.submit(() -> {
+                release.await();
+                return null;
+            });
+
+            // When
+            CompletableFuture<User> future = asyncUserService.registerUserAsync("asyncuser", "async@example.com", "password123");
+            waitUntil(() -> databaseService.getUserCount() == 1);
+            future.cancel(true);
+            release.countDown();
+            emailExecutor.submit(() -> null).get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertTrue(future.isCancelled(), "Future iptal edilmiş olmalı");
+            assertEquals(0, emailService.getSentEmailCount(), "İptal sonrası email gönderilmemeli");
+        }
+
+        @Test
+        @DisplayName("Zaman aşımı TimeoutException ile sonuçlanır")
+        void testTimeout() throws Exception {
+            // Given
+            AsyncUserService shortTimeout = new AsyncUserService(userService, storeExecutor, emailExecutor, 10,
+                    Duration.ofMillis(50));
+            CountDownLatch release = new CountDownLatch(1);
+            emailExecutor.submit(() -> {
+                release.await();
+                return null;
+            });
+
+            // When
+            CompletableFuture<User> future = shortTimeout.registerUserAsync("asyncuser", "async@example.com", "password123");
+
+            // Then
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TimeoutException.class, exception.getCause(), "Zaman aşımı iletilmeli");
+            release.countDown();
+            emailExecutor.submit(() -> null).get(5, TimeUnit.SECONDS);
+            assertEquals(0, emailService.getSentEmailCount(), "Zaman aşımı sonrası email gönderilmemeli");
+        }
+
+        @Test
+        @DisplayName("Dolu veya kapalı executor reddi future üzerinden iletilir")
+        void testRejectedExecution() {
+            // Given
+            storeExecutor.shutdown();
+
+            // When
+            CompletableFuture<Optional<User>> future = asyncUserService.getUserByIdAsync(1L);
+
+            // Then
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, exception.getCause(), "Red iletilmeli");
+        }
+
+        @Test
+        @DisplayName("Geçersiz parametreler - exception")
+        void testInvalidArguments() {
+            assertAll("Geçersiz parametreler",
+                () -> assertThrows(IllegalArgumentException.class,
+                    () -> new AsyncUserService(null, storeExecutor, emailExecutor, 10, Duration.ofSeconds(1))),
+                () -> assertThrows(IllegalArgumentException.class,
+                    () -> new AsyncUserService(userService, storeExecutor, emailExecutor, 0, Duration.ofSeconds(1))),
+                () -> assertThrows(IllegalArgumentException.class,
+                    () -> new AsyncUserService(userService, storeExecutor, emailExecutor, 10, Duration.ZERO))
+            );
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean(), "Koşul zamanında sağlanmalı");
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.service;
+
+import org.example.model.User;
+import org.example.service.ChangeFeed.ChangeEvent;
+import org.example.service.ChangeFeed.ChangeType;
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChangeFeed için unit testleri
+ */
+@DisplayName("ChangeFeed Unit Testleri")
+class ChangeFeedTest {
+
+    private ChangeFeed feed;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        feed = new ChangeFeed(8);
+        user = new User("testuser", "test@example.com", "password");
+    }
+
+    @Test
+    @DisplayName("Olaylar sıra numarasıyla okunur, tüketici kaldığı yerden devam eder")
+    void testReadAndResume() {
+        // Given
+        feed.publish(ChangeType.INSERT, 1L, user, 0);
+        feed.publish(ChangeType.UPDATE, 1L, user, 1);
+        feed.publish(ChangeType.DELETE, 1L, user, 1);
+
+        // When
+        List<ChangeEvent> first = feed.read(1, 2);
+        List<ChangeEvent> rest = feed.readAfter(first.get(first.size() - 1).getSequence(), 10);
+
+        // Then
+        assertAll("Okuma ve devam",
+            () -> assertEquals(List.of(1L, 2L), first.stream().map(ChangeEvent::getSequence).toList()),
+            () -> assertEquals(ChangeType.DELETE, rest.get(0).getType()),
+            () -> assertEquals(1, rest.size()),
+            () -> assertTrue(feed.readAfter(3, 10).isEmpty(), "Yeni olay yoksa boş dönmeli"),
+            () -> assertEquals(3, feed.getLastSequence())
+        );
+    }
+
+    @Test
+    @DisplayName("Tüketiciler birbirinden bağımsızdır")
+    void testIndependentConsumers() {
+        // Given
+        feed.publish(ChangeType.INSERT, 1L, user, 0);
+        feed.publish(ChangeType.INSERT, 2L, user, 0);
+
+        // When
+        List<ChangeEvent> consumerA = feed.read(1, 10);
+        List<ChangeEvent> consumerB = feed.read(1, 10);
+
+        // Then
+        assertEquals(2, consumerA.size());
+        assertEquals(2, consumerB.size(), "Okuma olayları tüketmemeli");
+    }
+
+    @Test
+    @DisplayName("Üzerine yazılan olay istenirse exception")
+    void testOverwrittenEvent() {
+        // Given - kapasite 8, 12 olay
+        for (long i = 1; i <= 12; i++) {
+            feed.publish(ChangeType.INSERT, i, user, 0);
+        }
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> feed.read(2, 10));
+        assertTrue(exception.getMessage().contains("üzerine yazıldı"));
+        assertEquals(5, feed.getOldestSequence());
+        assertEquals(8, feed.read(feed.getOldestSequence(), 100).size(), "En eski olaydan itibaren okunabilmeli");
+    }
+
+    @Test
+    @DisplayName("Kapasite ikinin kuvvetine yuvarlanır, geçersiz parametreler - exception")
+    void testCapacityAndInvalidArguments() {
+        assertEquals(16, new ChangeFeed(10).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new ChangeFeed(0));
+        assertThrows(IllegalArgumentException.class, () -> feed.read(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> feed.read(1, 0));
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı yayıncıların olayları boşluksuz ve sırayla okunur")
+    void testConcurrentPublishers() throws Exception {
+        // Given
+        ChangeFeed large = new ChangeFeed(1 << 16);
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When - bir tüketici yayın sürerken okur
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long userId = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    large.publish(ChangeType.UPDATE, userId, user, i);
+                }
+            }));
+        }
+        List<ChangeEvent> consumed = new ArrayList<>();
+        while (consumed.size() < threads * perThread) {
+            consumed.addAll(large.readAfter(consumed.size(), 1_000));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        long[] lastVersion = new long[threads];
+        Arrays.fill(lastVersion, -1);
+        for (int i = 0; i < consumed.size(); i++) {
+            ChangeEvent event = consumed.get(i);
+            assertEquals(i + 1L, event.getSequence(), "Sıra numaraları boşluksuz olmalı");
+            int publisher = event.getUserId().intValue();
+            assertTrue(event.getVersion() > lastVersion[publisher], "Aynı yayıncının olayları sırayla gelmeli");
+            lastVersion[publisher] = event.getVersion();
+        }
+    }
+}
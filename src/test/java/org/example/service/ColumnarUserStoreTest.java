@@ -0,0 +1,278 @@
+package org.example.service;
+
+import org.example.model.User;
+import org.example.service.ColumnarUserStore.UserView;
+import org.junit.jupiter.api.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ColumnarUserStore için unit testleri
+ */
+@DisplayName("ColumnarUserStore Unit Testleri")
+class ColumnarUserStoreTest {
+
+    private ColumnarUserStore store;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        store = new ColumnarUserStore();
+        testUser = new User("testuser", "test@example.com", "password123");
+        testUser.setCreatedAt(LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_000_000));
+    }
+
+    @Nested
+    @DisplayName("Kaydetme ve Okuma Testleri")
+    class SaveAndFindTests {
+
+        @Test
+        @DisplayName("Kaydedilen kullanıcı görünüm olarak okunur")
+        void testSaveAndFind() {
+            // When
+            User saved = store.saveUser(testUser);
+            Optional<UserView> byId = store.findUserById(saved.getId());
+            Optional<UserView> byEmail = store.findUserByEmail("test@example.com");
+
+            // Then
+            assertAll("Görünüm alanları",
+                () -> assertEquals(1L, saved.getId()),
+                () -> assertTrue(byId.isPresent()),
+                () -> assertEquals("testuser", byId.get().getUsername()),
+                () -> assertEquals("test@example.com", byId.get().getEmail()),
+                () -> assertEquals("password123", byId.get().getPassword()),
+                () -> assertTrue(byId.get().isActive()),
+                () -> assertEquals(LocalDateTime.of(2024, 5, 1, 10, 30, 15), byId.get().getCreatedAt(),
+                    "Kayıt zamanı saniyeye yuvarlanmalı"),
+                () -> assertEquals(saved.getId().longValue(), byEmail.get().getId()),
+                () -> assertEquals(byId.get(), byEmail.get(), "Aynı kullanıcının görünümleri eşit olmalı"),
+                () -> assertTrue(store.isEmailExists("test@example.com")),
+                () -> assertFalse(store.findUserById(99L).isPresent())
+            );
+        }
+
+        @Test
+        @DisplayName("UTF-8 metinler korunur")
+        void testUtf8Strings() {
+            // When
+            User saved = store.saveUser(new User("Çağrı Öztürk", "cagri@örnek.com.tr", "şifreĞÜ"));
+
+            // Then
+            UserView view = store.findUserById(saved.getId()).get();
+            assertEquals("Çağrı Öztürk", view.getUsername());
+            assertEquals("cagri@örnek.com.tr", view.getEmail());
+            assertEquals("şifreĞÜ", view.getPassword());
+            assertTrue(store.isEmailExists("cagri@örnek.com.tr"));
+        }
+
+        @Test
+        @DisplayName("Aynı email ile kayıt - exception")
+        void testDuplicateEmail() {
+            // Given
+            store.saveUser(testUser);
+
+            // When & Then
+            assertThrows(IllegalStateException.class,
+                () -> store.saveUser(new User("other", "test@example.com", "password")));
+            assertThrows(IllegalArgumentException.class, () -> store.saveUser(new User("", "a@b.com", "p")));
+        }
+
+        @Test
+        @DisplayName("Görünüm salt okunurdur, kopyası tüm alanlarıyla değiştirilebilir")
+        void testViewReadOnly() {
+            // Given
+            UserView view = store.findUserById(store.saveUser(testUser).getId()).get();
+
+            // When
+            User copy = view.toUser();
+            User copyOfCopy = new User(copy);
+            copy.setUsername("changed");
+
+            // Then
+            assertAll("Görünüm ve kopya",
+                () -> assertFalse(User.class.isAssignableFrom(UserView.class), "Görünüm User'dan türememeli"),
+                () -> assertEquals("testuser", view.getUsername(), "Kopyadaki değişiklik görünümü etkilememeli"),
+                () -> assertEquals("testuser", copyOfCopy.getUsername(), "Kopyanın kopyası alanları taşımalı"),
+                () -> assertEquals("test@example.com", copyOfCopy.getEmail()),
+                () -> assertEquals(view.getCreatedAt(), copyOfCopy.getCreatedAt()),
+                () -> assertEquals(view.getVersion(), copyOfCopy.getVersion())
+            );
+        }
+
+        @Test
+        @DisplayName("Görünüm thread'ler arasında paylaşılabilir, sıkıştırmada doğru satırı okur")
+        void testViewSharedAcrossThreads() throws Exception {
+            // Given
+            for (int i = 0; i < 500; i++) {
+                store.saveUser(new User("user" + i, "user" + i + "@example.com", "password"));
+            }
+            UserView view = store.findUserByEmail("user499@example.com").get();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            List<Future<?>> readers = new ArrayList<>();
+
+            // When - okuyucular görünümü okurken yazar satırları silip sıkıştırır
+            for (int t = 0; t < 4; t++) {
+                readers.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        assertEquals("user499", view.getUsername());
+                    }
+                }));
+            }
+            for (long id = 1; id <= 400; id++) {
+                store.deleteUser(id);
+            }
+            for (Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // Then
+            assertEquals("user499@example.com", view.getEmail());
+        }
+    }
+
+    @Nested
+    @DisplayName("Güncelleme ve Silme Testleri")
+    class UpdateAndDeleteTests {
+
+        @Test
+        @DisplayName("Güncelleme görünüme yansır, email indeksi güncellenir")
+        void testUpdate() {
+            // Given
+            User saved = store.saveUser(testUser);
+            UserView view = store.findUserById(saved.getId()).get();
+
+            // When
+            saved.setEmail("new@example.com");
+            saved.setActive(false);
+            store.updateUser(saved);
+
+            // Then
+            assertAll("Güncelleme",
+                () -> assertEquals("new@example.com", view.getEmail()),
+                () -> assertFalse(view.isActive()),
+                () -> assertEquals(1, view.getVersion()),
+                () -> assertFalse(store.isEmailExists("test@example.com"), "Eski email serbest kalmalı"),
+                () -> assertTrue(store.isEmailExists("new@example.com")),
+                () -> assertTrue(store.getActiveUsers().isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("Eski sürümle güncelleme - exception")
+        void testStaleVersion() {
+            // Given
+            User saved = store.saveUser(testUser);
+            User stale = store.findUserById(saved.getId()).get().toUser();
+            store.updateUser(saved);
+
+            // When & Then
+            assertThrows(ConcurrentModificationException.class, () -> store.updateUser(stale));
+        }
+
+        @Test
+        @DisplayName("Email tablosu büyürken eklenen satır tek kez indekslenir, silinince email boşa çıkar")
+        void testEmailIndexResize() {
+            // Given - 16 slotluk tablo 9. ve 17. kayıtta büyür
+            for (int i = 1; i <= 17; i++) {
+                store.saveUser(new User("user" + i, "user" + i + "@example.com", "password"));
+            }
+
+            // When
+            boolean deleted = store.deleteUser(17L);
+            User again = store.saveUser(new User("yeniden", "user17@example.com", "password"));
+
+            // Then
+            assertAll("Kayıt yolunda büyüme",
+                () -> assertTrue(deleted),
+                () -> assertEquals(17, store.getUserCount()),
+                () -> assertEquals(18L, again.getId()),
+                () -> assertEquals(18L, store.findUserByEmail("user17@example.com").get().getId())
+            );
+
+            // Given - email değişikliği yeniden oluşturmayı tetiklesin diye tabloyu sınıra kadar doldur
+            for (int i = 18; store.getUserCount() < 32; i++) {
+                store.saveUser(new User("user" + i, "user" + i + "@example.com", "password"));
+            }
+            UserView view = store.findUserById(1L).get();
+            User changed = view.toUser();
+            changed.setEmail("degisti@example.com");
+
+            // When
+            store.updateUser(changed);
+            boolean deletedChanged = store.deleteUser(1L);
+
+            // Then
+            assertAll("Güncelleme yolunda büyüme",
+                () -> assertTrue(deletedChanged),
+                () -> assertFalse(store.isEmailExists("degisti@example.com"), "Silinen email kayıtlı görünmemeli"),
+                () -> assertFalse(store.isEmailExists("user1@example.com")),
+                () -> assertDoesNotThrow(() -> store.saveUser(new User("tekrar", "degisti@example.com", "password")))
+            );
+        }
+
+        @Test
+        @DisplayName("Silme ve sıkıştırma sonrası görünümler doğru satırı bulur")
+        void testDeleteAndCompaction() {
+            // Given
+            for (int i = 0; i < 1_000; i++) {
+                store.saveUser(new User("user" + i, "user" + i + "@example.com", "password" + i));
+            }
+            UserView survivor = store.findUserByEmail("user999@example.com").get();
+
+            // When - sıkıştırmayı tetikleyecek kadar sil
+            for (long id = 1; id <= 900; id++) {
+                assertTrue(store.deleteUser(id));
+            }
+
+            // Then
+            assertAll("Sıkıştırma",
+                () -> assertEquals(100, store.getUserCount()),
+                () -> assertEquals("user999", survivor.getUsername(), "Görünüm yeni satırını bulmalı"),
+                () -> assertFalse(store.isEmailExists("user5@example.com")),
+                () -> assertTrue(store.isEmailExists("user950@example.com")),
+                () -> assertEquals(901L, store.getAllUsers().get(0).getId(), "ID sırası korunmalı"),
+                () -> assertFalse(store.deleteUser(5L), "Silinmiş kullanıcı tekrar silinmemeli"),
+                () -> assertThrows(IllegalStateException.class, () -> {
+                    UserView deleted = store.getAllUsers().get(0);
+                    store.deleteUser(deleted.getId());
+                    deleted.getUsername();
+                }, "Silinen kullanıcının görünümü okunamamalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Liste görünümleri ID sırasıyla döner")
+        void testListsInIdOrder() {
+            // Given
+            for (int i = 0; i < 50; i++) {
+                User user = new User("user" + i, "user" + i + "@example.com", "password");
+                user.setActive(i % 2 == 0);
+                store.saveUser(user);
+            }
+
+            // When
+            List<UserView> all = store.getAllUsers();
+            List<UserView> active = store.getActiveUsers();
+            store.trimToSize();
+
+            // Then
+            assertEquals(50, all.size());
+            assertEquals(25, active.size());
+            for (int i = 0; i < all.size(); i++) {
+                assertEquals(i + 1L, all.get(i).getId());
+                assertEquals("user" + i, all.get(i).getUsername());
+            }
+            assertTrue(active.stream().allMatch(UserView::isActive));
+        }
+    }
+}
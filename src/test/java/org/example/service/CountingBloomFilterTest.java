@@ -0,0 +1,94 @@
+package org.example.service;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CountingBloomFilter için unit testleri
+ */
+@DisplayName("CountingBloomFilter Unit Testleri")
+class CountingBloomFilterTest {
+
+    private CountingBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new CountingBloomFilter(10_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("Eklenen elemanlar için yanlış negatif olmaz")
+    void testNoFalseNegatives() {
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"), "Eklenen eleman bulunmalı: " + i);
+        }
+        assertEquals(10_000, filter.size());
+    }
+
+    @Test
+    @DisplayName("Çıkarılan eleman bulunmaz, diğerleri etkilenmez")
+    void testRemove() {
+        // Given
+        filter.add("a@example.com");
+        filter.add("b@example.com");
+
+        // When
+        filter.remove("a@example.com");
+
+        // Then
+        assertAll("Çıkarma",
+            () -> assertFalse(filter.mightContain("a@example.com"), "Çıkarılan eleman bulunmamalı"),
+            () -> assertTrue(filter.mightContain("b@example.com"), "Diğer eleman kalmalı"),
+            () -> assertEquals(1, filter.size())
+        );
+    }
+
+    @Test
+    @DisplayName("Aynı eleman iki kez eklenirse bir çıkarma sonrası hâlâ bulunur")
+    void testDuplicateAdd() {
+        // When
+        filter.add("a@example.com");
+        filter.add("a@example.com");
+        filter.remove("a@example.com");
+
+        // Then
+        assertTrue(filter.mightContain("a@example.com"));
+    }
+
+    @Test
+    @DisplayName("Yanlış pozitif oranı hedefe yakın")
+    void testFalsePositiveRate() {
+        // Given
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("missing" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        double rate = falsePositives / 100_000.0;
+        assertTrue(rate < 0.02, "Yanlış pozitif oranı %1 hedefine yakın olmalı: " + rate);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02, "Teorik oran hedefe yakın olmalı");
+    }
+
+    @Test
+    @DisplayName("Geçersiz parametreler - exception")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(100, 1));
+    }
+}
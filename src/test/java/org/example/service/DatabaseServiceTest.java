@@ -2,8 +2,17 @@ package org.example.service;
 
 import org.example.model.User;
 import org.junit.jupiter.api.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -262,6 +271,27 @@ class DatabaseServiceTest {
             assertTrue(activeUsers.stream().allMatch(User::isActive), "Tüm kullanıcılar aktif olmalı");
         }
 
+        @Test
+        @DisplayName("Tüm kullanıcılar listesi anlık görüntüdür")
+        void testGetAllUsersSnapshot() {
+            // Given
+            List<User> snapshot = databaseService.getAllUsers();
+
+            // When
+            databaseService.saveUser(new User("later", "later@example.com", "password"));
+            databaseService.deleteUser(snapshot.get(0).getId());
+
+            // Then
+            assertAll("Anlık görüntü",
+                () -> assertEquals(3, snapshot.size(), "Sonraki yazmalar görüntüyü değiştirmemeli"),
+                () -> assertEquals(List.of(1L, 2L, 3L), snapshot.stream().map(User::getId).toList(),
+                    "Kullanıcılar ID sırasıyla dönmeli"),
+                () -> assertEquals(3, databaseService.getAllUsers().size(), "Yeni görüntü güncel olmalı"),
+                () -> assertThrows(UnsupportedOperationException.class, () -> snapshot.add(testUser),
+                    "Görüntü değiştirilemez olmalı")
+            );
+        }
+
         @Test
         @DisplayName("Boş veritabanında listeleme")
         void testListUsersInEmptyDatabase() {
@@ -430,6 +460,720 @@ class DatabaseServiceTest {
             // Then
             assertFalse(exists, "Null email için false dönmeli");
         }
+
+        @Test
+        @DisplayName("Silinen ve değişen emailler filtreden düşer")
+        void testFilterFollowsDeletesAndUpdates() {
+            // Given
+            User other = databaseService.saveUser(new User("other", "other@example.com", "password"));
+
+            // When
+            databaseService.deleteUser(testUser.getId());
+            other.setEmail("changed@example.com");
+            databaseService.updateUser(other);
+
+            // Then
+            assertAll("Filtre güncelliği",
+                () -> assertFalse(databaseService.isEmailExists("test@example.com"), "Silinen email bulunmamalı"),
+                () -> assertFalse(databaseService.isEmailExists("other@example.com"), "Eski email bulunmamalı"),
+                () -> assertTrue(databaseService.isEmailExists("changed@example.com"), "Yeni email bulunmalı"),
+                () -> assertDoesNotThrow(() -> databaseService.saveUser(new User("again", "test@example.com", "password")),
+                    "Silinen email tekrar kullanılabilmeli")
+            );
+        }
+
+        @Test
+        @DisplayName("Filtre büyürken kayıtlı emailler kaybolmaz")
+        void testFilterGrowthKeepsEmails() {
+            // Given
+            int count = DatabaseService.EMAIL_FILTER_INITIAL_CAPACITY * 3;
+
+            // When
+            for (int i = 0; i < count; i++) {
+                databaseService.saveUser(new User("user" + i, "user" + i + "@example.com", "password"));
+            }
+
+            // Then
+            for (int i = 0; i < count; i++) {
+                assertTrue(databaseService.isEmailExists("user" + i + "@example.com"), "Kayıtlı email bulunmalı: " + i);
+            }
+            assertTrue(databaseService.getEmailFilterStats().getCapacity() >= count, "Filtre kapasitesi büyümeli");
+        }
+
+        @Test
+        @DisplayName("Filtre istatistikleri ve yeniden oluşturma")
+        void testFilterStatsAndRebuild() {
+            // Given - kayıt sırasındaki kontroller de sayılır
+            DatabaseService.EmailFilterStats before = databaseService.getEmailFilterStats();
+
+            // When
+            for (int i = 0; i < 1_000; i++) {
+                databaseService.isEmailExists("missing" + i + "@example.com");
+            }
+            databaseService.rebuildEmailFilter();
+            DatabaseService.EmailFilterStats stats = databaseService.getEmailFilterStats();
+
+            // Then
+            assertAll("Filtre istatistikleri",
+                () -> assertEquals(1_000, stats.getLookups() - before.getLookups()),
+                () -> assertEquals(1_000, stats.getDefinitelyAbsent() + stats.getFalsePositives()
+                    - before.getDefinitelyAbsent() - before.getFalsePositives()),
+                () -> assertTrue(stats.getObservedFalsePositiveRate() < 0.05, "Yanlış pozitif oranı düşük olmalı"),
+                () -> assertTrue(databaseService.isEmailExists("test@example.com"), "Yeniden oluşturma emaili korumalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Temizleme sonrası filtre boşalır")
+        void testClearAllResetsFilter() {
+            // When
+            databaseService.clearAll();
+
+            // Then
+            assertFalse(databaseService.isEmailExists("test@example.com"));
+            assertEquals(DatabaseService.EMAIL_FILTER_INITIAL_CAPACITY, databaseService.getEmailFilterStats().getCapacity());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sayfalama ve Stream Testleri")
+    class PaginationAndStreamTests {
+
+        @BeforeEach
+        void setUpUsers() {
+            // 250 kullanıcı; ID'si 3'e bölünenler pasif
+            for (int i = 1; i <= 250; i++) {
+                User user = new User("user" + i, "user" + i + "@example.com", "password");
+                user.setActive(i % 3 != 0);
+                databaseService.saveUser(user);
+            }
+        }
+
+        @Test
+        @DisplayName("Cursor ile tüm sayfaları dolaşma")
+        void testPagingThroughAllUsers() {
+            // When
+            List<Long> ids = new ArrayList<>();
+            int pages = 0;
+            Long cursor = null;
+            DatabaseService.UserPage page;
+            do {
+                page = databaseService.getUsersPage(cursor, 100);
+                page.getUsers().forEach(user -> ids.add(user.getId()));
+                cursor = page.getNextCursor();
+                pages++;
+            } while (page.hasNext());
+
+            // Then
+            int pageCount = pages;
+            assertAll("Sayfalama",
+                () -> assertEquals(3, pageCount, "3 sayfa olmalı"),
+                () -> assertEquals(250, ids.size(), "Tüm kullanıcılar bir kez dönmeli"),
+                () -> assertEquals(1L, ids.get(0), "İlk ID 1 olmalı"),
+                () -> assertEquals(250L, ids.get(249), "Son ID 250 olmalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Tam dolan son sayfada cursor null olur")
+        void testExactLastPage() {
+            // When
+            DatabaseService.UserPage page = databaseService.getUsersPage(200L, 50);
+
+            // Then
+            assertEquals(50, page.getUsers().size(), "50 kullanıcı dönmeli");
+            assertFalse(page.hasNext(), "Sonraki sayfa olmamalı");
+        }
+
+        @Test
+        @DisplayName("Aktif kullanıcı sayfası pasifleri atlar")
+        void testActiveUsersPage() {
+            // When
+            DatabaseService.UserPage page = databaseService.getActiveUsersPage(null, 4);
+
+            // Then
+            assertEquals(List.of(1L, 2L, 4L, 5L), page.getUsers().stream().map(User::getId).toList(),
+                "Pasif kullanıcılar atlanmalı");
+            assertEquals(5L, page.getNextCursor(), "Cursor son ID olmalı");
+        }
+
+        @Test
+        @DisplayName("Geçersiz sayfa boyutu - exception")
+        void testInvalidPageSize() {
+            assertThrows(IllegalArgumentException.class, () -> databaseService.getUsersPage(null, 0));
+        }
+
+        @Test
+        @DisplayName("Stream erken sonlandırılabilir")
+        void testStreamEarlyTermination() {
+            // When
+            List<Long> firstIds = databaseService.streamUsers().limit(3).map(User::getId).toList();
+            Optional<User> firstInactive = databaseService.streamUsers().filter(user -> !user.isActive()).findFirst();
+
+            // Then
+            assertEquals(List.of(1L, 2L, 3L), firstIds, "İlk 3 kullanıcı ID sırasıyla dönmeli");
+            assertEquals(3L, firstInactive.get().getId(), "İlk pasif kullanıcı 3 olmalı");
+        }
+
+        @Test
+        @DisplayName("Paralel stream sıralı stream ile aynı sonucu verir")
+        void testParallelStream() {
+            // When
+            long sequentialSum = databaseService.streamActiveUsers().mapToLong(User::getId).sum();
+            long parallelSum = databaseService.streamActiveUsers().parallel().mapToLong(User::getId).sum();
+            List<Long> parallelIds = databaseService.streamUsers().parallel().map(User::getId).toList();
+
+            // Then
+            assertAll("Paralel stream",
+                () -> assertEquals(sequentialSum, parallelSum, "Toplamlar aynı olmalı"),
+                () -> assertEquals(167, databaseService.streamActiveUsers().count(), "167 aktif kullanıcı olmalı"),
+                () -> assertEquals(250, parallelIds.size(), "Tüm kullanıcılar dönmeli"),
+                () -> assertEquals(1L, parallelIds.get(0), "Sıra korunmalı"),
+                () -> assertEquals(250L, parallelIds.get(249), "Sıra korunmalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Aktif kullanıcı listesi güncellemeleri izler")
+        void testActiveUsersFollowUpdates() {
+            // Given
+            User copy = new User(databaseService.findUserById(1L).get());
+            copy.setActive(false);
+
+            // When
+            databaseService.updateUser(copy);
+
+            // Then
+            assertEquals(166, databaseService.getActiveUsers().size(), "Pasifleştirilen kullanıcı çıkmalı");
+            assertEquals(2L, databaseService.getActiveUsers().get(0).getId(), "İlk aktif kullanıcı 2 olmalı");
+        }
+    }
+
+    @Nested
+    @DisplayName("Kayıt Zamanı İndeksi Testleri")
+    class CreatedAtIndexTests {
+
+        private final LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        private User saveCreatedAt(String name, LocalDateTime createdAt) {
+            User user = new User(name, name + "@example.com", "password");
+            user.setCreatedAt(createdAt);
+            return databaseService.saveUser(user);
+        }
+
+        @Test
+        @DisplayName("Aralık başlangıcı dahil, bitişi hariç")
+        void testHalfOpenRange() {
+            // Given
+            saveCreatedAt("before", base.minusNanos(1));
+            saveCreatedAt("start", base);
+            saveCreatedAt("middle", base.plusHours(12));
+            saveCreatedAt("end", base.plusDays(1));
+
+            // When
+            List<User> result = databaseService.findUsersCreatedBetween(base, base.plusDays(1));
+
+            // Then
+            assertEquals(List.of("start", "middle"), result.stream().map(User::getUsername).toList(),
+                "Sadece aralıktaki kullanıcılar zaman sırasıyla dönmeli");
+            assertEquals(2, databaseService.countUsersCreatedBetween(base, base.plusDays(1)), "Sayı 2 olmalı");
+        }
+
+        @Test
+        @DisplayName("Aynı milisaniyede kaydolan kullanıcılar")
+        void testSameMillisecond() {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                saveCreatedAt("same" + i, base.plusNanos(i * 1_000));
+            }
+
+            // When & Then
+            assertEquals(5, databaseService.findUsersCreatedBetween(base, base.plusSeconds(1)).size());
+            assertEquals(2, databaseService.countUsersCreatedBetween(base.plusNanos(3_000), base.plusSeconds(1)),
+                "Kova içinde nanosaniye sınırı uygulanmalı");
+        }
+
+        @Test
+        @DisplayName("Güncelleme ve silme indeksi günceller")
+        void testIndexFollowsUpdateAndDelete() {
+            // Given
+            User user = saveCreatedAt("moving", base);
+            User copy = new User(user);
+            copy.setCreatedAt(base.plusYears(1));
+
+            // When
+            databaseService.updateUser(copy);
+
+            // Then
+            assertEquals(0, databaseService.countUsersCreatedBetween(base, base.plusDays(1)), "Eski zamanda olmamalı");
+            assertEquals(1, databaseService.countUsersCreatedBetween(base.plusYears(1), base.plusYears(1).plusDays(1)),
+                "Yeni zamanda bulunmalı");
+
+            databaseService.deleteUser(user.getId());
+            assertTrue(databaseService.findUsersCreatedBetween(base, base.plusYears(2)).isEmpty(),
+                "Silinen kullanıcı indekste kalmamalı");
+        }
+
+        @Test
+        @DisplayName("Rastgele zamanlarda tam tarama ile aynı sonuç")
+        void testMatchesFullScan() {
+            // Given
+            Random random = new Random(11);
+            for (int i = 0; i < 2_000; i++) {
+                saveCreatedAt("random" + i, base.plusSeconds(random.nextInt(30 * 24 * 3600)));
+            }
+
+            // When & Then
+            for (int i = 0; i < 50; i++) {
+                LocalDateTime from = base.plusSeconds(random.nextInt(30 * 24 * 3600));
+                LocalDateTime to = from.plusHours(random.nextInt(72));
+                List<Long> expected = databaseService.getAllUsers().stream()
+                    .filter(user -> !user.getCreatedAt().isBefore(from) && user.getCreatedAt().isBefore(to))
+                    .sorted(Comparator.comparing(User::getCreatedAt).thenComparing(User::getId))
+                    .map(User::getId)
+                    .toList();
+
+                assertEquals(expected, databaseService.findUsersCreatedBetween(from, to).stream().map(User::getId).toList(),
+                    "İndeks sorgusu tam tarama ile aynı olmalı");
+                assertEquals(expected.size(), databaseService.countUsersCreatedBetween(from, to),
+                    "Sayı tam tarama ile aynı olmalı");
+            }
+        }
+
+        @Test
+        @DisplayName("Geçersiz aralık - exception")
+        void testInvalidRange() {
+            assertAll("Geçersiz aralık",
+                () -> assertThrows(IllegalArgumentException.class,
+                    () -> databaseService.findUsersCreatedBetween(null, base)),
+                () -> assertThrows(IllegalArgumentException.class,
+                    () -> databaseService.countUsersCreatedBetween(base.plusDays(1), base))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Kullanıcı Adı Önek İndeksi Testleri")
+    class UsernamePrefixTests {
+
+        @BeforeEach
+        void setUpUsers() {
+            for (String name : List.of("Mert", "mehmet", "Melis", "ali", "merve")) {
+                databaseService.saveUser(new User(name, name.toLowerCase() + "@example.com", "password"));
+            }
+        }
+
+        @Test
+        @DisplayName("Önek araması büyük/küçük harfe duyarsızdır ve sıralıdır")
+        void testCaseInsensitivePrefix() {
+            // When
+            List<String> result = databaseService.findUsersByUsernamePrefix("ME", 10).stream()
+                .map(User::getUsername).toList();
+
+            // Then
+            assertEquals(List.of("mehmet", "Melis", "Mert", "merve"), result, "Eşleşenler sözlük sırasıyla dönmeli");
+            assertEquals(2, databaseService.findUsersByUsernamePrefix("me", 2).size(), "Limit uygulanmalı");
+        }
+
+        @Test
+        @DisplayName("Güncelleme ve silme indeksi günceller")
+        void testIndexFollowsUpdateAndDelete() {
+            // Given
+            User ali = databaseService.findUserByEmail("ali@example.com").get();
+            User copy = new User(ali);
+            copy.setUsername("metin");
+
+            // When
+            databaseService.updateUser(copy);
+            databaseService.deleteUser(databaseService.findUserByEmail("merve@example.com").get().getId());
+
+            // Then
+            assertAll("İndeks güncelliği",
+                () -> assertTrue(databaseService.findUsersByUsernamePrefix("al", 10).isEmpty(), "Eski ad bulunmamalı"),
+                () -> assertEquals(List.of("mehmet", "Melis", "Mert", "metin"),
+                    databaseService.findUsersByUsernamePrefix("me", 10).stream().map(User::getUsername).toList(),
+                    "Yeni ad bulunmalı, silinen bulunmamalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Geçersiz parametreler - exception")
+        void testInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> databaseService.findUsersByUsernamePrefix(null, 10));
+            assertThrows(IllegalArgumentException.class, () -> databaseService.findUsersByUsernamePrefix("me", 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Değişiklik Akışı Testleri")
+    class ChangeFeedTests {
+
+        @Test
+        @DisplayName("Ekleme, güncelleme ve silme sırayla yayınlanır")
+        void testWritesPublished() {
+            // Given
+            ChangeFeed feed = databaseService.getChangeFeed();
+            long start = feed.getLastSequence();
+
+            // When
+            User saved = databaseService.saveUser(testUser);
+            saved.setUsername("renamed");
+            databaseService.updateUser(saved);
+            databaseService.deleteUser(saved.getId());
+            databaseService.clearAll();
+
+            // Then
+            List<ChangeFeed.ChangeEvent> events = feed.readAfter(start, 10);
+            assertAll("Değişiklik olayları",
+                () -> assertEquals(List.of(ChangeFeed.ChangeType.INSERT, ChangeFeed.ChangeType.UPDATE,
+                    ChangeFeed.ChangeType.DELETE, ChangeFeed.ChangeType.ALL_DELETED),
+                    events.stream().map(ChangeFeed.ChangeEvent::getType).toList()),
+                () -> assertEquals(saved.getId(), events.get(0).getUserId()),
+                () -> assertEquals("testuser", events.get(0).getUser().getUsername(), "Olay kayıt anındaki kopyayı taşımalı"),
+                () -> assertEquals("renamed", events.get(1).getUser().getUsername()),
+                () -> assertEquals(1, events.get(1).getVersion()),
+                () -> assertEquals(2, events.get(2).getVersion(), "Silme, silinen sürümden büyük bir mezar taşı olmalı"),
+                () -> assertNull(events.get(3).getUserId())
+            );
+        }
+
+        @Test
+        @DisplayName("Başarısız yazmalar yayınlanmaz")
+        void testFailedWritesNotPublished() {
+            // Given
+            User saved = databaseService.saveUser(testUser);
+            long before = databaseService.getChangeFeed().getLastSequence();
+            User stale = new User(saved);
+            stale.setVersion(5);
+
+            // When
+            assertThrows(IllegalStateException.class,
+                () -> databaseService.saveUser(new User("other", "test@example.com", "password")));
+            assertThrows(ConcurrentModificationException.class, () -> databaseService.updateUser(stale));
+            databaseService.deleteUser(999L);
+
+            // Then
+            assertEquals(before, databaseService.getChangeFeed().getLastSequence());
+        }
+
+        @Test
+        @DisplayName("Silmeyle yarışan güncelleme, en yüksek sürümü uygulayan tüketicide kullanıcıyı geri getirmez")
+        void testDeleteWinsOverRacingUpdate() throws Exception {
+            // Given
+            ChangeFeed feed = databaseService.getChangeFeed();
+            long start = feed.getLastSequence();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            List<Long> ids = new ArrayList<>();
+
+            // When
+            try {
+                for (int i = 0; i < 200; i++) {
+                    User saved = databaseService.saveUser(new User("race" + i, "race" + i + "@example.com", "password"));
+                    ids.add(saved.getId());
+                    User copy = new User(saved);
+                    copy.setUsername("updated" + i);
+                    CountDownLatch go = new CountDownLatch(1);
+                    Future<?> update = executor.submit(() -> {
+                        go.await();
+                        try {
+                            databaseService.updateUser(copy);
+                        } catch (IllegalStateException deletedFirst) {
+                            // Silme önce kazandıysa güncelleme reddedilir
+                        }
+                        return null;
+                    });
+                    Future<?> delete = executor.submit(() -> {
+                        go.await();
+                        databaseService.deleteUser(saved.getId());
+                        return null;
+                    });
+                    go.countDown();
+                    update.get(10, TimeUnit.SECONDS);
+                    delete.get(10, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            // Then - tüketici kullanıcı başına en yüksek sürümlü olayı uygular
+            Map<Long, ChangeFeed.ChangeEvent> latest = new HashMap<>();
+            for (ChangeFeed.ChangeEvent event : feed.readAfter(start, 10_000)) {
+                latest.merge(event.getUserId(), event,
+                        (current, next) -> next.getVersion() > current.getVersion() ? next : current);
+            }
+            for (Long id : ids) {
+                assertEquals(ChangeFeed.ChangeType.DELETE, latest.get(id).getType(),
+                        "Tüketici silinen kullanıcıyı görmemeli: " + id);
+                assertTrue(databaseService.findUserById(id).isEmpty());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Shard Testleri")
+    class ShardTests {
+
+        @Test
+        @DisplayName("Shard'lı veritabanı tek shard ile aynı sonuçları verir")
+        void testShardedMatchesSingleShard() {
+            // Given
+            DatabaseService sharded = new DatabaseService(8);
+            Random random = new Random(11);
+            LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+            // When - iki veritabanına aynı işlemler uygulanır
+            for (int i = 0; i < 2_000; i++) {
+                int operation = random.nextInt(10);
+                long id = 1 + random.nextInt(Math.max(1, databaseService.getUserCount() + 1));
+                if (operation < 6) {
+                    int minute = random.nextInt(600);
+                    String username = "user" + random.nextInt(300);
+                    for (DatabaseService db : List.of(databaseService, sharded)) {
+                        User user = new User(username, "user" + i + "@example.com", "password");
+                        user.setCreatedAt(base.plusMinutes(minute));
+                        db.saveUser(user);
+                    }
+                } else if (operation < 8) {
+                    boolean active = random.nextBoolean();
+                    for (DatabaseService db : List.of(databaseService, sharded)) {
+                        db.findUserById(id).map(User::new).ifPresent(copy -> {
+                            copy.setActive(active);
+                            db.updateUser(copy);
+                        });
+                    }
+                } else {
+                    databaseService.deleteUser(id);
+                    sharded.deleteUser(id);
+                }
+            }
+
+            // Then
+            LocalDateTime from = base.plusHours(2);
+            LocalDateTime to = base.plusHours(5);
+            assertAll("Shard birleştirme",
+                () -> assertEquals(8, sharded.getShardCount()),
+                () -> assertEquals(databaseService.getUserCount(), sharded.getUserCount(), "Sayı aynı olmalı"),
+                () -> assertEquals(ids(databaseService.getAllUsers()), ids(sharded.getAllUsers()), "Tüm kullanıcılar ID sırasıyla"),
+                () -> assertEquals(ids(databaseService.getActiveUsers()), ids(sharded.getActiveUsers()), "Aktif kullanıcılar ID sırasıyla"),
+                () -> assertEquals(ids(databaseService.streamActiveUsers().toList()), ids(sharded.streamActiveUsers().toList())),
+                () -> assertEquals(ids(databaseService.getUsersPage(100L, 50).getUsers()), ids(sharded.getUsersPage(100L, 50).getUsers())),
+                () -> assertEquals(databaseService.getUsersPage(100L, 50).getNextCursor(), sharded.getUsersPage(100L, 50).getNextCursor()),
+                () -> assertEquals(ids(databaseService.findUsersCreatedBetween(from, to)), ids(sharded.findUsersCreatedBetween(from, to))),
+                () -> assertEquals(databaseService.countUsersCreatedBetween(from, to), sharded.countUsersCreatedBetween(from, to)),
+                () -> assertEquals(ids(databaseService.findUsersByUsernamePrefix("user1", 25)), ids(sharded.findUsersByUsernamePrefix("user1", 25)))
+            );
+        }
+
+        @Test
+        @DisplayName("Email benzersizliği shard'lar arasında korunur")
+        void testEmailUniqueAcrossShards() throws Exception {
+            // Given
+            DatabaseService sharded = new DatabaseService(16);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            AtomicInteger saved = new AtomicInteger();
+
+            // When - aynı email farklı shard'lara düşecek kullanıcılarla eşzamanlı kaydedilir
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        sharded.saveUser(new User("same", "same@example.com", "password"));
+                        saved.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // Beklenen: email zaten kayıtlı
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // Then
+            assertEquals(1, saved.get(), "Yalnızca bir kayıt başarılı olmalı");
+            assertEquals(1, sharded.getUserCount());
+        }
+
+        @Test
+        @DisplayName("Geçersiz shard sayısı - exception")
+        void testInvalidShardCount() {
+            assertThrows(IllegalArgumentException.class, () -> new DatabaseService(0));
+        }
+
+        private List<Long> ids(List<User> users) {
+            List<Long> ids = new ArrayList<>();
+            users.forEach(user -> ids.add(user.getId()));
+            return ids;
+        }
+    }
+
+    @Nested
+    @DisplayName("Sürüm (Optimistic Locking) Testleri")
+    class VersionTests {
+
+        @BeforeEach
+        void setUpUsers() {
+            databaseService.saveUser(testUser);
+        }
+
+        @Test
+        @DisplayName("Her başarılı güncelleme sürümü artırır")
+        void testVersionIncrements() {
+            // Given
+            User copy = new User(testUser);
+
+            // When
+            databaseService.updateUser(copy);
+            databaseService.updateUser(copy);
+
+            // Then
+            assertAll("Sürüm kontrolü",
+                () -> assertEquals(0L, testUser.getVersion(), "Eski kopyanın sürümü değişmemeli"),
+                () -> assertEquals(2L, copy.getVersion(), "Sürüm 2 olmalı"),
+                () -> assertSame(copy, databaseService.findUserById(testUser.getId()).get(), "Son kopya saklanmalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Eski sürümle güncelleme - exception")
+        void testStaleVersionRejected() {
+            // Given - iki işlem aynı sürümü okur
+            User first = new User(testUser);
+            User second = new User(testUser);
+            first.setUsername("first");
+            second.setUsername("second");
+            databaseService.updateUser(first);
+
+            // When & Then
+            assertThrows(ConcurrentModificationException.class,
+                () -> databaseService.updateUser(second));
+            assertEquals("first", databaseService.findUserById(testUser.getId()).get().getUsername(),
+                "Reddedilen güncelleme kaydı değiştirmemeli");
+        }
+
+        @Test
+        @DisplayName("Email değişikliği email indeksini günceller")
+        void testEmailIndexFollowsUpdate() {
+            // Given
+            User copy = new User(testUser);
+            copy.setEmail("changed@example.com");
+
+            // When
+            databaseService.updateUser(copy);
+
+            // Then
+            assertAll("Email indeksi",
+                () -> assertFalse(databaseService.findUserByEmail("test@example.com").isPresent(),
+                    "Eski email ile bulunmamalı"),
+                () -> assertTrue(databaseService.findUserByEmail("changed@example.com").isPresent(),
+                    "Yeni email ile bulunmalı"),
+                () -> assertFalse(databaseService.isEmailExists("test@example.com"), "Eski email boşa çıkmalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Başka kullanıcının emailine güncelleme - exception")
+        void testUpdateToTakenEmailRejected() {
+            // Given
+            databaseService.saveUser(new User("other", "other@example.com", "password"));
+            User copy = new User(testUser);
+            copy.setEmail("other@example.com");
+
+            // When & Then
+            assertThrows(IllegalStateException.class, () -> databaseService.updateUser(copy));
+            assertAll("Değişmeyen kayıt",
+                () -> assertEquals(0L, databaseService.findUserById(testUser.getId()).get().getVersion()),
+                () -> assertTrue(databaseService.findUserByEmail("test@example.com").isPresent())
+            );
+        }
+
+        @Test
+        @DisplayName("Aynı emaille eşzamanlı kayıtlardan yalnızca biri başarılı olur")
+        void testConcurrentSaveWithSameEmail() throws Exception {
+            // Given
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger successes = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+
+            // When
+            for (int i = 0; i < threads; i++) {
+                String username = "racer" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        databaseService.saveUser(new User(username, "race@example.com", "password"));
+                        successes.incrementAndGet();
+                    } catch (IllegalStateException expected) {
+                        // Emaili başka bir thread aldı
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // Then
+            assertEquals(1, successes.get(), "Yalnızca bir kayıt başarılı olmalı");
+            assertEquals(2, databaseService.getUserCount(), "Toplam 2 kullanıcı olmalı");
+        }
+    }
+
+    @Nested
+    @DisplayName("Değişiklik Dinleyici Testleri")
+    class ChangeListenerTests {
+
+        private final List<Long> changedIds = new ArrayList<>();
+        private int clearCount;
+
+        @BeforeEach
+        void setUpListener() {
+            databaseService.addUserChangeListener(new DatabaseService.UserChangeListener() {
+                @Override
+                public void userChanged(Long userId) {
+                    changedIds.add(userId);
+                }
+
+                @Override
+                public void allUsersRemoved() {
+                    clearCount++;
+                }
+            });
+            databaseService.saveUser(testUser);
+        }
+
+        @Test
+        @DisplayName("Güncelleme ve silme dinleyiciye bildirilir")
+        void testUpdateAndDeleteNotified() {
+            // When
+            databaseService.updateUser(testUser);
+            databaseService.deleteUser(testUser.getId());
+            databaseService.deleteUser(999L);
+
+            // Then
+            assertEquals(List.of(1L, 1L), changedIds, "Sadece başarılı işlemler bildirilmeli");
+        }
+
+        @Test
+        @DisplayName("Temizleme dinleyiciye bildirilir")
+        void testClearAllNotified() {
+            // When
+            databaseService.clearAll();
+
+            // Then
+            assertEquals(1, clearCount, "clearAll bir kez bildirilmeli");
+            assertTrue(changedIds.isEmpty(), "Tekil bildirim yapılmamalı");
+        }
+
+        @Test
+        @DisplayName("Null dinleyici - exception")
+        void testNullListener() {
+            assertThrows(IllegalArgumentException.class, () -> databaseService.addUserChangeListener(null));
+        }
     }
 
     @Nested
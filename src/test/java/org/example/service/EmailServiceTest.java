@@ -372,6 +372,25 @@ class EmailServiceTest {
                 () -> assertTrue(emailLog.getTimestamp() <= afterTime, "Timestamp test bitiminden önce olmalı")
             );
         }
+        @Test
+        @DisplayName("Alınan log listesi anlık görüntüdür")
+        void testSentEmailsSnapshot() {
+            // Given
+            emailService.sendWelcomeEmail(testUser);
+            List<EmailService.EmailLog> snapshot = emailService.getSentEmails();
+
+            // When
+            emailService.sendNotificationEmail(testUser, "message");
+            emailService.clearEmailLogs();
+
+            // Then
+            assertAll("Anlık görüntü",
+                () -> assertEquals(1, snapshot.size(), "Sonraki gönderimler görüntüyü değiştirmemeli"),
+                () -> assertEquals("Hoş Geldiniz!", snapshot.get(0).getSubject()),
+                () -> assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(0),
+                    "Görüntü değiştirilemez olmalı")
+            );
+        }
     }
 
     @Nested
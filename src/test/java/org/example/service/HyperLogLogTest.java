@@ -0,0 +1,62 @@
+package org.example.service;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HyperLogLog için unit testleri
+ */
+@DisplayName("HyperLogLog Unit Testleri")
+class HyperLogLogTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1_000, 100_000, 1_000_000})
+    @DisplayName("Tahmin standart hatanın üç katı içinde kalır")
+    void testEstimateWithinError(int distinct) {
+        // Given
+        HyperLogLog hll = new HyperLogLog(12);
+
+        // When - her eleman üç kez eklenir, tekrarlar sayılmamalı
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (long i = 0; i < distinct; i++) {
+                hll.add(HyperLogLog.mix(i));
+            }
+        }
+
+        // Then
+        double error = Math.abs(hll.estimate() - distinct) / (double) distinct;
+        assertTrue(error < 3 * hll.standardError() + 0.01,
+            "Tahmin " + hll.estimate() + ", gerçek " + distinct + ", hata " + error);
+        assertEquals(4_096, hll.byteSize());
+    }
+
+    @Test
+    @DisplayName("Birleşim iki kümenin birleşimini tahmin eder")
+    void testMerge() {
+        // Given
+        HyperLogLog first = new HyperLogLog(10);
+        HyperLogLog second = new HyperLogLog(10);
+        for (long i = 0; i < 20_000; i++) {
+            first.add(HyperLogLog.mix(i));
+            second.add(HyperLogLog.mix(i + 10_000));
+        }
+
+        // When
+        first.merge(second);
+
+        // Then
+        assertEquals(30_000, first.estimate(), 30_000 * 3 * first.standardError());
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new HyperLogLog(11)));
+    }
+
+    @Test
+    @DisplayName("Boş sayaç ve geçersiz hassasiyet")
+    void testEmptyAndInvalid() {
+        assertEquals(0, new HyperLogLog(8).estimate());
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(17));
+    }
+}
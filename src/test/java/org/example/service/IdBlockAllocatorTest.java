@@ -0,0 +1,192 @@
+package org.example.service;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdBlockAllocator için unit testleri
+ */
+@DisplayName("IdBlockAllocator Unit Testleri")
+class IdBlockAllocatorTest {
+
+    private IdBlockAllocator.InMemoryHighWaterMark highWaterMark;
+    private IdBlockAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        highWaterMark = new IdBlockAllocator.InMemoryHighWaterMark();
+        allocator = new IdBlockAllocator(16, highWaterMark);
+    }
+
+    @Test
+    @DisplayName("Tek thread'de ID'ler 1'den ardışık verilir, sınır blok başına yazılır")
+    void testSequentialInOneThread() {
+        // When
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            ids.add(allocator.nextId());
+        }
+
+        // Then
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i + 1L, ids.get(i), "ID ardışık olmalı");
+        }
+        assertEquals(48, highWaterMark.read(), "Üç bloğun sınırı saklanmalı");
+    }
+
+    @Test
+    @DisplayName("Çökme sonrası ID tekrar verilmez, en fazla bir blok kaybolur")
+    void testRecoveryNeverReusesIds() {
+        // Given
+        long lastBeforeCrash = 0;
+        for (int i = 0; i < 20; i++) {
+            lastBeforeCrash = allocator.nextId();
+        }
+
+        // When - aynı depodan yeni dağıtıcı (yeniden başlatma)
+        IdBlockAllocator recovered = new IdBlockAllocator(16, highWaterMark);
+        long firstAfterCrash = recovered.nextId();
+
+        // Then
+        assertTrue(firstAfterCrash > lastBeforeCrash, "Verilmiş ID tekrar verilmemeli");
+        assertTrue(firstAfterCrash - lastBeforeCrash - 1 < 16, "En fazla bir bloktan az ID kaybolmalı");
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı thread'ler benzersiz ID alır")
+    void testConcurrentIdsUnique() throws Exception {
+        // Given
+        int threads = 8;
+        int perThread = 5_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(allocator.nextId());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(threads * perThread, ids.size(), "Tüm ID'ler benzersiz olmalı");
+        assertTrue(highWaterMark.read() <= threads * perThread + threads * 16L, "Thread başına en fazla bir blok boşta kalmalı");
+    }
+
+    @Test
+    @DisplayName("Çok sayıda sanal thread thread başına blok harcamaz")
+    void testVirtualThreadsShareBlocks() throws Exception {
+        // Given
+        int threads = 2_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // When - her sanal thread tek bir ID alır
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> ids.add(allocator.nextId()));
+            }
+        }
+
+        // Then
+        assertEquals(threads, ids.size(), "Tüm ID'ler benzersiz olmalı");
+        assertTrue(highWaterMark.read() <= threads + allocator.getStripeCount() * 16L,
+                "Boşta kalan bloklar şerit sayısıyla sınırlı olmalı: " + highWaterMark.read());
+    }
+
+    @Test
+    @DisplayName("reset sonrası dağıtım 1'den başlar")
+    void testReset() {
+        // Given
+        allocator.nextId();
+        allocator.nextId();
+
+        // When
+        allocator.reset();
+
+        // Then
+        assertEquals(1, allocator.nextId());
+    }
+
+    @Test
+    @DisplayName("advancePast sonrası ID'ler verilen değerin üstünden devam eder")
+    void testAdvancePast() {
+        // Given
+        allocator.nextId();
+
+        // When
+        allocator.advancePast(1_000);
+        long next = allocator.nextId();
+        allocator.advancePast(10);
+
+        // Then
+        assertAll("İlerletilen dağıtım",
+            () -> assertEquals(1_001, next, "Elde kalan blok geçersiz olmalı"),
+            () -> assertEquals(1_002, allocator.nextId(), "Daha düşük değer dağıtımı geri almamalı"),
+            () -> assertTrue(highWaterMark.read() >= 1_000),
+            () -> assertThrows(IllegalArgumentException.class, () -> allocator.advancePast(-1))
+        );
+    }
+
+    @Test
+    @DisplayName("advancePast döndükten sonra başlayan nextId çağrıları sınırın altında ID vermez")
+    void testAdvancePastRacingNextId() throws Exception {
+        // Given
+        int threads = 4;
+        AtomicLong floor = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Long>> violations = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            violations.add(executor.submit(() -> {
+                long count = 0;
+                while (running.get()) {
+                    long seen = floor.get();
+                    if (allocator.nextId() <= seen) {
+                        count++;
+                    }
+                }
+                return count;
+            }));
+        }
+        for (long mark = 10_000; mark <= 2_000_000; mark += 10_000) {
+            allocator.advancePast(mark);
+            floor.set(mark);
+            Thread.onSpinWait();
+        }
+        running.set(false);
+        long total = 0;
+        for (Future<Long> future : violations) {
+            total += future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(0, total, "Sınır yayınlandıktan sonra alınan ID sınırın üstünde olmalı");
+        assertTrue(allocator.nextId() > 2_000_000);
+    }
+
+    @Test
+    @DisplayName("Geçersiz parametreler - exception")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new IdBlockAllocator(0, highWaterMark));
+        assertThrows(IllegalArgumentException.class, () -> new IdBlockAllocator(16, null));
+        highWaterMark.write(-1);
+        assertThrows(IllegalStateException.class, () -> new IdBlockAllocator(16, highWaterMark));
+    }
+}
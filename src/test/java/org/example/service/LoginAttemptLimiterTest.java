@@ -0,0 +1,110 @@
+package org.example.service;
+
+import org.junit.jupiter.api.*;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoginAttemptLimiter için unit testleri
+ * Zaman, sahte bir saat (clock) ile kontrol edilir; böylece pencere kayması beklemeden test edilir
+ */
+@DisplayName("LoginAttemptLimiter Unit Testleri")
+class LoginAttemptLimiterTest {
+
+    private static final long WINDOW_MILLIS = Duration.ofMinutes(15).toMillis();
+
+    private AtomicLong clock;
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(WINDOW_MILLIS * 100);
+        limiter = new LoginAttemptLimiter(3, 5, Duration.ofMinutes(15), clock::get);
+    }
+
+    @Test
+    @DisplayName("Limit altında engelleme yok")
+    void testNotBlockedBelowLimit() {
+        limiter.recordFailure("user@example.com", "10.0.0.1");
+        limiter.recordFailure("user@example.com", "10.0.0.1");
+
+        assertFalse(limiter.isBlocked("user@example.com", "10.0.0.1"), "2 denemede engellenmemeli");
+        assertEquals(2, limiter.getFailureCount("user@example.com"), "Sayaç 2 olmalı");
+    }
+
+    @Test
+    @DisplayName("Email limiti aşılınca engelleme")
+    void testBlockedAfterEmailLimit() {
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure("user@example.com", "10.0.0." + i);
+        }
+
+        assertAll("Email limiti",
+            () -> assertTrue(limiter.isBlocked("user@example.com", null), "Email engellenmeli"),
+            () -> assertTrue(limiter.isBlocked("user@example.com", "10.0.0.99"), "Farklı kaynaktan da engellenmeli"),
+            () -> assertFalse(limiter.isBlocked("other@example.com", null), "Diğer email etkilenmemeli")
+        );
+    }
+
+    @Test
+    @DisplayName("Kaynak limiti aşılınca engelleme")
+    void testBlockedAfterSourceLimit() {
+        for (int i = 0; i < 5; i++) {
+            limiter.recordFailure("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        assertTrue(limiter.isBlocked("fresh@example.com", "10.0.0.1"), "Aynı kaynaktan yeni email de engellenmeli");
+        assertFalse(limiter.isBlocked("fresh@example.com", "10.0.0.2"), "Diğer kaynak etkilenmemeli");
+    }
+
+    @Test
+    @DisplayName("Pencere kaydıkça eski denemeler unutulur")
+    void testWindowSlides() {
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure("user@example.com", null);
+        }
+        assertTrue(limiter.isBlocked("user@example.com", null), "Başlangıçta engelli olmalı");
+
+        // Bir sonraki pencerenin ortası: önceki pencere yarı ağırlıkla sayılır
+        clock.addAndGet(WINDOW_MILLIS + WINDOW_MILLIS / 2);
+        assertEquals(2, limiter.getFailureCount("user@example.com"), "Yarım ağırlıklı sayım yukarı yuvarlanmalı");
+        assertFalse(limiter.isBlocked("user@example.com", null), "Yarım pencere sonra engel kalkmalı");
+
+        // İki pencere sonra tamamen unutulur
+        clock.addAndGet(WINDOW_MILLIS);
+        assertEquals(0, limiter.getFailureCount("user@example.com"), "Sayaç sıfırlanmalı");
+    }
+
+    @Test
+    @DisplayName("Null email ve kaynak")
+    void testNullKeys() {
+        limiter.recordFailure(null, null);
+
+        assertFalse(limiter.isBlocked(null, null), "Null anahtarlar engellenmemeli");
+        assertEquals(0, limiter.getFailureCount(null), "Null email için 0 dönmeli");
+    }
+
+    @Test
+    @DisplayName("Reset tüm sayaçları temizler")
+    void testReset() {
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure("user@example.com", "10.0.0.1");
+        }
+
+        limiter.reset();
+
+        assertFalse(limiter.isBlocked("user@example.com", "10.0.0.1"), "Reset sonrası engel olmamalı");
+    }
+
+    @Test
+    @DisplayName("Geçersiz parametreler - exception")
+    void testInvalidArguments() {
+        assertAll("Geçersiz parametreler",
+            () -> assertThrows(IllegalArgumentException.class, () -> new LoginAttemptLimiter(0, 5, Duration.ofMinutes(1))),
+            () -> assertThrows(IllegalArgumentException.class, () -> new LoginAttemptLimiter(3, 5, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new LoginAttemptLimiter(3, 5, Duration.ZERO))
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.service;
+
+import org.junit.jupiter.api.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LongSumMap için unit testleri
+ */
+@DisplayName("LongSumMap Unit Testleri")
+class LongSumMapTest {
+
+    @Test
+    @DisplayName("Büyüyen tablo HashMap ile aynı toplamları verir")
+    void testMatchesHashMap() {
+        // Given
+        LongSumMap map = new LongSumMap();
+        Map<Long, long[]> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(5_000) - 2_500L;
+            long sum = random.nextInt(1_000);
+            map.add(key, 1, sum);
+            long[] totals = expected.computeIfAbsent(key, k -> new long[2]);
+            totals[0]++;
+            totals[1] += sum;
+        }
+
+        // Then
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Long, long[]> entry : expected.entrySet()) {
+            assertEquals(entry.getValue()[0], map.count(entry.getKey()), "Adet: " + entry.getKey());
+            assertEquals(entry.getValue()[1], map.sum(entry.getKey()), "Toplam: " + entry.getKey());
+        }
+        assertEquals(0, map.count(1_000_000L), "Olmayan anahtarın adedi 0 olmalı");
+    }
+
+    @Test
+    @DisplayName("Birleştirme ve ziyaret")
+    void testMergeAndForEach() {
+        // Given
+        LongSumMap first = new LongSumMap();
+        LongSumMap second = new LongSumMap();
+        first.add(1L, 2, 100);
+        first.add(Long.MIN_VALUE, 1, 5);
+        second.add(1L, 1, 50);
+        second.add(3L, 4, 400);
+
+        // When
+        first.merge(second);
+        long[] visited = new long[3];
+        first.forEach((key, count, sum) -> {
+            visited[0]++;
+            visited[1] += count;
+            visited[2] += sum;
+        });
+
+        // Then
+        assertAll("Birleştirilmiş tablo",
+            () -> assertEquals(3, first.size()),
+            () -> assertEquals(3, first.count(1L)),
+            () -> assertEquals(150, first.sum(1L)),
+            () -> assertEquals(5, first.sum(Long.MIN_VALUE)),
+            () -> assertArrayEquals(new long[]{3, 8, 555}, visited, "Ziyaret edilen giriş, adet ve toplam")
+        );
+    }
+
+    @Test
+    @DisplayName("Toplam taşması - exception")
+    void testOverflow() {
+        LongSumMap map = new LongSumMap();
+        map.add(1L, 1, Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> map.add(1L, 1, 1));
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.service;
+
+import org.junit.jupiter.api.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OffHeapHashIndex için unit testleri
+ * Sonuçlar aynı işlemler uygulanan bir HashMap ile karşılaştırılır
+ */
+@DisplayName("OffHeapHashIndex Unit Testleri")
+class OffHeapHashIndexTest {
+
+    private OffHeapHashIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OffHeapHashIndex();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("Rastgele ekleme ve silmelerde HashMap ile aynı sonuç")
+    void testMatchesHashMap() {
+        // Given
+        Random random = new Random(5);
+        Map<Long, Long> expected = new HashMap<>();
+
+        // When - büyümeyi ve geri kaydırmayı tetikleyecek kadar işlem
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(10_000);
+            Long current = expected.get(key);
+            if (current != null) {
+                assertTrue(index.remove(key, current));
+                expected.remove(key);
+            } else {
+                index.put(key, i);
+                expected.put(key, (long) i);
+            }
+        }
+
+        // Then
+        assertEquals(expected.size(), index.size());
+        for (long key = 0; key < 10_000; key++) {
+            Long value = expected.get(key);
+            assertEquals(value != null ? value : -1L, index.find(key, candidate -> true), "Anahtar " + key);
+        }
+    }
+
+    @Test
+    @DisplayName("Aynı anahtarın değerleri doğrulamayla ayrılır")
+    void testDuplicateKeys() {
+        // Given
+        index.put(42, 1);
+        index.put(42, 2);
+
+        // When & Then
+        assertEquals(2, index.find(42, candidate -> candidate == 2));
+        assertTrue(index.remove(42, 1));
+        assertFalse(index.remove(42, 1), "Silinmiş çift tekrar silinmemeli");
+        assertEquals(-1, index.find(42, candidate -> candidate == 1));
+        assertEquals(2, index.find(42, candidate -> true));
+    }
+}
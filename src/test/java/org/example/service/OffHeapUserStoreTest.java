@@ -0,0 +1,226 @@
+package org.example.service;
+
+import org.example.model.User;
+import org.junit.jupiter.api.*;
+import java.time.LocalDateTime;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OffHeapUserStore için unit testleri
+ */
+@DisplayName("OffHeapUserStore Unit Testleri")
+class OffHeapUserStoreTest {
+
+    private OffHeapUserStore store;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        store = new OffHeapUserStore();
+        testUser = new User("testuser", "test@example.com", "password123");
+        testUser.setCreatedAt(LocalDateTime.of(2024, 5, 1, 10, 30, 15));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Nested
+    @DisplayName("Kaydetme ve Okuma Testleri")
+    class SaveAndFindTests {
+
+        @Test
+        @DisplayName("Kaydedilen kullanıcı kopya olarak okunur")
+        void testSaveAndFind() {
+            // When
+            User saved = store.saveUser(testUser);
+            Optional<User> byId = store.findUserById(saved.getId());
+            Optional<User> byEmail = store.findUserByEmail("test@example.com");
+
+            // Then
+            assertAll("Okunan kullanıcı",
+                () -> assertEquals(1L, saved.getId()),
+                () -> assertTrue(byId.isPresent()),
+                () -> assertNotSame(testUser, byId.get(), "Heap'te saklanan nesne dönmemeli"),
+                () -> assertEquals("testuser", byId.get().getUsername()),
+                () -> assertEquals("test@example.com", byId.get().getEmail()),
+                () -> assertEquals("password123", byId.get().getPassword()),
+                () -> assertEquals(testUser.getCreatedAt(), byId.get().getCreatedAt()),
+                () -> assertTrue(byId.get().isActive()),
+                () -> assertEquals(saved, byEmail.get()),
+                () -> assertFalse(store.findUserById(2L).isPresent())
+            );
+        }
+
+        @Test
+        @DisplayName("Tutamaç okumaları alanları kopyalar ve yeniden kullanılabilir")
+        void testReadIntoRecord() {
+            // Given
+            store.saveUser(testUser);
+            User second = new User("ikinci", "ikinci@example.com", null);
+            second.setActive(false);
+            second.setCreatedAt(null);
+            store.saveUser(second);
+            OffHeapUserStore.UserRecord record = new OffHeapUserStore.UserRecord();
+
+            // When
+            boolean firstFound = store.readUser(1L, record);
+            String firstUsername = record.getUsername();
+            LocalDateTime firstCreatedAt = record.getCreatedAt();
+            boolean secondFound = store.readUser(2L, record);
+
+            // Then
+            assertAll("Tutamaç",
+                () -> assertTrue(firstFound),
+                () -> assertEquals("testuser", firstUsername),
+                () -> assertEquals(testUser.getCreatedAt(), firstCreatedAt),
+                () -> assertTrue(secondFound),
+                () -> assertEquals(2L, record.getId()),
+                () -> assertEquals("ikinci", record.getUsername()),
+                () -> assertEquals("ikinci@example.com", record.getEmail()),
+                () -> assertNull(record.getPassword()),
+                () -> assertNull(record.getCreatedAt(), "Kayıt zamanı olmayan kullanıcıya saat yazılmamalı"),
+                () -> assertFalse(record.isActive()),
+                () -> assertNull(record.toUser().getCreatedAt()),
+                () -> assertFalse(store.readUser(3L, record)),
+                () -> assertEquals(2L, record.getId(), "Bulunamayan okuma tutamacı değiştirmemeli"),
+                () -> assertThrows(IllegalArgumentException.class, () -> store.readUser(1L, null))
+            );
+        }
+
+        @Test
+        @DisplayName("forEachRecord tüm kayıtları tek tutamaçla verir")
+        void testForEachRecord() {
+            // Given
+            for (int i = 0; i < 1_000; i++) {
+                store.saveUser(new User("user" + i, "user" + i + "@example.com", "şifre" + i));
+            }
+            Set<OffHeapUserStore.UserRecord> handles = new HashSet<>();
+            Set<String> emails = new HashSet<>();
+
+            // When
+            store.forEachRecord(record -> {
+                handles.add(record);
+                emails.add(record.getEmail());
+            });
+
+            // Then
+            assertAll("Tarama",
+                () -> assertEquals(1, handles.size(), "Tutamaç kayıtlar arasında yeniden kullanılmalı"),
+                () -> assertEquals(1_000, emails.size()),
+                () -> assertTrue(emails.contains("user999@example.com"))
+            );
+        }
+
+        @Test
+        @DisplayName("Aynı email ile kayıt - exception")
+        void testDuplicateEmail() {
+            // Given
+            store.saveUser(testUser);
+
+            // When & Then
+            assertThrows(IllegalStateException.class,
+                () -> store.saveUser(new User("other", "test@example.com", "password")));
+            assertEquals(1, store.getUserCount());
+        }
+
+        @Test
+        @DisplayName("Çok sayıda kullanıcı blokları ve indeksleri büyütür")
+        void testManyUsers() {
+            // When
+            for (int i = 0; i < 100_000; i++) {
+                store.saveUser(new User("user" + i, "user" + i + "@example.com", "şifre" + i));
+            }
+
+            // Then
+            assertEquals(100_000, store.getUserCount());
+            assertEquals("user77777", store.findUserByEmail("user77777@example.com").get().getUsername());
+            assertEquals("şifre99999", store.findUserById(100_000L).get().getPassword());
+            Set<Long> ids = new HashSet<>();
+            store.forEachUser(user -> ids.add(user.getId()));
+            assertEquals(100_000, ids.size());
+            assertTrue(store.getOffHeapBytes() > 100_000L * 48, "Kayıtlar heap dışında olmalı");
+        }
+    }
+
+    @Nested
+    @DisplayName("Güncelleme, Silme ve Yaşam Döngüsü Testleri")
+    class UpdateDeleteLifecycleTests {
+
+        @Test
+        @DisplayName("Güncelleme sürümü artırır, email indeksini taşır")
+        void testUpdate() {
+            // Given
+            User saved = store.saveUser(testUser);
+
+            // When
+            saved.setEmail("new@example.com");
+            saved.setUsername("renamed");
+            saved.setActive(false);
+            store.updateUser(saved);
+
+            // Then
+            User stored = store.findUserById(saved.getId()).get();
+            assertAll("Güncelleme",
+                () -> assertEquals("renamed", stored.getUsername()),
+                () -> assertEquals("new@example.com", stored.getEmail()),
+                () -> assertFalse(stored.isActive()),
+                () -> assertEquals(1, stored.getVersion()),
+                () -> assertFalse(store.isEmailExists("test@example.com")),
+                () -> assertThrows(ConcurrentModificationException.class, () -> {
+                    User stale = new User(saved);
+                    stale.setVersion(0);
+                    store.updateUser(stale);
+                })
+            );
+        }
+
+        @Test
+        @DisplayName("Silinen slot yeniden kullanılır, metinler sıkıştırılır")
+        void testDeleteAndReuse() {
+            // Given
+            for (int i = 0; i < 40_000; i++) {
+                store.saveUser(new User("user" + i, "user" + i + "@example.com", "password" + i));
+            }
+
+            // When - metin alanının yarısından fazlası boşa çıkar
+            for (long id = 1; id <= 30_000; id++) {
+                assertTrue(store.deleteUser(id));
+            }
+            User again = store.saveUser(new User("again", "user5@example.com", "password"));
+
+            // Then
+            assertAll("Silme",
+                () -> assertEquals(10_001, store.getUserCount()),
+                () -> assertFalse(store.findUserById(5L).isPresent()),
+                () -> assertEquals("again", store.findUserByEmail("user5@example.com").get().getUsername()),
+                () -> assertEquals(again.getId(), store.findUserByEmail("user5@example.com").get().getId()),
+                () -> assertEquals("password39999", store.findUserById(40_000L).get().getPassword(),
+                    "Sıkıştırma sonrası metinler okunabilmeli"),
+                () -> assertFalse(store.deleteUser(5L))
+            );
+        }
+
+        @Test
+        @DisplayName("Kapatılan depo kullanılamaz, okunan kopyalar geçerli kalır")
+        void testClose() {
+            // Given
+            User copy = store.findUserById(store.saveUser(testUser).getId()).get();
+
+            // When
+            store.close();
+
+            // Then
+            assertEquals("testuser", copy.getUsername());
+            assertThrows(IllegalStateException.class, () -> store.findUserById(1L));
+            assertThrows(IllegalStateException.class, () -> store.saveUser(new User("a", "a@b.com", "p")));
+            assertDoesNotThrow(() -> store.close(), "İkinci kapatma sorun çıkarmamalı");
+        }
+    }
+}
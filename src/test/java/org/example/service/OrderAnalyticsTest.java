@@ -0,0 +1,247 @@
+package org.example.service;
+
+import org.example.model.Order;
+import org.example.model.Order.OrderItem;
+import org.example.model.Order.OrderStatus;
+import org.example.service.OrderAnalytics.AnalyticsReport;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OrderAnalytics için unit testleri
+ */
+@DisplayName("OrderAnalytics Unit Testleri")
+class OrderAnalyticsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+    @TempDir
+    Path archiveDirectory;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static List<Order> randomOrders(int count, boolean withInexact) {
+        Random random = new Random(42);
+        OrderStatus[] statuses = OrderStatus.values();
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Order order = new Order((long) random.nextInt(500), START.plusMinutes(random.nextInt(60 * 24 * 30)));
+            order.setId((long) i);
+            int lines = 1 + random.nextInt(4);
+            for (int j = 0; j < lines; j++) {
+                order.addItem(new OrderItem("Ürün", BigDecimal.valueOf(50 + random.nextInt(100_000), 2), 1 + random.nextInt(5)));
+            }
+            if (withInexact && i % 97 == 0) {
+                order.addItem(new OrderItem("Yakıt", new BigDecimal("1.239"), 3));
+            }
+            order.setStatus(statuses[random.nextInt(statuses.length)], order.getCreatedAt());
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    @Test
+    @DisplayName("Paralel sonuçlar sıralı stream hesabıyla aynıdır")
+    void testMatchesSequentialComputation() {
+        // Given
+        List<Order> orders = randomOrders(50_000, true);
+
+        // When
+        AnalyticsReport report = new OrderAnalytics(pool, Duration.ofDays(1)).analyze(orders);
+
+        // Then
+        BigDecimal expectedRevenue = orders.stream().map(Order::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        long expectedItems = orders.stream().mapToLong(Order::getItemCount).sum();
+        assertAll("Genel toplamlar",
+            () -> assertEquals(orders.size(), report.getOrderCount()),
+            () -> assertEquals(0, expectedRevenue.compareTo(report.getRevenue()), "Toplam gelir"),
+            () -> assertEquals(expectedItems, report.getItemCount()),
+            () -> assertEquals((double) expectedItems / orders.size(), report.getAverageBasketSize(), 1e-9)
+        );
+
+        for (OrderStatus status : OrderStatus.values()) {
+            BigDecimal expected = orders.stream().filter(o -> o.getStatus() == status)
+                .map(Order::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertEquals(0, expected.compareTo(report.getRevenue(status)), "Durum geliri: " + status);
+            assertEquals(orders.stream().filter(o -> o.getStatus() == status).count(), report.getOrderCount(status));
+        }
+
+        Map<LocalDateTime, BigDecimal> expectedByDay = orders.stream().collect(Collectors.groupingBy(
+            o -> o.getCreatedAt().toLocalDate().atStartOfDay(), TreeMap::new,
+            Collectors.reducing(BigDecimal.ZERO, Order::getTotalAmount, BigDecimal::add)));
+        assertEquals(expectedByDay.keySet(), report.getRevenueByBucket().keySet(), "Gün kümeleri");
+        expectedByDay.forEach((day, amount) ->
+            assertEquals(0, amount.compareTo(report.getRevenueByBucket().get(day)), "Günlük gelir: " + day));
+
+        Map<Long, BigDecimal> expectedByUser = orders.stream().collect(Collectors.groupingBy(
+            Order::getUserId, Collectors.reducing(BigDecimal.ZERO, Order::getTotalAmount, BigDecimal::add)));
+        assertEquals(expectedByUser.size(), report.getUserCount());
+        expectedByUser.forEach((userId, amount) ->
+            assertEquals(0, amount.compareTo(report.getRevenue(userId)), "Kullanıcı geliri: " + userId));
+        List<Long> expectedTop = expectedByUser.entrySet().stream()
+            .sorted(Map.Entry.<Long, BigDecimal>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .limit(5).map(Map.Entry::getKey).toList();
+        assertEquals(expectedTop, report.getTopUsersByRevenue(5));
+    }
+
+    @Test
+    @DisplayName("Kuruş yolunda en çok harcayanlar sırasıyla döner")
+    void testTopUsersOnCentsPath() {
+        // Given
+        List<Order> orders = randomOrders(20_000, false);
+
+        // When
+        AnalyticsReport report = new OrderAnalytics(pool, Duration.ofHours(6)).analyze(orders);
+
+        // Then
+        Map<Long, BigDecimal> byUser = orders.stream().collect(Collectors.groupingBy(
+            Order::getUserId, Collectors.reducing(BigDecimal.ZERO, Order::getTotalAmount, BigDecimal::add)));
+        List<Long> expected = byUser.entrySet().stream()
+            .sorted(Map.Entry.<Long, BigDecimal>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+            .limit(10).map(Map.Entry::getKey).toList();
+        assertEquals(expected, report.getTopUsersByRevenue(10));
+        assertEquals(byUser.size(), report.getTopUsersByRevenue(10_000).size());
+        assertEquals(orders.size(), report.getOrderCountByBucket().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(LocalDateTime.of(2024, 5, 1, 6, 0), report.getRevenueByBucket().keySet().stream().skip(1).findFirst().orElseThrow(),
+            "Dilimler 6 saatlik olmalı");
+    }
+
+    @Test
+    @DisplayName("Repository anlık görüntüsü analiz edilir")
+    void testAnalyzeRepository() {
+        // Given
+        OrderRepository orderRepository = new OrderRepository();
+        for (Order order : randomOrders(30_000, false)) {
+            order.setId(null);
+            orderRepository.saveOrder(order);
+        }
+
+        // When
+        AnalyticsReport report = new OrderAnalytics(pool, Duration.ofDays(1)).analyze(orderRepository);
+
+        // Then
+        assertEquals(30_000, report.getOrderCount());
+        BigDecimal expected = orderRepository.getAllOrders().stream().map(Order::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, expected.compareTo(report.getRevenue()));
+    }
+
+    @Test
+    @DisplayName("Repository analizi bölünür ve birden fazla worker üzerinde çalışır")
+    void testAnalyzeRepositoryInParallel() {
+        // Given
+        OrderRepository orderRepository = new OrderRepository();
+        for (Order order : randomOrders(100_000, false)) {
+            order.setId(null);
+            orderRepository.saveOrder(order);
+        }
+
+        // When
+        AnalyticsReport report = new OrderAnalytics(pool, Duration.ofDays(1)).analyze(orderRepository);
+
+        // Then
+        assertAll("Paralel repository analizi",
+            () -> assertNotNull(orderRepository.orderSpliterator().trySplit(), "Spliterator bölünebilmeli"),
+            () -> assertEquals(100_000, report.getOrderCount()),
+            () -> assertTrue(report.getWorkerCount() > 1, "Birden fazla worker kullanılmalı: " + report.getWorkerCount())
+        );
+    }
+
+    @Test
+    @DisplayName("Arşivlenmiş siparişler aralıklı analizde sayılır, aralıksız analiz sessizce eksik kalmaz")
+    void testAnalyzeRepositoryWithArchive() {
+        // Given
+        OrderRepository orderRepository = new OrderRepository(new IdBlockAllocator(), null, new OrderArchive(archiveDirectory));
+        List<Order> orders = randomOrders(5_000, false);
+        for (Order order : orders) {
+            order.setId(null);
+            orderRepository.saveOrder(order);
+        }
+        int moved = orderRepository.archiveClosedOrders(Duration.ofDays(1));
+        LocalDateTime from = START.plusDays(10);
+        LocalDateTime to = START.plusDays(20);
+
+        // When
+        AnalyticsReport report = new OrderAnalytics(pool, Duration.ofDays(1)).analyze(orderRepository, from, to);
+
+        // Then
+        List<Order> expected = orders.stream()
+                .filter(order -> !order.getCreatedAt().isBefore(from) && order.getCreatedAt().isBefore(to))
+                .toList();
+        BigDecimal expectedRevenue = expected.stream().map(Order::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertAll("Arşivli repository analizi",
+            () -> assertTrue(moved > 0, "Kapanmış siparişler arşive taşınmalı"),
+            () -> assertEquals(expected.size(), report.getOrderCount()),
+            () -> assertEquals(0, expectedRevenue.compareTo(report.getRevenue())),
+            () -> assertEquals(expected.stream().filter(order -> order.getStatus() == OrderStatus.DELIVERED).count(),
+                    report.getOrderCount(OrderStatus.DELIVERED)),
+            () -> assertThrows(IllegalStateException.class, () -> new OrderAnalytics(pool, Duration.ofDays(1)).analyze(orderRepository))
+        );
+    }
+
+    @Test
+    @DisplayName("Arşivli aralık analizi bellek ve arşiv kısımlarını birden fazla worker'a böler")
+    void testAnalyzeRangeInParallel() {
+        // Given
+        OrderRepository orderRepository = new OrderRepository(new IdBlockAllocator(), null, new OrderArchive(archiveDirectory));
+        for (Order order : randomOrders(60_000, false)) {
+            order.setId(null);
+            orderRepository.saveOrder(order);
+        }
+        orderRepository.archiveClosedOrders(Duration.ofDays(1));
+        LocalDateTime from = START;
+        LocalDateTime to = START.plusDays(30);
+
+        // When
+        AnalyticsReport report = new OrderAnalytics(pool, Duration.ofDays(1)).analyze(orderRepository, from, to);
+
+        // Then
+        assertAll("Paralel aralık analizi",
+            () -> assertEquals(60_000, report.getOrderCount()),
+            () -> assertEquals(60_000, orderRepository.streamOrdersCreatedBetween(from, to).count()),
+            () -> assertTrue(report.getWorkerCount() > 1, "Birden fazla worker kullanılmalı: " + report.getWorkerCount())
+        );
+    }
+
+    @Test
+    @DisplayName("Boş küme ve geçersiz parametreler")
+    void testEmptyAndInvalid() {
+        AnalyticsReport report = new OrderAnalytics().analyze(List.of());
+
+        assertAll("Boş rapor",
+            () -> assertEquals(0, report.getOrderCount()),
+            () -> assertEquals(0, BigDecimal.ZERO.compareTo(report.getRevenue())),
+            () -> assertEquals(BigDecimal.ZERO, report.getAverageOrderValue()),
+            () -> assertEquals(0.0, report.getAverageBasketSize()),
+            () -> assertTrue(report.getRevenueByBucket().isEmpty()),
+            () -> assertTrue(report.getTopUsersByRevenue(3).isEmpty()),
+            () -> assertThrows(IllegalArgumentException.class, () -> report.getTopUsersByRevenue(0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new OrderAnalytics(pool, Duration.ofMillis(500))),
+            () -> assertThrows(IllegalArgumentException.class, () -> new OrderAnalytics(null, Duration.ofDays(1))),
+            () -> assertThrows(IllegalArgumentException.class, () -> new OrderAnalytics().analyze((List<Order>) null))
+        );
+    }
+}
@@ -0,0 +1,288 @@
+package org.example.service;
+
+import org.example.model.Order;
+import org.example.model.Order.OrderStatus;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OrderArchive için unit testleri
+ */
+@DisplayName("OrderArchive Unit Testleri")
+class OrderArchiveTest {
+
+    private static final LocalDateTime DAY1 = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private OrderArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new OrderArchive(directory);
+    }
+
+    @Nested
+    @DisplayName("Yazma ve Okuma Testleri")
+    class WriteAndReadTests {
+
+        @Test
+        @DisplayName("Arşivlenen sipariş tüm alanlarıyla geri okunur")
+        void testRoundTrip() {
+            // Given
+            Order original = closedOrder(42L, 7L, DAY1.plusHours(9).plusNanos(123_456_789), OrderStatus.DELIVERED);
+            original.addItem(new Order.OrderItem("Kalem", new BigDecimal("12.5"), 2));
+            original.setVersion(3L);
+
+            // When
+            archive.archive(List.of(original));
+            Order read = archive.findById(42L).orElseThrow();
+
+            // Then
+            assertAll("Geri okunan sipariş",
+                () -> assertEquals(42L, read.getId()),
+                () -> assertEquals(7L, read.getUserId()),
+                () -> assertEquals(3L, read.getVersion()),
+                () -> assertEquals(OrderStatus.DELIVERED, read.getStatus()),
+                () -> assertEquals(original.getCreatedAt(), read.getCreatedAt()),
+                () -> assertEquals(original.getUpdatedAt(), read.getUpdatedAt()),
+                () -> assertEquals(original.getItems(), read.getItems()),
+                () -> assertEquals(original.getTotalAmount(), read.getTotalAmount()),
+                () -> assertEquals(original.getStatusChangedAt(OrderStatus.CONFIRMED), read.getStatusChangedAt(OrderStatus.CONFIRMED)),
+                () -> assertEquals(original.getStatusChangedAt(OrderStatus.SHIPPED), read.getStatusChangedAt(OrderStatus.SHIPPED)),
+                () -> assertEquals(original.getStatusChangedAt(OrderStatus.DELIVERED), read.getStatusChangedAt(OrderStatus.DELIVERED)),
+                () -> assertNull(read.getStatusChangedAt(OrderStatus.CANCELLED)),
+                () -> assertEquals(Optional.empty(), archive.findById(43L))
+            );
+        }
+
+        @Test
+        @DisplayName("Siparişler gün bazında segmentlere ve bloklara bölünür")
+        void testPartitionsAndBlocks() {
+            // Given
+            List<Order> orders = new ArrayList<>();
+            for (int i = 0; i < 6 * OrderArchive.BLOCK_SIZE; i++) {
+                orders.add(closedOrder(i + 1L, i % 10, DAY1.plusDays(i % 3).plusMinutes(i), OrderStatus.CANCELLED));
+            }
+
+            // When
+            archive.archive(orders);
+
+            // Then
+            assertAll("Segmentler",
+                () -> assertEquals(3, archive.getSegmentCount(), "Her gün için bir segment yazılmalı"),
+                () -> assertEquals(orders.size(), archive.getArchivedOrderCount()),
+                () -> assertTrue(archive.getDiskBytes() > 0),
+                () -> assertEquals(DAY1.plusDays(2).plusMinutes(200), archive.findById(201L).orElseThrow().getCreatedAt()),
+                () -> assertEquals(DAY1.plusDays(1).plusMinutes(382), archive.findById(383L).orElseThrow().getCreatedAt())
+            );
+        }
+
+        @Test
+        @DisplayName("Oluşturulma aralığıyla tarama zaman sırasıyla döner")
+        void testRangeScan() {
+            // Given
+            List<Order> orders = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                orders.add(closedOrder(1_000L - i, 1L, DAY1.plusMinutes(i * 7L), OrderStatus.DELIVERED));
+            }
+            archive.archive(orders);
+            LocalDateTime from = DAY1.plusMinutes(7 * 200);
+            LocalDateTime to = DAY1.plusDays(2).plusHours(3);
+
+            // When
+            List<Order> found = archive.findByCreatedAt(from, to);
+
+            // Then
+            long expected = orders.stream()
+                    .filter(order -> !order.getCreatedAt().isBefore(from) && order.getCreatedAt().isBefore(to))
+                    .count();
+            assertAll("Tarama",
+                () -> assertEquals(expected, found.size()),
+                () -> assertEquals(from, found.get(0).getCreatedAt(), "Başlangıç dahil olmalı"),
+                () -> assertTrue(found.get(found.size() - 1).getCreatedAt().isBefore(to), "Bitiş hariç olmalı"),
+                () -> assertTrue(archive.findByCreatedAt(to, from).isEmpty()),
+                () -> assertThrows(IllegalArgumentException.class, () -> archive.findByCreatedAt(null, to))
+            );
+            for (int i = 1; i < found.size(); i++) {
+                assertTrue(found.get(i - 1).getCreatedAt().isBefore(found.get(i).getCreatedAt()), "Sonuç zaman sıralı olmalı");
+            }
+        }
+
+        @Test
+        @DisplayName("Yeniden arşivlenen siparişin en yüksek sürümü döner")
+        void testLatestVersionWins() {
+            // Given
+            Order order = closedOrder(5L, 1L, DAY1, OrderStatus.CANCELLED);
+            archive.archive(List.of(order));
+            order.addItem(new Order.OrderItem("Not", new BigDecimal("1.00"), 1));
+            order.setVersion(1L);
+
+            // When
+            archive.archive(List.of(order));
+
+            // Then
+            assertAll("Sürümler",
+                () -> assertEquals(2, archive.getArchivedOrderCount()),
+                () -> assertEquals(1L, archive.findById(5L).orElseThrow().getVersion()),
+                () -> assertEquals(1, archive.findByCreatedAt(DAY1, DAY1.plusDays(1)).size())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Tembel Aralık Tarama Testleri")
+    class LazyRangeScanTests {
+
+        @Test
+        @DisplayName("Aynı günün iç içe segmentleri ID sırasıyla birleşir, her sipariş en yüksek sürümüyle bir kez döner")
+        void testMergedDayStream() {
+            // Given - aynı gün üç çağrıda, ID'leri iç içe geçen segmentler; bazı siparişler yeniden arşivlenir
+            List<Order> orders = new ArrayList<>();
+            for (int i = 1; i <= 900; i++) {
+                orders.add(closedOrder(i, 1L, DAY1.plusSeconds(i * 60L), OrderStatus.DELIVERED));
+            }
+            for (int call = 0; call < 3; call++) {
+                int remainder = call;
+                archive.archive(orders.stream().filter(order -> order.getId() % 3 == remainder).toList());
+            }
+            List<Order> reArchived = new ArrayList<>();
+            for (int i = 10; i <= 900; i += 100) {
+                Order newer = closedOrder(i, 2L, DAY1.plusSeconds(i * 60L), OrderStatus.DELIVERED);
+                newer.setVersion(4L);
+                reArchived.add(newer);
+            }
+            archive.archive(reArchived);
+
+            // When
+            List<Order> streamed = archive.streamByCreatedAt(DAY1, DAY1.plusDays(1)).toList();
+
+            // Then
+            assertEquals(900, streamed.size(), "Her sipariş bir kez dönmeli");
+            for (int i = 0; i < streamed.size(); i++) {
+                Order order = streamed.get(i);
+                assertEquals(i + 1L, order.getId(), "Gün içinde ID sırası korunmalı");
+                assertEquals(order.getId() % 100 == 10 ? 4L : 0L, order.getVersion(), "En yüksek sürüm dönmeli: " + order.getId());
+            }
+        }
+
+        @Test
+        @DisplayName("Spliterator günlere ve tek gün içinde ID aralığına bölünür")
+        void testRangeSpliteratorSplits() {
+            // Given - iki gün, her gün birçok blok
+            List<Order> orders = new ArrayList<>();
+            for (int i = 1; i <= 2_000; i++) {
+                orders.add(closedOrder(i, 1L, DAY1.plusSeconds(i * 80L), OrderStatus.CANCELLED));
+            }
+            archive.archive(orders);
+            LocalDateTime from = DAY1.plusHours(2);
+            LocalDateTime to = DAY1.plusDays(2);
+            long expected = orders.stream()
+                    .filter(order -> !order.getCreatedAt().isBefore(from) && order.getCreatedAt().isBefore(to))
+                    .count();
+
+            // When
+            Spliterator<Order> spliterator = archive.spliteratorByCreatedAt(from, to, id -> id % 2 == 0);
+            Spliterator<Order> firstDay = spliterator.trySplit();
+            Spliterator<Order> firstDayPrefix = firstDay.trySplit();
+            List<Long> ids = new ArrayList<>();
+            firstDayPrefix.forEachRemaining(order -> ids.add(order.getId()));
+            firstDay.forEachRemaining(order -> ids.add(order.getId()));
+            spliterator.forEachRemaining(order -> ids.add(order.getId()));
+
+            // Then
+            assertAll("Bölünen tarama",
+                () -> assertNotNull(firstDayPrefix, "Tek gün ID aralığıyla bölünebilmeli"),
+                () -> assertEquals(expected / 2, ids.size(), "Parçalar her siparişi bir kez vermeli"),
+                () -> assertEquals(ids.size(), ids.stream().distinct().count()),
+                () -> assertTrue(ids.stream().allMatch(id -> id % 2 == 1), "Süzülen ID'ler atlanmalı"),
+                () -> assertTrue(spliterator.estimateSize() >= 0)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Disk Testleri")
+    class DiskTests {
+
+        @Test
+        @DisplayName("Dizin yeniden açıldığında segmentler yüklenir")
+        void testReopen() {
+            // Given
+            archive.archive(List.of(closedOrder(1L, 1L, DAY1, OrderStatus.DELIVERED)));
+            archive.archive(List.of(closedOrder(2L, 1L, DAY1.plusDays(1), OrderStatus.DELIVERED)));
+
+            // When
+            OrderArchive reopened = new OrderArchive(directory);
+            reopened.archive(List.of(closedOrder(3L, 1L, DAY1, OrderStatus.CANCELLED)));
+
+            // Then
+            assertAll("Yeniden açılan arşiv",
+                () -> assertEquals(3, reopened.getSegmentCount(), "Yeni segment eskilerin üzerine yazılmamalı"),
+                () -> assertTrue(reopened.findById(1L).isPresent()),
+                () -> assertTrue(reopened.findById(2L).isPresent()),
+                () -> assertEquals(2, reopened.findByCreatedAt(DAY1, DAY1.plusHours(1)).size()),
+                () -> assertEquals(3L, reopened.getMaxArchivedId()),
+                () -> assertEquals(0L, new OrderArchive(directory.resolve("bos")).getMaxArchivedId(), "Boş arşivde 0 olmalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Bozuk segment dosyası - exception")
+        void testCorruptSegment() throws IOException {
+            // Given
+            archive.archive(List.of(closedOrder(1L, 1L, DAY1, OrderStatus.DELIVERED)));
+            Path segment;
+            try (Stream<Path> files = Files.list(directory)) {
+                segment = files.filter(file -> file.toString().endsWith(".seg")).findFirst().orElseThrow();
+            }
+            Files.write(segment, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13});
+
+            // Then
+            assertThrows(UncheckedIOException.class, () -> new OrderArchive(directory));
+        }
+
+        @Test
+        @DisplayName("Geçersiz girdiler - exception")
+        void testInvalidInput() {
+            Order withoutId = new Order(1L);
+
+            assertAll("Geçersiz girdiler",
+                () -> assertThrows(IllegalArgumentException.class, () -> new OrderArchive(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> archive.archive(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> archive.archive(List.of(withoutId)))
+            );
+        }
+    }
+
+    /**
+     * Verilen son duruma iş akışıyla geçmiş sipariş (ara durum zamanları da dolu)
+     */
+    static Order closedOrder(long id, long userId, LocalDateTime createdAt, OrderStatus terminal) {
+        Order order = new Order(userId, createdAt);
+        order.setId(id);
+        order.addItem(new Order.OrderItem("Ürün-" + id % 50, BigDecimal.valueOf(1_000 + id % 97, 2), 1 + (int) (id % 3)));
+        order.setStatus(OrderStatus.CONFIRMED, createdAt.plusMinutes(5));
+        if (terminal == OrderStatus.DELIVERED) {
+            order.setStatus(OrderStatus.SHIPPED, createdAt.plusHours(4));
+            order.setStatus(OrderStatus.DELIVERED, createdAt.plusDays(2));
+        } else {
+            order.setStatus(terminal, createdAt.plusHours(1));
+        }
+        return order;
+    }
+}
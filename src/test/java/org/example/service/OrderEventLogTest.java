@@ -0,0 +1,192 @@
+package org.example.service;
+
+import org.example.model.Order.OrderItem;
+import org.example.model.Order.OrderStatus;
+import org.example.service.OrderEventLog.EventType;
+import org.example.service.OrderEventLog.OrderEvent;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OrderEventLog için unit testleri
+ */
+@DisplayName("OrderEventLog Unit Testleri")
+class OrderEventLogTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_000_000);
+
+    private OrderEventLog log;
+
+    @BeforeEach
+    void setUp() {
+        log = new OrderEventLog();
+    }
+
+    private List<OrderEvent> readAll() {
+        List<OrderEvent> events = new ArrayList<>();
+        log.forEach(events::add);
+        return events;
+    }
+
+    @Nested
+    @DisplayName("Kodlama Testleri")
+    class EncodingTests {
+
+        @Test
+        @DisplayName("Tüm olay türleri kayıpsız geri çözülür")
+        void testRoundTrip() {
+            // Given
+            OrderItem item = new OrderItem("Çay Bardağı ☕", new BigDecimal("-12.345"), 7);
+
+            // When
+            log.appendAll(List.of(
+                OrderEvent.created(1L, 42L, TIME),
+                OrderEvent.itemAdded(1L, item),
+                OrderEvent.itemRemoved(1L, new OrderItem(null, BigDecimal.TEN, 1)),
+                OrderEvent.statusChanged(1L, OrderStatus.SHIPPED, TIME.plusDays(1)),
+                OrderEvent.userChanged(1L, Long.MAX_VALUE),
+                OrderEvent.deleted(1L)
+            ));
+            List<OrderEvent> events = readAll();
+
+            // Then
+            assertAll("Çözülen olaylar",
+                () -> assertEquals(6, events.size()),
+                () -> assertEquals(6, log.size()),
+                () -> assertEquals(EventType.CREATED, events.get(0).getType()),
+                () -> assertEquals(42L, events.get(0).getUserId()),
+                () -> assertEquals(TIME, events.get(0).getTimestamp(), "Milisaniye hassasiyeti korunmalı"),
+                () -> assertEquals(item, events.get(1).getItem(), "Ürün adı, fiyat ölçeği ve adet korunmalı"),
+                () -> assertNull(events.get(2).getItem().getProductName()),
+                () -> assertEquals(EventType.ITEM_REMOVED, events.get(2).getType()),
+                () -> assertEquals(OrderStatus.SHIPPED, events.get(3).getStatus()),
+                () -> assertEquals(TIME.plusDays(1), events.get(3).getTimestamp()),
+                () -> assertEquals(Long.MAX_VALUE, events.get(4).getUserId()),
+                () -> assertEquals(EventType.DELETED, events.get(5).getType()),
+                () -> assertEquals(1L, events.get(5).getOrderId())
+            );
+        }
+
+        @Test
+        @DisplayName("Olaylar kompakt kodlanır")
+        void testCompactEncoding() {
+            // When
+            log.append(OrderEvent.statusChanged(1_000L, OrderStatus.CONFIRMED, TIME));
+            log.append(OrderEvent.itemAdded(1_000L, new OrderItem("Kalem", new BigDecimal("2.50"), 3)));
+
+            // Then - tür(1) + ID(2) + durum(1) + zaman(6); tür(1) + ID(2) + ad(6) + ölçek(1) + fiyat(2) + adet(1)
+            assertEquals(23, log.getByteSize());
+        }
+
+        @Test
+        @DisplayName("Geçersiz olaylar - exception")
+        void testInvalidEvents() {
+            BigDecimal huge = new BigDecimal("1e30").setScale(0);
+
+            assertAll("Geçersiz olaylar",
+                () -> assertThrows(IllegalArgumentException.class, () -> OrderEvent.itemAdded(1L, null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> OrderEvent.created(1L, 1L, null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> OrderEvent.statusChanged(1L, null, TIME)),
+                () -> assertThrows(IllegalArgumentException.class, () -> log.appendAll(null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                    () -> log.append(OrderEvent.itemAdded(1L, new OrderItem("X", huge, 1)))),
+                () -> assertEquals(0, log.size(), "Başarısız grup hiç yazılmamalı")
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Parça Testleri")
+    class ChunkTests {
+
+        @Test
+        @DisplayName("Parça sınırlarını aşan günlük sırasıyla okunur")
+        void testManyChunks() {
+            // Given - yaklaşık 3 parça
+            int events = 400_000;
+            List<OrderEvent> batch = new ArrayList<>();
+            for (int i = 0; i < events; i++) {
+                batch.add(OrderEvent.userChanged(i, i * 7L));
+                if (batch.size() == 1_000) {
+                    log.appendAll(batch);
+                    batch.clear();
+                }
+            }
+
+            // When
+            long[] expected = {0};
+            log.forEach(event -> {
+                assertEquals(expected[0], event.getOrderId(), "Olay sırası korunmalı");
+                assertEquals(expected[0] * 7, event.getUserId());
+                expected[0]++;
+            });
+
+            // Then
+            assertEquals(events, expected[0]);
+            assertTrue(log.getByteSize() > 2L * OrderEventLog.CHUNK_SIZE);
+        }
+
+        @Test
+        @DisplayName("Parçadan büyük tek kayıt kendi parçasına yazılır")
+        void testRecordLargerThanChunk() {
+            // Given
+            String longName = "x".repeat(OrderEventLog.CHUNK_SIZE + 10);
+
+            // When
+            log.append(OrderEvent.created(1L, 1L, TIME));
+            log.append(OrderEvent.itemAdded(1L, new OrderItem(longName, BigDecimal.ONE, 1)));
+            log.append(OrderEvent.deleted(1L));
+            List<OrderEvent> events = readAll();
+
+            // Then
+            assertEquals(3, events.size());
+            assertEquals(longName, events.get(1).getItem().getProductName());
+            assertEquals(EventType.DELETED, events.get(2).getType());
+        }
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı gruplar araya karışmadan yazılır")
+    void testConcurrentBatchesAreContiguous() throws Exception {
+        // Given
+        int threads = 4;
+        int batches = 2_000;
+        int batchSize = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When - her grup aynı siparişin ardışık olaylarıdır
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long base = t * 1_000_000L;
+            futures.add(executor.submit(() -> {
+                for (int b = 0; b < batches; b++) {
+                    List<OrderEvent> batch = new ArrayList<>();
+                    for (int i = 0; i < batchSize; i++) {
+                        batch.add(OrderEvent.userChanged(base + b, i));
+                    }
+                    log.appendAll(batch);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        List<OrderEvent> events = readAll();
+        assertEquals(threads * batches * batchSize, events.size());
+        for (int i = 0; i < events.size(); i += batchSize) {
+            for (int j = 0; j < batchSize; j++) {
+                assertEquals(events.get(i).getOrderId(), events.get(i + j).getOrderId(), "Grup bölünmemeli");
+                assertEquals(j, events.get(i + j).getUserId(), "Grup içi sıra korunmalı");
+            }
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package org.example.service;
+
+import org.example.model.Order;
+import org.example.service.OrderIngestionPipeline.Stage;
+import org.example.service.OrderIngestionPipeline.StageStats;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OrderIngestionPipeline için unit testleri
+ */
+@DisplayName("OrderIngestionPipeline Unit Testleri")
+class OrderIngestionPipelineTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(30);
+
+    private OrderRepository repository;
+    private List<Order> emitted;
+
+    @BeforeEach
+    void setUp() {
+        repository = new OrderRepository();
+        emitted = new CopyOnWriteArrayList<>();
+    }
+
+    @Nested
+    @DisplayName("Akış Testleri")
+    class FlowTests {
+
+        @Test
+        @DisplayName("Satırlar çözülür, toplamı hesaplanır, kaydedilir ve olay olarak iletilir")
+        void testOrdersFlowThroughAllStages() throws Exception {
+            // Given
+            List<String> lines = List.of("42;Kalem|12.50|2;Defter|3.00|1", "7;Laptop|1500.00|1");
+
+            // When
+            try (OrderIngestionPipeline pipeline = new OrderIngestionPipeline(repository, emitted::addAll)) {
+                pipeline.submit(lines);
+                assertTrue(pipeline.awaitIdle(WAIT), "Hat boşalmalı");
+            }
+
+            // Then
+            Order order = repository.findOrdersByUserId(42L).get(0);
+            assertAll("Kaydedilen sipariş",
+                () -> assertEquals(2, repository.getOrderCount()),
+                () -> assertNotNull(order.getId()),
+                () -> assertEquals(new BigDecimal("28.00"), order.getTotalAmount()),
+                () -> assertEquals(3, order.getItemCount()),
+                () -> assertEquals(new Order.OrderItem("Kalem", new BigDecimal("12.50"), 2), order.getItems().get(0)),
+                () -> assertEquals(2, emitted.size()),
+                () -> assertTrue(emitted.contains(order))
+            );
+        }
+
+        @Test
+        @DisplayName("Hatalı satırlar ilgili aşamada reddedilir, hat durmaz")
+        void testRejections() throws Exception {
+            // Given
+            List<String> lines = List.of(
+                    "1;A|1.00|1",
+                    "bozuk satır",
+                    "x;A|1.00|1",
+                    "2;A|abc|1",
+                    "3",
+                    "-4;A|1.00|1",
+                    "5;A|1.001|1",
+                    "6;A|1.00|0",
+                    "7; |1.00|1",
+                    "8;B|92233720368547758.07|2",
+                    "9;B|2.00|3");
+
+            // When
+            List<StageStats> stats;
+            try (OrderIngestionPipeline pipeline = new OrderIngestionPipeline(repository, null, 4, 2, 1)) {
+                pipeline.submit(lines);
+                assertTrue(pipeline.awaitIdle(WAIT));
+                stats = pipeline.getStats();
+            }
+
+            // Then
+            assertAll("Reddedilen satırlar",
+                () -> assertEquals(2, repository.getOrderCount()),
+                () -> assertEquals(11, stats.get(Stage.PARSE.ordinal()).getProcessedRecords()),
+                () -> assertEquals(4, stats.get(Stage.PARSE.ordinal()).getRejectedRecords(), "Biçim hataları"),
+                () -> assertEquals(4, stats.get(Stage.VALIDATE.ordinal()).getRejectedRecords(), "İş kuralı hataları"),
+                () -> assertEquals(1, stats.get(Stage.TOTALS.ordinal()).getRejectedRecords(), "Kuruş toplamı taşan sipariş"),
+                () -> assertEquals(0, stats.get(Stage.STORE.ordinal()).getRejectedRecords()),
+                () -> assertEquals(2, stats.get(Stage.EVENTS.ordinal()).getProcessedRecords()),
+                () -> assertEquals(0, stats.stream().mapToLong(StageStats::getFailedRecords).sum(), "Veri hataları hata sayılmamalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Çok worker'lı aşamalarla tüm siparişler bir kez kaydedilir")
+        void testManyWorkers() throws Exception {
+            // Given
+            List<String> lines = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                lines.add(i % 100 + ";Ürün-" + i % 37 + "|" + (1 + i % 9) + ".99|" + (1 + i % 3));
+            }
+
+            // When
+            try (OrderIngestionPipeline pipeline = new OrderIngestionPipeline(repository, emitted::addAll, 64, 4, 3)) {
+                for (int from = 0; from < lines.size(); from += 1_000) {
+                    pipeline.submit(lines.subList(from, from + 1_000));
+                }
+                assertTrue(pipeline.awaitIdle(WAIT));
+            }
+
+            // Then
+            assertAll("Toplu kayıt",
+                () -> assertEquals(10_000, repository.getOrderCount()),
+                () -> assertEquals(10_000, emitted.size()),
+                () -> assertEquals(10_000, emitted.stream().map(Order::getId).distinct().count(), "ID'ler tekil olmalı"),
+                () -> assertEquals(100, repository.countOrdersByUserId(7L))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Hata Testleri")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Olay tüketicisi hatası kaydedilen siparişleri reddedilmiş göstermez")
+        void testSinkFailureIsNotRejection() throws Exception {
+            // Given
+            IllegalStateException failure = new IllegalStateException("Olay günlüğü yazılamadı");
+
+            // When
+            List<StageStats> stats;
+            OrderIngestionPipeline pipeline = new OrderIngestionPipeline(repository, orders -> {
+                throw failure;
+            }, 4, 2, 1);
+            try (pipeline) {
+                pipeline.submit(List.of("1;A|1.00|1", "2;A|1.00|1", "3;A|1.00|1"));
+                assertTrue(pipeline.awaitIdle(WAIT));
+                stats = pipeline.getStats();
+            }
+
+            // Then
+            StageStats events = stats.get(Stage.EVENTS.ordinal());
+            assertAll("Olay aşaması hatası",
+                () -> assertEquals(3, repository.getOrderCount(), "Siparişler kaydedilmiş olmalı"),
+                () -> assertEquals(3, events.getFailedRecords()),
+                () -> assertEquals(0, events.getRejectedRecords()),
+                () -> assertEquals(0, stats.get(Stage.STORE.ordinal()).getRejectedRecords()),
+                () -> assertSame(failure, pipeline.getLastFailure().orElseThrow())
+            );
+        }
+
+        @Test
+        @DisplayName("Aşamadaki beklenmeyen exception reddetme değil hata olarak sayılır")
+        void testUnexpectedExceptionIsFailure() throws Exception {
+            // Given
+            List<String> lines = new ArrayList<>();
+            lines.add("1;A|1.00|1");
+            lines.add(null);
+            lines.add("bozuk satır");
+
+            // When
+            List<StageStats> stats;
+            OrderIngestionPipeline pipeline = new OrderIngestionPipeline(repository, null, 4, 2, 1);
+            try (pipeline) {
+                pipeline.submit(lines);
+                assertTrue(pipeline.awaitIdle(WAIT));
+                stats = pipeline.getStats();
+            }
+
+            // Then
+            StageStats parse = stats.get(Stage.PARSE.ordinal());
+            assertAll("Ayrıştırma hatası",
+                () -> assertEquals(1, repository.getOrderCount()),
+                () -> assertEquals(1, parse.getFailedRecords(), "null satır koddaki bir hatadır"),
+                () -> assertEquals(1, parse.getRejectedRecords(), "Yalnızca bozuk satır reddedilmeli"),
+                () -> assertInstanceOf(NullPointerException.class, pipeline.getLastFailure().orElseThrow())
+            );
+        }
+
+        @Test
+        @DisplayName("Hata yokken son hata boştur")
+        void testNoFailure() throws Exception {
+            try (OrderIngestionPipeline pipeline = new OrderIngestionPipeline(repository, null)) {
+                pipeline.submit(List.of("1;A|1.00|1"));
+                assertTrue(pipeline.awaitIdle(WAIT));
+                assertTrue(pipeline.getLastFailure().isEmpty());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Geri Basınç Testleri")
+    class BackpressureTests {
+
+        @Test
+        @DisplayName("Yavaş aşama üst aşamaları ve gönderen tarafı yavaşlatır, kuyruklar sınırı aşmaz")
+        void testSlowStageThrottlesUpstream() throws Exception {
+            // Given
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger sinkCalls = new AtomicInteger();
+            OrderIngestionPipeline pipeline = new OrderIngestionPipeline(repository, orders -> {
+                sinkCalls.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, 10, 2, 1);
+            List<String> lines = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                lines.add(i + ";A|1.00|1");
+            }
+            ExecutorService producer = Executors.newSingleThreadExecutor();
+
+            // When
+            Future<?> submission = producer.submit(() -> {
+                pipeline.submit(lines);
+                return null;
+            });
+
+            // Then
+            assertThrows(TimeoutException.class, () -> submission.get(500, TimeUnit.MILLISECONDS),
+                    "Olay aşaması takılıyken gönderen beklemeli");
+            for (StageStats stats : pipeline.getStats()) {
+                assertTrue(stats.getMaxQueueDepth() <= stats.getQueueCapacity(),
+                        "Kuyruk kapasiteyi aşmamalı: " + stats);
+            }
+            long inFlight = pipeline.getStats().get(Stage.PARSE.ordinal()).getProcessedRecords()
+                    - pipeline.getStats().get(Stage.EVENTS.ordinal()).getProcessedRecords();
+            assertTrue(inFlight <= 5 * (2 + 1) * 10, "Hattaki kayıt sayısı sınırlı kalmalı: " + inFlight);
+
+            // When
+            release.countDown();
+            submission.get(30, TimeUnit.SECONDS);
+            assertTrue(pipeline.awaitIdle(WAIT));
+            pipeline.close();
+            producer.shutdown();
+
+            // Then
+            assertAll("Serbest bırakıldıktan sonra",
+                () -> assertEquals(1_000, repository.getOrderCount()),
+                () -> assertEquals(100, sinkCalls.get())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Yaşam Döngüsü Testleri")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("close hattaki kayıtları bitirir, sonrasında submit reddedilir")
+        void testCloseDrains() throws Exception {
+            // Given
+            OrderIngestionPipeline pipeline = new OrderIngestionPipeline(repository, emitted::addAll, 8, 2, 2);
+            List<String> lines = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                lines.add(i + ";A|1.00|1");
+            }
+            pipeline.submit(lines);
+
+            // When
+            pipeline.close();
+
+            // Then
+            assertAll("Kapanış",
+                () -> assertEquals(500, repository.getOrderCount(), "Kapanış kuyruktakileri bitirmeli"),
+                () -> assertEquals(500, emitted.size()),
+                () -> assertThrows(IllegalStateException.class, () -> pipeline.submit(List.of("1;A|1.00|1"))),
+                () -> assertDoesNotThrow(pipeline::close, "İkinci close bir şey yapmamalı")
+            );
+        }
+
+        @Test
+        @DisplayName("close ile yarışan submit ya tamamen kaydedilir ya da reddedilir")
+        void testSubmitRacingClose() throws Exception {
+            // Given
+            OrderIngestionPipeline pipeline = new OrderIngestionPipeline(repository, null, 10, 1, 1);
+            ExecutorService producers = Executors.newFixedThreadPool(4);
+            AtomicInteger accepted = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(4);
+            List<Future<?>> submissions = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                submissions.add(producers.submit(() -> {
+                    started.countDown();
+                    for (int i = 0; i < 1_000; i++) {
+                        try {
+                            pipeline.submit(List.of(i + ";A|1.00|1"));
+                            accepted.incrementAndGet();
+                        } catch (IllegalStateException closed) {
+                            return null;
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            // When
+            started.await();
+            pipeline.close();
+            for (Future<?> submission : submissions) {
+                submission.get(30, TimeUnit.SECONDS);
+            }
+            producers.shutdown();
+
+            // Then
+            assertEquals(accepted.get(), repository.getOrderCount(),
+                    "Kabul edilen her satır kapanıştan önce kaydedilmeli, kapanıştan sonra hiçbiri kuyruğa girmemeli");
+        }
+
+        @Test
+        @DisplayName("Geçersiz parametreler - exception")
+        void testInvalidParameters() {
+            assertAll("Geçersiz parametreler",
+                () -> assertThrows(IllegalArgumentException.class, () -> new OrderIngestionPipeline(null, null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new OrderIngestionPipeline(repository, null, 0, 1, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new OrderIngestionPipeline(repository, null, 1, 0, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new OrderIngestionPipeline(repository, null, 1, 1, 0))
+            );
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.service;
+
+import org.example.model.Order;
+import org.example.model.Order.OrderItem;
+import org.example.model.Order.OrderStatus;
+import org.example.service.OrderEventLog.OrderEvent;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OrderProjector için unit testleri
+ */
+@DisplayName("OrderProjector Unit Testleri")
+class OrderProjectorTest {
+
+    private OrderEventLog log;
+
+    @BeforeEach
+    void setUp() {
+        log = new OrderEventLog();
+    }
+
+    @Test
+    @DisplayName("Olaylardan sipariş durumu yeniden kurulur")
+    void testReplayBuildsOrder() {
+        // Given
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 9, 0);
+        OrderItem pen = new OrderItem("Kalem", new BigDecimal("2.50"), 4);
+        log.append(OrderEvent.created(5L, 10L, created));
+        log.append(OrderEvent.itemAdded(5L, pen));
+        log.append(OrderEvent.itemAdded(5L, new OrderItem("Defter", new BigDecimal("7.00"), 1)));
+        log.append(OrderEvent.itemRemoved(5L, pen));
+        log.append(OrderEvent.statusChanged(5L, OrderStatus.CONFIRMED, created.plusHours(1)));
+        log.append(OrderEvent.statusChanged(5L, OrderStatus.SHIPPED, created.plusHours(2)));
+
+        // When
+        OrderProjector projector = OrderProjector.replay(log);
+        Order order = projector.getOrder(5L).orElseThrow();
+
+        // Then
+        assertAll("Yeniden kurulan sipariş",
+            () -> assertEquals(1, projector.getOrderCount()),
+            () -> assertEquals(6, projector.getAppliedEvents()),
+            () -> assertEquals(10L, order.getUserId()),
+            () -> assertEquals(created, order.getCreatedAt()),
+            () -> assertEquals(new BigDecimal("7.00"), order.getTotalAmount()),
+            () -> assertEquals(1, order.getItemCount()),
+            () -> assertEquals(OrderStatus.SHIPPED, order.getStatus()),
+            () -> assertEquals(created.plusHours(1), order.getStatusChangedAt(OrderStatus.CONFIRMED)),
+            () -> assertEquals(created.plusHours(2), order.getUpdatedAt())
+        );
+    }
+
+    @Test
+    @DisplayName("Bilinmeyen veya tekrar oluşturulan sipariş - exception")
+    void testInvalidEventSequence() {
+        OrderProjector projector = new OrderProjector();
+        projector.apply(OrderEvent.created(1L, 1L, LocalDateTime.now()));
+
+        assertThrows(IllegalStateException.class, () -> projector.apply(OrderEvent.deleted(2L)));
+        assertThrows(IllegalStateException.class, () -> projector.apply(OrderEvent.created(1L, 1L, LocalDateTime.now())));
+        assertThrows(IllegalArgumentException.class, () -> OrderProjector.replay(null));
+    }
+
+    @Nested
+    @DisplayName("Repository Entegrasyon Testleri")
+    class RepositoryIntegrationTests {
+
+        private OrderRepository orderRepository;
+
+        @BeforeEach
+        void setUp() {
+            orderRepository = new OrderRepository(new IdBlockAllocator(), log);
+        }
+
+        @Test
+        @DisplayName("Repository yazmalarının oynatılması repository durumunu verir")
+        void testReplayMatchesRepository() {
+            // Given
+            Order first = new Order(1L);
+            first.addItem(new OrderItem("Laptop", new BigDecimal("1500.00"), 1));
+            first = orderRepository.saveOrder(first);
+
+            Order copy = new Order(first);
+            copy.addItem(new OrderItem("Mouse", new BigDecimal("25.50"), 2));
+            copy.transitionTo(OrderStatus.CONFIRMED);
+            orderRepository.updateOrder(copy);
+
+            Order second = orderRepository.saveOrder(new Order(2L));
+            Order moved = new Order(copy);
+            moved.removeItem(new OrderItem("Laptop", new BigDecimal("1500.00"), 1));
+            moved.setUserId(3L);
+            moved.transitionTo(OrderStatus.SHIPPED);
+            orderRepository.updateOrder(moved);
+
+            Order removed = orderRepository.saveOrder(new Order(4L));
+            orderRepository.deleteOrder(removed.getId());
+
+            // When
+            OrderProjector projector = OrderProjector.replay(log);
+
+            // Then
+            assertEquals(orderRepository.getOrderCount(), projector.getOrderCount());
+            for (Order expected : orderRepository.getAllOrders()) {
+                Order actual = projector.getOrder(expected.getId()).orElseThrow();
+                assertAll("Sipariş " + expected.getId(),
+                    () -> assertEquals(expected.getUserId(), actual.getUserId()),
+                    () -> assertEquals(expected.getItems(), actual.getItems()),
+                    () -> assertEquals(expected.getTotalAmount(), actual.getTotalAmount()),
+                    () -> assertEquals(expected.getStatus(), actual.getStatus()),
+                    () -> assertEquals(expected.getCreatedAt().truncatedTo(ChronoUnit.MILLIS), actual.getCreatedAt())
+                );
+            }
+            assertFalse(projector.getOrder(removed.getId()).isPresent());
+            assertTrue(projector.getOrder(second.getId()).isPresent());
+        }
+
+        @Test
+        @DisplayName("Başarısız güncelleme günlüğe yazılmaz")
+        void testFailedUpdateNotLogged() {
+            // Given
+            Order saved = orderRepository.saveOrder(new Order(1L));
+            Order stale = new Order(saved);
+            orderRepository.updateOrder(new Order(saved));
+            long before = log.size();
+
+            // When
+            stale.transitionTo(OrderStatus.CONFIRMED);
+            assertThrows(java.util.ConcurrentModificationException.class, () -> orderRepository.updateOrder(stale));
+
+            // Then
+            assertEquals(before, log.size());
+        }
+    }
+}
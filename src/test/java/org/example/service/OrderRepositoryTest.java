@@ -0,0 +1,364 @@
+package org.example.service;
+
+import org.example.model.Order;
+import org.example.model.Order.OrderStatus;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OrderRepository için unit testleri
+ */
+@DisplayName("OrderRepository Unit Testleri")
+class OrderRepositoryTest {
+
+    private OrderRepository orderRepository;
+    private Order testOrder;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new OrderRepository();
+        testOrder = new Order(10L);
+        testOrder.addItem(new Order.OrderItem("Kitap", new BigDecimal("25.00"), 2));
+    }
+
+    @Nested
+    @DisplayName("Kaydetme ve Bulma Testleri")
+    class SaveAndFindTests {
+
+        @Test
+        @DisplayName("Sipariş kaydedilir ve indekslerden bulunur")
+        void testSaveAndFind() {
+            // When
+            Order saved = orderRepository.saveOrder(testOrder);
+
+            // Then
+            assertAll("Kaydedilen sipariş",
+                () -> assertEquals(1L, saved.getId()),
+                () -> assertEquals(0L, saved.getVersion()),
+                () -> assertEquals(Optional.of(saved), orderRepository.findOrderById(1L)),
+                () -> assertEquals(List.of(saved), orderRepository.findOrdersByUserId(10L)),
+                () -> assertEquals(List.of(saved), orderRepository.findOrdersByStatus(OrderStatus.PENDING)),
+                () -> assertTrue(orderRepository.findOrdersByStatus(OrderStatus.SHIPPED).isEmpty()),
+                () -> assertTrue(orderRepository.findOrdersByUserId(99L).isEmpty()),
+                () -> assertEquals(1, orderRepository.getOrderCount())
+            );
+        }
+
+        @Test
+        @DisplayName("Geçersiz sipariş - exception")
+        void testInvalidOrder() {
+            assertThrows(IllegalArgumentException.class, () -> orderRepository.saveOrder(null));
+            assertThrows(IllegalArgumentException.class, () -> orderRepository.saveOrder(new Order()));
+            assertThrows(IllegalArgumentException.class, () -> orderRepository.findOrdersByStatus(null));
+        }
+
+        @Test
+        @DisplayName("Kullanıcı ve durum listeleri ID sırasıyla ve anlık görüntü olarak döner")
+        void testIndexesOrderedSnapshots() {
+            // Given
+            for (int i = 0; i < 30; i++) {
+                Order order = new Order((long) (i % 3));
+                if (i % 2 == 0) {
+                    order.setStatus(OrderStatus.SHIPPED);
+                }
+                orderRepository.saveOrder(order);
+            }
+            List<Order> userOrders = orderRepository.findOrdersByUserId(1L);
+
+            // When
+            orderRepository.saveOrder(new Order(1L));
+
+            // Then
+            assertEquals(10, userOrders.size(), "Anlık görüntü sonraki yazmadan etkilenmemeli");
+            assertEquals(11, orderRepository.countOrdersByUserId(1L));
+            assertEquals(15, orderRepository.countOrdersByStatus(OrderStatus.SHIPPED));
+            List<Order> shipped = orderRepository.findOrdersByStatus(OrderStatus.SHIPPED);
+            for (int i = 1; i < shipped.size(); i++) {
+                assertTrue(shipped.get(i - 1).getId() < shipped.get(i).getId(), "ID sırası korunmalı");
+            }
+        }
+
+        @Test
+        @DisplayName("Toplu kayıt hepsine ID verir, geçersiz sipariş varsa hiçbirini kaydetmez")
+        void testSaveAll() {
+            // Given
+            Order first = new Order(1L);
+            Order second = new Order(2L);
+            Order invalid = new Order(-1L);
+
+            // When
+            List<Order> saved = orderRepository.saveAll(List.of(first, second));
+
+            // Then
+            assertAll("Toplu kayıt",
+                () -> assertEquals(List.of(first, second), saved),
+                () -> assertEquals(1L, first.getId()),
+                () -> assertEquals(2L, second.getId()),
+                () -> assertEquals(List.of(second), orderRepository.findOrdersByUserId(2L)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> orderRepository.saveAll(List.of(new Order(3L), invalid))),
+                () -> assertEquals(2, orderRepository.getOrderCount(), "Geçersiz toplu kayıttan hiçbir sipariş eklenmemeli"),
+                () -> assertThrows(IllegalArgumentException.class, () -> orderRepository.saveAll(null))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Güncelleme ve Silme Testleri")
+    class UpdateAndDeleteTests {
+
+        @Test
+        @DisplayName("Durum değişikliği durum indeksini taşır")
+        void testStatusChangeMovesIndex() {
+            // Given
+            Order copy = new Order(orderRepository.saveOrder(testOrder));
+
+            // When
+            copy.setStatus(OrderStatus.SHIPPED);
+            orderRepository.updateOrder(copy);
+
+            // Then
+            assertAll("Durum indeksi",
+                () -> assertTrue(orderRepository.findOrdersByStatus(OrderStatus.PENDING).isEmpty()),
+                () -> assertEquals(List.of(copy), orderRepository.findOrdersByStatus(OrderStatus.SHIPPED)),
+                () -> assertEquals(1L, orderRepository.findOrderById(copy.getId()).get().getVersion()),
+                () -> assertSame(copy, orderRepository.findOrdersByUserId(10L).get(0), "Kullanıcı indeksi yeni kaydı göstermeli")
+            );
+        }
+
+        @Test
+        @DisplayName("transitionStatus kopyada geçiş yapar ve durum indeksini aynı yazmada taşır")
+        void testTransitionStatus() {
+            // Given
+            Order saved = orderRepository.saveOrder(testOrder);
+
+            // When
+            boolean confirmed = orderRepository.transitionStatus(saved.getId(), OrderStatus.PENDING, OrderStatus.CONFIRMED);
+            boolean staleExpected = orderRepository.transitionStatus(saved.getId(), OrderStatus.PENDING, OrderStatus.CANCELLED);
+            boolean invalid = orderRepository.transitionStatus(saved.getId(), OrderStatus.CONFIRMED, OrderStatus.DELIVERED);
+
+            // Then
+            Order stored = orderRepository.findOrderById(saved.getId()).orElseThrow();
+            assertAll("Durum geçişi",
+                () -> assertTrue(confirmed),
+                () -> assertFalse(staleExpected, "Durum beklenenden farklıysa geçilmemeli"),
+                () -> assertFalse(invalid, "Geçersiz geçiş yapılmamalı"),
+                () -> assertEquals(OrderStatus.CONFIRMED, stored.getStatus()),
+                () -> assertEquals(1L, stored.getVersion()),
+                () -> assertNotNull(stored.getStatusChangedAt(OrderStatus.CONFIRMED)),
+                () -> assertTrue(orderRepository.findOrdersByStatus(OrderStatus.PENDING).isEmpty()),
+                () -> assertEquals(List.of(stored), orderRepository.findOrdersByStatus(OrderStatus.CONFIRMED)),
+                () -> assertEquals(OrderStatus.PENDING, saved.getStatus(), "Önceki anlık görüntü değişmemeli"),
+                () -> assertThrows(IllegalStateException.class,
+                        () -> orderRepository.transitionStatus(99L, OrderStatus.PENDING, OrderStatus.CONFIRMED)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> orderRepository.transitionStatus(saved.getId(), null, OrderStatus.CONFIRMED))
+            );
+        }
+
+        @Test
+        @DisplayName("Saklanan siparişin durumu yerinde değiştirilemez")
+        void testStoredOrderStatusFrozen() {
+            // Given
+            Order saved = orderRepository.saveOrder(testOrder);
+
+            // When & Then
+            assertAll("Dondurulmuş durum",
+                () -> assertTrue(saved.isStatusFrozen()),
+                () -> assertThrows(IllegalStateException.class, () -> saved.transitionTo(OrderStatus.CONFIRMED)),
+                () -> assertThrows(IllegalStateException.class,
+                        () -> saved.compareAndTransition(OrderStatus.PENDING, OrderStatus.CONFIRMED)),
+                () -> assertThrows(IllegalStateException.class, saved::cancel),
+                () -> assertThrows(IllegalStateException.class, () -> saved.setStatus(OrderStatus.SHIPPED)),
+                () -> assertEquals(List.of(saved), orderRepository.findOrdersByStatus(OrderStatus.PENDING),
+                        "Durum indeksi bayatlamamalı"),
+                () -> assertFalse(new Order(saved).isStatusFrozen(), "Kopyanın durumu değiştirilebilmeli")
+            );
+        }
+
+        @Test
+        @DisplayName("Kullanıcı değişikliği kullanıcı indeksini taşır")
+        void testUserChangeMovesIndex() {
+            // Given
+            Order copy = new Order(orderRepository.saveOrder(testOrder));
+
+            // When
+            copy.setUserId(20L);
+            orderRepository.updateOrder(copy);
+
+            // Then
+            assertTrue(orderRepository.findOrdersByUserId(10L).isEmpty());
+            assertEquals(List.of(copy), orderRepository.findOrdersByUserId(20L));
+        }
+
+        @Test
+        @DisplayName("Eski sürümle güncelleme - exception")
+        void testStaleVersion() {
+            // Given
+            Order saved = orderRepository.saveOrder(testOrder);
+            Order stale = new Order(saved);
+            orderRepository.updateOrder(new Order(saved));
+
+            // When & Then
+            assertThrows(ConcurrentModificationException.class, () -> orderRepository.updateOrder(stale));
+            Order missing = new Order(saved);
+            missing.setId(99L);
+            assertThrows(IllegalStateException.class, () -> orderRepository.updateOrder(missing));
+        }
+
+        @Test
+        @DisplayName("Silme tüm indekslerden çıkarır")
+        void testDelete() {
+            // Given
+            Order saved = orderRepository.saveOrder(testOrder);
+
+            // When
+            boolean deleted = orderRepository.deleteOrder(saved.getId());
+
+            // Then
+            assertAll("Silme",
+                () -> assertTrue(deleted),
+                () -> assertFalse(orderRepository.deleteOrder(saved.getId()), "İkinci silme false dönmeli"),
+                () -> assertFalse(orderRepository.findOrderById(saved.getId()).isPresent()),
+                () -> assertTrue(orderRepository.findOrdersByUserId(10L).isEmpty()),
+                () -> assertTrue(orderRepository.findOrdersByStatus(OrderStatus.PENDING).isEmpty()),
+                () -> assertEquals(0, orderRepository.getOrderCount())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı yazmalarda indeksler tutarlı kalır")
+    void testConcurrentWritesKeepIndexesConsistent() throws Exception {
+        // Given
+        int threads = 8;
+        int perThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger shipped = new AtomicInteger();
+
+        // When - her thread sipariş ekler ve bir kısmını kargolar
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long userId = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    Order saved = orderRepository.saveOrder(new Order(userId));
+                    if (i % 4 == 0) {
+                        Order copy = new Order(saved);
+                        copy.setStatus(OrderStatus.SHIPPED);
+                        orderRepository.updateOrder(copy);
+                        shipped.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(threads * perThread, orderRepository.getOrderCount());
+        assertEquals(shipped.get(), orderRepository.countOrdersByStatus(OrderStatus.SHIPPED));
+        assertEquals(threads * perThread - shipped.get(), orderRepository.countOrdersByStatus(OrderStatus.PENDING));
+        for (long userId = 0; userId < threads; userId++) {
+            assertEquals(perThread, orderRepository.countOrdersByUserId(userId), "Kullanıcı " + userId);
+        }
+    }
+
+    @Nested
+    @DisplayName("Arşivleme Testleri")
+    class ArchiveTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Eski kapanmış siparişler arşive taşınır, açık siparişler bellekte kalır")
+        void testArchiveClosedOrders() {
+            // Given
+            OrderArchive archive = new OrderArchive(directory);
+            OrderRepository repository = new OrderRepository(new IdBlockAllocator(), null, archive);
+            Order delivered = new Order(repository.saveOrder(order(1L)));
+            Order cancelled = new Order(repository.saveOrder(order(2L)));
+            Order open = repository.saveOrder(order(3L));
+            Order recentlyCancelled = repository.saveOrder(order(4L));
+            delivered.setStatus(OrderStatus.DELIVERED, LocalDateTime.now().minusDays(40));
+            repository.updateOrder(delivered);
+            cancelled.setStatus(OrderStatus.CANCELLED, LocalDateTime.now().minusDays(31));
+            repository.updateOrder(cancelled);
+            repository.transitionStatus(recentlyCancelled.getId(), OrderStatus.PENDING, OrderStatus.CANCELLED);
+
+            // When
+            int moved = repository.archiveClosedOrders(Duration.ofDays(30));
+
+            // Then
+            assertAll("Arşivleme",
+                () -> assertEquals(2, moved),
+                () -> assertEquals(2, repository.getOrderCount(), "Yalnızca açık ve yeni kapanmış siparişler bellekte kalmalı"),
+                () -> assertEquals(2, archive.getArchivedOrderCount()),
+                () -> assertEquals(List.of(open), repository.findOrdersByStatus(OrderStatus.PENDING)),
+                () -> assertTrue(repository.findOrdersByStatus(OrderStatus.DELIVERED).isEmpty()),
+                () -> assertEquals(OrderStatus.DELIVERED, repository.findOrderById(delivered.getId()).orElseThrow().getStatus()),
+                () -> assertEquals(delivered.getItems(), repository.findOrderById(delivered.getId()).orElseThrow().getItems()),
+                () -> assertEquals(1L, repository.findOrderById(cancelled.getId()).orElseThrow().getVersion()),
+                () -> assertFalse(repository.deleteOrder(delivered.getId()), "Arşivlenmiş sipariş silinememeli"),
+                () -> assertEquals(0, repository.archiveClosedOrders(Duration.ofDays(30)), "Tekrar çağrı bir şey taşımamalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Yeniden açılan arşivle kurulan repository arşivdeki ID'leri tekrar vermez")
+        void testReopenedArchiveDoesNotReuseIds() {
+            // Given - ilk süreç siparişleri arşive taşır, ID sınırı saklanmaz
+            OrderRepository first = new OrderRepository(new IdBlockAllocator(), null, new OrderArchive(directory));
+            Order archived = new Order(first.saveOrder(order(1L)));
+            archived.setStatus(OrderStatus.DELIVERED, LocalDateTime.now().minusDays(40));
+            first.updateOrder(archived);
+            first.archiveClosedOrders(Duration.ofDays(30));
+
+            // When - yeni süreç aynı dizini sıfırdan başlayan bir dağıtıcıyla açar
+            OrderArchive reopened = new OrderArchive(directory);
+            OrderRepository second = new OrderRepository(new IdBlockAllocator(), null, reopened);
+            Order saved = second.saveOrder(order(2L));
+
+            // Then
+            assertAll("Yeniden açılan arşiv",
+                () -> assertEquals(archived.getId(), reopened.getMaxArchivedId()),
+                () -> assertTrue(saved.getId() > archived.getId(), "Yeni ID arşivdekilerin üstünde olmalı: " + saved.getId()),
+                () -> assertEquals(2L, second.findOrderById(saved.getId()).orElseThrow().getUserId()),
+                () -> assertEquals(1L, second.findOrderById(archived.getId()).orElseThrow().getUserId())
+            );
+        }
+
+        @Test
+        @DisplayName("Arşivsiz repository veya geçersiz yaş - exception")
+        void testArchiveWithoutArchive() {
+            OrderRepository repository = new OrderRepository(new IdBlockAllocator(), null, new OrderArchive(directory));
+
+            assertAll("Geçersiz çağrılar",
+                () -> assertThrows(IllegalStateException.class, () -> orderRepository.archiveClosedOrders(Duration.ZERO)),
+                () -> assertThrows(IllegalArgumentException.class, () -> repository.archiveClosedOrders(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> repository.archiveClosedOrders(Duration.ofDays(-1)))
+            );
+        }
+
+        private Order order(long userId) {
+            Order order = new Order(userId);
+            order.addItem(new Order.OrderItem("Defter", new BigDecimal("15.00"), (int) userId));
+            return order;
+        }
+    }
+}
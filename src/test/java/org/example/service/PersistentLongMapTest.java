@@ -0,0 +1,210 @@
+package org.example.service;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PersistentLongMap için unit testleri
+ * Sonuçlar aynı işlemler uygulanan bir TreeMap ile karşılaştırılır
+ */
+@DisplayName("PersistentLongMap Unit Testleri")
+class PersistentLongMapTest {
+
+    private PersistentLongMap<String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = PersistentLongMap.empty();
+    }
+
+    @Nested
+    @DisplayName("Temel İşlem Testleri")
+    class BasicOperationTests {
+
+        @Test
+        @DisplayName("Ekleme, güncelleme ve silme")
+        void testWithAndWithout() {
+            // When
+            PersistentLongMap<String> one = map.with(1, "a");
+            PersistentLongMap<String> replaced = one.with(1, "b");
+            PersistentLongMap<String> removed = replaced.without(1);
+
+            // Then
+            assertAll("Temel işlemler",
+                () -> assertEquals("a", one.get(1)),
+                () -> assertEquals("b", replaced.get(1)),
+                () -> assertEquals(1, replaced.size(), "Güncelleme boyutu artırmamalı"),
+                () -> assertNull(removed.get(1)),
+                () -> assertTrue(removed.isEmpty(), "Silme sonrası boş olmalı"),
+                () -> assertSame(replaced, replaced.without(99), "Olmayan anahtar silmek aynı sürümü döndürmeli")
+            );
+        }
+
+        @Test
+        @DisplayName("Büyük ve sınır anahtarlar")
+        void testLargeKeys() {
+            // When
+            PersistentLongMap<String> result = map.with(0, "zero").with(1L << 40, "big").with(Long.MAX_VALUE, "max");
+
+            // Then
+            assertAll("Sınır anahtarlar",
+                () -> assertEquals("zero", result.get(0)),
+                () -> assertEquals("big", result.get(1L << 40)),
+                () -> assertEquals("max", result.get(Long.MAX_VALUE)),
+                () -> assertNull(result.get(-1)),
+                () -> assertEquals(List.of("zero", "big", "max"), result.values(Function.identity()))
+            );
+        }
+
+        @Test
+        @DisplayName("Geçersiz anahtar ve değer - exception")
+        void testInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> map.with(-1, "a"));
+            assertThrows(IllegalArgumentException.class, () -> map.with(1, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Anlık Görüntü Testleri")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Eski sürüm sonraki değişikliklerden etkilenmez")
+        void testOldVersionUnchanged() {
+            // Given
+            PersistentLongMap<String> snapshot = map.with(1, "a").with(2, "b");
+            List<String> values = snapshot.values(Function.identity());
+
+            // When
+            snapshot.with(3, "c").without(1).with(2, "changed");
+
+            // Then
+            assertEquals(List.of("a", "b"), values, "Anlık görüntü değişmemeli");
+            assertEquals(2, snapshot.size());
+        }
+
+        @Test
+        @DisplayName("Liste görünümü değiştirilemez")
+        void testValuesUnmodifiable() {
+            List<String> values = map.with(1, "a").values(Function.identity());
+
+            assertThrows(UnsupportedOperationException.class, () -> values.add("b"));
+            assertThrows(UnsupportedOperationException.class, () -> values.set(0, "b"));
+            assertThrows(IndexOutOfBoundsException.class, () -> values.get(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Dolaşma Testleri")
+    class IterationTests {
+
+        @Test
+        @DisplayName("Rastgele işlemlerde TreeMap ile aynı sonuç")
+        void testMatchesTreeMap() {
+            // Given
+            Random random = new Random(42);
+            TreeMap<Long, String> expected = new TreeMap<>();
+
+            // When
+            for (int i = 0; i < 20_000; i++) {
+                long key = random.nextInt(5_000);
+                if (random.nextInt(4) == 0) {
+                    map = map.without(key);
+                    expected.remove(key);
+                } else {
+                    map = map.with(key, "v" + i);
+                    expected.put(key, "v" + i);
+                }
+            }
+
+            // Then
+            List<String> values = map.values(Function.identity());
+            assertEquals(expected.size(), map.size(), "Boyut aynı olmalı");
+            assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(values), "Sıra ve değerler aynı olmalı");
+            int rank = 0;
+            for (Map.Entry<Long, String> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), map.get(entry.getKey()), "get sonucu aynı olmalı");
+                assertEquals(entry.getValue(), values.get(rank++), "Index ile erişim aynı olmalı");
+            }
+        }
+
+        @Test
+        @DisplayName("Başlangıç anahtarından itibaren dolaşma")
+        void testIteratorFromKey() {
+            // Given
+            Random random = new Random(7);
+            TreeMap<Long, String> expected = new TreeMap<>();
+            for (int i = 0; i < 3_000; i++) {
+                long key = random.nextInt(100_000);
+                map = map.with(key, "v" + key);
+                expected.put(key, "v" + key);
+            }
+
+            // When & Then
+            for (long from : new long[] {0, 1, 31, 32, 1_023, 1_024, 50_000, 99_999, 100_000, 1L << 50}) {
+                List<String> actual = new ArrayList<>();
+                Iterator<String> iterator = map.iterator(from);
+                iterator.forEachRemaining(actual::add);
+                assertEquals(new ArrayList<>(expected.tailMap(from, true).values()), actual,
+                    from + " anahtarından itibaren aynı değerler dönmeli");
+            }
+        }
+
+        @Test
+        @DisplayName("Spliterator bölünür ve tüm değerleri bir kez verir")
+        void testSpliteratorSplits() {
+            // Given
+            for (long key = 0; key < 10_000; key++) {
+                map = map.with(key, "v" + key);
+            }
+
+            // When
+            Spliterator<String> spliterator = map.spliterator();
+            Spliterator<String> prefix = spliterator.trySplit();
+            List<String> parallel = StreamSupport.stream(map.spliterator(), true).toList();
+
+            // Then
+            assertNotNull(prefix, "Büyük aralık bölünebilmeli");
+            List<String> combined = new ArrayList<>();
+            prefix.forEachRemaining(combined::add);
+            spliterator.forEachRemaining(combined::add);
+            assertEquals(map.values(Function.identity()), combined, "Parçalar birlikte tüm değerleri sırayla vermeli");
+            assertEquals(map.values(Function.identity()), parallel, "Paralel stream sırayı korumalı");
+            assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.IMMUTABLE));
+        }
+
+        @Test
+        @DisplayName("Dönüştüren spliterator bölünür, null sonuçları atlar")
+        void testMappedSpliteratorSplits() {
+            // Given
+            for (long key = 0; key < 10_000; key++) {
+                map = map.with(key, "v" + key);
+            }
+
+            // When - yalnızca 10'a bölünen anahtarlar geçer
+            Spliterator<Integer> spliterator = map.spliterator(
+                value -> value.endsWith("0") ? Integer.parseInt(value.substring(1)) : null);
+            Spliterator<Integer> prefix = spliterator.trySplit();
+
+            // Then
+            assertNotNull(prefix, "Dönüştürme bölmeyi kapatmamalı");
+            List<Integer> combined = new ArrayList<>();
+            assertTrue(prefix.tryAdvance(combined::add));
+            prefix.forEachRemaining(combined::add);
+            spliterator.forEachRemaining(combined::add);
+            assertEquals(1_000, combined.size());
+            assertEquals(Integer.valueOf(0), combined.get(0));
+            assertEquals(Integer.valueOf(9_990), combined.get(combined.size() - 1));
+        }
+    }
+}
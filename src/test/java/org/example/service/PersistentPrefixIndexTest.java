@@ -0,0 +1,148 @@
+package org.example.service;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PersistentPrefixIndex için unit testleri
+ * Sonuçlar sıralı bir TreeMap üzerinde yapılan önek taraması ile karşılaştırılır
+ */
+@DisplayName("PersistentPrefixIndex Unit Testleri")
+class PersistentPrefixIndexTest {
+
+    private PersistentPrefixIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = PersistentPrefixIndex.empty();
+    }
+
+    @Nested
+    @DisplayName("Önek Arama Testleri")
+    class PrefixSearchTests {
+
+        @Test
+        @DisplayName("Sonuçlar sözlük sırasıyla döner")
+        void testLexicographicOrder() {
+            // Given
+            index = index.with("mert", 1, "mert").with("mehmet", 2, "mehmet").with("melis", 3, "melis")
+                .with("ali", 4, "ali").with("me", 5, "me");
+
+            // When & Then
+            assertAll("Önek araması",
+                () -> assertEquals(List.of("me", "mehmet", "melis", "mert"), index.findByPrefix("me", 10)),
+                () -> assertEquals(List.of("melis"), index.findByPrefix("mel", 10)),
+                () -> assertEquals(List.of("me", "mehmet"), index.findByPrefix("me", 2), "Limit uygulanmalı"),
+                () -> assertEquals(5, index.findByPrefix("", 10).size(), "Boş önek tüm anahtarları döndürmeli"),
+                () -> assertTrue(index.findByPrefix("mex", 10).isEmpty(), "Eşleşmeyen önek boş dönmeli"),
+                () -> assertTrue(index.findByPrefix("mertcan", 10).isEmpty(), "Anahtardan uzun önek boş dönmeli")
+            );
+        }
+
+        @Test
+        @DisplayName("Aynı anahtarın değerleri ID sırasıyla döner")
+        void testDuplicateKeys() {
+            // Given
+            index = index.with("ayse", 7, "ayse-7").with("ayse", 3, "ayse-3");
+
+            // When & Then
+            assertEquals(List.of("ayse-3", "ayse-7"), index.findByPrefix("ay", 10));
+            assertEquals(List.of("ayse-7"), index.without("ayse", 3).findByPrefix("ay", 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("Silme ve Sürüm Testleri")
+    class RemovalTests {
+
+        @Test
+        @DisplayName("Silme sonrası düğümler birleşir, aramalar doğru kalır")
+        void testRemoveMergesNodes() {
+            // Given
+            index = index.with("test", 1, "test").with("tester", 2, "tester").with("team", 3, "team");
+
+            // When
+            PersistentPrefixIndex<String> removed = index.without("test", 1).without("team", 3);
+
+            // Then
+            assertAll("Silme",
+                () -> assertEquals(List.of("tester"), removed.findByPrefix("te", 10)),
+                () -> assertEquals(List.of("tester"), removed.findByPrefix("tester", 10)),
+                () -> assertTrue(removed.without("tester", 2).findByPrefix("", 10).isEmpty(), "Tamamen boşalmalı"),
+                () -> assertSame(removed, removed.without("yok", 1), "Olmayan anahtar aynı sürümü döndürmeli")
+            );
+        }
+
+        @Test
+        @DisplayName("Eski sürüm sonraki değişikliklerden etkilenmez")
+        void testOldVersionUnchanged() {
+            // Given
+            PersistentPrefixIndex<String> snapshot = index.with("alpha", 1, "alpha").with("alps", 2, "alps");
+
+            // When
+            snapshot.with("alpine", 3, "alpine").without("alpha", 1);
+
+            // Then
+            assertEquals(List.of("alpha", "alps"), snapshot.findByPrefix("al", 10));
+        }
+    }
+
+    @Test
+    @DisplayName("Rastgele işlemlerde sıralı tarama ile aynı sonuç")
+    void testMatchesSortedScan() {
+        // Given
+        Random random = new Random(3);
+        TreeMap<String, TreeSet<Long>> expected = new TreeMap<>();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            keys.add(randomWord(random));
+        }
+
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            String key = keys.get(random.nextInt(keys.size()));
+            long id = random.nextInt(20);
+            if (random.nextInt(3) == 0) {
+                index = index.without(key, id);
+                TreeSet<Long> ids = expected.get(key);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        expected.remove(key);
+                    }
+                }
+            } else {
+                index = index.with(key, id, key + "#" + id);
+                expected.computeIfAbsent(key, k -> new TreeSet<>()).add(id);
+            }
+        }
+
+        // Then
+        for (String prefix : List.of("", "a", "b", "ab", "ba", "abc", "cab", "aaaa")) {
+            List<String> all = new ArrayList<>();
+            expected.forEach((key, ids) -> {
+                if (key.startsWith(prefix)) {
+                    ids.forEach(id -> all.add(key + "#" + id));
+                }
+            });
+            assertEquals(all, index.findByPrefix(prefix, Integer.MAX_VALUE), "'" + prefix + "' öneki için tüm sonuçlar");
+            assertEquals(all.subList(0, Math.min(5, all.size())), index.findByPrefix(prefix, 5),
+                "'" + prefix + "' öneki için ilk 5 sonuç");
+        }
+    }
+
+    private static String randomWord(Random random) {
+        int length = 1 + random.nextInt(6);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+}
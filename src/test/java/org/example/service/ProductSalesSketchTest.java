@@ -0,0 +1,213 @@
+package org.example.service;
+
+import org.example.model.Order;
+import org.example.model.Order.OrderItem;
+import org.example.service.ProductSalesSketch.ProductEstimate;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProductSalesSketch için unit testleri
+ */
+@DisplayName("ProductSalesSketch Unit Testleri")
+class ProductSalesSketchTest {
+
+    private static final int PRODUCTS = 20_000;
+
+    private ProductSalesSketch sketch;
+
+    @BeforeEach
+    void setUp() {
+        sketch = new ProductSalesSketch(10);
+    }
+
+    /**
+     * Zipf benzeri dağılımdan ürün sırası; küçük sıralar çok daha sık çıkar
+     */
+    private static int skewedProduct(Random random, double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static double[] zipf(int n) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    @Test
+    @DisplayName("Adet tahmini hiç eksik değildir ve hata sınırını aşmaz")
+    void testQuantityErrorBound() {
+        // Given
+        Random random = new Random(11);
+        double[] cumulative = zipf(PRODUCTS);
+        long[] exact = new long[PRODUCTS];
+
+        // When
+        for (int i = 0; i < 300_000; i++) {
+            int product = skewedProduct(random, cumulative);
+            int quantity = 1 + random.nextInt(3);
+            exact[product] += quantity;
+            sketch.add("Ürün-" + product, quantity, random.nextInt(50_000));
+        }
+
+        // Then
+        long bound = sketch.getQuantityErrorBound();
+        int exceeded = 0;
+        for (int product = 0; product < PRODUCTS; product += 7) {
+            long estimate = sketch.estimateQuantity("Ürün-" + product);
+            assertTrue(estimate >= exact[product], "Tahmin gerçek adetten küçük olmamalı: " + product);
+            if (estimate - exact[product] > bound) {
+                exceeded++;
+            }
+        }
+        assertTrue(exceeded <= PRODUCTS / 7 / 50, "Sınırı aşan tahmin oranı δ civarında kalmalı: " + exceeded);
+        assertEquals(Arrays.stream(exact).sum(), sketch.getTotalQuantity());
+    }
+
+    @Test
+    @DisplayName("En çok satanlar gerçek ilk ürünleri doğru sırayla içerir")
+    void testTopProducts() {
+        // Given
+        Random random = new Random(5);
+        double[] cumulative = zipf(PRODUCTS);
+        long[] exact = new long[PRODUCTS];
+        for (int i = 0; i < 200_000; i++) {
+            int product = skewedProduct(random, cumulative);
+            exact[product]++;
+            sketch.add("Ürün-" + product, 1, i);
+        }
+
+        // When
+        List<ProductEstimate> top = sketch.getTopProducts();
+
+        // Then - Zipf dağılımında ilk beş ürün açık farkla önde olmalı
+        assertEquals(10, top.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Ürün-" + i, top.get(i).getProductName(), "Sıra " + i);
+            assertTrue(top.get(i).getEstimatedQuantity() >= exact[i]);
+        }
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).getEstimatedQuantity() >= top.get(i).getEstimatedQuantity(), "Azalan sıra");
+        }
+    }
+
+    @Test
+    @DisplayName("Farklı alıcı sayısı çok satan ürünlerde HLL hatası içinde kalır")
+    void testDistinctBuyers() {
+        // Given - A'yı 20 bin farklı kullanıcı birer kez, B'yi 50 kullanıcı defalarca alır
+        for (int i = 0; i < 20_000; i++) {
+            sketch.add("A", 1, i);
+            sketch.add("B", 1, i % 50);
+        }
+        for (int i = 0; i < 200; i++) {
+            sketch.add("Diğer-" + i, 1, 100_000 + i);
+        }
+
+        // Then
+        assertEquals(20_000, sketch.estimateDistinctBuyers("A"), 20_000 * 0.2);
+        long buyersOfB = sketch.estimateDistinctBuyers("B");
+        assertTrue(buyersOfB >= 45 && buyersOfB < 150, "B için tahmin: " + buyersOfB);
+        assertEquals(0, sketch.estimateDistinctBuyers("Hiç satılmadı"), 5, "Satılmayan ürünün alıcısı olmamalı");
+        assertEquals(0, sketch.estimateQuantity("Hiç satılmadı"));
+    }
+
+    @Test
+    @DisplayName("Listede olmayan ürünlerin alıcı tahmini alıcı hata sınırını aşmaz")
+    void testBuyerErrorBound() {
+        // Given - her ürünü kendi 3 alıcısı alır; liste tek ürünle sınırlı olduğundan tahminler matristen gelir
+        ProductSalesSketch small = new ProductSalesSketch(1, 0.001, 0.01, 0.05);
+        int products = 2_000;
+        for (int product = 0; product < products; product++) {
+            for (int buyer = 0; buyer < 3; buyer++) {
+                small.add("Ürün-" + product, 1, product * 3L + buyer);
+            }
+        }
+
+        // When
+        long bound = small.getBuyerErrorBound();
+        int exceeded = 0;
+        for (int product = 0; product < products; product++) {
+            long estimate = small.estimateDistinctBuyers("Ürün-" + product);
+            // Küçük kardinalitede HLL hatası birkaç alıcıyla sınırlıdır
+            if (estimate - 3 > bound + 2) {
+                exceeded++;
+            }
+        }
+
+        // Then
+        assertEquals((long) Math.ceil(Math.E / Math.ceil(Math.E / 0.05) * products * 3), bound);
+        assertTrue(exceeded <= products / 50, "Sınırı aşan tahmin oranı δ civarında kalmalı: " + exceeded);
+    }
+
+    @Test
+    @DisplayName("Bellek eklenen veriden bağımsızdır")
+    void testFixedMemory() {
+        long before = sketch.getMemoryBytes();
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add("Ürün-" + i, 1, i);
+        }
+
+        assertEquals(before, sketch.getMemoryBytes());
+        assertTrue(before < 1_000_000, "Varsayılan sketch 1 MB'tan küçük olmalı: " + before);
+        assertEquals(10, sketch.getTopProducts().size(), "Heap topN ile sınırlı olmalı");
+    }
+
+    @Test
+    @DisplayName("Siparişler eşzamanlı eklenebilir")
+    void testConcurrentOrders() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 4; t++) {
+            long userBase = t * 1_000L;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    Order order = new Order(userBase + i);
+                    order.addItem(new OrderItem("Kalem", new BigDecimal("2.50"), 2));
+                    order.addItem(new OrderItem("Defter", new BigDecimal("7.00"), 1));
+                    sketch.addOrder(order);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertAll("Eşzamanlı eklemeler",
+            () -> assertEquals(12_000, sketch.getTotalQuantity()),
+            () -> assertEquals(8_000, sketch.estimateQuantity("Kalem")),
+            () -> assertEquals("Kalem", sketch.getTopProducts().get(0).getProductName()),
+            () -> assertEquals(4_000, sketch.getTopProducts().get(0).getEstimatedBuyers(), 4_000 * 0.2)
+        );
+    }
+
+    @Test
+    @DisplayName("Geçersiz parametreler - exception")
+    void testInvalidArguments() {
+        assertAll("Geçersiz parametreler",
+            () -> assertThrows(IllegalArgumentException.class, () -> new ProductSalesSketch(0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new ProductSalesSketch(10, 0, 0.01)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new ProductSalesSketch(10, 0.01, 1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new ProductSalesSketch(10, 0.01, 0.01, 0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> sketch.add(null, 1, 1L)),
+            () -> assertThrows(IllegalArgumentException.class, () -> sketch.add("X", 0, 1L)),
+            () -> assertThrows(IllegalArgumentException.class, () -> sketch.addOrder(new Order()))
+        );
+    }
+}
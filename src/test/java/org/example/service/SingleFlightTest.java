@@ -0,0 +1,123 @@
+package org.example.service;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SingleFlight için unit testleri
+ * Eşzamanlı çağrılar latch'lerle aynı anda sürmeye zorlanır
+ */
+@DisplayName("SingleFlight Unit Testleri")
+class SingleFlightTest {
+
+    private SingleFlight<String, Integer> singleFlight;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>();
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Sıralı çağrılar birleştirilmez")
+    void testSequentialCallsNotShared() {
+        // When
+        int first = singleFlight.execute("key", calls::incrementAndGet);
+        int second = singleFlight.execute("key", calls::incrementAndGet);
+
+        // Then
+        assertAll("Sıralı çağrılar",
+            () -> assertEquals(1, first, "İlk çağrı kendi sonucunu almalı"),
+            () -> assertEquals(2, second, "Sonuçlar saklanmamalı"),
+            () -> assertEquals(2, singleFlight.getExecutionCount(), "2 çalıştırma olmalı"),
+            () -> assertEquals(0, singleFlight.getSharedCount(), "Paylaşılan çağrı olmamalı")
+        );
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı çağrılar tek çalıştırmada birleşir")
+    void testConcurrentCallsShared() throws Exception {
+        // Given
+        int threads = 16;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // When
+        futures.add(executor.submit(() -> singleFlight.execute("key", () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return calls.incrementAndGet();
+        })));
+        started.await();
+        for (int i = 1; i < threads; i++) {
+            futures.add(executor.submit(() -> singleFlight.execute("key", calls::incrementAndGet)));
+        }
+        // Diğer thread'lerin sürmekte olan çağrıya takılmasını bekle
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (singleFlight.getSharedCount() < threads - 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Then
+        for (Future<Integer> future : futures) {
+            assertEquals(1, future.get(5, TimeUnit.SECONDS), "Tüm çağıranlar aynı sonucu almalı");
+        }
+        executor.shutdown();
+        assertEquals(1, calls.get(), "Çağrı bir kez çalıştırılmalı");
+        assertEquals(threads - 1, singleFlight.getSharedCount(), "Diğer çağıranlar sonucu paylaşmalı");
+    }
+
+    @Test
+    @DisplayName("Farklı anahtarlar birbirini beklemez")
+    void testDifferentKeysIndependent() {
+        // When
+        int a = singleFlight.execute("a", () -> singleFlight.execute("b", calls::incrementAndGet) + 10);
+
+        // Then
+        assertEquals(11, a, "İç içe farklı anahtarlar çalışmalı");
+        assertEquals(2, singleFlight.getExecutionCount(), "2 çalıştırma olmalı");
+    }
+
+    @Test
+    @DisplayName("Exception tüm bekleyenlere iletilir ve anahtar serbest kalır")
+    void testExceptionPropagatesAndReleasesKey() {
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> singleFlight.execute("key", () -> { throw new IllegalStateException("hata"); }));
+        assertEquals("hata", exception.getMessage(), "Orijinal exception iletilmeli");
+
+        assertEquals(5, singleFlight.execute("key", () -> 5), "Hata sonrası anahtar tekrar kullanılabilmeli");
+    }
+
+    @Test
+    @DisplayName("Forget sonrası yeni çağrı başlatılır")
+    void testForgetStartsNewExecution() {
+        // When
+        int result = singleFlight.execute("key", () -> {
+            singleFlight.forget("key");
+            // Unutulan anahtar için iç çağrı beklemeden kendi çalıştırmasını yapar
+            return singleFlight.execute("key", calls::incrementAndGet) + 100;
+        });
+
+        // Then
+        assertEquals(101, result, "İç çağrı bağımsız çalışmalı");
+        assertEquals(2, singleFlight.getExecutionCount(), "2 çalıştırma olmalı");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
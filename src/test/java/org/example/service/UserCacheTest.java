@@ -0,0 +1,266 @@
+package org.example.service;
+
+import org.example.model.User;
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserCache için unit testleri
+ * Loader olarak sayaçlı lambda'lar kullanılır, böylece veritabanına kaç kez gidildiği ölçülür
+ */
+@DisplayName("UserCache Unit Testleri")
+class UserCacheTest {
+
+    private UserCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserCache(100);
+        loads = new AtomicInteger();
+    }
+
+    private Optional<User> loadUser(Long id) {
+        loads.incrementAndGet();
+        User user = new User("user" + id, "user" + id + "@example.com", "password");
+        user.setId(id);
+        return Optional.of(user);
+    }
+
+    @Nested
+    @DisplayName("Okuma Testleri")
+    class ReadTests {
+
+        @Test
+        @DisplayName("İkinci okuma cache'ten gelir")
+        void testSecondReadIsHit() {
+            // When
+            Optional<User> first = cache.getById(1L, UserCacheTest.this::loadUser);
+            Optional<User> second = cache.getById(1L, UserCacheTest.this::loadUser);
+
+            // Then
+            assertAll("Cache isabeti",
+                () -> assertTrue(first.isPresent(), "İlk okuma kullanıcı dönmeli"),
+                () -> assertSame(first.get(), second.get(), "Aynı nesne dönmeli"),
+                () -> assertEquals(1, loads.get(), "Loader bir kez çağrılmalı"),
+                () -> assertEquals(1, cache.getStats().getHitCount(), "1 isabet olmalı"),
+                () -> assertEquals(1, cache.getStats().getMissCount(), "1 ıska olmalı"),
+                () -> assertEquals(0.5, cache.getStats().getHitRatio(), 0.0001, "İsabet oranı 0.5 olmalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Email ile okuma ID kaydını paylaşır")
+        void testEmailLookupSharesEntry() {
+            // Given
+            cache.getById(7L, UserCacheTest.this::loadUser);
+
+            // When
+            Optional<User> byEmail = cache.getByEmail("user7@example.com", email -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            });
+
+            // Then
+            assertTrue(byEmail.isPresent(), "Email ile cache'ten bulunmalı");
+            assertEquals(1, loads.get(), "Email okuması loader çağırmamalı");
+        }
+
+        @Test
+        @DisplayName("Bulunamayan kullanıcı cache'lenmez")
+        void testAbsentNotCached() {
+            // When
+            cache.getById(5L, id -> { loads.incrementAndGet(); return Optional.empty(); });
+            cache.getById(5L, id -> { loads.incrementAndGet(); return Optional.empty(); });
+
+            // Then
+            assertEquals(2, loads.get(), "Boş sonuç her seferinde yüklenmeli");
+            assertEquals(0, cache.size(), "Cache boş kalmalı");
+        }
+
+        @Test
+        @DisplayName("Null anahtarlar")
+        void testNullKeys() {
+            assertAll("Null anahtar",
+                () -> assertFalse(cache.getById(null, UserCacheTest.this::loadUser).isPresent()),
+                () -> assertFalse(cache.getByEmail(null, email -> Optional.empty()).isPresent())
+            );
+            assertEquals(0, loads.get(), "Null anahtar için loader çağrılmamalı");
+        }
+
+        @Test
+        @DisplayName("Loader exception'ı çağırana iletilir")
+        void testLoaderExceptionPropagates() {
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> cache.getById(1L, id -> { throw new IllegalStateException("db kapalı"); }));
+
+            assertEquals("db kapalı", exception.getMessage(), "Orijinal exception iletilmeli");
+            assertEquals(0, cache.size(), "Hata sonrası cache boş kalmalı");
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Testleri")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Invalidate sonrası yeniden yüklenir")
+        void testInvalidate() {
+            // Given
+            cache.getById(1L, UserCacheTest.this::loadUser);
+
+            // When
+            cache.invalidate(1L);
+            cache.getById(1L, UserCacheTest.this::loadUser);
+
+            // Then
+            assertEquals(2, loads.get(), "Invalidate sonrası loader tekrar çağrılmalı");
+        }
+
+        @Test
+        @DisplayName("Email değişince eski email ile bulunmaz")
+        void testStaleEmailMisses() {
+            // Given
+            User user = cache.getById(1L, UserCacheTest.this::loadUser).get();
+            user.setEmail("changed@example.com");
+
+            // When
+            Optional<User> byOldEmail = cache.getByEmail("user1@example.com", email -> Optional.empty());
+
+            // Then
+            assertFalse(byOldEmail.isPresent(), "Eski email cache'ten dönmemeli");
+        }
+
+        @Test
+        @DisplayName("DatabaseService güncelleme ve silmede cache'i düşürür")
+        void testDatabaseListenerInvalidates() {
+            // Given
+            DatabaseService databaseService = new DatabaseService();
+            databaseService.addUserChangeListener(cache);
+            User saved = databaseService.saveUser(new User("dbuser", "db@example.com", "password"));
+            cache.getById(saved.getId(), databaseService::findUserById);
+            assertEquals(1, cache.size(), "Kullanıcı cache'te olmalı");
+
+            // When & Then
+            databaseService.updateUser(saved);
+            assertEquals(0, cache.size(), "Güncelleme cache'i temizlemeli");
+
+            cache.getById(saved.getId(), databaseService::findUserById);
+            databaseService.deleteUser(saved.getId());
+            assertFalse(cache.getById(saved.getId(), databaseService::findUserById).isPresent(),
+                "Silinen kullanıcı cache'ten dönmemeli");
+
+            cache.getById(1L, UserCacheTest.this::loadUser);
+            databaseService.clearAll();
+            assertEquals(0, cache.size(), "clearAll cache'i temizlemeli");
+        }
+
+        @Test
+        @DisplayName("Yükleme sırasında invalidate edilen değer cache'lenmez")
+        void testInvalidateDuringLoad() {
+            // When
+            Optional<User> result = cache.getById(1L, id -> {
+                Optional<User> loaded = loadUser(id);
+                cache.invalidate(id);
+                return loaded;
+            });
+
+            // Then
+            assertTrue(result.isPresent(), "Yüklenen değer çağırana dönmeli");
+            assertEquals(0, cache.size(), "Eski olabilecek değer cache'lenmemeli");
+        }
+    }
+
+    @Nested
+    @DisplayName("Boyut ve Eşzamanlılık Testleri")
+    class SizeAndConcurrencyTests {
+
+        @Test
+        @DisplayName("Boyut sınırı aşılmaz")
+        void testBoundedSize() {
+            // When
+            for (long id = 1; id <= 1_000; id++) {
+                cache.getById(id, UserCacheTest.this::loadUser);
+            }
+
+            // Then
+            assertTrue(cache.size() <= 100, "Cache boyutu 100'ü geçmemeli, mevcut: " + cache.size());
+            assertEquals(1_000 - cache.size(), cache.getStats().getEvictionCount(), "Atılan kayıtlar sayılmalı");
+        }
+
+        @Test
+        @DisplayName("Sık erişilen kayıtlar taramada korunur")
+        void testFrequentEntriesSurviveScan() {
+            // Given - 10 popüler kullanıcı defalarca okunur
+            for (int round = 0; round < 20; round++) {
+                for (long id = 1; id <= 10; id++) {
+                    cache.getById(id, UserCacheTest.this::loadUser);
+                }
+            }
+
+            // When - bir kez okunan çok sayıda kullanıcı
+            for (long id = 1_000; id < 1_300; id++) {
+                cache.getById(id, UserCacheTest.this::loadUser);
+            }
+            int loadsBefore = loads.get();
+            for (long id = 1; id <= 10; id++) {
+                cache.getById(id, UserCacheTest.this::loadUser);
+            }
+
+            // Then
+            assertEquals(loadsBefore, loads.get(), "Popüler kullanıcılar cache'te kalmalı");
+        }
+
+        @Test
+        @DisplayName("Eşzamanlı miss'ler tek yüklemede birleşir")
+        void testConcurrentMissesCoalesced() throws Exception {
+            // Given
+            int threads = 8;
+            CountDownLatch loaderEntered = new CountDownLatch(1);
+            CountDownLatch releaseLoader = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<Optional<User>>> futures = new ArrayList<>();
+
+            // When
+            futures.add(executor.submit(() -> cache.getById(1L, id -> {
+                loaderEntered.countDown();
+                await(releaseLoader);
+                return loadUser(id);
+            })));
+            loaderEntered.await();
+            for (int i = 1; i < threads; i++) {
+                futures.add(executor.submit(() -> cache.getById(1L, UserCacheTest.this::loadUser)));
+            }
+            // Bekleyen thread'lerin in-flight yüklemeye takılmasına zaman tanı
+            Thread.sleep(100);
+            releaseLoader.countDown();
+
+            // Then
+            for (Future<Optional<User>> future : futures) {
+                assertTrue(future.get(5, TimeUnit.SECONDS).isPresent(), "Tüm thread'ler kullanıcıyı almalı");
+            }
+            executor.shutdown();
+            assertEquals(1, loads.get(), "Loader yalnızca bir kez çağrılmalı");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("Geçersiz boyut - exception")
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new UserCache(0));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Optional;
 
@@ -247,6 +248,88 @@ class UserServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Giriş Denemesi Sınırlama Testleri")
+    class LoginThrottlingTests {
+
+        private UserService throttledUserService;
+
+        @BeforeEach
+        void setUpLimiter() {
+            // @InjectMocks limiter'ı null geçtiği için sınırlayıcılı service elle oluşturulur
+            LoginAttemptLimiter limiter = new LoginAttemptLimiter(2, 10, java.time.Duration.ofMinutes(15));
+            throttledUserService = new UserService(databaseService, emailService, limiter);
+        }
+
+        @Test
+        @DisplayName("Limit aşılınca veritabanına gidilmez")
+        void testBlockedLoginSkipsDatabase() {
+            // Given
+            when(databaseService.findUserByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+            throttledUserService.loginUser("test@example.com", "wrong1", "10.0.0.1");
+            throttledUserService.loginUser("test@example.com", "wrong2", "10.0.0.1");
+
+            // When & Then
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> throttledUserService.loginUser("test@example.com", "password123", "10.0.0.1"));
+
+            assertTrue(exception.getMessage().contains("başarısız giriş"), "Exception mesajı uygun olmalı");
+            verify(databaseService, times(2)).findUserByEmail("test@example.com");
+        }
+
+        @Test
+        @DisplayName("Başarılı giriş sayacı artırmaz")
+        void testSuccessfulLoginNotCounted() {
+            // Given
+            when(databaseService.findUserByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+
+            // When
+            for (int i = 0; i < 5; i++) {
+                assertTrue(throttledUserService.loginUser("test@example.com", "password123", "10.0.0.1").isPresent(),
+                    "Başarılı girişler engellenmemeli");
+            }
+
+            // Then
+            verify(databaseService, times(5)).findUserByEmail("test@example.com");
+        }
+    }
+
+    @Nested
+    @DisplayName("Kullanıcı Cache Testleri")
+    class UserCacheTests {
+
+        private UserService cachedUserService;
+
+        @BeforeEach
+        void setUpCache() {
+            // @InjectMocks cache'i null geçtiği için cache'li service elle oluşturulur
+            cachedUserService = new UserService(databaseService, emailService, null, new UserCache(10));
+        }
+
+        @Test
+        @DisplayName("Tekrarlanan okumalar veritabanına gitmez")
+        void testRepeatedReadsServedFromCache() {
+            // Given
+            when(databaseService.findUserById(1L)).thenReturn(Optional.of(testUser));
+
+            // When
+            cachedUserService.getUserById(1L);
+            cachedUserService.getUserById(1L);
+            Optional<User> byEmail = cachedUserService.getUserByEmail("test@example.com");
+
+            // Then
+            assertTrue(byEmail.isPresent(), "Email ile cache'ten bulunmalı");
+            verify(databaseService, times(1)).findUserById(1L);
+            verify(databaseService, never()).findUserByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("Cache dinleyici olarak kaydedilir")
+        void testCacheRegisteredAsListener() {
+            verify(databaseService).addUserChangeListener(any(UserCache.class));
+        }
+    }
+
     @Nested
     @DisplayName("Profil Güncelleme Testleri")
     class ProfileUpdateTests {
@@ -335,6 +418,62 @@ class UserServiceTest {
             verify(databaseService).isEmailExists(existingEmail);
             verify(databaseService, never()).updateUser(any(User.class));
         }
+
+        @Test
+        @DisplayName("Güncelleme saklanan nesne yerine kopya üzerinde yapılır")
+        void testUpdateAppliedToCopy() {
+            // Given
+            Long userId = 1L;
+            when(databaseService.findUserById(userId)).thenReturn(Optional.of(testUser));
+            when(databaseService.updateUser(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            User result = userService.updateUserProfile(userId, "newusername", null);
+
+            // Then
+            assertAll("Kopya üzerinde güncelleme",
+                () -> assertNotSame(testUser, result, "Saklanan nesne değiştirilmemeli"),
+                () -> assertEquals("newusername", result.getUsername(), "Kopya güncellenmeli"),
+                () -> assertEquals("testuser", testUser.getUsername(), "Saklanan nesne eski halinde kalmalı")
+            );
+        }
+
+        @Test
+        @DisplayName("Sürüm çakışmasında güncelleme yeniden denenir")
+        void testRetryOnVersionConflict() {
+            // Given
+            Long userId = 1L;
+            when(databaseService.findUserById(userId)).thenReturn(Optional.of(testUser));
+            when(databaseService.updateUser(any(User.class)))
+                .thenThrow(new ConcurrentModificationException("çakışma"))
+                .thenReturn(testUser);
+
+            // When
+            User result = userService.updateUserProfile(userId, "newusername", null);
+
+            // Then
+            assertNotNull(result, "Yeniden deneme sonrası güncelleme başarılı olmalı");
+            verify(databaseService, times(2)).findUserById(userId);
+            verify(databaseService, times(2)).updateUser(userCaptor.capture());
+            assertEquals("newusername", userCaptor.getValue().getUsername(), "Değişiklik tekrar uygulanmalı");
+        }
+
+        @Test
+        @DisplayName("Sürekli çakışmada deneme sınırından sonra vazgeçilir")
+        void testGiveUpAfterMaxAttempts() {
+            // Given
+            Long userId = 1L;
+            when(databaseService.findUserById(userId)).thenReturn(Optional.of(testUser));
+            when(databaseService.updateUser(any(User.class)))
+                .thenThrow(new ConcurrentModificationException("çakışma"));
+
+            // When & Then
+            assertThrows(ConcurrentModificationException.class,
+                () -> userService.updateUserProfile(userId, "newusername", null));
+
+            verify(databaseService, times(UserService.MAX_UPDATE_ATTEMPTS)).updateUser(any(User.class));
+            verifyNoInteractions(emailService);
+        }
     }
 
     @Nested